@@ -131,6 +131,12 @@ public class CustomizationConfig {
 
     private List<String> deprecatedShapes = new ArrayList<>();
 
+    /**
+     * Operations of XML protocol services whose successful responses are unmarshalled directly from the XML event stream,
+     * instead of first being parsed into a tree. Useful for operations with large responses, like paginated listings.
+     */
+    private List<String> streamingUnmarshallingOperations = new ArrayList<>();
+
     private String sdkRequestBaseClassName;
 
     private String sdkResponseBaseClassName;
@@ -510,6 +516,14 @@ public class CustomizationConfig {
         this.deprecatedShapes = deprecatedShapes;
     }
 
+    public List<String> getStreamingUnmarshallingOperations() {
+        return streamingUnmarshallingOperations;
+    }
+
+    public void setStreamingUnmarshallingOperations(List<String> streamingUnmarshallingOperations) {
+        this.streamingUnmarshallingOperations = streamingUnmarshallingOperations;
+    }
+
     public String getSdkRequestBaseClassName() {
         return sdkRequestBaseClassName;
     }
@@ -88,13 +88,22 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
             ClassName.get(HttpResponseHandler.class),
             ParameterizedTypeName.get(ClassName.get(software.amazon.awssdk.core.Response.class), responseType));
 
+        CodeBlock operationMetadata = CodeBlock.of("new $T().withHasStreamingSuccessResponse($L)$L",
+                                                   XmlOperationMetadata.class, opModel.hasStreamingOutput(),
+                                                   streamingUnmarshalling(opModel));
+
         return CodeBlock.builder()
                         .addStatement("\n\n$T responseHandler = protocolFactory.createCombinedResponseHandler($T::builder, "
-                                      + "new $T().withHasStreamingSuccessResponse($L))",
-                          handlerType, responseType, XmlOperationMetadata.class, opModel.hasStreamingOutput())
+                                      + "$L)",
+                                      handlerType, responseType, operationMetadata)
                         .build();
     }
 
+    private String streamingUnmarshalling(OperationModel opModel) {
+        return model.getCustomizationConfig().getStreamingUnmarshallingOperations().contains(opModel.getOperationName())
+               ? ".withStreamingUnmarshalling(true)" : "";
+    }
+
     private CodeBlock streamingResponseHandler(OperationModel opModel) {
         ClassName responseType = poetExtensions.getModelClass(opModel.getReturnType().getReturnType());
 
@@ -171,8 +171,8 @@ final class DefaultXmlClient implements XmlClient {
             SdkClientException, XmlException {
 
         HttpResponseHandler<Response<APostOperationWithOutputResponse>> responseHandler = protocolFactory
-                .createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
-                        new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+                .createCombinedResponseHandler(APostOperationWithOutputResponse::builder, new XmlOperationMetadata()
+                        .withHasStreamingSuccessResponse(false).withStreamingUnmarshalling(true));
         SdkClientConfiguration clientConfiguration = updateSdkClientConfiguration(aPostOperationWithOutputRequest,
                 this.clientConfiguration);
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationWithOutputRequest
@@ -221,8 +221,8 @@ final class DefaultXmlAsyncClient implements XmlAsyncClient {
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
 
             HttpResponseHandler<Response<APostOperationWithOutputResponse>> responseHandler = protocolFactory
-                    .createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
-                            new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+                    .createCombinedResponseHandler(APostOperationWithOutputResponse::builder, new XmlOperationMetadata()
+                            .withHasStreamingSuccessResponse(false).withStreamingUnmarshalling(true));
 
             CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler
                     .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
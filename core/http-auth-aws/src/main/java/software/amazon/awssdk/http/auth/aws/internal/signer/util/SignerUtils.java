@@ -47,8 +47,8 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE =
+        new SigningKeyCache(300, SignerUtils::newSigningKey);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -94,32 +94,17 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-                        credentialScope.getInstant().toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                                          credentialScope.getDate(),
-                                          credentialScope.getRegion(),
-                                          credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
-        return signingKey;
+        return SIGNER_CACHE.get(credentials.secretAccessKey(),
+                                credentialScope.getInstant(),
+                                credentialScope.getRegion(),
+                                credentialScope.getService());
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
-    private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
+    private static byte[] newSigningKey(String secretAccessKey,
                                         String dateStamp, String regionName, String serviceName) {
-        byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
+        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
+                        dateStamp);
+        byte[] kSecret = ("AWS4" + secretAccessKey)
             .getBytes(StandardCharsets.UTF_8);
         byte[] kDate = sign(dateStamp, kSecret);
         byte[] kRegion = sign(regionName, kDate);
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.time.Instant;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * A bounded cache of SigV4 signing keys, keyed by secret access key, date, region and service.
+ * <p>
+ * Keys are held in a single shared {@link LruCache}, whose hits don't take a lock. Signing keys of rotated credentials or
+ * past dates are no longer requested, so they are evicted once {@code maxSize} newer keys have been cached.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final LruCache<CacheKey, byte[]> cache;
+
+    /**
+     * @param maxSize the maximum number of signing keys in the shared cache
+     * @param signingKeyGenerator derives the signing key of a cache miss
+     */
+    public SigningKeyCache(int maxSize, SigningKeyGenerator signingKeyGenerator) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        this.cache = LruCache.builder((CacheKey key) -> signingKeyGenerator.generate(key.secretAccessKey,
+                                                                                     SignerUtils.formatDate(key.instant),
+                                                                                     key.region, key.service))
+                             .maxSize(maxSize)
+                             .build();
+    }
+
+    /**
+     * Returns a copy of the signing key for the given secret access key, the date of the given instant, region and
+     * service, deriving it if it isn't cached.
+     */
+    public byte[] get(String secretAccessKey, Instant instant, String region, String service) {
+        long daysSinceEpoch = DateUtils.numberOfDaysSinceEpoch(instant.toEpochMilli());
+        CacheKey key = new CacheKey(secretAccessKey, daysSinceEpoch, instant, region, service);
+        return cache.get(key).clone();
+    }
+
+    /**
+     * Derives the signing key for a secret access key, date (in yyyyMMdd format), region and service.
+     */
+    @FunctionalInterface
+    public interface SigningKeyGenerator {
+        byte[] generate(String secretAccessKey, String dateStamp, String region, String service);
+    }
+
+    private static final class CacheKey {
+        private final String secretAccessKey;
+        private final long daysSinceEpoch;
+        private final Instant instant;
+        private final String region;
+        private final String service;
+
+        private CacheKey(String secretAccessKey, long daysSinceEpoch, Instant instant, String region, String service) {
+            this.secretAccessKey = secretAccessKey;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.instant = instant;
+            this.region = region;
+            this.service = service;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return daysSinceEpoch == that.daysSinceEpoch
+                   && Objects.equals(secretAccessKey, that.secretAccessKey)
+                   && Objects.equals(region, that.region)
+                   && Objects.equals(service, that.service);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(secretAccessKey);
+            result = 31 * result + Long.hashCode(daysSinceEpoch);
+            result = 31 * result + Objects.hashCode(region);
+            result = 31 * result + Objects.hashCode(service);
+            return result;
+        }
+    }
+}
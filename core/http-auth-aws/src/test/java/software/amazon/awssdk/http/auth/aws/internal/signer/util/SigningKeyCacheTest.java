@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class SigningKeyCacheTest {
+    private static final Instant SIGNING_DATE = Instant.parse("2020-03-03T23:59:59Z");
+
+    private final AtomicInteger generatedKeys = new AtomicInteger();
+    private final SigningKeyCache cache = new SigningKeyCache(2, this::generate);
+
+    @Test
+    public void get_sameScope_generatesKeyOnce() {
+        byte[] key = cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        assertThat(key).isEqualTo(bytes("secret/20200303/us-east-1/s3"));
+        assertThat(cache.get("secret", SIGNING_DATE, "us-east-1", "s3")).isEqualTo(key);
+        assertThat(generatedKeys).hasValue(1);
+    }
+
+    @Test
+    public void get_sameDay_reusesKey() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        byte[] key = cache.get("secret", Instant.parse("2020-03-03T01:02:03Z"), "us-east-1", "s3");
+
+        assertThat(key).isEqualTo(bytes("secret/20200303/us-east-1/s3"));
+        assertThat(generatedKeys).hasValue(1);
+    }
+
+    @Test
+    public void get_dayBefore_generatesNewKey() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        byte[] key = cache.get("secret", Instant.parse("2020-03-02T23:59:59Z"), "us-east-1", "s3");
+
+        assertThat(key).isEqualTo(bytes("secret/20200302/us-east-1/s3"));
+        assertThat(generatedKeys).hasValue(2);
+    }
+
+    @Test
+    public void get_dayAfter_generatesNewKey() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        byte[] key = cache.get("secret", Instant.parse("2020-03-04T00:00:00Z"), "us-east-1", "s3");
+
+        assertThat(key).isEqualTo(bytes("secret/20200304/us-east-1/s3"));
+        assertThat(generatedKeys).hasValue(2);
+    }
+
+    @Test
+    public void get_differentSecretRegionOrService_generatesNewKey() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        assertThat(cache.get("other", SIGNING_DATE, "us-east-1", "s3")).isEqualTo(bytes("other/20200303/us-east-1/s3"));
+        assertThat(cache.get("secret", SIGNING_DATE, "us-west-2", "s3")).isEqualTo(bytes("secret/20200303/us-west-2/s3"));
+        assertThat(cache.get("secret", SIGNING_DATE, "us-east-1", "sqs")).isEqualTo(bytes("secret/20200303/us-east-1/sqs"));
+        assertThat(generatedKeys).hasValue(4);
+    }
+
+    @Test
+    public void get_alternatingScopes_usesSharedCache() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+        cache.get("secret", SIGNING_DATE, "us-east-1", "sqs");
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+        cache.get("secret", SIGNING_DATE, "us-east-1", "sqs");
+
+        assertThat(generatedKeys).hasValue(2);
+    }
+
+    @Test
+    public void get_moreScopesThanMaxSize_evictsLeastRecentlyUsedKey() {
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+        cache.get("secret", SIGNING_DATE, "us-east-1", "sqs");
+        cache.get("secret", SIGNING_DATE, "us-east-1", "sns");
+
+        cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+
+        assertThat(generatedKeys).hasValue(4);
+    }
+
+    @Test
+    public void get_returnedKeyIsModified_cachedKeyIsUnchanged() {
+        byte[] key = cache.get("secret", SIGNING_DATE, "us-east-1", "s3");
+        key[0] = 0;
+
+        assertThat(cache.get("secret", SIGNING_DATE, "us-east-1", "s3")).isEqualTo(bytes("secret/20200303/us-east-1/s3"));
+    }
+
+    @Test
+    public void get_multipleThreads_returnKeyOfTheirScope() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String service = "service" + (i % 3);
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        assertThat(cache.get("secret", SIGNING_DATE, "us-east-1", service))
+                            .isEqualTo(bytes("secret/20200303/us-east-1/" + service));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void create_zeroSize_throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0, this::generate)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] generate(String secretAccessKey, String dateStamp, String region, String service) {
+        generatedKeys.incrementAndGet();
+        return bytes(secretAccessKey + "/" + dateStamp + "/" + region + "/" + service);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -78,6 +78,8 @@ public abstract class BaseAwsJsonProtocolFactory {
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
             .defaultTimestampFormats(getDefaultTimestampFormats())
+            .jsonFactory(getSdkFactory().getJsonFactory())
+            .enableStreamingUnmarshalling(builder.enableStreamingUnmarshalling)
             .build();
     }
 
@@ -203,6 +205,7 @@ public abstract class BaseAwsJsonProtocolFactory {
         private String customErrorCodeFieldName;
         private SdkClientConfiguration clientConfiguration;
         private boolean hasAwsQueryCompatible;
+        private boolean enableStreamingUnmarshalling;
 
         protected Builder() {
         }
@@ -297,6 +300,19 @@ public abstract class BaseAwsJsonProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the JSON token stream, skipping the
+         * intermediate {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree. This roughly halves the allocations
+         * made for large responses. Error responses are always unmarshalled through the tree. Defaults to false.
+         *
+         * @param enableStreamingUnmarshalling True to enable streaming unmarshalling.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -45,6 +45,7 @@ import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -61,12 +62,17 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final StreamingJsonProtocolUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.enableStreamingUnmarshalling
+                                     ? new StreamingJsonProtocolUnmarshaller(builder.jsonFactory, instantStringToValue)
+                                     : null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -187,10 +193,41 @@ public final class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
-        JsonNode jsonNode = hasJsonPayload(sdkPojo, response) ? parser.parse(response.content().get()) : null;
+        boolean hasJsonPayload = hasJsonPayload(sdkPojo, response);
+        if (hasJsonPayload && canUnmarshallStreaming(sdkPojo)) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+        JsonNode jsonNode = hasJsonPayload ? parser.parse(response.content().get()) : null;
         return unmarshall(sdkPojo, response, jsonNode);
     }
 
+    /**
+     * The streaming path only reads payload members keyed by name from the top level JSON object. Members explicitly bound
+     * to the whole payload are rare and still go through the {@link JsonNode} tree.
+     */
+    private boolean canUnmarshallStreaming(SdkPojo sdkPojo) {
+        return streamingUnmarshaller != null
+               && sdkPojo.sdkFields().stream().noneMatch(JsonProtocolUnmarshaller::isFieldExplicitlyTransferredAsJson);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response)
+            throws IOException {
+        streamingUnmarshaller.unmarshallPayload(sdkPojo, response.content().get());
+
+        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
+                                                                 .unmarshallerRegistry(registry)
+                                                                 .response(response)
+                                                                 .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (!isPayloadMemberOnUnmarshall(field)) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
     private boolean hasJsonPayload(SdkPojo sdkPojo, SdkHttpFullResponse response) {
         return sdkPojo.sdkFields()
                       .stream()
@@ -278,6 +315,8 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private JsonFactory jsonFactory = JsonNodeParser.DEFAULT_JSON_FACTORY;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -300,6 +339,26 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param jsonFactory The factory used to create parsers when streaming unmarshalling is enabled. This should be the
+         * same factory backing {@link #parser(JsonNodeParser)}.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
+        /**
+         * @param enableStreamingUnmarshalling Whether payload members should be unmarshalled directly from the JSON token
+         * stream instead of first parsing the response into a {@link JsonNode} tree. Defaults to false.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
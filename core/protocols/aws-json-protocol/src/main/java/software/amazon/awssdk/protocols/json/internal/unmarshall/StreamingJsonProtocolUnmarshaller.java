@@ -0,0 +1,226 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the payload members of an {@link SdkPojo} directly from the tokens of a {@link JsonParser}, without first
+ * building an intermediate {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree of the whole response.
+ *
+ * <p>Fields are matched by their {@link SdkField#locationName()}; unknown fields are skipped. Members bound to
+ * other locations (headers, status code) are not handled here and are left to {@link JsonProtocolUnmarshaller}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingJsonProtocolUnmarshaller {
+
+    /**
+     * Payload fields of each POJO type, keyed by their name in the JSON document. {@link SdkPojo#sdkFields()} is static per
+     * generated class, so it's safe to cache the lookup by class.
+     */
+    private static final Map<Class<?>, Map<String, SdkField<?>>> PAYLOAD_FIELDS_CACHE = new ConcurrentHashMap<>();
+
+    private final JsonFactory jsonFactory;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+
+    StreamingJsonProtocolUnmarshaller(JsonFactory jsonFactory,
+                                      StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        this.simpleTypeConverters = Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Populates the payload members of the given POJO builder from the JSON document in the content stream. The builder is
+     * not built; the caller is expected to populate any non-payload members and then build it.
+     */
+    void unmarshallPayload(SdkPojo sdkPojo, InputStream content) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            populateFields(sdkPojo, parser);
+        }
+    }
+
+    private void populateFields(SdkPojo sdkPojo, JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Map<String, SdkField<?>> fields = payloadFields(sdkPojo);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            SdkField<?> field = fields.get(parser.getCurrentName());
+            parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, readValue(parser, field));
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(JsonParser parser, SdkField<?> field) throws IOException {
+        MarshallingType<?> type = field.marshallingType();
+        JsonToken token = parser.currentToken();
+
+        if (type == MarshallingType.DOCUMENT) {
+            return readDocument(parser);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo builder = field.constructor().get();
+            populateFields(builder, parser);
+            return ((Buildable) builder).build();
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(parser, field.getTrait(ListTrait.class).memberFieldInfo());
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(parser, field.getTrait(MapTrait.class).valueFieldInfo());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            // Binary protocols like CBOR may already have the raw bytes extracted.
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+            }
+            return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw new IllegalStateException("Unsupported marshalling type for payload member " + field.memberName() + ": "
+                                            + type);
+        }
+        return converter.convert(parser.getText(), (SdkField<Object>) field);
+    }
+
+    private List<Object> readList(JsonParser parser, SdkField<?> memberInfo) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<Object> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, memberInfo));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(JsonParser parser, SdkField<?> valueInfo) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            map.put(key, readValue(parser, valueInfo));
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return map;
+    }
+
+    private Document readDocument(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case VALUE_NULL:
+                return Document.fromNull();
+            case VALUE_TRUE:
+                return Document.fromBoolean(true);
+            case VALUE_FALSE:
+                return Document.fromBoolean(false);
+            case VALUE_STRING:
+                return Document.fromString(parser.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Document.fromNumber(parser.getText());
+            case START_ARRAY:
+                List<Document> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readDocument(parser));
+                }
+                return Document.fromList(list);
+            case START_OBJECT:
+                Map<String, Document> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    map.put(key, readDocument(parser));
+                }
+                return Document.fromMap(map);
+            case VALUE_EMBEDDED_OBJECT:
+                throw new UnsupportedOperationException("Embedded objects are not supported within Document types.");
+            default:
+                throw new IllegalArgumentException("Unexpected JSON token - " + token);
+        }
+    }
+
+    private static Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        return PAYLOAD_FIELDS_CACHE.computeIfAbsent(sdkPojo.getClass(), c -> {
+            Map<String, SdkField<?>> fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(field.location())) {
+                    fields.put(field.locationName(), field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) {
+        JsonToken actual = parser.currentToken();
+        if (actual != expected) {
+            throw new IllegalArgumentException("Unexpected JSON token - " + actual + ", expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class StreamingJsonProtocolUnmarshallerTest {
+
+    private static final String JSON =
+        "{\"String\":\"foo\",\"Integer\":42,\"Instant\":1.5E9,\"Blob\":\"AQID\",\"Unknown\":{\"a\":[1,2,{\"b\":null}]},"
+        + "\"List\":[\"a\",\"b\"],\"Map\":{\"k\":\"v\"},\"Document\":{\"n\":1.5,\"l\":[true,null]},"
+        + "\"Nested\":{\"String\":\"bar\",\"Nested\":null}}";
+
+    @Test
+    public void unmarshall_streaming_matchesTreeUnmarshalling() throws Exception {
+        TestPojo tree = unmarshaller(false).unmarshall(new TestPojo(), response(JSON));
+        TestPojo streaming = unmarshaller(true).unmarshall(new TestPojo(), response(JSON));
+
+        assertThat(streaming.string).isEqualTo("foo");
+        assertThat(streaming.integer).isEqualTo(42);
+        assertThat(streaming.instant).isEqualTo(Instant.ofEpochSecond(1_500_000_000L));
+        assertThat(streaming.blob).isEqualTo(SdkBytes.fromByteArray(new byte[] {1, 2, 3}));
+        assertThat(streaming.list).containsExactly("a", "b");
+        assertThat(streaming.map).containsEntry("k", "v");
+        assertThat(streaming.nested.string).isEqualTo("bar");
+        assertThat(streaming.nested.nested).isNull();
+        assertThat(streaming.header).isEqualTo("header-value");
+
+        assertThat(streaming.string).isEqualTo(tree.string);
+        assertThat(streaming.integer).isEqualTo(tree.integer);
+        assertThat(streaming.instant).isEqualTo(tree.instant);
+        assertThat(streaming.blob).isEqualTo(tree.blob);
+        assertThat(streaming.list).isEqualTo(tree.list);
+        assertThat(streaming.map).isEqualTo(tree.map);
+        assertThat(streaming.document).isEqualTo(tree.document);
+        assertThat(streaming.nested.string).isEqualTo(tree.nested.string);
+        assertThat(streaming.header).isEqualTo(tree.header);
+    }
+
+    @Test
+    public void unmarshall_streamingEmptyObject_onlyPopulatesHeaders() throws Exception {
+        TestPojo streaming = unmarshaller(true).unmarshall(new TestPojo(), response("{}"));
+
+        assertThat(streaming.string).isNull();
+        assertThat(streaming.list).isNull();
+        assertThat(streaming.header).isEqualTo("header-value");
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(boolean streaming) {
+        Map<MarshallLocation, TimestampFormatTrait.Format> formats = new EnumMap<>(MarshallLocation.class);
+        formats.put(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+        return JsonProtocolUnmarshaller.builder()
+                                       .parser(JsonNodeParser.create())
+                                       .defaultTimestampFormats(formats)
+                                       .enableStreamingUnmarshalling(streaming)
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(SdkBytes.fromUtf8String(json).asInputStream()))
+                                  .build();
+    }
+
+    private static <T> SdkField<T> payloadField(MarshallingType<? super T> type, String name,
+                                                BiConsumer<TestPojo, T> setter) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> null)
+                       .setter((o, v) -> setter.accept((TestPojo) o, v))
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                       .build();
+    }
+
+    private static final SdkField<String> LIST_MEMBER =
+        SdkField.<String>builder(MarshallingType.STRING)
+                .memberName("member")
+                .getter(o -> null)
+                .setter((o, v) -> { })
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("member").build())
+                .build();
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        payloadField(MarshallingType.STRING, "String", (p, v) -> p.string = v),
+        payloadField(MarshallingType.INTEGER, "Integer", (p, v) -> p.integer = v),
+        payloadField(MarshallingType.INSTANT, "Instant", (p, v) -> p.instant = v),
+        payloadField(MarshallingType.SDK_BYTES, "Blob", (p, v) -> p.blob = v),
+        payloadField(MarshallingType.DOCUMENT, "Document", (p, v) -> p.document = v),
+        SdkField.<List<String>>builder(MarshallingType.LIST)
+                .memberName("List")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).list = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("List").build(),
+                        ListTrait.builder().memberFieldInfo(LIST_MEMBER).build())
+                .build(),
+        SdkField.<Map<String, String>>builder(MarshallingType.MAP)
+                .memberName("Map")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).map = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Map").build(),
+                        MapTrait.builder().valueFieldInfo(LIST_MEMBER).build())
+                .build(),
+        SdkField.<TestPojo>builder(MarshallingType.SDK_POJO)
+                .memberName("Nested")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).nested = v)
+                .constructor(TestPojo::new)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Nested").build())
+                .build(),
+        SdkField.<String>builder(MarshallingType.STRING)
+                .memberName("Header")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).header = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.HEADER).locationName("x-amz-header").build())
+                .build());
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private String string;
+        private Integer integer;
+        private Instant instant;
+        private SdkBytes blob;
+        private Document document;
+        private List<String> list;
+        private Map<String, String> map;
+        private TestPojo nested;
+        private String header;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public TestPojo build() {
+            return this;
+        }
+    }
+}
@@ -50,9 +50,11 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableStreamingUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
@@ -90,6 +92,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableStreamingUnmarshalling(
+                                                                                            enableStreamingUnmarshalling)
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
@@ -140,6 +144,7 @@ public class AwsQueryProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private SdkClientConfiguration clientConfiguration;
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
+        private boolean enableStreamingUnmarshalling;
 
         Builder() {
         }
@@ -178,6 +183,18 @@ public class AwsQueryProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML event stream, skipping the intermediate
+         * {@link XmlElement} tree. Error responses are always unmarshalled through the tree. Defaults to false.
+         *
+         * @param enableStreamingUnmarshalling True to enable streaming unmarshalling.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
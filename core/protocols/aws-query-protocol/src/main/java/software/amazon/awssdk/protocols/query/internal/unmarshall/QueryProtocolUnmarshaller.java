@@ -22,6 +22,9 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -31,6 +34,7 @@ import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.StreamingXmlUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
@@ -65,14 +69,34 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final StreamingXmlUnmarshaller STREAMING_UNMARSHALLER = StreamingXmlUnmarshaller
+        .builder()
+        .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .simpleTypeConverter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .matchListMembersByName(false)
+        .build();
+
     private final boolean hasResultWrapper;
+    private final boolean enableStreamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
                                                                                SdkHttpFullResponse response) {
+        if (enableStreamingUnmarshalling && !responsePayloadIsBlob(sdkPojo)) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+
         if (responsePayloadIsBlob(sdkPojo)) {
             XmlElement document = XmlElement.builder()
                                  .textContent(response.content()
@@ -87,6 +111,66 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Unmarshalls the response directly from the XML event stream. The result root and the response metadata are read in
+     * a single pass, mirroring the element lookups done against the {@link XmlElement} tree.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                        SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = response.content().map(StreamingXmlUnmarshaller::createReader).orElse(null);
+        if (reader != null) {
+            try {
+                if (hasResultWrapper) {
+                    unmarshallWrappedResult(reader, sdkPojo, metadata);
+                } else {
+                    STREAMING_UNMARSHALLER.unmarshallStructure(reader, sdkPojo, e -> readMetadataElement(e, metadata));
+                }
+            } finally {
+                invokeSafely(reader::close);
+            }
+        }
+        return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+    }
+
+    private void unmarshallWrappedResult(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata) {
+        // The result root is the first child of the document; everything else is only interesting for metadata.
+        invokeSafely(() -> {
+            boolean resultRead = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    return;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if (!resultRead && !"ResponseMetadata".equals(reader.getLocalName())) {
+                    STREAMING_UNMARSHALLER.unmarshallStructure(reader, sdkPojo);
+                    resultRead = true;
+                } else {
+                    readMetadataElement(reader, metadata);
+                }
+            }
+        });
+    }
+
+    private void readMetadataElement(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String name = reader.getLocalName();
+        if ("ResponseMetadata".equals(name)) {
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                String childName = reader.getLocalName();
+                metadata.put("RequestId".equals(childName) ? AWS_REQUEST_ID : childName,
+                             StreamingXmlUnmarshaller.readText(reader));
+            }
+        } else if ("requestId".equals(name)) {
+            metadata.put(AWS_REQUEST_ID, StreamingXmlUnmarshaller.readText(reader));
+        } else {
+            StreamingXmlUnmarshaller.skipElement(reader);
+        }
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -158,6 +242,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -207,6 +292,16 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling Whether successful responses should be unmarshalled directly from the XML
+         * event stream instead of first parsing the response into an {@link XmlElement} tree. Defaults to false.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
@@ -0,0 +1,440 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls XML payloads directly from {@link XMLStreamReader} events into {@link SdkPojo} builders, without first building
+ * an {@link XmlElement} tree of the whole response via {@link XmlDomParser}.
+ *
+ * <p>Payload members are matched by {@link SdkField#unmarshallLocationName()}; unknown elements are skipped. Members bound to
+ * other locations (headers, status code) are not handled here and are left to the protocol unmarshaller.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class StreamingXmlUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
+
+    /**
+     * Payload and attribute fields of each POJO type. {@link SdkPojo#sdkFields()} is static per generated class, so it's
+     * safe to cache the lookup by class.
+     */
+    private static final Map<Class<?>, StructureFields> STRUCTURE_FIELDS_CACHE = new ConcurrentHashMap<>();
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final boolean matchListMembersByName;
+
+    private StreamingXmlUnmarshaller(Builder builder) {
+        this.simpleTypeConverters = Collections.unmodifiableMap(new HashMap<>(builder.simpleTypeConverters));
+        this.matchListMembersByName = builder.matchListMembersByName;
+    }
+
+    /**
+     * Creates a reader over the given content, positioned at the start of the root element.
+     *
+     * @return The reader, or null if the content is empty.
+     */
+    public static XMLStreamReader createReader(InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            while (reader.hasNext() && reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                reader.next();
+            }
+            return reader.getEventType() == XMLStreamConstants.START_ELEMENT ? reader : null;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Populates the payload members of the given POJO builder from the root element of the XML document in the content
+     * stream. The builder is not built.
+     */
+    public void unmarshallDocument(InputStream content, SdkPojo sdkPojo) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return;
+        }
+        try {
+            unmarshallStructure(reader, sdkPojo);
+        } finally {
+            invokeSafely(reader::close);
+        }
+    }
+
+    /**
+     * Populates the payload members of the given POJO builder from the root element of the XML document in the content
+     * stream, unless the root element has the given name, in which case the document is parsed into an {@link XmlElement}
+     * tree instead. The builder is not built.
+     *
+     * @return The parsed document if its root element has the given name, otherwise empty.
+     */
+    public Optional<XmlElement> unmarshallDocument(InputStream content, SdkPojo sdkPojo, String parsedRootName) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return Optional.empty();
+        }
+        try {
+            if (parsedRootName.equals(reader.getLocalName())) {
+                return Optional.of(XmlDomParser.parse(reader));
+            }
+            unmarshallStructure(reader, sdkPojo);
+            return Optional.empty();
+        } finally {
+            invokeSafely(reader::close);
+        }
+    }
+
+    /**
+     * Populates the payload members of the given POJO builder from the element the reader is positioned at. The builder is
+     * not built. On return the reader is positioned at the matching end element.
+     *
+     * @param reader Reader positioned at the start element of the structure.
+     * @param sdkPojo Builder to populate.
+     * @param unknownElementHandler Invoked for each child element with no matching member. Must consume the element up to
+     * and including its end element.
+     */
+    public void unmarshallStructure(XMLStreamReader reader, SdkPojo sdkPojo, ElementHandler unknownElementHandler) {
+        try {
+            populateFields(reader, sdkPojo, unknownElementHandler);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Populates the payload members of the given POJO builder from the element the reader is positioned at, skipping any
+     * unknown elements.
+     */
+    public void unmarshallStructure(XMLStreamReader reader, SdkPojo sdkPojo) {
+        unmarshallStructure(reader, sdkPojo, StreamingXmlUnmarshaller::skipElement);
+    }
+
+    /**
+     * Reads the text content of the element the reader is positioned at, skipping any nested elements. On return the reader
+     * is positioned at the matching end element.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = null;
+        String firstChunk = "";
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (text != null) {
+                        text.append(reader.getText());
+                    } else if (firstChunk.isEmpty()) {
+                        firstChunk = reader.getText();
+                    } else {
+                        text = new StringBuilder(firstChunk).append(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return text != null ? text.toString() : firstChunk;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all of its children. On return the reader is positioned at
+     * the matching end element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void populateFields(XMLStreamReader reader, SdkPojo sdkPojo, ElementHandler unknownElementHandler)
+            throws XMLStreamException {
+        StructureFields fields = STRUCTURE_FIELDS_CACHE.computeIfAbsent(sdkPojo.getClass(),
+                                                                        c -> new StructureFields(sdkPojo.sdkFields()));
+        if (!fields.attributes.isEmpty()) {
+            populateAttributes(reader, sdkPojo, fields.attributes);
+        }
+
+        Map<SdkField<?>, Object> flattened = null;
+        while (nextChildElement(reader)) {
+            SdkField<?> field = fields.elements.get(reader.getLocalName());
+            if (field == null) {
+                unknownElementHandler.handle(reader);
+            } else if (isFlattened(field)) {
+                if (flattened == null) {
+                    flattened = new HashMap<>();
+                }
+                addFlattenedMember(reader, field, flattened);
+            } else {
+                field.set(sdkPojo, readValue(reader, field));
+            }
+        }
+
+        if (flattened != null) {
+            flattened.forEach((field, value) -> field.set(sdkPojo, value));
+        }
+    }
+
+    private void populateAttributes(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, SdkField<?>> attributes) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            SdkField<?> field = attributes.get(key);
+            if (field != null) {
+                field.set(sdkPojo, reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addFlattenedMember(XMLStreamReader reader, SdkField<?> field, Map<SdkField<?>, Object> flattened)
+            throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = (List<Object>) flattened.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(readValue(reader, field.getTrait(ListTrait.class).memberFieldInfo()));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattened.computeIfAbsent(field, f -> new HashMap<>());
+            readMapEntry(reader, field.getTrait(MapTrait.class), map);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo builder = field.constructor().get();
+            populateFields(reader, builder, StreamingXmlUnmarshaller::skipElement);
+            return ((Buildable) builder).build();
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(reader, field.getTrait(ListTrait.class));
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(reader, field.getTrait(MapTrait.class));
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create("Unsupported marshalling type for payload member " + field.memberName() + ": "
+                                            + type);
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<Object> readList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : memberInfo.locationName();
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (!matchListMembersByName || reader.getLocalName().equals(memberName)) {
+                list.add(readValue(reader, memberInfo));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                readMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (name.equals(mapTrait.valueLocationName())) {
+                value = readValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Advances to the next child start element of the current element.
+     *
+     * @return True if positioned at a child start element, false if the end of the current element was reached.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Handles a single XML element during streaming unmarshalling.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        /**
+         * @param reader Reader positioned at the start element. The handler must consume the element up to and including its
+         * end element.
+         */
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    private static final class StructureFields {
+        private final Map<String, SdkField<?>> elements = new HashMap<>();
+        private final Map<String, SdkField<?>> attributes = new HashMap<>();
+
+        private StructureFields(List<SdkField<?>> sdkFields) {
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributes.put(field.unmarshallLocationName(), field);
+                } else {
+                    elements.put(field.unmarshallLocationName(), field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link StreamingXmlUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters = new HashMap<>();
+        private boolean matchListMembersByName;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for elements of a simple (text) type.
+         *
+         * @param marshallingType Type of the member.
+         * @param converter Converter from the element's text content.
+         * @return This builder for method chaining.
+         */
+        public <T> Builder simpleTypeConverter(MarshallingType<T> marshallingType,
+                                               StringToValueConverter.StringToValue<T> converter) {
+            this.simpleTypeConverters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * Whether the members of a non-flattened list must match the modeled member name. REST/XML services match by name,
+         * while AWS/Query and EC2 services take all direct children since EC2 member names are not always modeled correctly.
+         *
+         * @param matchListMembersByName True to match list members by name.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMembersByName(boolean matchListMembersByName) {
+            this.matchListMembersByName = matchListMembersByName;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link StreamingXmlUnmarshaller}.
+         */
+        public StreamingXmlUnmarshaller build() {
+            return new StreamingXmlUnmarshaller(this);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
@@ -60,6 +61,22 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * Parses the element the reader is positioned at, and any nested elements. On return the reader is positioned after the
+     * matching end element.
+     *
+     * @param reader Reader positioned at a start element.
+     * @return Parsed {@link XmlElement}.
+     */
+    static XmlElement parse(XMLStreamReader reader) {
+        try {
+            XMLEventReader eventReader = FACTORY.get().createXMLEventReader(reader);
+            return parseElement(eventReader.nextEvent().asStartElement(), eventReader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
     /**
      * Parse an XML elemnt and any nested elements by recursively calling this method.
      *
@@ -127,7 +144,7 @@ public final class XmlDomParser {
      *
      * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
      */
-    private static XMLInputFactory createXmlInputFactory() {
+    static XMLInputFactory createXmlInputFactory() {
         XMLInputFactory factory = XMLInputFactory.newInstance();
         factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
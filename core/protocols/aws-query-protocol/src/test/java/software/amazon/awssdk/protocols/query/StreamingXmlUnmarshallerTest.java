@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class StreamingXmlUnmarshallerTest {
+
+    private static final String XML =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<TestResponse xmlns=\"https://query/\">"
+        + " <TestResult>"
+        + "  <stringMember>foo &amp; bar</stringMember>"
+        + "  <unknown><nested>ignored</nested></unknown>"
+        + "  <integerMember>42</integerMember>"
+        + "  <listMember><member>a</member><member>b</member></listMember>"
+        + "  <flattenedMember>x</flattenedMember>"
+        + "  <flattenedMember>y</flattenedMember>"
+        + "  <mapMember><entry><key>k</key><value>v</value></entry></mapMember>"
+        + "  <structMember><stringMember><![CDATA[cdata]]></stringMember></structMember>"
+        + " </TestResult>"
+        + " <ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+        + "</TestResponse>";
+
+    @Test
+    public void unmarshall_streaming_matchesDomUnmarshalling() {
+        Pair<TestPojo, Map<String, String>> dom = unmarshall(false, XML);
+        Pair<TestPojo, Map<String, String>> streaming = unmarshall(true, XML);
+
+        TestPojo result = streaming.left();
+        assertThat(result.string).isEqualTo("foo & bar");
+        assertThat(result.integer).isEqualTo(42);
+        assertThat(result.list).containsExactly("a", "b");
+        assertThat(result.flattened).containsExactly("x", "y");
+        assertThat(result.map).containsEntry("k", "v");
+        assertThat(result.struct.string).isEqualTo("cdata");
+        assertThat(streaming.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+
+        assertThat(result.string).isEqualTo(dom.left().string);
+        assertThat(result.integer).isEqualTo(dom.left().integer);
+        assertThat(result.list).isEqualTo(dom.left().list);
+        assertThat(result.flattened).isEqualTo(dom.left().flattened);
+        assertThat(result.map).isEqualTo(dom.left().map);
+        assertThat(result.struct.string).isEqualTo(dom.left().struct.string);
+        assertThat(streaming.right()).isEqualTo(dom.right());
+    }
+
+    @Test
+    public void unmarshall_streamingEmptyBody_returnsEmptyResult() {
+        Pair<TestPojo, Map<String, String>> streaming = unmarshall(true, "");
+
+        assertThat(streaming.left().string).isNull();
+        assertThat(streaming.right()).isEmpty();
+    }
+
+    private static Pair<TestPojo, Map<String, String>> unmarshall(boolean streaming, String xml) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                                          .build();
+        return QueryProtocolUnmarshaller.builder()
+                                        .hasResultWrapper(true)
+                                        .enableStreamingUnmarshalling(streaming)
+                                        .build()
+                                        .unmarshall(new TestPojo(), response);
+    }
+
+    private static <T> SdkField<T> simpleField(MarshallingType<? super T> type, String name,
+                                               BiConsumer<TestPojo, T> setter) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> null)
+                       .setter((o, v) -> setter.accept((TestPojo) o, v))
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                       .build();
+    }
+
+    private static final SdkField<String> MEMBER =
+        simpleField(MarshallingType.STRING, "member", (p, v) -> { });
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        simpleField(MarshallingType.STRING, "stringMember", (p, v) -> p.string = v),
+        simpleField(MarshallingType.INTEGER, "integerMember", (p, v) -> p.integer = v),
+        SdkField.<List<String>>builder(MarshallingType.LIST)
+                .memberName("listMember")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).list = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("listMember").build(),
+                        ListTrait.builder().memberLocationName("member").memberFieldInfo(MEMBER).build())
+                .build(),
+        SdkField.<List<String>>builder(MarshallingType.LIST)
+                .memberName("flattenedMember")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).flattened = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("flattenedMember").build(),
+                        ListTrait.builder().memberFieldInfo(MEMBER).isFlattened(true).build())
+                .build(),
+        SdkField.<Map<String, String>>builder(MarshallingType.MAP)
+                .memberName("mapMember")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).map = v)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("mapMember").build(),
+                        MapTrait.builder().keyLocationName("key").valueLocationName("value").valueFieldInfo(MEMBER).build())
+                .build(),
+        SdkField.<TestPojo>builder(MarshallingType.SDK_POJO)
+                .memberName("structMember")
+                .getter(o -> null)
+                .setter((o, v) -> ((TestPojo) o).struct = v)
+                .constructor(TestPojo::new)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("structMember").build())
+                .build());
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private String string;
+        private Integer integer;
+        private List<String> list;
+        private List<String> flattened;
+        private Map<String, String> map;
+        private TestPojo struct;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public TestPojo build() {
+            return this;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlGenerator;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlPredicatedResponseHandler;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlResponseTransformer;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.DecorateErrorFromResponseBodyUnmarshaller;
 
 /**
@@ -87,10 +88,13 @@ public final class AwsS3ProtocolFactory extends AwsXmlProtocolFactory {
     private <T extends AwsResponse> HttpResponseHandler<Response<T>> createErrorCouldBeInBodyResponseHandler(
         Supplier<SdkPojo> pojoSupplier, XmlOperationMetadata staxOperationMetadata) {
 
+        AwsXmlResponseTransformer<T> responseTransformer = createResponseTransformer(pojoSupplier);
         return new AwsXmlPredicatedResponseHandler<>(r -> pojoSupplier.get(),
-                                                     createResponseTransformer(pojoSupplier),
+                                                     responseTransformer,
                                                      createErrorTransformer(),
                                                      DecorateErrorFromResponseBodyUnmarshaller.of(this::getErrorRoot),
-                                                     staxOperationMetadata.isHasStreamingSuccessResponse());
+                                                     staxOperationMetadata.isHasStreamingSuccessResponse(),
+                                                     staxOperationMetadata.isStreamingUnmarshalling() ?
+                                                     responseTransformer : null);
     }
 }
@@ -72,23 +72,25 @@ public class AwsXmlProtocolFactory {
     public static final OperationMetadataAttribute<String> ROOT_MARSHALL_LOCATION_ATTRIBUTE =
         new OperationMetadataAttribute<>(String.class);
 
-    private static final XmlProtocolUnmarshaller XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create();
+    private static final XmlProtocolUnmarshaller STREAMING_XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create(true);
 
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final XmlProtocolUnmarshaller xmlProtocolUnmarshaller;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.xmlProtocolUnmarshaller = XmlProtocolUnmarshaller.create(builder.enableStreamingUnmarshalling);
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
                                            .defaultExceptionSupplier(defaultServiceExceptionSupplier)
                                            .exceptions(modeledExceptions)
-                                           .errorUnmarshaller(XML_PROTOCOL_UNMARSHALLER)
+                                           .errorUnmarshaller(xmlProtocolUnmarshaller)
                                            .errorRootExtractor(this::getErrorRoot)
                                            .build());
     }
@@ -116,22 +118,24 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    staxOperationMetadata.isStreamingUnmarshalling() ? STREAMING_XML_PROTOCOL_UNMARSHALLER
+                                                                     : xmlProtocolUnmarshaller,
+                    pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
-    protected <T extends AwsResponse> Function<AwsXmlUnmarshallingContext, T> createResponseTransformer(
+    protected <T extends AwsResponse> AwsXmlResponseTransformer<T> createResponseTransformer(
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            xmlProtocolUnmarshaller, r -> pojoSupplier.get());
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
         return AwsXmlErrorTransformer.builder()
                                      .defaultExceptionSupplier(defaultServiceExceptionSupplier)
                                      .exceptions(modeledExceptions)
-                                     .errorUnmarshaller(XML_PROTOCOL_UNMARSHALLER)
+                                     .errorUnmarshaller(xmlProtocolUnmarshaller)
                                      .build();
     }
 
@@ -179,6 +183,7 @@ public class AwsXmlProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableStreamingUnmarshalling;
 
         Builder() {
         }
@@ -217,6 +222,20 @@ public class AwsXmlProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML event stream, skipping the intermediate
+         * {@link XmlElement} tree. Error responses, and responses that may carry an error in a successful body, are always
+         * unmarshalled through the tree. Defaults to false. Individual operations, including those whose successful body may
+         * carry an error, opt in with {@link XmlOperationMetadata#withStreamingUnmarshalling(boolean)} instead.
+         *
+         * @param enableStreamingUnmarshalling True to enable streaming unmarshalling.
+         * @return This builder for method chaining.
+         */
+        public SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -27,12 +27,14 @@ import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlResponseHa
 public final class XmlOperationMetadata {
 
     private boolean hasStreamingSuccessResponse;
+    private boolean streamingUnmarshalling;
 
     public XmlOperationMetadata() {
     }
 
     private XmlOperationMetadata(Builder b) {
         this.hasStreamingSuccessResponse = b.hasStreamingSuccessResponse;
+        this.streamingUnmarshalling = b.streamingUnmarshalling;
     }
 
     public boolean isHasStreamingSuccessResponse() {
@@ -44,18 +46,37 @@ public final class XmlOperationMetadata {
         return this;
     }
 
+    /**
+     * Whether a successful response is unmarshalled directly from the XML event stream instead of first being parsed into an
+     * {@link software.amazon.awssdk.protocols.query.unmarshall.XmlElement} tree.
+     */
+    public boolean isStreamingUnmarshalling() {
+        return streamingUnmarshalling;
+    }
+
+    public XmlOperationMetadata withStreamingUnmarshalling(boolean streamingUnmarshalling) {
+        this.streamingUnmarshalling = streamingUnmarshalling;
+        return this;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
     public static class Builder {
         private boolean hasStreamingSuccessResponse;
+        private boolean streamingUnmarshalling;
 
         public Builder hasStreamingSuccessResponse(boolean hasStreamingSuccessResponse) {
             this.hasStreamingSuccessResponse = hasStreamingSuccessResponse;
             return this;
         }
 
+        public Builder streamingUnmarshalling(boolean streamingUnmarshalling) {
+            this.streamingUnmarshalling = streamingUnmarshalling;
+            return this;
+        }
+
         public XmlOperationMetadata build() {
             return new XmlOperationMetadata(this);
         }
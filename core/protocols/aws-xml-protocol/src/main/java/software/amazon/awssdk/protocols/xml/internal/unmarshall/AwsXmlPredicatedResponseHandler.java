@@ -19,6 +19,7 @@ import static software.amazon.awssdk.core.SdkStandardLogger.logRequestId;
 
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -31,6 +32,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -49,6 +51,7 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final StreamingResponseTransformer<? extends OutputT> streamingResponseTransformer;
 
     /**
      * Standard constructor
@@ -65,11 +68,32 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
 
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, null);
+    }
+
+    /**
+     * Constructor for a handler that unmarshalls successful responses directly from the XML event stream. The root element
+     * of a successful response is peeked at first: a body whose root is an {@code Error} element is still parsed into an
+     * {@link XmlElement} tree and goes through {@code decorateContextWithError}, like every unsuccessful response.
+     *
+     * @param streamingResponseTransformer Unmarshalls successful responses from the XML event stream, or null to parse
+     * every response into a tree
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        StreamingResponseTransformer<? extends OutputT> streamingResponseTransformer) {
+
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamingResponseTransformer = streamingResponseTransformer;
     }
 
     /**
@@ -93,16 +117,44 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private Response<OutputT> handleResponse(SdkHttpFullResponse httpResponse,
                                              ExecutionAttributes executionAttributes) {
 
-        AwsXmlUnmarshallingContext parsedResponse = parseResponse(httpResponse, executionAttributes);
-        parsedResponse = decorateContextWithError.apply(parsedResponse);
+        if (canUnmarshallStreaming(httpResponse)) {
+            Either<? extends OutputT, XmlElement> result = handleSuccessResponse(
+                () -> streamingResponseTransformer.unmarshallStreaming(
+                    httpResponse, DecorateErrorFromResponseBodyUnmarshaller.ERROR_IN_SUCCESS_BODY_ELEMENT_NAME),
+                httpResponse);
+            return result.map(response -> {
+                logRequestId(httpResponse);
+                return successResponse(httpResponse, response);
+            }, errorDocument -> handleParsedResponse(httpResponse, executionAttributes, errorDocument));
+        }
+
+        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpResponse), httpResponse);
+        return handleParsedResponse(httpResponse, executionAttributes, document);
+    }
+
+    private boolean canUnmarshallStreaming(SdkHttpFullResponse httpResponse) {
+        return streamingResponseTransformer != null
+               && httpResponse.isSuccessful()
+               && httpResponse.content().isPresent()
+               && streamingResponseTransformer.canUnmarshallStreaming(httpResponse);
+    }
+
+    private Response<OutputT> handleParsedResponse(SdkHttpFullResponse httpResponse,
+                                                   ExecutionAttributes executionAttributes,
+                                                   XmlElement document) {
+
+        AwsXmlUnmarshallingContext parsedResponse = decorateContextWithError.apply(
+            AwsXmlUnmarshallingContext.builder()
+                                      .parsedXml(document)
+                                      .executionAttributes(executionAttributes)
+                                      .sdkHttpFullResponse(httpResponse)
+                                      .build());
         logRequestId(httpResponse);
 
         if (parsedResponse.isResponseSuccess()) {
-            OutputT response = handleSuccessResponse(parsedResponse);
-            return Response.<OutputT>builder().httpResponse(httpResponse)
-                                              .response(response)
-                                              .isSuccess(true)
-                                              .build();
+            return successResponse(httpResponse,
+                                   handleSuccessResponse(() -> successResponseTransformer.apply(parsedResponse),
+                                                         httpResponse));
         } else {
             return Response.<OutputT>builder().httpResponse(httpResponse)
                                               .exception(handleErrorResponse(parsedResponse))
@@ -111,15 +163,11 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         }
     }
 
-    private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
-                                                     ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
-
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+    private Response<OutputT> successResponse(SdkHttpFullResponse httpResponse, OutputT response) {
+        return Response.<OutputT>builder().httpResponse(httpResponse)
+                                          .response(response)
+                                          .isSuccess(true)
+                                          .build();
     }
 
     /**
@@ -128,9 +176,9 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
      *
      * @return The contents of the response, unmarshalled using the specified response handler.
      */
-    private OutputT handleSuccessResponse(AwsXmlUnmarshallingContext parsedResponse) {
+    private <T> T handleSuccessResponse(Supplier<T> successResponseTransformer, SdkHttpFullResponse httpResponse) {
         try {
-            return successResponseTransformer.apply(parsedResponse);
+            return successResponseTransformer.get();
         } catch (RetryableException e) {
             throw e;
         } catch (Exception e) {
@@ -140,8 +188,8 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
             String errorMessage =
                     "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
-                    + parsedResponse.sdkHttpFullResponse().statusCode() + ", Response Text: "
-                    + parsedResponse.sdkHttpFullResponse().statusText().orElse(null);
+                    + httpResponse.statusCode() + ", Response Text: "
+                    + httpResponse.statusText().orElse(null);
             throw SdkClientException.builder().message(errorMessage).cause(e).build();
         }
     }
@@ -176,4 +224,25 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                     .ifPresent(s -> IoUtils.closeQuietly(s, log));
         }
     }
+
+    /**
+     * Unmarshalls successful responses directly from the XML event stream.
+     *
+     * @param <OutputT> Type of successful unmarshalled POJO.
+     */
+    public interface StreamingResponseTransformer<OutputT> {
+
+        /**
+         * @return Whether the successful response can be unmarshalled with {@link #unmarshallStreaming}.
+         */
+        boolean canUnmarshallStreaming(SdkHttpFullResponse response);
+
+        /**
+         * Unmarshalls a successful response, unless the root element of its body has the given name.
+         *
+         * @return The unmarshalled response, or the body parsed into an {@link XmlElement} tree if its root element has the
+         * given name.
+         */
+        Either<OutputT, XmlElement> unmarshallStreaming(SdkHttpFullResponse response, String parsedRootName);
+    }
 }
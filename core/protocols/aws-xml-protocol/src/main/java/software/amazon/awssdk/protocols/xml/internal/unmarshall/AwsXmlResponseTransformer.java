@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Either;
 
 /**
  * A transformer function that takes a parsed XML response and converts it into an {@link AwsResponse}. Used
@@ -36,7 +37,7 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
  */
 @SdkInternalApi
 public final class AwsXmlResponseTransformer<T extends AwsResponse>
-        implements Function<AwsXmlUnmarshallingContext, T> {
+        implements Function<AwsXmlUnmarshallingContext, T>, AwsXmlPredicatedResponseHandler.StreamingResponseTransformer<T> {
 
     private static final String X_AMZN_REQUEST_ID_HEADER = "x-amzn-RequestId";
 
@@ -54,11 +55,29 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
         return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
     }
 
-    @SuppressWarnings("unchecked")
+    @Override
+    public Either<T, XmlElement> unmarshallStreaming(SdkHttpFullResponse response, String parsedRootName) {
+        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling service response XML stream.");
+        Either<T, XmlElement> result = unmarshaller.unmarshallStreaming(pojoSupplier.apply(response), response,
+                                                                        parsedRootName);
+        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling service response XML stream.");
+        return result.mapLeft(r -> withResponseMetadata(r, response));
+    }
+
+    @Override
+    public boolean canUnmarshallStreaming(SdkHttpFullResponse response) {
+        return unmarshaller.canUnmarshallStreaming(pojoSupplier.apply(response));
+    }
+
     private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
         T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
+        return withResponseMetadata(result, response);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T withResponseMetadata(T result, SdkHttpFullResponse response) {
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
     }
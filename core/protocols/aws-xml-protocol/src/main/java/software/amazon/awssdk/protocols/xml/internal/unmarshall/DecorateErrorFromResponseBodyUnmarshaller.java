@@ -30,7 +30,7 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 public class DecorateErrorFromResponseBodyUnmarshaller
     implements Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> {
 
-    private static final String ERROR_IN_SUCCESS_BODY_ELEMENT_NAME = "Error";
+    static final String ERROR_IN_SUCCESS_BODY_ELEMENT_NAME = "Error";
 
     private final Function<XmlElement, Optional<XmlElement>> errorRootLocationFunction;
 
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -36,10 +37,12 @@ import software.amazon.awssdk.core.traits.XmlAttributeTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.StreamingXmlUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 @SdkInternalApi
@@ -48,19 +51,95 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final StreamingXmlUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableStreamingUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableStreamingUnmarshalling Whether successful responses should be unmarshalled directly from the XML event
+     * stream instead of first parsing the response into an {@link XmlElement} tree.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableStreamingUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableStreamingUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
-        XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
+        boolean hasXmlPayload = hasXmlPayload(sdkPojo, response);
+        if (hasXmlPayload && canUnmarshallStreaming(sdkPojo, response)) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+        XmlElement document = hasXmlPayload ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    private boolean canUnmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return enableStreamingUnmarshalling
+               && response.isSuccessful()
+               && canUnmarshallStreaming(sdkPojo);
+    }
+
+    /**
+     * Explicit payload members bind to the whole document rather than to a named child element, so they still go through the
+     * {@link XmlElement} tree. So do error responses, which must tolerate unparseable bodies.
+     *
+     * @return Whether a successful response of the given type can be unmarshalled from the XML event stream.
+     */
+    public boolean canUnmarshallStreaming(SdkPojo sdkPojo) {
+        return sdkPojo.sdkFields().stream().noneMatch(this::isExplicitPayloadMember);
+    }
+
+    private <TypeT extends SdkPojo> TypeT unmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        STREAMING_UNMARSHALLER.unmarshallDocument(response.content().get(), sdkPojo);
+        return unmarshallNonPayloadMembers(sdkPojo, response);
+    }
+
+    /**
+     * Unmarshalls a successful response directly from the XML event stream, unless the root element of its body has the given
+     * name.
+     *
+     * @return The unmarshalled response, or the body parsed into an {@link XmlElement} tree if its root element has the given
+     * name.
+     */
+    public <TypeT extends SdkPojo> Either<TypeT, XmlElement> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                 SdkHttpFullResponse response,
+                                                                                 String parsedRootName) {
+        Optional<XmlElement> parsedRoot = response.content().isPresent()
+                                          ? STREAMING_UNMARSHALLER.unmarshallDocument(response.content().get(), sdkPojo,
+                                                                                      parsedRootName)
+                                          : Optional.empty();
+        return parsedRoot.<Either<TypeT, XmlElement>>map(Either::right)
+                         .orElseGet(() -> Either.left(unmarshallNonPayloadMembers(sdkPojo, response)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallNonPayloadMembers(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -212,6 +291,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static StreamingXmlUnmarshaller createStreamingUnmarshaller() {
+        return StreamingXmlUnmarshaller
+            .builder()
+            .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .simpleTypeConverter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .simpleTypeConverter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .matchListMembersByName(true)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
@@ -36,12 +36,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
     private final Long position;
     private final Long numBytesToRead;
     private final Path path;
+    private final Boolean memoryMapped;
 
     private FileRequestBodyConfiguration(DefaultBuilder builder) {
         this.path = Validate.notNull(builder.path, "path");
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.position = Validate.isNotNegativeOrNull(builder.position, "position");
         this.numBytesToRead = Validate.isNotNegativeOrNull(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = builder.memoryMapped;
     }
 
     /**
@@ -79,6 +81,13 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         return path;
     }
 
+    /**
+     * @return whether the file is read through a memory mapping rather than into heap buffers
+     */
+    public Boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,6 +108,9 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         if (!Objects.equals(numBytesToRead, that.numBytesToRead)) {
             return false;
         }
+        if (!Objects.equals(memoryMapped, that.memoryMapped)) {
+            return false;
+        }
         return Objects.equals(path, that.path);
     }
 
@@ -108,6 +120,7 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         result = 31 * result + (position != null ? position.hashCode() : 0);
         result = 31 * result + (numBytesToRead != null ? numBytesToRead.hashCode() : 0);
         result = 31 * result + (path != null ? path.hashCode() : 0);
+        result = 31 * result + (memoryMapped != null ? memoryMapped.hashCode() : 0);
         return result;
     }
 
@@ -157,6 +170,25 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file should be read through a memory mapping of the region to send, instead of being copied
+         * into heap buffers of {@link #chunkSizeInBytes(Integer)} bytes. When enabled, the request body publishes
+         * read-only slices of the mapping, so the heap used by the upload does not grow with the part size or the number
+         * of concurrent parts. This is intended for large uploads from local storage. The file must not be truncated
+         * while it is being read.
+         *
+         * <p>The pages of the file are only read from disk when the HTTP client writes the slices out. With the Netty-based
+         * HTTP client, that blocks an event loop, and the other requests it serves, for every page that isn't in the page
+         * cache yet. Only enable this for files that are likely to be cached, or on storage fast enough for that not to
+         * matter.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -164,12 +196,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         private DefaultBuilder(FileRequestBodyConfiguration configuration) {
             this.position = configuration.position;
             this.path = configuration.path;
             this.chunkSizeInBytes = configuration.chunkSizeInBytes;
             this.numBytesToRead = configuration.numBytesToRead;
+            this.memoryMapped = configuration.memoryMapped;
         }
 
         private DefaultBuilder() {
@@ -200,6 +234,12 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         @Override
         public FileRequestBodyConfiguration build() {
             return new FileRequestBodyConfiguration(this);
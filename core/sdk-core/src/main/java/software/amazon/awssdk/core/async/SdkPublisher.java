@@ -25,6 +25,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.internal.pagination.async.PrefetchingPublisher;
 import software.amazon.awssdk.utils.async.AddingTrailingDataSubscriber;
 import software.amazon.awssdk.utils.async.BufferingSubscriber;
 import software.amazon.awssdk.utils.async.EventListeningSubscriber;
@@ -132,6 +133,20 @@ public interface SdkPublisher<T> extends Publisher<T> {
         return subscriber -> subscribe(new LimitingSubscriber<>(subscriber, limit));
     }
 
+    /**
+     * Keep up to {@code depth} events requested from this publisher ahead of the subscriber. For paginators, this requests
+     * the next pages while the subscriber is still processing the current one, so that network latency overlaps with
+     * processing instead of adding to it.
+     *
+     * <p>Events received before the subscriber requests them are buffered, so at most {@code depth} events are held in
+     * memory. When the subscriber cancels its subscription, the subscription to this publisher is cancelled as well.
+     *
+     * @param depth Number of events to request ahead of the subscriber. Must be positive.
+     * @return New publisher that prefetches events of this publisher.
+     */
+    default SdkPublisher<T> prefetch(int depth) {
+        return new PrefetchingPublisher<>(this, depth);
+    }
 
     /**
      * Creates a new publisher that emits trailing events provided by {@code trailingDataSupplier} in addition to the
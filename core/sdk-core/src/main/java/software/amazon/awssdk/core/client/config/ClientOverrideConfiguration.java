@@ -28,6 +28,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -58,6 +59,7 @@ import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -120,6 +122,7 @@ public final class ClientOverrideConfiguration
         options.add(CONFIGURED_RETRY_STRATEGY);
         options.add(CONFIGURED_RETRY_CONFIGURATOR);
         options.add(CONFIGURED_RETRY_MODE);
+        options.add(HEDGING_POLICY);
         CLIENT_OVERRIDE_OPTIONS = Collections.unmodifiableSet(options);
 
         Set<ClientOption<?>> resolvedOptions = new HashSet<>();
@@ -381,6 +384,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(compressionConfig);
     }
 
+    /**
+     * The hedging policy of the client, which sends duplicates of slow requests to latency-sensitive operations.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(config.option(HEDGING_POLICY));
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -395,6 +407,7 @@ public final class ClientOverrideConfiguration
                        .add("profileName", defaultProfileName().orElse(null))
                        .add("scheduledExecutorService", scheduledExecutorService().orElse(null))
                        .add("compressionConfiguration", compressionConfiguration().orElse(null))
+                       .add("hedgingPolicy", hedgingPolicy().orElse(null))
                        .build();
     }
 
@@ -757,6 +770,28 @@ public final class ClientOverrideConfiguration
         }
 
         CompressionConfiguration compressionConfiguration();
+
+        /**
+         * Configure the hedging policy of the client. When the response to a request of one of the operations of the
+         * policy is slower than most recent responses, a duplicate request is sent on another connection, and whichever
+         * responds first is used. Hedging only applies to asynchronous clients.
+         *
+         * <p>By default, requests are not hedged.
+         *
+         * @see HedgingPolicy
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Configure the hedging policy of the client.
+         *
+         * @see #hedgingPolicy(HedgingPolicy)
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        HedgingPolicy hedgingPolicy();
     }
 
     /**
@@ -1083,6 +1118,21 @@ public final class ClientOverrideConfiguration
             return config.option(CONFIGURED_COMPRESSION_CONFIGURATION);
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            config.option(HEDGING_POLICY, hedgingPolicy);
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return config.option(HEDGING_POLICY);
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(config.build(), resolvedConfig.build());
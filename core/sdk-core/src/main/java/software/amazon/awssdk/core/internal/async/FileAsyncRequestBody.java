@@ -19,14 +19,19 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
@@ -57,6 +62,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
 
+    /**
+     * Maximum size (in bytes) of a single memory mapping, which is the default part size of multipart uploads. Larger regions
+     * are mapped one window at a time.
+     */
+    private static final long MAX_MAPPED_REGION_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Maximum number of mappings of one subscription that may be live at once. A mapping can't be unmapped explicitly while
+     * slices of it may still be referenced, so it is only released by the garbage collector once none of them is.
+     */
+    private static final int MAX_LIVE_MAPPINGS = 4;
+
     /**
      * File to read.
      */
@@ -70,6 +87,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final boolean memoryMapped;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
@@ -78,6 +96,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = Boolean.TRUE.equals(builder.memoryMapped);
     }
 
     @Override
@@ -106,6 +125,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -118,6 +141,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (memoryMapped) {
+            subscribeMapped(s);
+            return;
+        }
+
         AsynchronousFileChannel channel = null;
         try {
             channel = openInputChannel(this.path);
@@ -141,6 +169,57 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    private void subscribeMapped(Subscriber<? super ByteBuffer> s) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            Subscription subscription = new MappedFileSubscription(channel, s);
+
+            synchronized (subscription) {
+                s.onSubscribe(subscription);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                runAndLogError(log.logger(), "Unable to close file channel", channel::close);
+            }
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+        }
+    }
+
+    /**
+     * Checks that the file was not modified while it was being read.
+     *
+     * @return the error to signal to the subscriber, if the file was modified or its status could not be checked
+     */
+    private Optional<IOException> fileChangedAfterRead(long sizeAtStart, FileTime modifiedTimeAtStart, long remainingBytes) {
+        try {
+            long sizeAtEnd = Files.size(path);
+            if (sizeAtStart != sizeAtEnd) {
+                return Optional.of(new IOException("File size changed after reading started. Initial size: " + sizeAtStart
+                                                   + ". Current size: " + sizeAtEnd));
+            }
+
+            if (remainingBytes > 0) {
+                return Optional.of(new IOException("Fewer bytes were read than were expected, was the file modified after "
+                                                   + "reading started?"));
+            }
+
+            FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                return Optional.of(new IOException("File last-modified time changed after reading started. Initial "
+                                                   + "modification time: " + modifiedTimeAtStart + ". Current modification "
+                                                   + "time: " + modifiedTimeAtEnd));
+            }
+        } catch (NoSuchFileException e) {
+            return Optional.of(new IOException("Unable to check file status after read. Was the file deleted or were its "
+                                               + "permissions changed?", e));
+        } catch (IOException e) {
+            return Optional.of(new IOException("Unable to check file status after read.", e));
+        }
+        return Optional.empty();
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -192,6 +271,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file region is read through a read-only memory mapping. When enabled, the body publishes slices
+         * of {@link #chunkSizeInBytes(Integer)} bytes of the mapping instead of copying the file into heap buffers. The
+         * pages of the file are read from disk by the thread that writes the slices out, such as a Netty event loop.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +291,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         @Override
         public Builder path(Path path) {
@@ -233,6 +325,16 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        public void setMemoryMapped(Boolean memoryMapped) {
+            memoryMapped(memoryMapped);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -380,33 +482,207 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
 
         private void signalOnComplete() {
-            try {
-                long sizeAtEnd = Files.size(path);
-                if (sizeAtStart != sizeAtEnd) {
-                    signalOnError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
-                                                  + "Current size: " + sizeAtEnd));
-                    return;
+            Optional<IOException> fileChanged = fileChangedAfterRead(sizeAtStart, modifiedTimeAtStart, remainingBytes.get());
+            if (fileChanged.isPresent()) {
+                signalOnError(fileChanged.get());
+                return;
+            }
+
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
                 }
+            }
+        }
 
-                if (remainingBytes.get() > 0) {
-                    signalOnError(new IOException("Fewer bytes were read than were expected, was the file modified after "
-                                                  + "reading started?"));
+        private void signalOnError(Throwable t) {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes read-only slices of a memory mapping of the file region for one subscriber. Slices are produced on the
+     * thread that signals demand, and the region is mapped one window of at most {@link #MAX_MAPPED_REGION_SIZE} bytes at a
+     * time.
+     * <p>
+     * While {@link #MAX_LIVE_MAPPINGS} mappings are still referenced, because the subscriber holds on to their slices or the
+     * garbage collector didn't release them yet, chunks are read into heap buffers instead of mapping another window.
+     * <p>
+     * The pages of the file are read from disk when the slices are first accessed, by the thread that writes them out, which
+     * is an event loop for Netty-based HTTP clients. Mapping only saves copying the file when its pages are already cached.
+     */
+    private final class MappedFileSubscription implements Subscription {
+        private final FileChannel inputChannel;
+        private final Subscriber<? super ByteBuffer> subscriber;
+
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+        private final Deque<WeakReference<ByteBuffer>> liveMappings = new ArrayDeque<>();
+        private long currentPosition;
+        private long remainingBytes;
+        private ByteBuffer mappedRegion;
+        private long outstandingDemand = 0;
+        private boolean emitting = false;
+        private volatile boolean done = false;
+
+        private MappedFileSubscription(FileChannel inputChannel,
+                                       Subscriber<? super ByteBuffer> subscriber) throws IOException {
+            this.inputChannel = inputChannel;
+            this.subscriber = subscriber;
+            this.sizeAtStart = inputChannel.size();
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+            this.remainingBytes = numBytesToRead;
+            this.currentPosition = position;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n < 1) {
+                IllegalArgumentException ex =
+                    new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting a "
+                                                 + "non-positive number of elements.");
+                signalOnError(ex);
+                return;
+            }
+
+            synchronized (this) {
+                // As governed by rule 3.17, when demand overflows `Long.MAX_VALUE` we treat the signalled demand as
+                // "effectively unbounded"
+                if (Long.MAX_VALUE - outstandingDemand < n) {
+                    outstandingDemand = Long.MAX_VALUE;
+                } else {
+                    outstandingDemand += n;
+                }
+
+                // A request() from within onNext only adds demand; the emitting loop below picks it up, so that we don't
+                // recurse (rule 3.3).
+                if (emitting) {
                     return;
                 }
+                emitting = true;
+            }
+
+            emit();
+        }
 
-                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
-                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
-                    signalOnError(new IOException("File last-modified time changed after reading started. Initial modification "
-                                                  + "time: " + modifiedTimeAtStart + ". Current modification time: " +
-                                                  modifiedTimeAtEnd));
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    closeFile();
+                }
+            }
+        }
+
+        private void emit() {
+            while (true) {
+                synchronized (this) {
+                    if (done || outstandingDemand == 0) {
+                        emitting = false;
+                        return;
+                    }
+                    outstandingDemand--;
+                }
+
+                try {
+                    if (remainingBytes > 0) {
+                        signalOnNext(nextChunk());
+                    }
+
+                    if (remainingBytes == 0) {
+                        closeFile();
+                        signalOnComplete();
+                        return;
+                    }
+                } catch (Throwable throwable) {
+                    closeFile();
+                    signalOnError(throwable);
                     return;
                 }
-            } catch (NoSuchFileException e) {
-                signalOnError(new IOException("Unable to check file status after read. Was the file deleted or were its "
-                                              + "permissions changed?", e));
-                return;
+            }
+        }
+
+        private ByteBuffer nextChunk() throws IOException {
+            if (mappedRegion == null || !mappedRegion.hasRemaining()) {
+                mappedRegion = canMapNextRegion() ? mapNextRegion() : null;
+            }
+            if (mappedRegion == null) {
+                return readNextChunk();
+            }
+
+            int chunkSize = Math.min(chunkSizeInBytes, mappedRegion.remaining());
+            ByteBuffer chunk = mappedRegion.slice();
+            chunk.limit(chunkSize);
+            mappedRegion.position(mappedRegion.position() + chunkSize);
+            currentPosition += chunkSize;
+            remainingBytes -= chunkSize;
+            return chunk;
+        }
+
+        private ByteBuffer mapNextRegion() throws IOException {
+            long regionSize = Math.min(remainingBytes, MAX_MAPPED_REGION_SIZE);
+
+            // Accessing a mapping beyond the end of the file fails outside of our control, so check that the file still
+            // covers the region before mapping it.
+            if (inputChannel.size() < currentPosition + regionSize) {
+                throw new IOException("Fewer bytes were read than were expected, was the file modified after reading "
+                                      + "started?");
+            }
+            MappedByteBuffer region = inputChannel.map(FileChannel.MapMode.READ_ONLY, currentPosition, regionSize);
+            liveMappings.add(new WeakReference<>(region));
+            return region;
+        }
+
+        private boolean canMapNextRegion() {
+            liveMappings.removeIf(mapping -> mapping.get() == null);
+            return liveMappings.size() < MAX_LIVE_MAPPINGS;
+        }
+
+        private ByteBuffer readNextChunk() throws IOException {
+            ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(chunkSizeInBytes, remainingBytes));
+            while (chunk.hasRemaining()) {
+                if (inputChannel.read(chunk, currentPosition + chunk.position()) < 0) {
+                    throw new IOException("Fewer bytes were read than were expected, was the file modified after reading "
+                                          + "started?");
+                }
+            }
+            chunk.flip();
+            currentPosition += chunk.remaining();
+            remainingBytes -= chunk.remaining();
+            return chunk;
+        }
+
+        private void closeFile() {
+            try {
+                inputChannel.close();
             } catch (IOException e) {
-                signalOnError(new IOException("Unable to check file status after read.", e));
+                log.warn(() -> "Failed to close the file", e);
+            }
+        }
+
+        private void signalOnNext(ByteBuffer chunk) {
+            synchronized (this) {
+                if (!done) {
+                    subscriber.onNext(chunk);
+                }
+            }
+        }
+
+        private void signalOnComplete() {
+            Optional<IOException> fileChanged = fileChangedAfterRead(sizeAtStart, modifiedTimeAtStart, remainingBytes);
+            if (fileChanged.isPresent()) {
+                signalOnError(fileChanged.get());
                 return;
             }
 
@@ -49,6 +49,7 @@ public final class FileAsyncRequestBodySplitHelper {
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
+    private final boolean memoryMapped;
 
     private volatile boolean isDone = false;
 
@@ -70,6 +71,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                AsyncRequestBodySplitConfiguration.defaultConfiguration().bufferSizeInBytes() :
                                splitConfiguration.bufferSizeInBytes();
         this.bufferPerAsyncRequestBody = asyncRequestBody.chunkSizeInBytes();
+        this.memoryMapped = asyncRequestBody.memoryMapped();
     }
 
     public SdkPublisher<AsyncRequestBody> split() {
@@ -133,6 +135,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .path(path)
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
+                                                                        .memoryMapped(memoryMapped)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
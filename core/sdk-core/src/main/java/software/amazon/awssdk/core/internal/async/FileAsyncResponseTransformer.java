@@ -72,6 +72,20 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         this.position = determineFilePositionToWrite(path);
     }
 
+    /**
+     * @return the path of the file the response is written to
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return the configuration of how the file is written
+     */
+    public FileTransformerConfiguration configuration() {
+        return configuration;
+    }
+
     private long determineFilePositionToWrite(Path path) {
         if (configuration.fileWriteOption() == CREATE_OR_APPEND_TO_EXISTING) {
             try {
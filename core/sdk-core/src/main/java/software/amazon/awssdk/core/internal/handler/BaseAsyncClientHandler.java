@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.handler;
 
+import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.SDK_HTTP_EXECUTION_ATTRIBUTES;
+import static software.amazon.awssdk.http.async.SdkAsyncHttpResponseExecutionAttribute.ZERO_COPY_BODY;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import java.util.Optional;
@@ -27,6 +29,7 @@ import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener.NotifyingAsyncResponseTransformer;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
@@ -37,6 +40,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.IdempotentAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -47,6 +51,7 @@ import software.amazon.awssdk.core.internal.http.async.CombinedResponseAsyncHttp
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -97,6 +102,9 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
             ExecutionAttributes executionAttributes = executionParams.executionAttributes();
             executionAttributes.putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, 1);
+            if (writesToFile(asyncResponseTransformer)) {
+                enableZeroCopyBody(executionAttributes);
+            }
 
             AsyncStreamingResponseHandler<OutputT, ReturnT> asyncStreamingResponseHandler =
                 new AsyncStreamingResponseHandler<>(asyncResponseTransformer);
@@ -254,6 +262,30 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         client.close();
     }
 
+    /**
+     * Whether the response is written by the SDK's own file transformer, which is done with each buffer before it requests
+     * the next one. Transformers wrapped to notify listeners qualify as well: the listeners only observe the buffers as
+     * they pass by.
+     */
+    private static boolean writesToFile(AsyncResponseTransformer<?, ?> asyncResponseTransformer) {
+        AsyncResponseTransformer<?, ?> transformer = asyncResponseTransformer;
+        while (transformer instanceof NotifyingAsyncResponseTransformer) {
+            transformer = ((NotifyingAsyncResponseTransformer<?, ?>) transformer).delegate();
+        }
+        return transformer instanceof FileAsyncResponseTransformer;
+    }
+
+    /**
+     * Lets the HTTP client deliver the response body as views of its own buffers rather than copies.
+     */
+    private static void enableZeroCopyBody(ExecutionAttributes executionAttributes) {
+        SdkHttpExecutionAttributes existingHttpAttributes = executionAttributes.getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES);
+        SdkHttpExecutionAttributes.Builder builder = existingHttpAttributes != null ?
+                                                     existingHttpAttributes.toBuilder() :
+                                                     SdkHttpExecutionAttributes.builder();
+        executionAttributes.putAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES, builder.put(ZERO_COPY_BODY, true).build());
+    }
+
     /**
      * Error responses are never streaming so we always use {@link AsyncResponseHandler}.
      *
@@ -20,9 +20,12 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.RequestHedger;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -37,11 +40,18 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final RequestHedger requestHedger;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.requestHedger = builder.requestHedger != null ? builder.requestHedger : resolveRequestHedger(clientConfiguration);
+    }
+
+    private static RequestHedger resolveRequestHedger(SdkClientConfiguration clientConfiguration) {
+        HedgingPolicy hedgingPolicy = clientConfiguration.option(SdkClientOption.HEDGING_POLICY);
+        return hedgingPolicy != null ? RequestHedger.create(hedgingPolicy) : null;
     }
 
     public static Builder builder() {
@@ -59,6 +69,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The hedging state of this client, or null if its requests are not hedged.
+     */
+    public RequestHedger requestHedger() {
+        return requestHedger;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -89,6 +106,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private RequestHedger requestHedger;
 
         private Builder() {
         }
@@ -97,6 +115,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.requestHedger = from.requestHedger;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
@@ -0,0 +1,252 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.retry.RequestHedger;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Executes a request on the HTTP client and, if its response headers haven't arrived once the hedging delay of its operation
+ * has passed, executes a duplicate of it. The first of the two requests to receive its response headers is delivered to
+ * the response handler and the other one is cancelled, which closes its connection.
+ * <p>
+ * A request that fails before receiving its response headers while the other one is still in flight is ignored; the
+ * execution only fails once no request is left that could still succeed.
+ */
+@SdkInternalApi
+public final class HedgedAsyncExecution {
+    private static final Logger log = Logger.loggerFor(HedgedAsyncExecution.class);
+
+    private final SdkAsyncHttpClient httpClient;
+    private final RequestHedger hedger;
+    private final String operationName;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Attempt> winner = new AtomicReference<>();
+    private volatile ScheduledFuture<?> hedgeTask;
+
+    public HedgedAsyncExecution(SdkAsyncHttpClient httpClient,
+                                RequestHedger hedger,
+                                String operationName,
+                                ScheduledExecutorService scheduledExecutor,
+                                SdkAsyncHttpResponseHandler responseHandler) {
+        this.httpClient = httpClient;
+        this.hedger = hedger;
+        this.operationName = operationName;
+        this.scheduledExecutor = scheduledExecutor;
+        this.responseHandler = responseHandler;
+    }
+
+    /**
+     * Executes the request.
+     *
+     * @param request the request to execute, without a response handler. Its content publisher must support being
+     * subscribed to more than once.
+     * @param hedgeMetricCollector supplies the metric collector of the duplicate request
+     * @return a future completed like the future returned by the HTTP client for the request that won. Completing it
+     * exceptionally cancels all requests.
+     */
+    public CompletableFuture<Void> execute(AsyncExecuteRequest.Builder request,
+                                           Supplier<MetricCollector> hedgeMetricCollector) {
+        result.whenComplete((r, t) -> {
+            cancelHedge();
+            if (t != null) {
+                attempts.forEach(Attempt::cancel);
+            }
+        });
+
+        start(request);
+        hedger.hedgeDelay(operationName).ifPresent(delay -> {
+            hedgeTask = scheduledExecutor.schedule(() -> hedge(request, hedgeMetricCollector),
+                                                   delay.toNanos(), TimeUnit.NANOSECONDS);
+        });
+        return result;
+    }
+
+    private void hedge(AsyncExecuteRequest.Builder request, Supplier<MetricCollector> hedgeMetricCollector) {
+        if (winner.get() != null || result.isDone() || !hedger.tryAcquireHedge()) {
+            return;
+        }
+        log.debug(() -> "Hedging " + operationName + " request");
+        start(request.metricCollector(hedgeMetricCollector.get()));
+    }
+
+    private void start(AsyncExecuteRequest.Builder request) {
+        Attempt attempt = new Attempt();
+        attempts.add(attempt);
+        attempt.httpClientFuture(httpClient.execute(request.responseHandler(attempt).build()));
+
+        // The race may have been decided, or the execution completed, while the request was being started.
+        Attempt decided = winner.get();
+        if ((decided != null && decided != attempt) || result.isDone()) {
+            attempt.cancel();
+        }
+    }
+
+    private void cancelHedge() {
+        ScheduledFuture<?> task = hedgeTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Decides the race in favor of the attempt, cancelling the others. Returns false if the race was already decided.
+     */
+    private boolean win(Attempt attempt) {
+        if (!winner.compareAndSet(null, attempt)) {
+            return false;
+        }
+        cancelHedge();
+        attempts.stream().filter(a -> a != attempt).forEach(Attempt::cancel);
+        return true;
+    }
+
+    /**
+     * Returns true if an attempt other than the given one has neither failed nor been cancelled.
+     */
+    private boolean othersInFlight(Attempt attempt) {
+        return attempts.stream().anyMatch(a -> a != attempt && !a.failed.get());
+    }
+
+    /**
+     * One of the requests of the execution. It is the response handler of its request, and only forwards to the response
+     * handler of the execution once it has won the race.
+     */
+    private final class Attempt implements SdkAsyncHttpResponseHandler {
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private volatile CompletableFuture<Void> httpClientFuture;
+        private volatile boolean cancelled;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            if (!win(this)) {
+                return;
+            }
+            hedger.recordLatency(operationName, Duration.ofNanos(System.nanoTime() - startNanos));
+            if (headers.statusCode() == HttpStatusCode.THROTTLING || headers.statusCode() >= 500) {
+                hedger.recordFailure();
+            } else {
+                hedger.recordSuccess();
+            }
+            responseHandler.onHeaders(headers);
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            if (winner.get() == this) {
+                responseHandler.onStream(stream);
+            } else {
+                stream.subscribe(new CancellingSubscriber());
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (winner.get() == this || lostAfterFailure()) {
+                responseHandler.onError(error);
+            }
+        }
+
+        private void httpClientFuture(CompletableFuture<Void> future) {
+            httpClientFuture = future;
+            future.whenComplete((r, t) -> httpClientFutureCompleted(t));
+            if (cancelled) {
+                cancel();
+            }
+        }
+
+        private void httpClientFutureCompleted(Throwable error) {
+            if (error == null) {
+                if (winner.get() == this) {
+                    result.complete(null);
+                }
+                return;
+            }
+            if (winner.get() == this || lostAfterFailure()) {
+                result.completeExceptionally(error);
+            }
+        }
+
+        /**
+         * Records that this attempt failed before the race was decided, and decides the race in its favor if no other
+         * attempt can still succeed, so that its failure is the failure of the execution.
+         */
+        private boolean lostAfterFailure() {
+            failed.set(true);
+            if (winner.get() != null || othersInFlight(this) || !win(this)) {
+                return false;
+            }
+            hedger.recordFailure();
+            return true;
+        }
+
+        private void cancel() {
+            failed.set(true);
+            cancelled = true;
+            CompletableFuture<Void> future = httpClientFuture;
+            if (future != null) {
+                future.completeExceptionally(new CancellationException("The hedged request is no longer needed."));
+            }
+        }
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
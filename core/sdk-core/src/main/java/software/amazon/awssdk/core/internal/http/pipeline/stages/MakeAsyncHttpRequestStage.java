@@ -37,16 +37,19 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.FilterTransformingAsyncHttpResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.HedgedAsyncExecution;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.metrics.BytesReadTrackingPublisher;
+import software.amazon.awssdk.core.internal.retry.RequestHedger;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -73,6 +76,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final RequestHedger requestHedger;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
@@ -82,6 +86,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.requestHedger = dependencies.requestHedger();
     }
 
     @Override
@@ -197,11 +202,17 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
             new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
 
-        AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
-                                                                  .build();
-
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture;
+        if (shouldHedge(context)) {
+            String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            httpClientFuture = new HedgedAsyncExecution(sdkAsyncHttpClient, requestHedger, operationName, timeoutExecutor,
+                                                        wrappedResponseHandler)
+                .execute(executeRequestBuilder, () -> MetricUtils.createHttpMetricsCollector(context));
+        } else {
+            httpClientFuture = sdkAsyncHttpClient.execute(executeRequestBuilder.responseHandler(wrappedResponseHandler)
+                                                                               .build());
+        }
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -214,6 +225,16 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Requests with a streaming request body can't be sent twice, so they are never hedged.
+     */
+    private boolean shouldHedge(RequestExecutionContext context) {
+        return requestHedger != null
+               && context.requestProvider() == null
+               && !isFullDuplex(context.executionAttributes())
+               && requestHedger.isHedged(context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
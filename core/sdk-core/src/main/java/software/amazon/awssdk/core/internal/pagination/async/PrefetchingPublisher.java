@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * A publisher that keeps up to {@code depth} events of the upstream publisher requested ahead of the downstream subscriber.
+ * For paginators, this means the next pages are fetched while the current page is being processed by the subscriber,
+ * instead of only once the subscriber asks for them.
+ *
+ * <p>Events that have been received but not yet requested by the downstream subscriber are buffered, so at most
+ * {@code depth} events are held in memory. When the downstream subscriber cancels its subscription, the upstream
+ * subscription is cancelled as well; events that were already requested and arrive afterwards are discarded.
+ */
+@SdkInternalApi
+public final class PrefetchingPublisher<T> implements SdkPublisher<T> {
+    private final Publisher<T> upstream;
+    private final int depth;
+
+    public PrefetchingPublisher(Publisher<T> upstream, int depth) {
+        this.upstream = Validate.paramNotNull(upstream, "upstream");
+        this.depth = Validate.isPositive(depth, "depth");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        SimplePublisher<T> buffer = new SimplePublisher<>();
+        PrefetchingSubscriber<T> prefetchingSubscriber = new PrefetchingSubscriber<>(buffer, depth);
+        buffer.subscribe(new CancellationPropagatingSubscriber<>(subscriber, prefetchingSubscriber));
+        upstream.subscribe(prefetchingSubscriber);
+    }
+
+    /**
+     * Requests {@code depth} events from upstream up front, and one more each time an event has been delivered downstream.
+     */
+    private static final class PrefetchingSubscriber<T> implements Subscriber<T> {
+        private final SimplePublisher<T> buffer;
+        private final int depth;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private volatile Subscription subscription;
+
+        private PrefetchingSubscriber(SimplePublisher<T> buffer, int depth) {
+            this.buffer = buffer;
+            this.depth = depth;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            if (cancelled.get()) {
+                s.cancel();
+                return;
+            }
+            s.request(depth);
+        }
+
+        @Override
+        public void onNext(T item) {
+            buffer.send(item).whenComplete((r, t) -> {
+                if (t != null) {
+                    // The downstream subscriber cancelled, or the buffer was otherwise shut down.
+                    cancel();
+                } else if (!cancelled.get()) {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            buffer.error(t);
+        }
+
+        @Override
+        public void onComplete() {
+            buffer.complete();
+        }
+
+        private void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription as soon as the downstream subscriber cancels, rather than when the next upstream
+     * event fails to be delivered.
+     */
+    private static final class CancellationPropagatingSubscriber<T> implements Subscriber<T> {
+        private final Subscriber<? super T> delegate;
+        private final PrefetchingSubscriber<T> prefetchingSubscriber;
+
+        private CancellationPropagatingSubscriber(Subscriber<? super T> delegate,
+                                                  PrefetchingSubscriber<T> prefetchingSubscriber) {
+            this.delegate = delegate;
+            this.prefetchingSubscriber = prefetchingSubscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            delegate.onSubscribe(new DelegatingSubscription(s) {
+                @Override
+                public void cancel() {
+                    super.cancel();
+                    prefetchingSubscriber.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            delegate.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+    }
+}
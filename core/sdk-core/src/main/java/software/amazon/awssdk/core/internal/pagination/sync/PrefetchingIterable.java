@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.sync;
+
+import static software.amazon.awssdk.utils.CompletableFutureUtils.joinLikeSync;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An iterable whose iterators advance the underlying iterator up to {@code depth} elements ahead of the caller on a
+ * background executor. For paginators, this means the next pages are fetched while the current page is being processed,
+ * instead of only once the caller asks for them.
+ *
+ * <p>Calls to the underlying iterator are never made concurrently: each one is chained to the completion of the previous
+ * one. At most {@code depth} elements are fetched but not yet returned at a time.
+ *
+ * <p>Queued fetches are skipped once the caller stops iterating, which is detected when the {@link #stream()} is closed or
+ * the iterator is no longer reachable. At most the one fetch already in progress at that point still completes.
+ */
+@SdkInternalApi
+public final class PrefetchingIterable<T> implements SdkIterable<T> {
+
+    /**
+     * Used when no executor is provided. Threads are daemon threads and are released when idle, so an abandoned iterator
+     * does not keep the JVM alive or hold on to threads.
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-paginator-prefetch")
+                                                                .daemonThreads(true)
+                                                                .build());
+
+    private final Iterable<T> delegate;
+    private final int depth;
+    private final Executor executor;
+
+    public PrefetchingIterable(Iterable<T> delegate, int depth, Executor executor) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+        this.depth = Validate.isPositive(depth, "depth");
+        this.executor = executor == null ? DEFAULT_EXECUTOR : executor;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PrefetchingIterator<>(delegate.iterator(), depth, executor);
+    }
+
+    /**
+     * Creates a stream whose iterator stops issuing fetches when the stream is closed.
+     */
+    @Override
+    public Stream<T> stream() {
+        PrefetchingIterator<T> iterator = new PrefetchingIterator<>(delegate.iterator(), depth, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                            .onClose(iterator::close);
+    }
+
+    private static final class PrefetchingIterator<T> implements Iterator<T> {
+        private final Fetcher<T> fetcher;
+        private final int depth;
+        private final Executor executor;
+        private final Queue<CompletableFuture<Element<T>>> prefetched = new ArrayDeque<>();
+        private CompletableFuture<Element<T>> last = CompletableFuture.completedFuture(null);
+        private boolean exhausted;
+
+        private PrefetchingIterator(Iterator<T> delegate, int depth, Executor executor) {
+            this.fetcher = new Fetcher<>(delegate, this);
+            this.depth = depth;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (exhausted) {
+                return false;
+            }
+            prefetch();
+            if (joinLikeSync(prefetched.peek()).isEnd()) {
+                exhausted = true;
+                prefetched.clear();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements left");
+            }
+            T value = joinLikeSync(prefetched.poll()).value;
+            prefetch();
+            return value;
+        }
+
+        private void close() {
+            fetcher.closed = true;
+            exhausted = true;
+            prefetched.clear();
+        }
+
+        private void prefetch() {
+            while (prefetched.size() < depth) {
+                last = last.thenApplyAsync(fetcher::fetch, executor);
+                prefetched.add(last);
+            }
+        }
+    }
+
+    /**
+     * Advances the underlying iterator on behalf of a {@link PrefetchingIterator}. Queued fetches only reference the
+     * fetcher, and the fetcher only weakly references its iterator, so an iterator the caller abandoned can be collected and
+     * its remaining fetches are then skipped.
+     */
+    private static final class Fetcher<T> {
+        private final Iterator<T> delegate;
+        private final WeakReference<PrefetchingIterator<T>> owner;
+        private volatile boolean closed;
+
+        private Fetcher(Iterator<T> delegate, PrefetchingIterator<T> owner) {
+            this.delegate = delegate;
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private Element<T> fetch(Element<T> previous) {
+            if (previous != null && previous.isEnd()) {
+                return previous;
+            }
+            if (closed || owner.get() == null) {
+                return Element.end();
+            }
+            return delegate.hasNext() ? new Element<>(delegate.next()) : Element.end();
+        }
+    }
+
+    private static final class Element<T> {
+        private static final Element<?> END = new Element<>(null);
+
+        private final T value;
+
+        private Element(T value) {
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Element<T> end() {
+            return (Element<T>) END;
+        }
+
+        private boolean isEnd() {
+            return this == END;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+/**
+ * Keeps the client scoped state of a {@link HedgingPolicy}: the recent time-to-first-byte of each hedged operation, from
+ * which the hedging delay is computed, and the token budget that limits the number of hedges.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class RequestHedger {
+    /**
+     * The number of recent latencies of an operation its hedging delay is computed from.
+     */
+    private static final int LATENCY_WINDOW = 256;
+
+    /**
+     * Requests of an operation are not hedged until this many of its latencies have been recorded.
+     */
+    private static final int MIN_LATENCY_SAMPLES = 32;
+
+    /**
+     * The hedging delay of an operation is recomputed after this many of its latencies have been recorded.
+     */
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    /**
+     * Tokens are counted in thousandths, so that the budget can be kept in an {@link AtomicLong}.
+     */
+    private static final long TOKEN = 1000;
+
+    private final HedgingPolicy policy;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final long maxTokens;
+    private final long successTokens;
+    private final AtomicLong tokens;
+
+    private RequestHedger(HedgingPolicy policy) {
+        this.policy = policy;
+        this.maxTokens = policy.maxTokens() * TOKEN;
+        this.successTokens = Math.max(1, Math.round(policy.tokenRatio() * TOKEN));
+        this.tokens = new AtomicLong(maxTokens);
+    }
+
+    public static RequestHedger create(HedgingPolicy policy) {
+        return new RequestHedger(policy);
+    }
+
+    /**
+     * Returns true if the requests of the operation may be hedged.
+     */
+    public boolean isHedged(String operationName) {
+        return operationName != null && policy.operations().contains(operationName);
+    }
+
+    /**
+     * Returns the time after which a request of the operation is hedged, or empty if not enough of its latencies have been
+     * recorded yet.
+     */
+    public Optional<Duration> hedgeDelay(String operationName) {
+        LatencyWindow window = latencies.get(operationName);
+        long percentileNanos = window != null ? window.percentileNanos() : -1;
+        if (percentileNanos < 0) {
+            return Optional.empty();
+        }
+        Duration delay = Duration.ofNanos(percentileNanos);
+        return Optional.of(delay.compareTo(policy.minimumDelay()) > 0 ? delay : policy.minimumDelay());
+    }
+
+    /**
+     * Records the time-to-first-byte of a request of the operation.
+     */
+    public void recordLatency(String operationName, Duration latency) {
+        latencies.computeIfAbsent(operationName, o -> new LatencyWindow(policy.percentile()))
+                 .record(latency.toNanos());
+    }
+
+    /**
+     * Takes the token a hedge costs from the budget. Returns false, and takes nothing, if the budget doesn't have one.
+     */
+    public boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Adds the tokens a successful response earns to the budget.
+     */
+    public void recordSuccess() {
+        tokens.updateAndGet(current -> Math.min(maxTokens, current + successTokens));
+    }
+
+    /**
+     * Takes the token a throttling or server error response costs from the budget.
+     */
+    public void recordFailure() {
+        tokens.updateAndGet(current -> Math.max(0, current - TOKEN));
+    }
+
+    /**
+     * The recent latencies of one operation, and the percentile last computed from them.
+     */
+    private static final class LatencyWindow {
+        private final double percentile;
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private int count;
+        private int next;
+        private int sinceRecompute;
+        private long percentileNanos = -1;
+
+        private LatencyWindow(double percentile) {
+            this.percentile = percentile;
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % LATENCY_WINDOW;
+            count = Math.min(count + 1, LATENCY_WINDOW);
+            sinceRecompute++;
+        }
+
+        private synchronized long percentileNanos() {
+            if (count < MIN_LATENCY_SAMPLES) {
+                return -1;
+            }
+            if (percentileNanos < 0 || sinceRecompute >= RECOMPUTE_INTERVAL) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile / 100 * count) - 1;
+                percentileNanos = sorted[Math.max(0, index)];
+                sinceRecompute = 0;
+            }
+            return percentileNanos;
+        }
+    }
+}
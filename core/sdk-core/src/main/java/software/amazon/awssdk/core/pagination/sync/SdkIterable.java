@@ -15,9 +15,12 @@
 
 package software.amazon.awssdk.core.pagination.sync;
 
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.internal.pagination.sync.PrefetchingIterable;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A custom iterable used in paginated responses.
@@ -33,4 +36,35 @@ public interface SdkIterable<T> extends Iterable<T> {
     default Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
+
+    /**
+     * Creates a new iterable whose iterators fetch up to {@code depth} elements ahead of the caller on a background thread.
+     * For paginators, this requests the next pages while the current page is being processed, so that network latency
+     * overlaps with processing instead of adding to it.
+     *
+     * <p>At most {@code depth} elements are fetched but not yet returned at any time. Fetches are made one at a time, and
+     * an iterator stops issuing them once iteration has stopped: when the {@link #stream()} of the returned iterable is
+     * closed, or when the iterator is no longer referenced and has been garbage collected. Only the fetch in progress at
+     * that point still completes. Close the stream (for example with try-with-resources) to stop fetching promptly when
+     * abandoning iteration early. Prefetching uses a shared pool of daemon threads; use {@link #prefetch(int, Executor)} to
+     * provide an executor instead.
+     *
+     * @param depth The number of elements to fetch ahead of the caller. Must be positive.
+     * @return New iterable that prefetches elements of this iterable.
+     */
+    default SdkIterable<T> prefetch(int depth) {
+        return new PrefetchingIterable<>(this, depth, null);
+    }
+
+    /**
+     * Creates a new iterable whose iterators fetch up to {@code depth} elements ahead of the caller using the given
+     * executor. See {@link #prefetch(int)}.
+     *
+     * @param depth The number of elements to fetch ahead of the caller. Must be positive.
+     * @param executor The executor used to fetch elements. Elements of a single iterator are never fetched concurrently.
+     * @return New iterable that prefetches elements of this iterable.
+     */
+    default SdkIterable<T> prefetch(int depth, Executor executor) {
+        return new PrefetchingIterable<>(this, depth, Validate.paramNotNull(executor, "executor"));
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures request hedging for an asynchronous client: when the response headers of a request to one of the hedged
+ * {@link #operations()} haven't arrived after the {@link #percentile()} of that operation's recent time-to-first-byte, a
+ * duplicate request is sent on another connection. The request that receives its response headers first is used, and the
+ * other one is cancelled.
+ * <p>
+ * Hedges are limited by a token budget, so they never amplify an overload: a hedge costs one token and is only sent when one
+ * is available, a successful response earns back {@link #tokenRatio()} tokens, up to {@link #maxTokens()}, and a throttling
+ * or server error response costs one more token. With the defaults, at most about one request in ten is hedged.
+ * <p>
+ * Only operations that are safe to send twice, such as DynamoDB {@code GetItem} or ranged S3 {@code GetObject} calls,
+ * should be hedged. Requests with a streaming request body are never hedged. This is configured on a client via
+ * {@link ClientOverrideConfiguration.Builder#hedgingPolicy(HedgingPolicy)}.
+ */
+@Immutable
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final double DEFAULT_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_MINIMUM_DELAY = Duration.ofMillis(10);
+    private static final int DEFAULT_MAX_TOKENS = 10;
+    private static final double DEFAULT_TOKEN_RATIO = 0.1;
+
+    private final Set<String> operations;
+    private final double percentile;
+    private final Duration minimumDelay;
+    private final int maxTokens;
+    private final double tokenRatio;
+
+    private HedgingPolicy(DefaultBuilder builder) {
+        this.operations = Collections.unmodifiableSet(new LinkedHashSet<>(builder.operations));
+        this.percentile = builder.percentile != null ? builder.percentile : DEFAULT_PERCENTILE;
+        Validate.isTrue(percentile > 0 && percentile < 100, "percentile must be between 0 and 100, exclusive.");
+        this.minimumDelay = builder.minimumDelay != null
+                            ? Validate.isPositive(builder.minimumDelay, "minimumDelay")
+                            : DEFAULT_MINIMUM_DELAY;
+        this.maxTokens = builder.maxTokens != null
+                         ? Validate.isPositive(builder.maxTokens, "maxTokens")
+                         : DEFAULT_MAX_TOKENS;
+        this.tokenRatio = builder.tokenRatio != null
+                          ? Validate.isPositive(builder.tokenRatio, "tokenRatio")
+                          : DEFAULT_TOKEN_RATIO;
+    }
+
+    /**
+     * Create a {@link HedgingPolicy.Builder}, used to create a {@link HedgingPolicy}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * The names of the operations whose requests are hedged, e.g. {@code GetItem}.
+     */
+    public Set<String> operations() {
+        return operations;
+    }
+
+    /**
+     * The percentile of the recent time-to-first-byte of an operation after which a request is hedged.
+     */
+    public double percentile() {
+        return percentile;
+    }
+
+    /**
+     * The minimum time after which a request is hedged.
+     */
+    public Duration minimumDelay() {
+        return minimumDelay;
+    }
+
+    /**
+     * The maximum number of tokens in the hedging budget, which is also the initial number of tokens.
+     */
+    public int maxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * The number of tokens a successful response adds to the hedging budget.
+     */
+    public double tokenRatio() {
+        return tokenRatio;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("operations", operations)
+                       .add("percentile", percentile)
+                       .add("minimumDelay", minimumDelay)
+                       .add("maxTokens", maxTokens)
+                       .add("tokenRatio", tokenRatio)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        return Double.compare(percentile, that.percentile) == 0
+               && maxTokens == that.maxTokens
+               && Double.compare(tokenRatio, that.tokenRatio) == 0
+               && operations.equals(that.operations)
+               && minimumDelay.equals(that.minimumDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operations.hashCode();
+        result = 31 * result + Double.hashCode(percentile);
+        result = 31 * result + minimumDelay.hashCode();
+        result = 31 * result + maxTokens;
+        result = 31 * result + Double.hashCode(tokenRatio);
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+
+        /**
+         * Configures the names of the operations whose requests are hedged, e.g. {@code GetItem}. Only operations that are
+         * safe to send twice should be hedged.
+         *
+         * @param operations the operation names
+         * @return This object for method chaining.
+         */
+        Builder operations(Collection<String> operations);
+
+        /**
+         * Configures the names of the operations whose requests are hedged, e.g. {@code GetItem}. Only operations that are
+         * safe to send twice should be hedged.
+         *
+         * @param operations the operation names
+         * @return This object for method chaining.
+         */
+        Builder operations(String... operations);
+
+        /**
+         * Configures the percentile of the recent time-to-first-byte of an operation after which a request is hedged. The
+         * value must be between 0 and 100, exclusive. The default value is 95.
+         *
+         * @param percentile the percentile
+         * @return This object for method chaining.
+         */
+        Builder percentile(Double percentile);
+
+        /**
+         * Configures the minimum time after which a request is hedged, which keeps requests that are fast anyway from being
+         * hedged. The default value is 10 milliseconds.
+         *
+         * @param minimumDelay the minimum delay
+         * @return This object for method chaining.
+         */
+        Builder minimumDelay(Duration minimumDelay);
+
+        /**
+         * Configures the maximum number of tokens in the hedging budget, which is also the initial number of tokens and
+         * bounds the number of hedges that can be sent in a burst. The default value is 10.
+         *
+         * @param maxTokens the maximum number of tokens
+         * @return This object for method chaining.
+         */
+        Builder maxTokens(Integer maxTokens);
+
+        /**
+         * Configures the number of tokens a successful response adds to the hedging budget, which bounds the ratio of
+         * hedged requests in the long run. The default value is 0.1.
+         *
+         * @param tokenRatio the number of tokens earned per successful response
+         * @return This object for method chaining.
+         */
+        Builder tokenRatio(Double tokenRatio);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Set<String> operations = new LinkedHashSet<>();
+        private Double percentile;
+        private Duration minimumDelay;
+        private Integer maxTokens;
+        private Double tokenRatio;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(HedgingPolicy hedgingPolicy) {
+            this.operations = new LinkedHashSet<>(hedgingPolicy.operations);
+            this.percentile = hedgingPolicy.percentile;
+            this.minimumDelay = hedgingPolicy.minimumDelay;
+            this.maxTokens = hedgingPolicy.maxTokens;
+            this.tokenRatio = hedgingPolicy.tokenRatio;
+        }
+
+        @Override
+        public Builder operations(Collection<String> operations) {
+            this.operations = operations != null ? new LinkedHashSet<>(operations) : new LinkedHashSet<>();
+            return this;
+        }
+
+        @Override
+        public Builder operations(String... operations) {
+            return operations(Arrays.asList(operations));
+        }
+
+        @Override
+        public Builder percentile(Double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        @Override
+        public Builder minimumDelay(Duration minimumDelay) {
+            this.minimumDelay = minimumDelay;
+            return this;
+        }
+
+        @Override
+        public Builder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        @Override
+        public Builder tokenRatio(Double tokenRatio) {
+            this.tokenRatio = tokenRatio;
+            return this;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -20,12 +20,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.async.SdkAsyncHttpResponseExecutionAttribute.ZERO_COPY_BODY;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
@@ -36,7 +40,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
@@ -130,6 +136,31 @@ public class AsyncClientHandlerTest {
         verifyNoMoreInteractions(responseHandler); // Response handler is not called
     }
 
+    @Test
+    public void fileResponseTransformer_requestsZeroCopyBody() {
+        Path file = Paths.get(System.getProperty("java.io.tmpdir"), UUID.randomUUID().toString());
+        AsyncResponseTransformer<SdkResponse, SdkResponse> transformer =
+            AsyncResponseTransformerListener.wrap(AsyncResponseTransformer.toFile(file),
+                                                  new AsyncResponseTransformerListener<SdkResponse>() { });
+
+        assertThat(zeroCopyBody(transformer)).isTrue();
+    }
+
+    @Test
+    public void bytesResponseTransformer_doesNotRequestZeroCopyBody() {
+        assertThat(zeroCopyBody(AsyncResponseTransformer.toBytes())).isNull();
+    }
+
+    private Boolean zeroCopyBody(AsyncResponseTransformer<SdkResponse, ?> transformer) {
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(new CompletableFuture<>());
+
+        asyncClientHandler.execute(clientExecutionParams(), transformer);
+
+        return executeRequest.getValue().httpExecutionAttributes().getAttribute(ZERO_COPY_BODY);
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
     }
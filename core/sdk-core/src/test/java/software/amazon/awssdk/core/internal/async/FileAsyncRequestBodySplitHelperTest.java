@@ -83,6 +83,24 @@ public class FileAsyncRequestBodySplitHelperTest {
         assertThat(maxConcurrency.get()).isLessThanOrEqualTo(expectedMaxConcurrency);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {CHUNK_SIZE, CHUNK_SIZE * 2 - 1, CHUNK_SIZE * 2})
+    public void split_memoryMapped_shouldSplitCorrectly(int chunkSize) throws Exception {
+        FileAsyncRequestBody fileAsyncRequestBody = FileAsyncRequestBody.builder()
+                                                                        .path(testFile)
+                                                                        .chunkSizeInBytes(10)
+                                                                        .memoryMapped(true)
+                                                                        .build();
+        AsyncRequestBodySplitConfiguration config =
+            AsyncRequestBodySplitConfiguration.builder()
+                                              .chunkSizeInBytes((long) chunkSize)
+                                              .bufferSizeInBytes(55L)
+                                              .build();
+        FileAsyncRequestBodySplitHelper helper = new FileAsyncRequestBodySplitHelper(fileAsyncRequestBody, config);
+
+        verifyIndividualAsyncRequestBody(helper.split(), testFile, chunkSize);
+    }
+
     private static Runnable verifyConcurrentRequests(FileAsyncRequestBodySplitHelper helper, AtomicInteger maxConcurrency) {
         return () -> {
             int concurrency = helper.numAsyncRequestBodiesInFlight().get();
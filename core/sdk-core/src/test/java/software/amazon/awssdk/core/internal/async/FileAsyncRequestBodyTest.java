@@ -31,6 +31,8 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -312,6 +314,146 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void memoryMapped_readsWholeFile_publishesReadOnlyDirectSlices() throws Exception {
+        int chunkSize = 64 * 1024;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(chunkSize)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        List<ByteBuffer> chunks = new ArrayList<>();
+        SdkPublisher.adapt(asyncRequestBody).subscribe(chunks::add).get(5, TimeUnit.SECONDS);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            assertThat(chunk.isDirect()).isTrue();
+            assertThat(chunk.isReadOnly()).isTrue();
+            assertThat(chunk.remaining()).isLessThanOrEqualTo(chunkSize);
+            output.write(BinaryUtils.copyBytesFrom(chunk));
+        }
+        assertThat(chunks).hasSize((int) (TEST_FILE_SIZE / chunkSize));
+        assertThat(output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_mappingsStillReferenced_readsFurtherChunksIntoHeapBuffers() throws Exception {
+        // Five mapping windows of 8 MiB, of which at most four may be live at once
+        Path largeFile = new RandomTempFile(40 * MiB).toPath();
+        try {
+            int chunkSize = (int) MiB;
+            AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                    .path(largeFile)
+                                                                    .chunkSizeInBytes(chunkSize)
+                                                                    .memoryMapped(true)
+                                                                    .build();
+
+            // Holding on to every chunk keeps all their mappings referenced
+            List<ByteBuffer> chunks = new ArrayList<>();
+            SdkPublisher.adapt(asyncRequestBody).subscribe(chunks::add).get(10, TimeUnit.SECONDS);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            for (ByteBuffer chunk : chunks) {
+                output.write(BinaryUtils.copyBytesFrom(chunk));
+            }
+            assertThat(chunks.subList(0, 32)).allMatch(ByteBuffer::isDirect);
+            assertThat(chunks.subList(32, chunks.size())).hasSize(8).noneMatch(ByteBuffer::isDirect);
+            assertThat(output.toByteArray()).isEqualTo(Files.readAllBytes(largeFile));
+        } finally {
+            Files.delete(largeFile);
+        }
+    }
+
+    @Test
+    public void memoryMapped_bothPositionAndNumBytesToReadConfigured_shouldHonor() throws Exception {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        long position = 20L;
+        long numBytesToRead = 25L;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .position(position)
+                                                                .numBytesToRead(numBytesToRead)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ByteArrayAsyncResponseTransformer.BaosSubscriber baosSubscriber =
+            new ByteArrayAsyncResponseTransformer.BaosSubscriber(future);
+        asyncRequestBody.subscribe(baosSubscriber);
+        assertThat(asyncRequestBody.contentLength()).contains(numBytesToRead);
+
+        byte[] bytes = future.get(1, TimeUnit.SECONDS);
+
+        byte[] expected = new byte[25];
+        try (FileInputStream inputStream = new FileInputStream(smallFile.toFile())) {
+            inputStream.skip(position);
+            inputStream.read(expected, 0, 25);
+        }
+
+        assertThat(bytes).isEqualTo(expected);
+    }
+
+    @Test
+    public void memoryMapped_emptyRegion_receivesComplete() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .numBytesToRead(0L)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.output.size()).isZero();
+    }
+
+    @Test
+    public void memoryMapped_fileGetsTouched_failsBecauseUpdatedModificationTime() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+
+        // Start reading file
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        // Change the file to be updated
+        Thread.sleep(1_000); // Wait for 1 second so that we are definitely in a different second than when the file was created
+        Files.setLastModifiedTime(testFile, FileTime.from(Instant.now()));
+
+        // Finishing reading the file
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void memoryMapped_cancelled_stopsPublishing() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(2);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(2, 5, TimeUnit.SECONDS));
+
+        subscriber.sub.cancel();
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.onNextSemaphore.availablePermits()).isZero();
+        assertThat(subscriber.completed).isNotDone();
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
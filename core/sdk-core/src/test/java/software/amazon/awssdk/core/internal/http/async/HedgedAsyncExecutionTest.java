@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.internal.retry.RequestHedger;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class HedgedAsyncExecutionTest {
+    private static final String OPERATION = "GetItem";
+    private static final SdkHttpResponse OK = SdkHttpResponse.builder().statusCode(200).build();
+
+    private final List<AsyncExecuteRequest> requests = new ArrayList<>();
+    private final List<CompletableFuture<Void>> httpClientFutures = new ArrayList<>();
+    private SdkAsyncHttpClient httpClient;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledHedge;
+    private SdkAsyncHttpResponseHandler responseHandler;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = mock(SdkAsyncHttpClient.class);
+        when(httpClient.execute(any())).thenAnswer(i -> {
+            requests.add(i.getArgument(0));
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            httpClientFutures.add(future);
+            return future;
+        });
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduledHedge = mock(ScheduledFuture.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(i -> scheduledHedge);
+        responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        hedger = hedgerWithLatencies(HedgingPolicy.builder().operations(OPERATION).build());
+    }
+
+    @Test
+    public void execute_notEnoughLatencies_doesNotScheduleHedge() {
+        hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).build());
+
+        execute();
+
+        assertThat(requests).hasSize(1);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void execute_schedulesHedgeAfterHedgeDelay() {
+        execute();
+
+        verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofMillis(100).toNanos()), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void hedgeRespondsFirst_hedgeIsUsedAndPrimaryIsCancelled() {
+        CompletableFuture<Void> result = execute();
+        runScheduledHedge();
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).metricCollector()).isPresent();
+
+        requests.get(1).responseHandler().onHeaders(OK);
+        requests.get(0).responseHandler().onHeaders(OK);
+
+        verify(responseHandler).onHeaders(OK);
+        assertThat(httpClientFutures.get(0)).isCompletedExceptionally();
+        assertThat(result).isNotDone();
+
+        httpClientFutures.get(1).complete(null);
+        assertThat(result).isCompletedWithValue(null);
+    }
+
+    @Test
+    public void primaryRespondsBeforeHedgeDelay_noHedgeIsSent() {
+        CompletableFuture<Void> result = execute();
+
+        requests.get(0).responseHandler().onHeaders(OK);
+        verify(scheduledHedge, atLeastOnce()).cancel(false);
+        runScheduledHedge();
+
+        assertThat(requests).hasSize(1);
+        verify(responseHandler).onHeaders(OK);
+        httpClientFutures.get(0).complete(null);
+        assertThat(result).isCompletedWithValue(null);
+    }
+
+    @Test
+    public void primaryFailsWhileHedgeInFlight_failureIsIgnored() {
+        CompletableFuture<Void> result = execute();
+        runScheduledHedge();
+
+        IOException failure = new IOException("Connection reset");
+        requests.get(0).responseHandler().onError(failure);
+        httpClientFutures.get(0).completeExceptionally(failure);
+
+        verify(responseHandler, never()).onError(any());
+        assertThat(result).isNotDone();
+
+        requests.get(1).responseHandler().onHeaders(OK);
+        httpClientFutures.get(1).complete(null);
+        verify(responseHandler).onHeaders(OK);
+        assertThat(result).isCompletedWithValue(null);
+    }
+
+    @Test
+    public void allRequestsFail_executionFailsWithLastFailure() {
+        CompletableFuture<Void> result = execute();
+        runScheduledHedge();
+
+        httpClientFutures.get(0).completeExceptionally(new IOException("first"));
+        IOException last = new IOException("last");
+        requests.get(1).responseHandler().onError(last);
+        httpClientFutures.get(1).completeExceptionally(last);
+
+        verify(responseHandler).onError(last);
+        assertThat(result).isCompletedExceptionally();
+        assertThat(result.handle((r, t) -> t).join()).isSameAs(last);
+    }
+
+    @Test
+    public void primaryFailsBeforeHedgeDelay_executionFailsAndNoHedgeIsSent() {
+        CompletableFuture<Void> result = execute();
+
+        httpClientFutures.get(0).completeExceptionally(new IOException("failed"));
+        verify(scheduledHedge, atLeastOnce()).cancel(false);
+        runScheduledHedge();
+
+        assertThat(requests).hasSize(1);
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    public void noHedgingTokens_noHedgeIsSent() {
+        hedger = hedgerWithLatencies(HedgingPolicy.builder().operations(OPERATION).maxTokens(1).build());
+        hedger.tryAcquireHedge();
+
+        execute();
+        runScheduledHedge();
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    public void resultCompletedExceptionally_cancelsAllRequests() {
+        CompletableFuture<Void> result = execute();
+        runScheduledHedge();
+
+        result.completeExceptionally(new RuntimeException("Attempt timed out"));
+
+        assertThat(httpClientFutures).allSatisfy(future -> assertThat(future).isCompletedExceptionally());
+    }
+
+    @Test
+    public void loserReceivesStream_streamIsCancelled() {
+        execute();
+        runScheduledHedge();
+        requests.get(0).responseHandler().onHeaders(OK);
+        requests.get(1).responseHandler().onHeaders(OK);
+
+        CompletableFuture<Boolean> cancelled = new CompletableFuture<>();
+        requests.get(1).responseHandler().onStream(s -> s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.complete(true);
+            }
+        }));
+
+        assertThat(cancelled).isCompletedWithValue(true);
+        verify(responseHandler, never()).onStream(any());
+        assertThat(httpClientFutures.get(1).handle((r, t) -> t).join()).isInstanceOf(CancellationException.class);
+    }
+
+    private CompletableFuture<Void> execute() {
+        AsyncExecuteRequest.Builder request = AsyncExecuteRequest.builder()
+                                                                 .request(SdkHttpRequest.builder()
+                                                                                        .uri(URI.create("https://localhost"))
+                                                                                        .method(SdkHttpMethod.GET)
+                                                                                        .build());
+        return new HedgedAsyncExecution(httpClient, hedger, OPERATION, scheduler, responseHandler)
+            .execute(request, () -> mock(MetricCollector.class));
+    }
+
+    private void runScheduledHedge() {
+        ArgumentCaptor<Runnable> hedge = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(hedge.capture(), anyLong(), any(TimeUnit.class));
+        hedge.getValue().run();
+    }
+
+    private static RequestHedger hedgerWithLatencies(HedgingPolicy policy) {
+        RequestHedger hedger = RequestHedger.create(policy);
+        for (int i = 0; i < 100; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofMillis(100));
+        }
+        return hedger;
+    }
+}
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.combinedAsyncResponseHandler;
 
@@ -51,11 +52,13 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
@@ -237,6 +240,54 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    @Test
+    public void execute_hedgedOperation_sendsHedgeAfterHedgeDelay() throws Exception {
+        HttpClientDependencies dependencies = hedgingClientDependencies("GetItem");
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            dependencies);
+        RequestExecutionContext context = requestContext();
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetItem");
+        when(sdkAsyncHttpClient.execute(any())).thenReturn(new CompletableFuture<>());
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+        ArgumentCaptor<Runnable> hedge = ArgumentCaptor.forClass(Runnable.class);
+        verify(timeoutExecutor).schedule(hedge.capture(), anyLong(), any(TimeUnit.class));
+        hedge.getValue().run();
+
+        verify(sdkAsyncHttpClient, times(2)).execute(any());
+    }
+
+    @Test
+    public void execute_operationNotHedged_doesNotScheduleHedge() throws Exception {
+        HttpClientDependencies dependencies = hedgingClientDependencies("GetItem");
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            dependencies);
+        RequestExecutionContext context = requestContext();
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, "PutItem");
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+
+        verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        verify(sdkAsyncHttpClient, times(1)).execute(any());
+    }
+
+    private HttpClientDependencies hedgingClientDependencies(String operationName) {
+        SdkClientConfiguration configuration =
+            clientDependencies(null).clientConfiguration()
+                                    .toBuilder()
+                                    .option(HEDGING_POLICY, HedgingPolicy.builder().operations(operationName).build())
+                                    .build();
+        HttpClientDependencies dependencies = HttpClientDependencies.builder().clientConfiguration(configuration).build();
+        for (int i = 0; i < 100; i++) {
+            dependencies.requestHedger().recordLatency(operationName, Duration.ofMillis(100));
+        }
+        return dependencies;
+    }
+
     private HttpClientDependencies clientDependencies(Duration timeout) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
                                                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+public class RequestHedgerTest {
+    private static final String OPERATION = "GetItem";
+
+    @Test
+    public void isHedged_onlyForOperationsOfThePolicy() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).build());
+
+        assertThat(hedger.isHedged(OPERATION)).isTrue();
+        assertThat(hedger.isHedged("PutItem")).isFalse();
+        assertThat(hedger.isHedged(null)).isFalse();
+    }
+
+    @Test
+    public void hedgeDelay_notEnoughLatencies_isEmpty() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).build());
+        for (int i = 0; i < 31; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofMillis(100));
+        }
+
+        assertThat(hedger.hedgeDelay(OPERATION)).isEmpty();
+        assertThat(hedger.hedgeDelay("PutItem")).isEmpty();
+    }
+
+    @Test
+    public void hedgeDelay_isPercentileOfRecentLatencies() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).percentile(90.0).build());
+        for (int i = 1; i <= 100; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofMillis(i));
+        }
+
+        assertThat(hedger.hedgeDelay(OPERATION)).contains(Duration.ofMillis(90));
+    }
+
+    @Test
+    public void hedgeDelay_oldLatenciesLeaveTheWindow() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).build());
+        for (int i = 0; i < 256; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofSeconds(1));
+        }
+        assertThat(hedger.hedgeDelay(OPERATION)).contains(Duration.ofSeconds(1));
+
+        for (int i = 0; i < 256; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofMillis(50));
+        }
+        assertThat(hedger.hedgeDelay(OPERATION)).contains(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void hedgeDelay_isAtLeastMinimumDelay() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder()
+                                                                 .operations(OPERATION)
+                                                                 .minimumDelay(Duration.ofMillis(20))
+                                                                 .build());
+        for (int i = 0; i < 100; i++) {
+            hedger.recordLatency(OPERATION, Duration.ofMillis(1));
+        }
+
+        assertThat(hedger.hedgeDelay(OPERATION)).contains(Duration.ofMillis(20));
+    }
+
+    @Test
+    public void tryAcquireHedge_limitedByMaxTokens() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).maxTokens(2).build());
+
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+        assertThat(hedger.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    public void recordSuccess_earnsTokenRatio() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder()
+                                                                 .operations(OPERATION)
+                                                                 .maxTokens(1)
+                                                                 .tokenRatio(0.25)
+                                                                 .build());
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+
+        for (int i = 0; i < 3; i++) {
+            hedger.recordSuccess();
+        }
+        assertThat(hedger.tryAcquireHedge()).isFalse();
+
+        hedger.recordSuccess();
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+    }
+
+    @Test
+    public void recordSuccess_doesNotExceedMaxTokens() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).maxTokens(1).build());
+        for (int i = 0; i < 100; i++) {
+            hedger.recordSuccess();
+        }
+
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+        assertThat(hedger.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    public void recordFailure_costsToken() {
+        RequestHedger hedger = RequestHedger.create(HedgingPolicy.builder().operations(OPERATION).maxTokens(2).build());
+        hedger.recordFailure();
+
+        assertThat(hedger.tryAcquireHedge()).isTrue();
+        assertThat(hedger.tryAcquireHedge()).isFalse();
+    }
+}
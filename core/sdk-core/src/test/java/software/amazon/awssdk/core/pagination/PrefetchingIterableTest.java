@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+
+public class PrefetchingIterableTest {
+
+    @Test
+    public void prefetch_returnsAllElementsInOrder() {
+        SdkIterable<Integer> iterable = () -> Arrays.asList(1, 2, 3, 4, 5).iterator();
+
+        assertThat(iterable.prefetch(2).stream().collect(Collectors.toList())).containsExactly(1, 2, 3, 4, 5);
+        assertThat(iterable.prefetch(10).stream().collect(Collectors.toList())).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void prefetch_emptyIterable_hasNoElements() {
+        SdkIterable<Integer> iterable = () -> new ArrayList<Integer>().iterator();
+
+        assertThat(iterable.prefetch(1).iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    public void prefetch_fetchesAheadOfCallerUpToDepth() throws InterruptedException {
+        CountingIterator delegate = new CountingIterator(100, 3);
+        Iterator<Integer> iterator = ((SdkIterable<Integer>) () -> delegate).prefetch(3).iterator();
+
+        assertThat(iterator.next()).isEqualTo(0);
+
+        // One element has been returned, so the iterator keeps three more fetched ahead of the caller.
+        assertThat(delegate.fetched.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(delegate.nextCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void prefetch_streamClosed_stopsIssuingFetches() throws InterruptedException {
+        CountingIterator delegate = new CountingIterator(100, 1);
+        delegate.blockFetch(1);
+
+        try (Stream<Integer> stream = ((SdkIterable<Integer>) () -> delegate).prefetch(5).stream()) {
+            assertThat(stream.iterator().next()).isEqualTo(0);
+            assertThat(delegate.fetched.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        delegate.unblockFetches();
+
+        // Only the fetch that was in progress when the stream was closed completes.
+        Thread.sleep(100);
+        assertThat(delegate.nextCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void prefetch_iteratorAbandoned_stopsIssuingFetches() throws InterruptedException {
+        CountingIterator delegate = new CountingIterator(100, 1);
+        delegate.blockFetch(1);
+
+        Iterator<Integer> iterator = ((SdkIterable<Integer>) () -> delegate).prefetch(5).iterator();
+        assertThat(iterator.next()).isEqualTo(0);
+        assertThat(delegate.fetched.await(5, TimeUnit.SECONDS)).isTrue();
+
+        WeakReference<Iterator<Integer>> reference = new WeakReference<>(iterator);
+        iterator = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(reference.get()).isNull();
+        delegate.unblockFetches();
+
+        // Only the fetch that was in progress when the iterator was collected completes.
+        Thread.sleep(100);
+        assertThat(delegate.nextCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void prefetch_failedFetch_isRethrownToCaller() {
+        SdkIterable<Integer> iterable = () -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("Failed to fetch page");
+            }
+        };
+
+        Iterator<Integer> iterator = iterable.prefetch(2).iterator();
+        assertThatThrownBy(iterator::next).isInstanceOf(IllegalStateException.class)
+                                          .hasMessage("Failed to fetch page");
+    }
+
+    private static final class CountingIterator implements Iterator<Integer> {
+        private final int size;
+        private final AtomicInteger nextCalls = new AtomicInteger();
+        private final CountDownLatch fetched;
+        private final CountDownLatch unblocked = new CountDownLatch(1);
+        private volatile int blockedFetch = -1;
+
+        private CountingIterator(int size, int expectedAhead) {
+            this.size = size;
+            this.fetched = new CountDownLatch(expectedAhead + 1);
+        }
+
+        private void blockFetch(int index) {
+            blockedFetch = index;
+        }
+
+        private void unblockFetches() {
+            unblocked.countDown();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextCalls.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            int value = nextCalls.getAndIncrement();
+            fetched.countDown();
+            if (value == blockedFetch) {
+                try {
+                    unblocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        }
+    }
+}
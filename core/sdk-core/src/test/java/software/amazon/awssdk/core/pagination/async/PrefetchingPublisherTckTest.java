@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination.async;
+
+import java.util.stream.LongStream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * TCK verification test for {@link SdkPublisher#prefetch(int)}.
+ */
+public class PrefetchingPublisherTckTest extends PublisherVerification<Long> {
+
+    public PrefetchingPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Publisher<Long> createPublisher(long l) {
+        Iterable<Long> elements = () -> LongStream.range(0, l).boxed().iterator();
+        return SdkPublisher.fromIterable(elements).prefetch(2);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        SdkPublisher<Long> failed = s -> s.onError(new RuntimeException("Failed"));
+        return failed.prefetch(2);
+    }
+}
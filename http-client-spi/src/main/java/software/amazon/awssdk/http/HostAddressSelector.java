@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Resolves the addresses of a host for the connections an HTTP client establishes to it, and is told how those connections
+ * perform, so that it can spread new connections across all the addresses of a host and steer them away from slow or
+ * failing addresses.
+ *
+ * <p>
+ * A client that is configured with a selector calls {@link #resolve(String)} for every new connection, connects to one of
+ * the addresses, and reports the outcome of the connection and the latency of the responses received on it. A selector may
+ * be shared by multiple clients. How the addresses are tried depends on the client: the Apache client tries them in order
+ * until one accepts the connection, while the Netty client only connects to the first one, and relies on the failure it
+ * reports to have the next connection try another address.
+ * <p>
+ * {@link #resolve(String)} may block, for instance to look the host up: clients call it from a thread that is allowed to
+ * block, not from an event loop.
+ *
+ * @see SdkHttpConfigurationOption#HOST_ADDRESS_SELECTOR
+ * @see LatencyAwareHostAddressSelector
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface HostAddressSelector {
+
+    /**
+     * Resolves the addresses of a host, in the order in which they should be tried by a new connection.
+     *
+     * @param host The host name.
+     * @return The addresses of the host, at least one.
+     * @throws UnknownHostException If the host could not be resolved.
+     */
+    List<InetAddress> resolve(String host) throws UnknownHostException;
+
+    /**
+     * Called when a connection to an address has been established.
+     *
+     * @param address The address connected to.
+     * @param connectTime The time it took to establish the connection.
+     */
+    default void connectSucceeded(InetAddress address, Duration connectTime) {
+    }
+
+    /**
+     * Called when a connection to an address could not be established.
+     *
+     * @param address The address that could not be connected to.
+     */
+    default void connectFailed(InetAddress address) {
+    }
+
+    /**
+     * Called when the response headers of a request have been received on a connection to an address.
+     *
+     * @param address The address the connection is established to.
+     * @param timeToFirstByte The time between the request being sent and the response headers being received.
+     */
+    default void responseReceived(InetAddress address, Duration timeToFirstByte) {
+    }
+
+    /**
+     * @return A {@link LatencyAwareHostAddressSelector} with the default configuration.
+     */
+    static HostAddressSelector latencyAware() {
+        return LatencyAwareHostAddressSelector.create();
+    }
+}
@@ -121,6 +121,33 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The number of pooled connections a prewarm of an endpoint ensured were established.
+     *
+     * <p>This is reported to the metric collector of a {@link PrewarmRequest}, not to the metric collectors of requests. It
+     * includes connections that were already established when the prewarm started.
+     */
+    public static final SdkMetric<Integer> PREWARMED_CONNECTIONS =
+        metric("PrewarmedConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The time taken by a prewarm of an endpoint to establish its connections, including TLS handshakes.
+     *
+     * <p>This is reported to the metric collector of a {@link PrewarmRequest}, not to the metric collectors of requests.
+     */
+    public static final SdkMetric<Duration> PREWARM_DURATION =
+        metric("PrewarmDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Whether the TLS handshake of a new connection resumed a previously established session, avoiding the key exchange of a
+     * full handshake.
+     *
+     * <p>This is only reported to the first request served by a new TLS connection, so the number of reported values is the
+     * number of TLS handshakes and the share of {@code true} values is the session resumption rate.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
@@ -0,0 +1,429 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A {@link HostAddressSelector} that caches the full set of addresses of a host, spreads new connections across the addresses
+ * that perform well and deprioritizes slow or failing addresses.
+ *
+ * <p>
+ * The connect time and the time to first byte of an address are tracked separately, as exponentially weighted moving
+ * averages, because clients don't always report both: an address is only compared to the other addresses of the host on the
+ * latencies that were recorded for it. An address is slow if one of its latencies exceeds
+ * {@link Builder#slowAddressThreshold(Double)} times the lowest such latency among the addresses of the host. The addresses
+ * that aren't slow, including the ones with no latency recorded yet, are handed out in round-robin order. They are followed
+ * by the slow addresses, least slow first, and then by the addresses that recently failed to connect, which are penalized
+ * for {@link Builder#failurePenalty(Duration)}, doubling with every consecutive failure up to one minute.
+ * <p>
+ * The statistics of an address are shared by all the hosts it is an address of, and are kept as long as one of them still
+ * resolves to it. A host that isn't resolved for {@link Builder#addressCacheTtl(Duration)}, or for one minute if that is
+ * longer, is dropped, so that neither the cached hosts nor the address statistics grow with every host ever resolved.
+ * <p>
+ * A selector created with {@link #toBuilder()} has the same configuration, but starts without cached hosts or address
+ * statistics.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class LatencyAwareHostAddressSelector
+    implements HostAddressSelector,
+               ToCopyableBuilder<LatencyAwareHostAddressSelector.Builder, LatencyAwareHostAddressSelector> {
+    private static final Duration DEFAULT_ADDRESS_CACHE_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_FAILURE_PENALTY = Duration.ofSeconds(5);
+    private static final double DEFAULT_SLOW_ADDRESS_THRESHOLD = 2.0;
+    private static final long MAX_FAILURE_PENALTY_NANOS = Duration.ofMinutes(1).toNanos();
+
+    /**
+     * Latencies this close to the fastest address are never considered slow, so that jitter on fast connections doesn't
+     * take addresses out of the rotation.
+     */
+    private static final long LATENCY_TOLERANCE_NANOS = Duration.ofMillis(1).toNanos();
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final long addressCacheTtlNanos;
+    private final long hostIdleTimeoutNanos;
+    private final long failurePenaltyNanos;
+    private final double slowAddressThreshold;
+    private final AddressLookup addressLookup;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, HostAddresses> hosts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InetAddress, AddressStats> addressStats = new ConcurrentHashMap<>();
+    private final AtomicLong nextIdleHostEviction;
+
+    private LatencyAwareHostAddressSelector(BuilderImpl builder) {
+        this(builder, InetAddress::getAllByName, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    LatencyAwareHostAddressSelector(BuilderImpl builder, AddressLookup addressLookup, LongSupplier nanoClock) {
+        this.addressCacheTtlNanos = Validate.isNotNegative(builder.addressCacheTtl != null ? builder.addressCacheTtl
+                                                                                           : DEFAULT_ADDRESS_CACHE_TTL,
+                                                           "addressCacheTtl").toNanos();
+        this.failurePenaltyNanos = Validate.isNotNegative(builder.failurePenalty != null ? builder.failurePenalty
+                                                                                         : DEFAULT_FAILURE_PENALTY,
+                                                          "failurePenalty").toNanos();
+        this.slowAddressThreshold = builder.slowAddressThreshold != null ? builder.slowAddressThreshold
+                                                                         : DEFAULT_SLOW_ADDRESS_THRESHOLD;
+        Validate.isTrue(slowAddressThreshold >= 1, "slowAddressThreshold must be at least 1, but was %s",
+                        slowAddressThreshold);
+        this.addressLookup = addressLookup;
+        this.nanoClock = nanoClock;
+        // Idle hosts are kept for at least as long as the longest failure penalty, so that it isn't lifted by dropping them.
+        this.hostIdleTimeoutNanos = Math.max(addressCacheTtlNanos, MAX_FAILURE_PENALTY_NANOS);
+        this.nextIdleHostEviction = new AtomicLong(nanoClock.getAsLong() + hostIdleTimeoutNanos);
+    }
+
+    public static LatencyAwareHostAddressSelector create() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().addressCacheTtl(Duration.ofNanos(addressCacheTtlNanos))
+                        .failurePenalty(Duration.ofNanos(failurePenaltyNanos))
+                        .slowAddressThreshold(slowAddressThreshold);
+    }
+
+    @Override
+    public List<InetAddress> resolve(String host) throws UnknownHostException {
+        long now = nanoClock.getAsLong();
+        evictIdleHosts(now);
+        HostAddresses hostAddresses = hosts.get(host);
+        if (hostAddresses == null || now - hostAddresses.expiresAt >= 0) {
+            hostAddresses = lookup(host, hostAddresses, now);
+        }
+        hostAddresses.lastResolved = now;
+        return order(hostAddresses, now);
+    }
+
+    @Override
+    public void connectSucceeded(InetAddress address, Duration connectTime) {
+        AddressStats stats = addressStats.get(address);
+        if (stats != null) {
+            stats.connectSucceeded(connectTime.toNanos());
+        }
+    }
+
+    @Override
+    public void connectFailed(InetAddress address) {
+        AddressStats stats = addressStats.get(address);
+        if (stats != null) {
+            stats.connectFailed(nanoClock.getAsLong(), failurePenaltyNanos);
+        }
+    }
+
+    @Override
+    public void responseReceived(InetAddress address, Duration timeToFirstByte) {
+        AddressStats stats = addressStats.get(address);
+        if (stats != null) {
+            stats.responseReceived(timeToFirstByte.toNanos());
+        }
+    }
+
+    /**
+     * Looks the addresses of a host up. The statistics of an address are created when a host first resolves to it, and
+     * dropped when no host resolves to it anymore.
+     */
+    private HostAddresses lookup(String host, HostAddresses previous, long now) throws UnknownHostException {
+        List<InetAddress> addresses = Arrays.asList(addressLookup.lookup(host));
+        if (addresses.isEmpty()) {
+            throw new UnknownHostException(host);
+        }
+        HostAddresses hostAddresses = new HostAddresses(addresses, now + addressCacheTtlNanos,
+                                                        previous != null ? previous.rotation : new AtomicInteger());
+        hostAddresses.lastResolved = now;
+        boolean updated = previous == null ? hosts.putIfAbsent(host, hostAddresses) == null
+                                           : hosts.replace(host, previous, hostAddresses);
+        if (!updated) {
+            // Another thread looked the host up concurrently, and accounted for the addresses it found, or the host was
+            // evicted in the meantime.
+            HostAddresses current = hosts.get(host);
+            return current != null ? current : lookup(host, null, now);
+        }
+
+        List<InetAddress> previousAddresses = previous != null ? previous.addresses : Collections.emptyList();
+        addresses.stream()
+                 .filter(address -> !previousAddresses.contains(address))
+                 .forEach(address -> addressStats.compute(address, (a, stats) -> AddressStats.retain(stats)));
+        previousAddresses.stream()
+                         .filter(address -> !addresses.contains(address))
+                         .forEach(address -> addressStats.computeIfPresent(address, (a, stats) -> stats.release()));
+        return hostAddresses;
+    }
+
+    /**
+     * Drops the hosts that weren't resolved for {@link #hostIdleTimeoutNanos}, and the statistics of the addresses no other
+     * host resolves to. Runs at most once per idle timeout, so that resolving a host usually doesn't visit the other hosts.
+     */
+    private void evictIdleHosts(long now) {
+        long next = nextIdleHostEviction.get();
+        if (now - next < 0 || !nextIdleHostEviction.compareAndSet(next, now + hostIdleTimeoutNanos)) {
+            return;
+        }
+        hosts.forEach((host, hostAddresses) -> {
+            if (now - hostAddresses.lastResolved >= hostIdleTimeoutNanos && hosts.remove(host, hostAddresses)) {
+                hostAddresses.addresses.forEach(
+                    address -> addressStats.computeIfPresent(address, (a, stats) -> stats.release()));
+            }
+        });
+    }
+
+    private List<InetAddress> order(HostAddresses hostAddresses, long now) {
+        List<RankedAddress> healthy = new ArrayList<>();
+        List<RankedAddress> penalized = new ArrayList<>();
+        for (InetAddress address : hostAddresses.addresses) {
+            AddressStats stats = addressStats.get(address);
+            RankedAddress ranked = stats != null ? stats.rank(address, now) : new RankedAddress(address, -1, -1, null);
+            if (ranked.penalizedUntil != null) {
+                penalized.add(ranked);
+            } else {
+                healthy.add(ranked);
+            }
+        }
+
+        double fastestConnect = lowest(healthy, r -> r.connectNanos);
+        double fastestFirstByte = lowest(healthy, r -> r.firstByteNanos);
+        List<RankedAddress> fast = new ArrayList<>(healthy.size());
+        List<RankedAddress> slow = new ArrayList<>();
+        for (RankedAddress ranked : healthy) {
+            ranked.slowness = Math.max(slowness(ranked.connectNanos, fastestConnect),
+                                       slowness(ranked.firstByteNanos, fastestFirstByte));
+            if (ranked.slowness <= slowAddressThreshold) {
+                fast.add(ranked);
+            } else {
+                slow.add(ranked);
+            }
+        }
+        slow.sort(Comparator.comparingDouble(r -> r.slowness));
+        penalized.sort(Comparator.comparingLong(r -> r.penalizedUntil - now));
+
+        List<InetAddress> result = new ArrayList<>(hostAddresses.addresses.size());
+        if (!fast.isEmpty()) {
+            int offset = Math.floorMod(hostAddresses.rotation.getAndIncrement(), fast.size());
+            for (int i = 0; i < fast.size(); i++) {
+                result.add(fast.get((offset + i) % fast.size()).address);
+            }
+        }
+        slow.forEach(r -> result.add(r.address));
+        penalized.forEach(r -> result.add(r.address));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @return The lowest of the recorded latencies, or a negative value if none is recorded.
+     */
+    private static double lowest(List<RankedAddress> addresses, ToDoubleFunction<RankedAddress> latency) {
+        double lowest = -1;
+        for (RankedAddress address : addresses) {
+            double nanos = latency.applyAsDouble(address);
+            if (nanos >= 0 && (lowest < 0 || nanos < lowest)) {
+                lowest = nanos;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * @return The ratio of a latency to the lowest latency of the same kind, or 0 if the latency is not recorded or within
+     * {@link #LATENCY_TOLERANCE_NANOS} of the lowest one.
+     */
+    private static double slowness(double nanos, double lowestNanos) {
+        if (nanos < 0 || nanos - lowestNanos <= LATENCY_TOLERANCE_NANOS) {
+            return 0;
+        }
+        return nanos / Math.max(lowestNanos, 1);
+    }
+
+    /**
+     * Looks up all the addresses of a host.
+     */
+    @FunctionalInterface
+    interface AddressLookup {
+        InetAddress[] lookup(String host) throws UnknownHostException;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, LatencyAwareHostAddressSelector> {
+        /**
+         * Set the amount of time the addresses of a host are cached for before they are looked up again.
+         *
+         * <p>
+         * By default, this is 30 seconds, which matches the default positive TTL of the JVM address cache.
+         *
+         * @param addressCacheTtl The time to live of the cached addresses.
+         * @return This builder for method chaining.
+         */
+        Builder addressCacheTtl(Duration addressCacheTtl);
+
+        /**
+         * Set the amount of time an address is moved to the end of the order for after a connection to it failed. The
+         * penalty doubles with every consecutive failure, up to one minute, and is lifted by a successful connection.
+         *
+         * <p>
+         * By default, this is 5 seconds.
+         *
+         * @param failurePenalty The penalty of an address after its first failure.
+         * @return This builder for method chaining.
+         */
+        Builder failurePenalty(Duration failurePenalty);
+
+        /**
+         * Set how many times slower than the fastest address of a host an address may be before new connections prefer
+         * the other addresses over it. Must be at least 1.
+         *
+         * <p>
+         * By default, this is 2.
+         *
+         * @param slowAddressThreshold The ratio to the latency of the fastest address above which an address is slow.
+         * @return This builder for method chaining.
+         */
+        Builder slowAddressThreshold(Double slowAddressThreshold);
+    }
+
+    static final class BuilderImpl implements Builder {
+        private Duration addressCacheTtl;
+        private Duration failurePenalty;
+        private Double slowAddressThreshold;
+
+        BuilderImpl() {
+        }
+
+        @Override
+        public Builder addressCacheTtl(Duration addressCacheTtl) {
+            this.addressCacheTtl = addressCacheTtl;
+            return this;
+        }
+
+        @Override
+        public Builder failurePenalty(Duration failurePenalty) {
+            this.failurePenalty = failurePenalty;
+            return this;
+        }
+
+        @Override
+        public Builder slowAddressThreshold(Double slowAddressThreshold) {
+            this.slowAddressThreshold = slowAddressThreshold;
+            return this;
+        }
+
+        @Override
+        public LatencyAwareHostAddressSelector build() {
+            return new LatencyAwareHostAddressSelector(this);
+        }
+    }
+
+    private static final class HostAddresses {
+        private final List<InetAddress> addresses;
+        private final long expiresAt;
+        private final AtomicInteger rotation;
+        private volatile long lastResolved;
+
+        private HostAddresses(List<InetAddress> addresses, long expiresAt, AtomicInteger rotation) {
+            this.addresses = addresses;
+            this.expiresAt = expiresAt;
+            this.rotation = rotation;
+        }
+    }
+
+    private static final class AddressStats {
+        private double connectNanos = -1;
+        private double firstByteNanos = -1;
+        private int consecutiveFailures;
+        private long penalizedUntil;
+
+        /**
+         * The number of hosts that resolve to the address, only updated while the address is locked by
+         * {@link #addressStats}.
+         */
+        private int hosts;
+
+        private static AddressStats retain(AddressStats stats) {
+            AddressStats retained = stats != null ? stats : new AddressStats();
+            retained.hosts++;
+            return retained;
+        }
+
+        /**
+         * @return These statistics, or null if no host resolves to the address anymore.
+         */
+        private AddressStats release() {
+            return --hosts > 0 ? this : null;
+        }
+
+        synchronized void connectSucceeded(long nanos) {
+            connectNanos = average(connectNanos, nanos);
+            consecutiveFailures = 0;
+        }
+
+        synchronized void connectFailed(long now, long failurePenaltyNanos) {
+            consecutiveFailures++;
+            long penalty = failurePenaltyNanos << Math.min(consecutiveFailures - 1, 30);
+            penalizedUntil = now + Math.min(penalty < 0 ? Long.MAX_VALUE : penalty, MAX_FAILURE_PENALTY_NANOS);
+        }
+
+        synchronized void responseReceived(long nanos) {
+            firstByteNanos = average(firstByteNanos, nanos);
+        }
+
+        synchronized RankedAddress rank(InetAddress address, long now) {
+            boolean penalized = consecutiveFailures > 0 && penalizedUntil - now > 0;
+            return new RankedAddress(address, connectNanos, firstByteNanos, penalized ? penalizedUntil : null);
+        }
+
+        private static double average(double average, long sample) {
+            return average < 0 ? sample : average + LATENCY_WEIGHT * (sample - average);
+        }
+    }
+
+    private static final class RankedAddress {
+        private final InetAddress address;
+        private final double connectNanos;
+        private final double firstByteNanos;
+        private final Long penalizedUntil;
+        private double slowness;
+
+        private RankedAddress(InetAddress address, double connectNanos, double firstByteNanos, Long penalizedUntil) {
+            this.address = address;
+            this.connectNanos = connectNanos;
+            this.firstByteNanos = firstByteNanos;
+            this.penalizedUntil = penalizedUntil;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.net.URI;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Request object containing the parameters necessary to establish connections to an endpoint ahead of the requests that
+ * will use them.
+ *
+ * @see SdkHttpClient#prewarm(PrewarmRequest)
+ * @see SdkAsyncHttpClient#prewarm(PrewarmRequest)
+ */
+@SdkPublicApi
+public final class PrewarmRequest {
+
+    private final URI endpoint;
+    private final int connections;
+    private final MetricCollector metricCollector;
+
+    private PrewarmRequest(BuilderImpl builder) {
+        this.endpoint = Validate.paramNotNull(builder.endpoint, "endpoint");
+        this.connections = Validate.isPositive(Validate.paramNotNull(builder.connections, "connections"), "connections");
+        this.metricCollector = builder.metricCollector;
+    }
+
+    /**
+     * @return The endpoint to connect to. Only the scheme, host and port are used.
+     */
+    public URI endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return The number of connections to establish.
+     */
+    public int connections() {
+        return connections;
+    }
+
+    /**
+     * @return The {@link MetricCollector}.
+     */
+    public Optional<MetricCollector> metricCollector() {
+        return Optional.ofNullable(metricCollector);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    public interface Builder {
+        /**
+         * Set the endpoint to connect to. Only the scheme, host and port are used, so connections are established to the
+         * same pool a request to that endpoint would use.
+         *
+         * @param endpoint The endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder endpoint(URI endpoint);
+
+        /**
+         * Set the number of connections to establish. The number is capped at the number of connections the client may open
+         * to the endpoint.
+         *
+         * @param connections The number of connections.
+         * @return This builder for method chaining.
+         */
+        Builder connections(Integer connections);
+
+        /**
+         * Set the {@link MetricCollector} to be used by the HTTP client to report the {@link HttpMetric#PREWARMED_CONNECTIONS}
+         * and {@link HttpMetric#PREWARM_DURATION} of the prewarm.
+         *
+         * @param metricCollector The metric collector.
+         * @return This builder for method chaining.
+         */
+        Builder metricCollector(MetricCollector metricCollector);
+
+        PrewarmRequest build();
+    }
+
+    private static class BuilderImpl implements Builder {
+        private URI endpoint;
+        private Integer connections;
+        private MetricCollector metricCollector;
+
+        @Override
+        public Builder endpoint(URI endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        @Override
+        public Builder connections(Integer connections) {
+            this.connections = connections;
+            return this;
+        }
+
+        @Override
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
+        @Override
+        public PrewarmRequest build() {
+            return new PrewarmRequest(this);
+        }
+    }
+}
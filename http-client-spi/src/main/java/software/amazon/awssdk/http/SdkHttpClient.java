@@ -55,6 +55,22 @@ public interface SdkHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Establishes pooled connections to an endpoint, including their TLS handshakes, ahead of the requests that will use
+     * them, so that the first requests to the endpoint don't pay for connection establishment. This blocks until the
+     * connections are established.
+     *
+     * <p>Connections established by a prewarm are subject to the same idle and time-to-live limits as any other pooled
+     * connection. Clients that don't pool connections don't establish any.</p>
+     *
+     * @param request The endpoint and number of connections to establish.
+     * @return The number of pooled connections to the endpoint the prewarm ensured were established.
+     * @throws java.io.UncheckedIOException If any of the connections could not be established; the ones that could are kept.
+     */
+    default int prewarm(PrewarmRequest request) {
+        return 0;
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
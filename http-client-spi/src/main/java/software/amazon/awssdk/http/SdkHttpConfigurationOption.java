@@ -131,6 +131,35 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<Duration> TLS_NEGOTIATION_TIMEOUT =
         new SdkHttpConfigurationOption<>("TlsNegotiationTimeout", Duration.class);
 
+    /**
+     * The maximum number of TLS sessions the HTTP client caches so that new connections to a host can resume a previous
+     * session with an abbreviated handshake instead of performing a full one. A value of 0 means the cache is unbounded.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+        new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * The amount of time a cached TLS session may be resumed for after it was established.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+        new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
+    /**
+     * The {@link HostAddressSelector} the HTTP client resolves the addresses of a host with when it establishes a new
+     * connection, and reports the latency of its connections to.
+     *
+     * <p>
+     * If not specified, the HTTP client connects to the addresses returned by its default resolver.
+     */
+    public static final SdkHttpConfigurationOption<HostAddressSelector> HOST_ADDRESS_SELECTOR =
+        new SdkHttpConfigurationOption<>("HostAddressSelector", HostAddressSelector.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
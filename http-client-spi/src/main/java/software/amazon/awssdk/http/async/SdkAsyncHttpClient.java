@@ -19,6 +19,7 @@ import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -59,6 +60,21 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Establishes pooled connections to an endpoint, including their TLS handshakes, ahead of the requests that will use
+     * them, so that the first requests to the endpoint don't pay for connection establishment.
+     *
+     * <p>Connections established by a prewarm are subject to the same idle and time-to-live limits as any other pooled
+     * connection. Clients that don't pool connections don't establish any.</p>
+     *
+     * @param request The endpoint and number of connections to establish.
+     * @return The future holding the number of pooled connections to the endpoint the prewarm ensured were established. The
+     * future is completed exceptionally if any of the connections could not be established; the ones that could are kept.
+     */
+    default CompletableFuture<Integer> prewarm(PrewarmRequest request) {
+        return CompletableFuture.completedFuture(0);
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpExecutionAttribute;
+
+/**
+ * {@link SdkHttpExecutionAttribute}s describing how the response of an {@link AsyncExecuteRequest} is consumed.
+ *
+ * @param <T> The type of data associated with this attribute.
+ */
+@SdkProtectedApi
+public final class SdkAsyncHttpResponseExecutionAttribute<T> extends SdkHttpExecutionAttribute<T> {
+
+    /**
+     * Whether the subscriber to the response body is done with every {@link java.nio.ByteBuffer} it receives by the time
+     * it requests more data or cancels, and keeps requesting data until it is completed. When {@code true}, an HTTP client
+     * may deliver views of its own buffers instead of copies, reclaim them on the subscriber's next request, and hold the
+     * completion of the body back until then. Defaults to {@code false}.
+     */
+    public static final SdkAsyncHttpResponseExecutionAttribute<Boolean> ZERO_COPY_BODY =
+        new SdkAsyncHttpResponseExecutionAttribute<>(Boolean.class);
+
+    private SdkAsyncHttpResponseExecutionAttribute(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
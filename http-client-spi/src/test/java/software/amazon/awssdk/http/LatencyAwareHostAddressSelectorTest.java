@@ -0,0 +1,265 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatencyAwareHostAddressSelectorTest {
+    private static final String HOST = "s3.us-west-2.amazonaws.com";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private List<InetAddress> records;
+    private LatencyAwareHostAddressSelector selector;
+
+    @BeforeEach
+    void setup() throws UnknownHostException {
+        records = new ArrayList<>();
+        records.add(address(1));
+        records.add(address(2));
+        records.add(address(3));
+        selector = selector(new LatencyAwareHostAddressSelector.BuilderImpl());
+    }
+
+    @Test
+    void resolve_returnsAllAddresses_andSpreadsTheFirstAddressAcrossThem() throws UnknownHostException {
+        Set<InetAddress> firstAddresses = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            List<InetAddress> addresses = selector.resolve(HOST);
+            assertThat(addresses).containsExactlyInAnyOrderElementsOf(records);
+            firstAddresses.add(addresses.get(0));
+        }
+        assertThat(firstAddresses).containsExactlyInAnyOrderElementsOf(records);
+    }
+
+    @Test
+    void resolve_cachesAddressesForTtl() throws UnknownHostException {
+        selector.resolve(HOST);
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        selector.resolve(HOST);
+        assertThat(lookups).hasValue(1);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        records.remove(2);
+        assertThat(selector.resolve(HOST)).containsExactlyInAnyOrder(address(1), address(2));
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void resolve_slowAddress_isOrderedLast() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectSucceeded(address(1), Duration.ofMillis(10));
+        selector.connectSucceeded(address(2), Duration.ofMillis(12));
+        selector.connectSucceeded(address(3), Duration.ofMillis(40));
+
+        for (int i = 0; i < 4; i++) {
+            List<InetAddress> addresses = selector.resolve(HOST);
+            assertThat(addresses.subList(0, 2)).containsExactlyInAnyOrder(address(1), address(2));
+            assertThat(addresses.get(2)).isEqualTo(address(3));
+        }
+    }
+
+    @Test
+    void resolve_slowFirstByte_isOrderedLast() throws UnknownHostException {
+        selector.resolve(HOST);
+        records.forEach(address -> selector.connectSucceeded(address, Duration.ofMillis(5)));
+        selector.responseReceived(address(2), Duration.ofMillis(100));
+        selector.responseReceived(address(3), Duration.ofMillis(20));
+
+        List<InetAddress> addresses = selector.resolve(HOST);
+        assertThat(addresses.subList(0, 2)).containsExactlyInAnyOrder(address(1), address(3));
+        assertThat(addresses.get(2)).isEqualTo(address(2));
+    }
+
+    @Test
+    void resolve_addressWithoutLatency_staysInRotation_andDoesNotSlowDownMeasuredAddresses() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectSucceeded(address(1), Duration.ofMillis(10));
+        selector.connectSucceeded(address(2), Duration.ofMillis(15));
+
+        Set<InetAddress> firstAddresses = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            firstAddresses.add(selector.resolve(HOST).get(0));
+        }
+        assertThat(firstAddresses).containsExactlyInAnyOrderElementsOf(records);
+    }
+
+    @Test
+    void resolve_connectOnlyAddress_isNotComparedToTimeToFirstByteOfOtherAddresses() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectSucceeded(address(1), Duration.ofMillis(10));
+        selector.connectSucceeded(address(2), Duration.ofMillis(12));
+        selector.responseReceived(address(2), Duration.ofMillis(100));
+        selector.connectSucceeded(address(3), Duration.ofMillis(11));
+        selector.responseReceived(address(3), Duration.ofMillis(90));
+
+        Set<InetAddress> firstAddresses = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            firstAddresses.add(selector.resolve(HOST).get(0));
+        }
+        assertThat(firstAddresses).containsExactlyInAnyOrderElementsOf(records);
+    }
+
+    @Test
+    void resolve_addressSharedByHosts_keepsItsStatisticsWhileAHostStillResolvesToIt() throws UnknownHostException {
+        String otherHost = "s3.us-east-1.amazonaws.com";
+        selector.resolve(HOST);
+        selector.resolve(otherHost);
+        selector.connectFailed(address(1));
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        records.remove(0);
+        selector.resolve(HOST);
+        records.add(0, address(1));
+
+        assertThat(selector.resolve(otherHost).get(2)).isEqualTo(address(1));
+    }
+
+    @Test
+    void resolve_hostNotResolvedForIdleTimeout_isDroppedWithItsAddressStatistics() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectSucceeded(address(1), Duration.ofMillis(10));
+        selector.connectSucceeded(address(2), Duration.ofMillis(10));
+        selector.connectSucceeded(address(3), Duration.ofMillis(40));
+
+        List<InetAddress> hostRecords = records;
+        records = new ArrayList<>();
+        records.add(address(4));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        selector.resolve("s3.us-east-1.amazonaws.com");
+        records = hostRecords;
+
+        Set<InetAddress> firstAddresses = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            firstAddresses.add(selector.resolve(HOST).get(0));
+        }
+        assertThat(firstAddresses).contains(address(3));
+    }
+
+    @Test
+    void resolve_hostResolvedWithinIdleTimeout_keepsItsAddressStatistics() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectSucceeded(address(1), Duration.ofMillis(10));
+        selector.connectSucceeded(address(2), Duration.ofMillis(10));
+        selector.connectSucceeded(address(3), Duration.ofMillis(40));
+
+        clock.addAndGet(Duration.ofSeconds(59).toNanos());
+        selector.resolve(HOST);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(selector.resolve(HOST).get(2)).isEqualTo(address(3));
+        }
+    }
+
+    @Test
+    void resolve_failedAddress_isPenalizedUntilPenaltyExpires() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectFailed(address(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(selector.resolve(HOST).get(2)).isEqualTo(address(1));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        Set<InetAddress> firstAddresses = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            firstAddresses.add(selector.resolve(HOST).get(0));
+        }
+        assertThat(firstAddresses).contains(address(1));
+    }
+
+    @Test
+    void resolve_consecutiveFailures_doublePenalty() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectFailed(address(1));
+        selector.connectFailed(address(1));
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(selector.resolve(HOST).get(2)).isEqualTo(address(1));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        selector.connectSucceeded(address(1), Duration.ofMillis(1));
+        selector.connectFailed(address(1));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(selector.resolve(HOST).get(2)).isNotEqualTo(address(1));
+    }
+
+    @Test
+    void resolve_penalizedAddresses_areOrderedByEndOfPenalty() throws UnknownHostException {
+        selector.resolve(HOST);
+        selector.connectFailed(address(2));
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        selector.connectFailed(address(1));
+
+        assertThat(selector.resolve(HOST)).containsExactly(address(3), address(2), address(1));
+    }
+
+    @Test
+    void resolve_lookupFails_throwsUnknownHostException() {
+        records.clear();
+        assertThatThrownBy(() -> selector.resolve(HOST)).isInstanceOf(UnknownHostException.class);
+    }
+
+    @Test
+    void build_invalidSlowAddressThreshold_throws() {
+        assertThatThrownBy(() -> LatencyAwareHostAddressSelector.builder().slowAddressThreshold(0.5).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("slowAddressThreshold");
+    }
+
+    @Test
+    void toBuilder_copiesTheConfiguration() throws UnknownHostException {
+        LatencyAwareHostAddressSelector configured = LatencyAwareHostAddressSelector.builder()
+                                                                                    .addressCacheTtl(Duration.ofSeconds(10))
+                                                                                    .build();
+        selector = selector((LatencyAwareHostAddressSelector.BuilderImpl) configured.toBuilder());
+
+        selector.resolve(HOST);
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        selector.resolve(HOST);
+        assertThat(lookups).hasValue(1);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        selector.resolve(HOST);
+        assertThat(lookups).hasValue(2);
+    }
+
+    private LatencyAwareHostAddressSelector selector(LatencyAwareHostAddressSelector.BuilderImpl builder) {
+        return new LatencyAwareHostAddressSelector(builder, host -> {
+            lookups.incrementAndGet();
+            return records.toArray(new InetAddress[0]);
+        }, clock::get);
+    }
+
+    private static InetAddress address(int lastByte) throws UnknownHostException {
+        return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastByte});
+    }
+}
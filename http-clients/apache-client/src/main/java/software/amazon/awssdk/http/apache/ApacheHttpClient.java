@@ -35,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
@@ -57,6 +58,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
@@ -65,8 +67,11 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HostAddressSelector;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -77,7 +82,10 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
+import software.amazon.awssdk.http.apache.internal.conn.AdaptiveConnectionPoolSizer;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPrewarmer;
+import software.amazon.awssdk.http.apache.internal.conn.HostAddressSelectorAdapter;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -106,11 +114,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
     public static final String CLIENT_NAME = "Apache";
 
     private static final Logger log = Logger.loggerFor(ApacheHttpClient.class);
+    private static final Duration DEFAULT_POOL_SHRINK_INTERVAL = Duration.ofMinutes(1);
 
     private final ApacheHttpRequestFactory apacheHttpRequestFactory = new ApacheHttpRequestFactory();
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final ConnectionPrewarmer connectionPrewarmer;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +129,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.connectionPrewarmer = new ConnectionPrewarmer(httpClient.getHttpClientConnectionManager(),
+                                                           new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE),
+                                                           requestConfig,
+                                                           null);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
-        this.httpClient = createClient(builder, resolvedOptions);
+        HostAddressSelectorAdapter addressSelector = hostAddressSelector(builder, resolvedOptions);
+        // Note that it is important we register the original connection manager with the
+        // IdleConnectionReaper as it's required for the successful deregistration of managers
+        // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
+        HttpClientConnectionManager cm = new ApacheConnectionManagerFactory().create(builder, resolvedOptions, addressSelector);
+        AdaptiveConnectionPoolSizer poolSizer = createPoolSizer(builder, resolvedOptions, cm);
+        this.httpClient = createClient(builder, resolvedOptions, addressSelector, cm, poolSizer);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        // Apache falls back to the same route planner when none is configured.
+        HttpRoutePlanner routePlanner = Optional.ofNullable(routePlanner(builder))
+                                                .orElseGet(() -> new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
+        this.connectionPrewarmer = new ConnectionPrewarmer(httpClient.getHttpClientConnectionManager(),
+                                                           routePlanner,
+                                                           requestConfig,
+                                                           poolSizer);
     }
 
     public static Builder builder() {
@@ -141,16 +168,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private ConnectionManagerAwareHttpClient createClient(ApacheHttpClient.DefaultBuilder configuration,
-                                                          AttributeMap standardOptions) {
-        ApacheConnectionManagerFactory cmFactory = new ApacheConnectionManagerFactory();
-
+                                                          AttributeMap standardOptions,
+                                                          HostAddressSelectorAdapter addressSelector,
+                                                          HttpClientConnectionManager cm,
+                                                          AdaptiveConnectionPoolSizer poolSizer) {
         HttpClientBuilder builder = HttpClients.custom();
-        // Note that it is important we register the original connection manager with the
-        // IdleConnectionReaper as it's required for the successful deregistration of managers
-        // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
 
-        builder.setRequestExecutor(new HttpRequestExecutor())
+        builder.setRequestExecutor(addressSelector != null ? addressSelector.requestExecutor() : new HttpRequestExecutor())
                // SDK handles decompression
                .disableContentCompression()
                .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions))
@@ -158,7 +182,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionReuseStrategy(new SdkConnectionReuseStrategy())
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, poolSizer));
 
         addProxyConfig(builder, configuration);
 
@@ -170,6 +194,35 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
+    private HostAddressSelectorAdapter hostAddressSelector(DefaultBuilder configuration, AttributeMap standardOptions) {
+        HostAddressSelector selector = standardOptions.get(SdkHttpConfigurationOption.HOST_ADDRESS_SELECTOR);
+        if (selector == null) {
+            return null;
+        }
+        Validate.isTrue(configuration.dnsResolver == null, "The dnsResolver and hostAddressSelector can't both be configured.");
+        return new HostAddressSelectorAdapter(selector);
+    }
+
+    private AdaptiveConnectionPoolSizer createPoolSizer(DefaultBuilder configuration,
+                                                        AttributeMap standardOptions,
+                                                        HttpClientConnectionManager cm) {
+        if (!Boolean.TRUE.equals(configuration.adaptiveConnectionPoolSizing)
+            || !(cm instanceof PoolingHttpClientConnectionManager)) {
+            return null;
+        }
+
+        int maxConnections = standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        int minConnections = configuration.minConnections != null ? configuration.minConnections
+                                                                  : Math.max(1, maxConnections / 10);
+        Validate.isTrue(minConnections <= maxConnections, "minConnections (%s) must not exceed maxConnections (%s)",
+                        minConnections, maxConnections);
+
+        Duration maxIdleTime = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT);
+        Duration shrinkInterval = maxIdleTime.isZero() ? DEFAULT_POOL_SHRINK_INTERVAL : maxIdleTime;
+        return new AdaptiveConnectionPoolSizer((PoolingHttpClientConnectionManager) cm, minConnections, maxConnections,
+                                               shrinkInterval);
+    }
+
     private void addProxyConfig(HttpClientBuilder builder,
                                 DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
@@ -179,14 +232,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
         }
+        HttpRoutePlanner routePlanner = routePlanner(configuration);
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
@@ -202,6 +251,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
+    private HttpRoutePlanner routePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        return configuration.httpRoutePlanner;
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -240,6 +300,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Establishes connections to the endpoint one after the other, up to the maximum number of connections, by leasing them
+     * from the connection pool and connecting the ones that aren't open yet. Connections through a proxy that requires
+     * tunnelling, such as HTTPS endpoints behind an HTTP proxy, are not prewarmed.
+     */
+    @Override
+    public int prewarm(PrewarmRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        return connectionPrewarmer.prewarm(request.endpoint(), request.connections(), metricCollector);
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -366,6 +437,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder maxConnections(Integer maxConnections);
 
+        /**
+         * Configure whether the number of connections to each host adapts to the observed demand, instead of being fixed to
+         * {@link #maxConnections(Integer)}.
+         * <p>
+         * When enabled, the connection pool of a host starts at {@link #minConnections(Integer)} connections, and grows by one
+         * connection for every request that had to wait for a connection to be released, up to
+         * {@link #maxConnections(Integer)} connections. Once a {@link #connectionMaxIdleTime(Duration)} has passed without a
+         * request having to wait, it shrinks halfway down to the number of connections in use, and the connections that were
+         * idle for that whole time are closed. Connections in use are never closed by shrinking. The total number of
+         * connections across hosts remains bounded by {@link #maxConnections(Integer)}.
+         * <p>
+         * By default, this is disabled.
+         */
+        Builder adaptiveConnectionPoolSizing(Boolean adaptiveConnectionPoolSizing);
+
+        /**
+         * The minimum number of connections to each host the connection pool is sized to when
+         * {@link #adaptiveConnectionPoolSizing(Boolean)} is enabled. This does not open connections ahead of requests.
+         * <p>
+         * By default, this is a tenth of {@link #maxConnections(Integer)}, and at least one.
+         */
+        Builder minConnections(Integer minConnections);
+
         /**
          * Configuration that defines how to communicate via an HTTP proxy.
          */
@@ -451,6 +545,39 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions cached by the client, so that new connections to a host, such as the
+         * ones replacing connections closed by {@link #connectionTimeToLive(Duration)} or
+         * {@link #connectionMaxIdleTime(Duration)}, resume a previous session with an abbreviated handshake instead of
+         * performing a full one.
+         * <p>
+         * By default, the session cache size of the JSSE provider is used. A size of 0 makes the cache unbounded. This is
+         * ignored when a {@link #socketFactory(ConnectionSocketFactory)} is configured.
+         *
+         * @see HttpMetric#TLS_SESSION_RESUMED
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time a cached TLS session may be resumed for after it was established, of at least one
+         * second.
+         * <p>
+         * By default, the session timeout of the JSSE provider is used. This is ignored when a
+         * {@link #socketFactory(ConnectionSocketFactory)} is configured.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure the {@link HostAddressSelector} the addresses of a host are resolved with when a new connection is
+         * established, and that the latency of the connections is reported to. See
+         * {@link HostAddressSelector#latencyAware()} for a selector that spreads connections across all the addresses of a
+         * host and deprioritizes slow or failing addresses.
+         * <p>
+         * By default, the connections are established to the addresses returned by the {@link #dnsResolver(DnsResolver)},
+         * which can't be configured together with a selector.
+         */
+        Builder hostAddressSelector(HostAddressSelector hostAddressSelector);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -462,6 +589,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Boolean adaptiveConnectionPoolSizing;
+        private Integer minConnections;
 
         private DefaultBuilder() {
         }
@@ -512,6 +641,26 @@ public final class ApacheHttpClient implements SdkHttpClient {
             maxConnections(maxConnections);
         }
 
+        @Override
+        public Builder adaptiveConnectionPoolSizing(Boolean adaptiveConnectionPoolSizing) {
+            this.adaptiveConnectionPoolSizing = adaptiveConnectionPoolSizing;
+            return this;
+        }
+
+        public void setAdaptiveConnectionPoolSizing(Boolean adaptiveConnectionPoolSizing) {
+            adaptiveConnectionPoolSizing(adaptiveConnectionPoolSizing);
+        }
+
+        @Override
+        public Builder minConnections(Integer minConnections) {
+            this.minConnections = Validate.isPositiveOrNull(minConnections, "minConnections");
+            return this;
+        }
+
+        public void setMinConnections(Integer minConnections) {
+            minConnections(minConnections);
+        }
+
         @Override
         public Builder proxyConfiguration(ProxyConfiguration proxyConfiguration) {
             this.proxyConfiguration = proxyConfiguration;
@@ -642,6 +791,38 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isNotNegativeOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder hostAddressSelector(HostAddressSelector hostAddressSelector) {
+            standardOptions.put(SdkHttpConfigurationOption.HOST_ADDRESS_SELECTOR, hostAddressSelector);
+            return this;
+        }
+
+        public void setHostAddressSelector(HostAddressSelector hostAddressSelector) {
+            hostAddressSelector(hostAddressSelector);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -653,15 +834,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private static class ApacheConnectionManagerFactory {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
+                                                  AttributeMap standardOptions,
+                                                  HostAddressSelectorAdapter addressSelector) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
+                    createSocketFactoryRegistry(sslsf, addressSelector),
                     null,
                     DefaultSchemePortResolver.INSTANCE,
-                    configuration.dnsResolver,
+                    addressSelector != null ? addressSelector.dnsResolver() : configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
@@ -708,12 +890,28 @@ public final class ApacheHttpClient implements SdkHttpClient {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                configureSessionCache(sslcontext.getClientSessionContext(), standardOptions);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
             }
         }
 
+        /**
+         * The client session context caches the sessions of all connections created from the SSL context, keyed by host and
+         * port, so that new connections to a host resume a previous session.
+         */
+        private void configureSessionCache(SSLSessionContext sessionContext, AttributeMap standardOptions) {
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            if (sessionCacheSize != null) {
+                sessionContext.setSessionCacheSize(sessionCacheSize);
+            }
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (sessionTimeout != null) {
+                sessionContext.setSessionTimeout(saturatedCast(Math.max(1, sessionTimeout.getSeconds())));
+            }
+        }
+
         /**
          * Insecure trust manager to trust all certs. Should only be used for testing.
          */
@@ -748,10 +946,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                .build();
         }
 
-        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory) {
+        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory,
+                                                                              HostAddressSelectorAdapter addressSelector) {
+            ConnectionSocketFactory plainSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
+            ConnectionSocketFactory tlsSocketFactory = sslSocketFactory;
+            if (addressSelector != null) {
+                plainSocketFactory = addressSelector.socketFactory(plainSocketFactory);
+                tlsSocketFactory = addressSelector.socketFactory(tlsSocketFactory);
+            }
             return RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                    .register("https", sslSocketFactory)
+                    .register("http", plainSocketFactory)
+                    .register("https", tlsSocketFactory)
                     .build();
         }
     }
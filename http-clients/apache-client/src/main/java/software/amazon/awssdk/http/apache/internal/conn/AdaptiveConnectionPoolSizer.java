@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Adapts the maximum number of connections of each route of a {@link PoolingHttpClientConnectionManager} to the observed
+ * demand, between a lower and an upper bound.
+ * <p>
+ * The pool of a route grows by one connection for every lease that had to wait for a connection to be released, which is
+ * told apart from a lease that was handed an idle or a new connection by its acquire duration. Raising the limit doesn't
+ * wake up the requests that are already waiting, which are served as connections are released, but lets later requests open
+ * a new connection instead of waiting.
+ * <p>
+ * Once a shrink interval has passed without a lease having to wait, the pool of a route shrinks halfway down to the number of
+ * connections in use, and the connections of the connection manager that were idle for the whole interval are closed.
+ * Connections in use are never closed.
+ * <p>
+ * Leases that didn't wait only read the state of their route: the lock of the connection manager, which reading its
+ * statistics and resizing a route take, is only taken when a lease waited or once per shrink interval.
+ */
+@SdkInternalApi
+public final class AdaptiveConnectionPoolSizer {
+    /**
+     * A lease whose acquire takes longer than this waited for a connection to be released. Handing out an idle connection,
+     * including validating it, or a new one that is connected afterwards, takes less.
+     */
+    static final Duration WAIT_THRESHOLD = Duration.ofMillis(5);
+
+    private static final Logger log = Logger.loggerFor(AdaptiveConnectionPoolSizer.class);
+    private static final long WAIT_THRESHOLD_NANOS = WAIT_THRESHOLD.toNanos();
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final int minConnections;
+    private final int maxConnections;
+    private final long shrinkIntervalNanos;
+    private final LongSupplier nanoTime;
+    private final Map<HttpRoute, RouteState> routes = new ConcurrentHashMap<>();
+
+    public AdaptiveConnectionPoolSizer(PoolingHttpClientConnectionManager connectionManager,
+                                       int minConnections,
+                                       int maxConnections,
+                                       Duration shrinkInterval) {
+        this(connectionManager, minConnections, maxConnections, shrinkInterval, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AdaptiveConnectionPoolSizer(PoolingHttpClientConnectionManager connectionManager,
+                                int minConnections,
+                                int maxConnections,
+                                Duration shrinkInterval,
+                                LongSupplier nanoTime) {
+        this.connectionManager = connectionManager;
+        this.minConnections = minConnections;
+        this.maxConnections = maxConnections;
+        this.shrinkIntervalNanos = shrinkInterval.toNanos();
+        this.nanoTime = nanoTime;
+        connectionManager.setDefaultMaxPerRoute(minConnections);
+    }
+
+    /**
+     * Invoked once a connection for the route was leased, or failed to be leased, with the time spent acquiring it.
+     */
+    public void leaseAcquired(HttpRoute route, Duration acquireDuration) {
+        long now = nanoTime.getAsLong();
+        RouteState state = routeState(route, now);
+
+        if (acquireDuration.toNanos() > WAIT_THRESHOLD_NANOS) {
+            state.shrinkDeadline = now + shrinkIntervalNanos;
+            if (state.maxPerRoute < maxConnections) {
+                synchronized (state) {
+                    resize(route, state, state.maxPerRoute + 1);
+                }
+            }
+        } else if (now - state.shrinkDeadline >= 0) {
+            shrink(route, state, now);
+        }
+    }
+
+    /**
+     * Grows the pool of the route to hold the given number of connections at once, within the upper bound, ahead of leasing
+     * them outside of requests.
+     *
+     * @return The number of connections to the route that can be leased at once.
+     */
+    public int reserve(HttpRoute route, int connections) {
+        long now = nanoTime.getAsLong();
+        RouteState state = routeState(route, now);
+        int reserved = Math.min(connections, maxConnections);
+
+        synchronized (state) {
+            if (reserved > state.maxPerRoute) {
+                resize(route, state, reserved);
+                state.shrinkDeadline = now + shrinkIntervalNanos;
+            }
+        }
+        return reserved;
+    }
+
+    private RouteState routeState(HttpRoute route, long now) {
+        RouteState state = routes.get(route);
+        if (state != null) {
+            return state;
+        }
+        return routes.computeIfAbsent(route, r -> new RouteState(minConnections, now + shrinkIntervalNanos));
+    }
+
+    private void shrink(HttpRoute route, RouteState state, long now) {
+        synchronized (state) {
+            if (now - state.shrinkDeadline < 0) {
+                // Another lease shrank the pool or waited in the meantime
+                return;
+            }
+            state.shrinkDeadline = now + shrinkIntervalNanos;
+
+            PoolStats stats = connectionManager.getStats(route);
+            if (stats.getPending() > 0) {
+                return;
+            }
+            int unused = state.maxPerRoute - stats.getLeased();
+            resize(route, state, state.maxPerRoute - (unused + 1) / 2);
+        }
+        connectionManager.closeIdleConnections(shrinkIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void resize(HttpRoute route, RouteState state, int target) {
+        int current = state.maxPerRoute;
+        int maxPerRoute = Math.max(minConnections, Math.min(maxConnections, target));
+        if (maxPerRoute != current) {
+            log.debug(() -> String.format("Resizing the connection pool of %s from %d to %d connections",
+                                          route, current, maxPerRoute));
+            connectionManager.setMaxPerRoute(route, maxPerRoute);
+            state.maxPerRoute = maxPerRoute;
+        }
+    }
+
+    private static final class RouteState {
+        /**
+         * The maximum number of connections of the route, only written while holding the lock of this state.
+         */
+        private volatile int maxPerRoute;
+
+        /**
+         * When the pool of the route is shrunk next, unless a lease waits before.
+         */
+        private volatile long shrinkDeadline;
+
+        private RouteState(int maxPerRoute, long shrinkDeadline) {
+            this.maxPerRoute = maxPerRoute;
+            this.shrinkDeadline = shrinkDeadline;
+        }
+    }
+}
@@ -37,25 +37,44 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics, and to report the time spent acquiring connections to the given pool
+     * sizer.
+     *
+     * @param orig the target instance to be wrapped
+     * @param poolSizer the sizer adapting the pool of the target instance, or null
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig, AdaptiveConnectionPoolSizer poolSizer) {
         if (orig instanceof DelegatingHttpClientConnectionManager) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedHttpClientConnectionManager(orig);
+        return new InstrumentedHttpClientConnectionManager(orig, poolSizer);
     }
 
     /**
      * Further wraps {@link ConnectionRequest} to capture performance metrics.
      */
     private static class InstrumentedHttpClientConnectionManager extends DelegatingHttpClientConnectionManager {
+        private final AdaptiveConnectionPoolSizer poolSizer;
 
-        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate) {
+        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate,
+                                                        AdaptiveConnectionPoolSizer poolSizer) {
             super(delegate);
+            this.poolSizer = poolSizer;
         }
 
         @Override
         public ConnectionRequest requestConnection(HttpRoute route, Object state) {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
-            return ClientConnectionRequestFactory.wrap(connectionRequest);
+            if (poolSizer == null) {
+                return ClientConnectionRequestFactory.wrap(connectionRequest);
+            }
+            return ClientConnectionRequestFactory.wrap(connectionRequest,
+                                                       acquireDuration -> poolSizer.leaseAcquired(route, acquireDuration));
         }
     }
 
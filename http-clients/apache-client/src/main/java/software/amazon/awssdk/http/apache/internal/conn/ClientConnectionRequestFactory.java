@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.ConnectionRequest;
@@ -46,10 +47,22 @@ public final class ClientConnectionRequestFactory {
      * @param orig the target instance to be wrapped
      */
     static ConnectionRequest wrap(ConnectionRequest orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link ConnectionRequest}
+     * to capture the necessary performance metrics, and to report the time spent acquiring the connection to the given
+     * listener.
+     *
+     * @param orig the target instance to be wrapped
+     * @param acquireListener the listener to report the acquire duration to, whether or not a connection was leased, or null
+     */
+    static ConnectionRequest wrap(ConnectionRequest orig, Consumer<Duration> acquireListener) {
         if (orig instanceof DelegatingConnectionRequest) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedConnectionRequest(orig);
+        return new InstrumentedConnectionRequest(orig, acquireListener);
     }
 
     /**
@@ -57,8 +70,11 @@ public final class ClientConnectionRequestFactory {
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
 
-        private InstrumentedConnectionRequest(ConnectionRequest delegate) {
+        private final Consumer<Duration> acquireListener;
+
+        private InstrumentedConnectionRequest(ConnectionRequest delegate, Consumer<Duration> acquireListener) {
             super(delegate);
+            this.acquireListener = acquireListener;
         }
 
         @Override
@@ -71,6 +87,9 @@ public final class ClientConnectionRequestFactory {
                 Duration elapsed = Duration.between(startTime, Instant.now());
                 MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
                 metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, elapsed);
+                if (acquireListener != null) {
+                    acquireListener.accept(elapsed);
+                }
             }
         }
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static software.amazon.awssdk.http.HttpMetric.PREWARMED_CONNECTIONS;
+import static software.amazon.awssdk.http.HttpMetric.PREWARM_DURATION;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpRequest;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Establishes pooled connections to an endpoint by leasing connections for its route from the connection manager until the
+ * requested number is held, connecting the ones that aren't open yet, and then releasing them all back to the pool.
+ * <p>
+ * Connections are established one after the other on the calling thread. Routes that tunnel through a proxy are not
+ * prewarmed, because establishing the tunnel requires a request.
+ */
+@SdkInternalApi
+public final class ConnectionPrewarmer {
+    private static final Logger log = Logger.loggerFor(ConnectionPrewarmer.class);
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final ApacheHttpRequestConfig requestConfig;
+    private final AdaptiveConnectionPoolSizer poolSizer;
+
+    /**
+     * @param poolSizer The sizer adapting the pool of the connection manager, or null.
+     */
+    public ConnectionPrewarmer(HttpClientConnectionManager connectionManager,
+                               HttpRoutePlanner routePlanner,
+                               ApacheHttpRequestConfig requestConfig,
+                               AdaptiveConnectionPoolSizer poolSizer) {
+        this.connectionManager = connectionManager;
+        this.routePlanner = routePlanner;
+        this.requestConfig = requestConfig;
+        this.poolSizer = poolSizer;
+    }
+
+    /**
+     * @return The number of connections to the endpoint that were held at once.
+     * @throws UncheckedIOException If a connection could not be leased or established.
+     */
+    public int prewarm(URI endpoint, int connections, MetricCollector metricCollector) {
+        long start = System.nanoTime();
+        List<HttpClientConnection> leased = new ArrayList<>();
+        try {
+            HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+            context.setRequestConfig(RequestConfig.copy(context.getRequestConfig())
+                                                  .setLocalAddress(requestConfig.localAddress())
+                                                  .build());
+            HttpRoute route = routePlanner.determineRoute(URIUtils.extractHost(endpoint),
+                                                          new BasicHttpRequest("GET", "/"),
+                                                          context);
+            if (route.isTunnelled()) {
+                log.debug(() -> "Not prewarming connections to " + endpoint + " because they are tunnelled through a proxy.");
+                return 0;
+            }
+
+            for (int i = 0; i < maxConnections(route, connections); i++) {
+                leased.add(leaseConnectedConnection(route, context));
+            }
+            return leased.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (HttpException | ExecutionException e) {
+            throw new UncheckedIOException(new IOException("Unable to prewarm connections to " + endpoint, e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while prewarming connections to " + endpoint, e));
+        } finally {
+            int prewarmed = 0;
+            for (HttpClientConnection connection : leased) {
+                if (connection.isOpen()) {
+                    prewarmed++;
+                }
+                connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+            }
+            metricCollector.reportMetric(PREWARMED_CONNECTIONS, prewarmed);
+            metricCollector.reportMetric(PREWARM_DURATION, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private int maxConnections(HttpRoute route, int connections) {
+        if (poolSizer != null) {
+            return poolSizer.reserve(route, connections);
+        }
+        if (connectionManager instanceof PoolingHttpClientConnectionManager) {
+            return Math.min(connections, ((PoolingHttpClientConnectionManager) connectionManager).getMaxPerRoute(route));
+        }
+        return connections;
+    }
+
+    private HttpClientConnection leaseConnectedConnection(HttpRoute route, HttpClientContext context)
+            throws InterruptedException, ExecutionException, IOException {
+        ConnectionRequest connectionRequest = connectionManager.requestConnection(route, null);
+        HttpClientConnection connection =
+            connectionRequest.get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (!connection.isOpen()) {
+            try {
+                connectionManager.connect(connection, route, saturatedCast(requestConfig.connectionTimeout().toMillis()),
+                                          context);
+                connectionManager.routeComplete(connection, route, context);
+            } catch (IOException | RuntimeException e) {
+                connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+                throw e;
+            }
+        }
+        return connection;
+    }
+}
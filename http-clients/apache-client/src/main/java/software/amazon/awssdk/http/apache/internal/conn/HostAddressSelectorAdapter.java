@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpInetConnection;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HostAddressSelector;
+
+/**
+ * Adapts a {@link HostAddressSelector} to the extension points of the Apache client: the {@link DnsResolver} the connection
+ * manager resolves hosts with, the socket factories it connects with, and the request executor that receives the responses.
+ */
+@SdkInternalApi
+public final class HostAddressSelectorAdapter {
+    private final HostAddressSelector selector;
+
+    public HostAddressSelectorAdapter(HostAddressSelector selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * @return A resolver that returns the addresses of a host in the order of the selector. The connection manager tries
+     * them in that order until one accepts the connection.
+     */
+    public DnsResolver dnsResolver() {
+        return new SelectorDnsResolver();
+    }
+
+    /**
+     * @return A socket factory that reports the outcome and the duration of the connections established by the given
+     * socket factory to the selector.
+     */
+    public ConnectionSocketFactory socketFactory(ConnectionSocketFactory delegate) {
+        if (delegate instanceof LayeredConnectionSocketFactory) {
+            return new LayeredReportingSocketFactory((LayeredConnectionSocketFactory) delegate);
+        }
+        return new ReportingSocketFactory(delegate);
+    }
+
+    /**
+     * @return A request executor that reports the time between a request being sent and its response headers being received
+     * to the selector.
+     */
+    public HttpRequestExecutor requestExecutor() {
+        return new ReportingRequestExecutor();
+    }
+
+    private final class SelectorDnsResolver implements DnsResolver {
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            List<InetAddress> addresses = selector.resolve(host);
+            return addresses.toArray(new InetAddress[0]);
+        }
+    }
+
+    private class ReportingSocketFactory implements ConnectionSocketFactory {
+        private final ConnectionSocketFactory delegate;
+
+        ReportingSocketFactory(ConnectionSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout,
+                                    Socket socket,
+                                    HttpHost host,
+                                    InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress,
+                                    HttpContext context) throws IOException {
+            long start = System.nanoTime();
+            Socket connectedSocket;
+            try {
+                connectedSocket = delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            } catch (IOException e) {
+                selector.connectFailed(remoteAddress.getAddress());
+                throw e;
+            }
+            selector.connectSucceeded(remoteAddress.getAddress(), Duration.ofNanos(System.nanoTime() - start));
+            return connectedSocket;
+        }
+    }
+
+    private final class LayeredReportingSocketFactory extends ReportingSocketFactory
+        implements LayeredConnectionSocketFactory {
+        private final LayeredConnectionSocketFactory delegate;
+
+        LayeredReportingSocketFactory(LayeredConnectionSocketFactory delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return delegate.createLayeredSocket(socket, target, port, context);
+        }
+    }
+
+    private final class ReportingRequestExecutor extends HttpRequestExecutor {
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws HttpException, IOException {
+            long start = System.nanoTime();
+            HttpResponse response = super.doReceiveResponse(request, conn, context);
+            if (conn instanceof HttpInetConnection) {
+                InetAddress remoteAddress = ((HttpInetConnection) conn).getRemoteAddress();
+                if (remoteAddress != null) {
+                    selector.responseReceived(remoteAddress, Duration.ofNanos(System.nanoTime() - start));
+                }
+            }
+            return response;
+        }
+    }
+}
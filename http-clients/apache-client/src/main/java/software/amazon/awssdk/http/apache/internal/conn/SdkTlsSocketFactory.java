@@ -15,25 +15,31 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR;
+
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.util.Arrays;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
 public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
+    private static final String TLS_SESSION_ESTABLISHED = "aws.http.apache.tlsSessionEstablished";
     private final SSLContext sslContext;
 
     public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
@@ -65,10 +71,28 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
         if (connectedSocket instanceof SSLSocket) {
+            reportTlsSessionResumption(((SSLSocket) connectedSocket).getSession());
             return new SdkSslSocket((SSLSocket) connectedSocket);
         }
 
         return new SdkSocket(connectedSocket);
     }
 
+    /**
+     * Reports whether the handshake of a new connection resumed a session from the session cache of the SSL context to the
+     * request that opened the connection. Sessions are marked with a value once established, and the values of a session are
+     * kept in the cache with it, so a session that is already marked was resumed.
+     */
+    private static void reportTlsSessionResumption(SSLSession session) {
+        boolean resumed = session.getValue(TLS_SESSION_ESTABLISHED) != null;
+        if (!resumed) {
+            session.putValue(TLS_SESSION_ESTABLISHED, Boolean.TRUE);
+        }
+
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, resumed);
+        }
+    }
+
 }
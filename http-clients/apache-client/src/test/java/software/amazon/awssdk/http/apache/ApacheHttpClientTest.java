@@ -116,6 +116,18 @@ public class ApacheHttpClientTest {
         }).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void tlsSessionCacheSizeZero_isAllowed() {
+        ApacheHttpClient.builder().tlsSessionCacheSize(0).build().close();
+    }
+
+    @Test
+    public void tlsSessionCacheSizeNegative_throws() {
+        assertThatThrownBy(() -> ApacheHttpClient.builder().tlsSessionCacheSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be negative");
+    }
+
     @Test
     public void credentialProviderCanBeUsedWithProxy() {
         ProxyConfiguration proxyConfig = ProxyConfiguration.builder()
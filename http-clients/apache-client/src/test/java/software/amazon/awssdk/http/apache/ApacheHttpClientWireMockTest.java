@@ -19,6 +19,8 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
@@ -29,8 +31,14 @@ import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
@@ -45,13 +53,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.http.HostAddressSelector;
 import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -179,6 +191,164 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
         overrideDnsResolver("localhost", true);
     }
 
+    @Test
+    public void prewarm_establishesConnectionsUsedByRequests() throws Exception {
+        AtomicInteger resolutions = new AtomicInteger();
+        DnsResolver dnsResolver = host -> {
+            resolutions.incrementAndGet();
+            return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+        };
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .dnsResolver(dnsResolver)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+        MetricCollector collector = MetricCollector.create("prewarm");
+
+        URI uri = URI.create("https://localhost:" + mockProxyServer.httpsPort());
+        int connections = client.prewarm(PrewarmRequest.builder()
+                                                       .endpoint(uri)
+                                                       .connections(3)
+                                                       .metricCollector(collector)
+                                                       .build());
+
+        assertThat(connections).isEqualTo(3);
+        assertThat(resolutions).hasValue(3);
+        assertThat(collector.collect().metricValues(HttpMetric.PREWARMED_CONNECTIONS)).containsExactly(3);
+
+        mockProxyServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_OK)));
+        SdkHttpFullRequest req = SdkHttpFullRequest.builder()
+                                                   .uri(uri)
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+        client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call();
+
+        assertThat(resolutions).hasValue(3);
+        client.close();
+    }
+
+    @Test
+    public void prewarm_cappedAtMaxConnections() {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .maxConnections(2)
+                                               .build();
+
+        int connections = client.prewarm(PrewarmRequest.builder()
+                                                       .endpoint(URI.create("http://localhost:" + mockProxyServer.port()))
+                                                       .connections(5)
+                                                       .build());
+
+        assertThat(connections).isEqualTo(2);
+        client.close();
+    }
+
+    @Test
+    public void tlsSession_resumedByNewConnection() throws Exception {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .tlsSessionCacheSize(10)
+                                               .tlsSessionTimeout(Duration.ofMinutes(5))
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+        mockProxyServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_OK)
+                                                                               .withHeader("Connection", "close")));
+        SdkHttpFullRequest req = SdkHttpFullRequest.builder()
+                                                   .uri(URI.create("https://localhost:" + mockProxyServer.httpsPort()))
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+
+        for (int i = 0; i < 2; i++) {
+            MetricCollector collector = MetricCollector.create("request");
+            client.prepareRequest(HttpExecuteRequest.builder().request(req).metricCollector(collector).build()).call();
+
+            // Both requests are served by a new connection, the second one resuming the session of the first one
+            assertThat(collector.collect().metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(i > 0);
+        }
+
+        client.close();
+    }
+
+    @Test
+    public void hostAddressSelector_resolvesHostAndReceivesLatencies() throws Exception {
+        InetAddress loopback = InetAddress.getByName("127.0.0.1");
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        HostAddressSelector selector = new HostAddressSelector() {
+            @Override
+            public List<InetAddress> resolve(String host) {
+                events.add("resolve " + host);
+                return Collections.singletonList(loopback);
+            }
+
+            @Override
+            public void connectSucceeded(InetAddress address, Duration connectTime) {
+                events.add("connected " + address.getHostAddress());
+            }
+
+            @Override
+            public void responseReceived(InetAddress address, Duration timeToFirstByte) {
+                events.add("response " + address.getHostAddress());
+            }
+        };
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .hostAddressSelector(selector)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+        mockProxyServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_OK)));
+        SdkHttpFullRequest req = SdkHttpFullRequest.builder()
+                                                   .uri(URI.create("https://magic.local.host:" + mockProxyServer.httpsPort()))
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+
+        client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call();
+
+        assertThat(events).containsExactly("resolve magic.local.host", "connected 127.0.0.1", "response 127.0.0.1");
+        client.close();
+    }
+
+    @Test
+    public void hostAddressSelector_connectFails_reportsFailure() throws Exception {
+        InetAddress loopback = InetAddress.getByName("127.0.0.1");
+        List<InetAddress> failures = Collections.synchronizedList(new ArrayList<>());
+        HostAddressSelector selector = new HostAddressSelector() {
+            @Override
+            public List<InetAddress> resolve(String host) {
+                return Collections.singletonList(loopback);
+            }
+
+            @Override
+            public void connectFailed(InetAddress address) {
+                failures.add(address);
+            }
+        };
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .hostAddressSelector(selector)
+                                               .build();
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        SdkHttpFullRequest req = SdkHttpFullRequest.builder()
+                                                   .uri(URI.create("http://magic.local.host:" + closedPort))
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+
+        assertThatThrownBy(() -> client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call())
+            .isInstanceOf(IOException.class);
+        assertThat(failures).containsExactly(loopback);
+        client.close();
+    }
+
+    @Test
+    public void hostAddressSelector_withDnsResolver_throws() {
+        assertThatThrownBy(() -> ApacheHttpClient.builder()
+                                                 .hostAddressSelector(HostAddressSelector.latencyAware())
+                                                 .dnsResolver(SystemDefaultDnsResolver.INSTANCE)
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("hostAddressSelector");
+    }
+
     private void overrideDnsResolver(String hostName) throws IOException {
         overrideDnsResolver(hostName, false);
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AdaptiveConnectionPoolSizer}.
+ */
+public class AdaptiveConnectionPoolSizerTest {
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 8080));
+    private static final Duration SHRINK_INTERVAL = Duration.ofSeconds(60);
+    private static final Duration WAITED = AdaptiveConnectionPoolSizer.WAIT_THRESHOLD.plusMillis(1);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<HttpClientConnection> leased = new ArrayList<>();
+    private PoolingHttpClientConnectionManager connectionManager;
+    private AdaptiveConnectionPoolSizer poolSizer;
+
+    @Before
+    public void methodSetup() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(10);
+        poolSizer = new AdaptiveConnectionPoolSizer(connectionManager, 2, 6, SHRINK_INTERVAL, nanoTime::get);
+    }
+
+    @After
+    public void methodTeardown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void routesStartAtMinConnections() {
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(2);
+    }
+
+    @Test
+    public void leasesWithoutWaiting_doNotGrowPool() {
+        for (int i = 0; i < 10; i++) {
+            poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+        }
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(2);
+    }
+
+    @Test
+    public void waitingLeases_growPoolByOneConnectionEach() {
+        waitingLeases(3);
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(5);
+    }
+
+    @Test
+    public void waitingLeases_doNotGrowPoolBeyondMaxConnections() {
+        waitingLeases(10);
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(6);
+    }
+
+    @Test
+    public void shrinkInterval_shrinksPoolHalfwayDownToLeasedConnections() throws Exception {
+        waitingLeases(4);
+        lease(2);
+
+        nanoTime.addAndGet(SHRINK_INTERVAL.toNanos() - 1);
+        poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(6);
+
+        nanoTime.incrementAndGet();
+        poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(4);
+    }
+
+    @Test
+    public void shrinkInterval_doesNotShrinkPoolBelowMinConnections() {
+        waitingLeases(4);
+        for (int i = 0; i < 10; i++) {
+            nanoTime.addAndGet(SHRINK_INTERVAL.toNanos());
+            poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+        }
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(2);
+    }
+
+    @Test
+    public void waitingLease_restartsShrinkInterval() {
+        waitingLeases(2);
+        nanoTime.addAndGet(SHRINK_INTERVAL.toNanos() - 1);
+        waitingLeases(1);
+
+        nanoTime.incrementAndGet();
+        poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(5);
+    }
+
+    @Test
+    public void waitingLeaseAtMaxConnections_restartsShrinkInterval() {
+        waitingLeases(4);
+        nanoTime.addAndGet(SHRINK_INTERVAL.toNanos() - 1);
+        waitingLeases(1);
+
+        nanoTime.incrementAndGet();
+        poolSizer.leaseAcquired(ROUTE, Duration.ZERO);
+
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(6);
+    }
+
+    @Test
+    public void shrinking_closesConnectionsIdleForTheWholeInterval() throws Exception {
+        Duration shrinkInterval = Duration.ofMillis(1);
+        poolSizer = new AdaptiveConnectionPoolSizer(connectionManager, 2, 6, shrinkInterval, nanoTime::get);
+
+        try (ServerSocket server = new ServerSocket(0)) {
+            HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getLocalPort()));
+            HttpClientConnection connection = connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+            poolSizer.leaseAcquired(route, Duration.ZERO);
+            connectionManager.connect(connection, route, 1000, new BasicHttpContext());
+            connectionManager.routeComplete(connection, route, new BasicHttpContext());
+            connectionManager.releaseConnection(connection, null, 1, TimeUnit.MINUTES);
+
+            try (Socket accepted = server.accept()) {
+                accepted.setSoTimeout(1000);
+                Thread.sleep(10);
+                nanoTime.addAndGet(shrinkInterval.toNanos());
+                poolSizer.leaseAcquired(route, Duration.ZERO);
+
+                assertThat(accepted.getInputStream().read()).isEqualTo(-1);
+            }
+        }
+    }
+
+    @Test
+    public void reserve_growsPoolToReservedConnections() {
+        assertThat(poolSizer.reserve(ROUTE, 4)).isEqualTo(4);
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(4);
+    }
+
+    @Test
+    public void reserve_isBoundedByMaxConnections() {
+        assertThat(poolSizer.reserve(ROUTE, 10)).isEqualTo(6);
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(6);
+    }
+
+    @Test
+    public void reserve_doesNotShrinkPool() {
+        waitingLeases(3);
+
+        assertThat(poolSizer.reserve(ROUTE, 3)).isEqualTo(3);
+        assertThat(connectionManager.getMaxPerRoute(ROUTE)).isEqualTo(5);
+    }
+
+    private void waitingLeases(int leases) {
+        for (int i = 0; i < leases; i++) {
+            poolSizer.leaseAcquired(ROUTE, WAITED);
+        }
+    }
+
+    private void lease(int connections) throws Exception {
+        for (int i = 0; i < connections; i++) {
+            leased.add(connectionManager.requestConnection(ROUTE, null).get(1, TimeUnit.SECONDS));
+        }
+    }
+}
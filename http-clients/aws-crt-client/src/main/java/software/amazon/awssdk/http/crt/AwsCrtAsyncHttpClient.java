@@ -23,6 +23,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
@@ -102,6 +103,11 @@ public final class AwsCrtAsyncHttpClient extends AwsCrtHttpClientBase implements
         }
     }
 
+    @Override
+    public CompletableFuture<Integer> prewarm(PrewarmRequest request) {
+        return prewarmConnections(request);
+    }
+
     /**
      * Builder that allows configuration of the AWS CRT HTTP implementation.
      */
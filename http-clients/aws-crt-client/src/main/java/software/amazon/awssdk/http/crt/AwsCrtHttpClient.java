@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.crt;
 import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -28,6 +29,7 @@ import software.amazon.awssdk.crt.http.HttpException;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -41,6 +43,13 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
  * An implementation of {@link SdkHttpClient} that uses the AWS Common Runtime (CRT) Http Client to communicate with
  * Http Web Services. This client has a synchronous interface, but uses non-blocking IO.
  *
+ * <p>Connection pooling, reads and writes all happen on the native event loop threads of the CRT, and the calling thread
+ * only waits on {@code java.util.concurrent} primitives, never on a monitor. This makes it the recommended
+ * {@link SdkHttpClient} when calling the SDK from virtual threads: a virtual thread waiting for a connection or for
+ * response data unmounts from its carrier thread, so thousands of concurrent calls don't exhaust the carrier threads.
+ * {@code ApacheHttpClient} and {@code UrlConnectionHttpClient} do blocking socket IO on the calling thread, inside
+ * {@code synchronized} sections of their connection pools and of the JDK, which pins the carrier thread.
+ *
  * <p>This can be created via {@link #builder()}</p>
  * {@snippet :
  * SdkHttpClient client = AwsCrtHttpClient.builder()
@@ -101,6 +110,19 @@ public final class AwsCrtHttpClient extends AwsCrtHttpClientBase implements SdkH
         }
     }
 
+    @Override
+    public int prewarm(PrewarmRequest request) {
+        try {
+            return CompletableFutureUtils.joinInterruptibly(prewarmConnections(request));
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new UncheckedIOException(new IOException("Unable to prewarm connections to " + request.endpoint(), cause));
+        }
+    }
+
     private static final class CrtHttpRequest implements ExecutableHttpRequest {
         private final CrtRequestContext context;
         private volatile CompletableFuture<SdkHttpFullResponse> responseFuture;
@@ -17,17 +17,28 @@ package software.amazon.awssdk.http.crt;
 
 import static software.amazon.awssdk.crtcore.CrtConfigurationUtils.resolveHttpMonitoringOptions;
 import static software.amazon.awssdk.crtcore.CrtConfigurationUtils.resolveProxy;
+import static software.amazon.awssdk.http.HttpMetric.PREWARMED_CONNECTIONS;
+import static software.amazon.awssdk.http.HttpMetric.PREWARM_DURATION;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL;
 import static software.amazon.awssdk.http.crt.internal.AwsCrtConfigurationUtils.buildSocketOptions;
 import static software.amazon.awssdk.http.crt.internal.AwsCrtConfigurationUtils.resolveCipherPreference;
+import static software.amazon.awssdk.http.crt.internal.CrtUtils.wrapConnectionFailureException;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManagerOptions;
 import software.amazon.awssdk.crt.http.HttpMonitoringOptions;
@@ -36,10 +47,14 @@ import software.amazon.awssdk.crt.io.ClientBootstrap;
 import software.amazon.awssdk.crt.io.SocketOptions;
 import software.amazon.awssdk.crt.io.TlsContext;
 import software.amazon.awssdk.crt.io.TlsContextOptions;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.crt.internal.AwsCrtClientBuilderBase;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -65,6 +80,12 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
     private final HttpMonitoringOptions monitoringOptions;
     private final long maxConnectionIdleInMilliseconds;
     private final int maxConnectionsPerEndpoint;
+
+    /**
+     * Guards the pools and the closed state. A lock rather than a monitor, so that virtual threads calling the client don't
+     * pin their carrier thread while waiting for it.
+     */
+    private final Lock lock = new ReentrantLock();
     private boolean isClosed = false;
 
     AwsCrtHttpClientBase(AwsCrtClientBuilderBase builder, AttributeMap config) {
@@ -147,7 +168,8 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
      * pool implementation.
      */
     HttpClientConnectionManager getOrCreateConnectionPool(URI uri) {
-        synchronized (this) {
+        lock.lock();
+        try {
             if (isClosed) {
                 throw new IllegalStateException("Client is closed. No more requests can be made with this client.");
             }
@@ -155,9 +177,48 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
             HttpClientConnectionManager connPool = connectionPools.computeIfAbsent(uri, this::createConnectionPool);
             connPool.addRef();
             return connPool;
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * Establishes connections to the endpoint by acquiring up to the maximum number of connections from its pool at once,
+     * and releasing them all once every acquire is done.
+     */
+    CompletableFuture<Integer> prewarmConnections(PrewarmRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        SdkHttpRequest httpRequest = SdkHttpRequest.builder()
+                                                   .uri(request.endpoint())
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+        long start = System.nanoTime();
+
+        // Our reference to the pool is only released once the acquired connections have been released to it.
+        HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(poolKey(httpRequest));
+        Queue<HttpClientConnection> connections = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] acquires = new CompletableFuture<?>[Math.min(request.connections(),
+                                                                            crtConnPool.getMaxConnections())];
+        for (int i = 0; i < acquires.length; i++) {
+            acquires[i] = crtConnPool.acquireConnection().thenAccept(connections::add);
+        }
+
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        CompletableFuture.allOf(acquires).whenComplete((r, t) -> {
+            connections.forEach(crtConnPool::releaseConnection);
+            IoUtils.closeQuietly(crtConnPool, log.logger());
+            metricCollector.reportMetric(PREWARMED_CONNECTIONS, connections.size());
+            metricCollector.reportMetric(PREWARM_DURATION, Duration.ofNanos(System.nanoTime() - start));
+            if (t != null) {
+                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                result.completeExceptionally(wrapConnectionFailureException(cause));
+            } else {
+                result.complete(connections.size());
+            }
+        });
+        return result;
+    }
+
     URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -165,8 +226,8 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
 
     @Override
     public void close() {
-        synchronized (this) {
-
+        lock.lock();
+        try {
             if (isClosed) {
                 return;
             }
@@ -176,6 +237,8 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
             ownedSubResources.clear();
 
             isClosed = true;
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http.crt.internal.response;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpHeader;
@@ -38,7 +40,12 @@ public class ResponseHandlerHelper {
     private final SdkHttpResponse.Builder responseBuilder;
     private final HttpClientConnection connection;
     private boolean connectionClosed;
-    private final Object lock = new Object();
+
+    /**
+     * A lock rather than a monitor, because {@link #incrementWindow} is called by the thread reading the response, which may
+     * be a virtual thread.
+     */
+    private final Lock lock = new ReentrantLock();
 
     public ResponseHandlerHelper(SdkHttpResponse.Builder responseBuilder, HttpClientConnection connection) {
         this.responseBuilder = responseBuilder;
@@ -58,20 +65,26 @@ public class ResponseHandlerHelper {
      * Release the connection back to the pool so that it can be reused.
      */
     public void releaseConnection(HttpStream stream) {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!connectionClosed) {
                 connectionClosed = true;
                 connection.close();
                 stream.close();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     public void incrementWindow(HttpStream stream, int windowSize) {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!connectionClosed) {
                 stream.incrementWindow(windowSize);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -79,13 +92,16 @@ public class ResponseHandlerHelper {
      * Close the connection completely
      */
     public void closeConnection(HttpStream stream) {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!connectionClosed) {
                 connectionClosed = true;
                 connection.shutdown();
                 connection.close();
                 stream.close();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -37,12 +37,14 @@ import org.junit.Test;
 import software.amazon.awssdk.crt.CrtResource;
 import software.amazon.awssdk.crt.Log;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.RecordingResponseHandler;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 
 public class AwsCrtAsyncHttpClientWireMockTest {
@@ -105,6 +107,25 @@ public class AwsCrtAsyncHttpClientWireMockTest {
         }
     }
 
+    @Test
+    public void prewarm_establishesConnectionsLeasedByRequests() throws Exception {
+        try (SdkAsyncHttpClient client = AwsCrtAsyncHttpClient.builder().maxConcurrency(10).build()) {
+            MetricCollector collector = MetricCollector.create("prewarm");
+            Integer connections = client.prewarm(PrewarmRequest.builder()
+                                                               .endpoint(URI.create("http://localhost:" + mockServer.port()))
+                                                               .connections(3)
+                                                               .metricCollector(collector)
+                                                               .build())
+                                        .get(5, TimeUnit.SECONDS);
+
+            assertThat(connections).isEqualTo(3);
+            assertThat(collector.collect().metricValues(HttpMetric.PREWARMED_CONNECTIONS)).containsExactly(3);
+
+            MetricCollection metrics = makeSimpleRequest(client).collector().collect();
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(2);
+        }
+    }
+
     /**
      * Make a simple async request and wait for it to finish.
      *
@@ -29,11 +29,15 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final StreamPlacementStrategy streamPlacementStrategy;
+    private final Integer minConnections;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamPlacementStrategy = builder.streamPlacementStrategy;
+        this.minConnections = builder.minConnections;
     }
 
     /**
@@ -57,6 +61,20 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The strategy used to choose the connection a new stream is placed on.
+     */
+    public StreamPlacementStrategy streamPlacementStrategy() {
+        return streamPlacementStrategy;
+    }
+
+    /**
+     * @return The number of connections to a host that are opened before streams are placed on existing connections.
+     */
+    public Integer minConnections() {
+        return minConnections;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,6 +96,14 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
+        if (streamPlacementStrategy != that.streamPlacementStrategy) {
+            return false;
+        }
+
+        if (minConnections != null ? !minConnections.equals(that.minConnections) : that.minConnections != null) {
+            return false;
+        }
+
         return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
 
     }
@@ -86,6 +112,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamPlacementStrategy != null ? streamPlacementStrategy.hashCode() : 0);
+        result = 31 * result + (minConnections != null ? minConnections.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +155,39 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the strategy used to choose the connection a new stream is placed on, among the connections to the host
+         * with spare stream capacity. A new connection is only opened when no connection has spare capacity, or when fewer
+         * than {@link #minConnections(Integer)} connections are open. The default is
+         * {@link StreamPlacementStrategy#FIRST_AVAILABLE}, which fills connections one after the other.
+         *
+         * <p>Spreading streams across connections prevents a single connection from becoming the bottleneck of
+         * long-lived streaming operations, at the cost of keeping more connections busy.</p>
+         *
+         * @param streamPlacementStrategy The stream placement strategy.
+         * @return This builder for method chaining.
+         */
+        Builder streamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy);
+
+        /**
+         * Sets the number of connections to a host that are opened before new streams are placed on existing connections,
+         * so that streams are spread across at least that many connections. Connections are opened when streams are
+         * acquired, not in advance. This is not set by default, so a connection is only opened when no existing connection
+         * has spare stream capacity.
+         *
+         * @param minConnections The minimum number of connections to spread streams across.
+         * @return This builder for method chaining.
+         */
+        Builder minConnections(Integer minConnections);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private StreamPlacementStrategy streamPlacementStrategy;
+        private Integer minConnections;
 
         private DefaultBuilder() {
         }
@@ -141,6 +196,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.streamPlacementStrategy = http2Configuration.streamPlacementStrategy;
+            this.minConnections = http2Configuration.minConnections;
         }
 
         @Override
@@ -173,6 +230,26 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder streamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy) {
+            this.streamPlacementStrategy = streamPlacementStrategy;
+            return this;
+        }
+
+        public void setStreamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy) {
+            streamPlacementStrategy(streamPlacementStrategy);
+        }
+
+        @Override
+        public Builder minConnections(Integer minConnections) {
+            this.minConnections = Validate.isPositiveOrNull(minConnections, "minConnections");
+            return this;
+        }
+
+        public void setMinConnections(Integer minConnections) {
+            minConnections(minConnections);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -23,6 +23,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.ru
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
@@ -36,8 +37,12 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.HostAddressSelector;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
@@ -45,6 +50,8 @@ import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolPrewarmer;
+import software.amazon.awssdk.http.nio.netty.internal.EventLoopAffineChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -54,6 +61,7 @@ import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
@@ -84,12 +92,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final NettyConfiguration configuration;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Http2Configuration http2Configuration = builder.http2Configuration;
+
+        this.configuration = new NettyConfiguration(withHttp2Options(serviceDefaultsMap, http2Configuration));
+        Validate.isTrue(configuration.hostAddressSelector() == null || !Boolean.TRUE.equals(builder.useNonBlockingDnsResolver),
+                        "The useNonBlockingDnsResolver and hostAddressSelector can't both be configured.");
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
-        Http2Configuration http2Configuration = builder.http2Configuration;
-
         long maxStreams = resolveMaxHttp2Streams(builder.maxHttp2Streams, http2Configuration);
         int initialWindowSize = resolveInitialWindowSize(http2Configuration);
 
@@ -136,8 +146,30 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new DefaultBuilder().build();
     }
 
+    /**
+     * Establishes connections to the endpoint by acquiring up to {@link Builder#maxConcurrency(Integer)} channels from its
+     * pool at once. For HTTP/2, channels are streams, so the number of connections that are established depends on
+     * {@link Builder#maxHttp2Streams(Integer)} and {@link Http2Configuration#minConnections()}.
+     */
+    @Override
+    public CompletableFuture<Integer> prewarm(PrewarmRequest request) {
+        SdkHttpRequest httpRequest = SdkHttpRequest.builder()
+                                                   .uri(request.endpoint())
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+        SdkChannelPool pool = pools.get(poolKey(httpRequest));
+        int connections = Math.min(request.connections(), configuration.maxConnections());
+        return ChannelPoolPrewarmer.prewarm(pool, connections,
+                                            request.metricCollector().orElseGet(NoOpMetricCollector::create));
+    }
+
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         SdkChannelPool pool = pools.get(poolKey(request.request()));
+        if (configuration.eventLoopAffinity()
+            || configuration.http2StreamPlacementStrategy() == StreamPlacementStrategy.EVENT_LOOP_AFFINITY) {
+            EventLoop eventLoop = EventLoopAffineChannelPool.selectEventLoop(sdkEventLoopGroup.eventLoopGroup());
+            return new RequestContext(pool.forEventLoop(eventLoop), eventLoop, request, configuration);
+        }
         return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
     }
 
@@ -162,6 +194,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return SslContext.defaultClientProvider();
     }
 
+    private static AttributeMap withHttp2Options(AttributeMap serviceDefaultsMap, Http2Configuration http2Configuration) {
+        if (http2Configuration == null) {
+            return serviceDefaultsMap;
+        }
+        return serviceDefaultsMap.toBuilder()
+                                 .put(NettyConfiguration.HTTP2_STREAM_PLACEMENT_STRATEGY,
+                                      http2Configuration.streamPlacementStrategy())
+                                 .put(NettyConfiguration.HTTP2_MIN_CONNECTIONS, http2Configuration.minConnections())
+                                 .build();
+    }
+
     private long resolveMaxHttp2Streams(Integer topLevelValue, Http2Configuration http2Configuration) {
         if (topLevelValue != null) {
             return topLevelValue;
@@ -317,6 +360,32 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsNegotiationTimeout(Duration tlsNegotiationTimeout);
 
+        /**
+         * Configure the maximum number of TLS sessions cached per endpoint, so that new connections to the endpoint, such as
+         * the ones replacing connections closed by {@link #connectionTimeToLive(Duration)} or
+         * {@link #connectionMaxIdleTime(Duration)}, resume a previous session with an abbreviated handshake instead of
+         * performing a full one.
+         *
+         * <p>
+         * By default, the session cache size of the {@link SslProvider} is used.
+         *
+         * @param tlsSessionCacheSize the maximum number of cached sessions, or 0 for an unbounded cache
+         * @return this builder for method chaining.
+         * @see HttpMetric#TLS_SESSION_RESUMED
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time a cached TLS session may be resumed for after it was established.
+         *
+         * <p>
+         * By default, the session timeout of the {@link SslProvider} is used.
+         *
+         * @param tlsSessionTimeout the session timeout, of at least one second
+         * @return this builder for method chaining.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
         /**
          * Configure whether the idle connections in the connection pool should be closed.
          * <p>
@@ -485,6 +554,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure the {@link HostAddressSelector} the addresses of a host are resolved with when a new connection is
+         * established, and that the latency of the connections is reported to. See
+         * {@link HostAddressSelector#latencyAware()} for a selector that spreads connections across all the addresses of a
+         * host and deprioritizes slow or failing addresses.
+         * <p>
+         * A connection is established to the first address returned by the selector only; if it fails, the failure is
+         * reported to the selector, and the next connection tries the address the selector returns first then. The
+         * selector is called on a shared pool of daemon threads, not on the event loop. By default, the connections are
+         * established to the address returned by the JDK resolver, or by the non-blocking resolver when
+         * {@link #useNonBlockingDnsResolver(Boolean)} is enabled, which can't be configured together with a selector.
+         */
+        Builder hostAddressSelector(HostAddressSelector hostAddressSelector);
+
+        /**
+         * Configure whether connections are sharded by event loop. False by default.
+         * <p>
+         * By default, all event loops share one pool of connections per host: a request is handed from the calling thread to
+         * the pool, which may hand it to another event loop to acquire a connection, and then to the event loop that owns the
+         * acquired connection. When enabled, every event loop owns its own pool of connections to each host. A request is
+         * assigned to an event loop when it is executed, the calling thread's own event loop if it is one of the client's,
+         * and the connection is acquired from that event loop's pool, so the request does not cross threads after it is
+         * assigned. This reduces thread handoffs and contention on the pool under high request rates.
+         * <p>
+         * <b>Note:</b> {@link #maxConcurrency(Integer)} is split evenly across the event loops, rounding up, so a request
+         * may wait for a connection of its own event loop while another event loop has idle connections.
+         * {@link #maxPendingConnectionAcquires(Integer)} applies to each event loop separately. The channel pool metrics
+         * reported for a request describe the pool of the event loop it was assigned to.
+         */
+        Builder eventLoopAffinity(Boolean eventLoopAffinity);
     }
 
     /**
@@ -614,6 +714,28 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsNegotiationTimeout(tlsNegotiationTimeout);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isNotNegativeOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public Builder eventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
             this.eventLoopGroup = eventLoopGroup;
@@ -737,6 +859,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder hostAddressSelector(HostAddressSelector hostAddressSelector) {
+            standardOptions.put(SdkHttpConfigurationOption.HOST_ADDRESS_SELECTOR, hostAddressSelector);
+            return this;
+        }
+
+        public void setHostAddressSelector(HostAddressSelector hostAddressSelector) {
+            hostAddressSelector(hostAddressSelector);
+        }
+
+        @Override
+        public Builder eventLoopAffinity(Boolean eventLoopAffinity) {
+            standardOptions.put(NettyConfiguration.EVENT_LOOP_AFFINITY, eventLoopAffinity);
+            return this;
+        }
+
+        public void setEventLoopAffinity(Boolean eventLoopAffinity) {
+            eventLoopAffinity(eventLoopAffinity);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.IoUringTransport;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -80,9 +81,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        boolean ioUring = useIoUring(builder);
+        this.eventLoopGroup = resolveEventLoopGroup(builder, ioUring);
+        this.channelFactory = resolveSocketChannelFactory(builder, ioUring);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, ioUring);
     }
 
     /**
@@ -136,12 +138,22 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    /**
+     * io_uring is only used when it was explicitly enabled and it's available.
+     */
+    private static boolean useIoUring(DefaultBuilder builder) {
+        return Boolean.TRUE.equals(builder.useIoUring) && IoUringTransport.isAvailable();
+    }
+
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, boolean ioUring) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
+        if (ioUring) {
+            return IoUringTransport.newEventLoopGroup(numThreads, threadFactory);
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
@@ -154,12 +166,18 @@ public final class SdkEventLoopGroup {
         }*/
     }
 
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder, boolean ioUring) {
+        if (builder.channelFactory != null) {
+            return builder.channelFactory;
+        }
+        return ioUring ? IoUringTransport.socketChannelFactory() : defaultSocketChannelFactory();
     }
 
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder, boolean ioUring) {
+        if (builder.datagramChannelFactory != null) {
+            return builder.datagramChannelFactory;
+        }
+        return ioUring ? IoUringTransport.datagramChannelFactory() : defaultDatagramChannelFactory();
     }
 
     private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
@@ -196,9 +214,21 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * Whether to use the io_uring transport, which makes fewer system calls than NIO when handling many connections.
+         * The io_uring transport requires the {@code io.netty.incubator:netty-incubator-transport-native-io_uring} module
+         * on the classpath and a Linux kernel that supports it; when it isn't available, NIO is used.
+         * <p>
+         * Defaults to false. If set to true, configured channel factories must create io_uring channels.
+         *
+         * @param useIoUring Whether to use the io_uring transport when it is available.
+         * @return This builder for method chaining.
+         */
+        Builder useIoUring(Boolean useIoUring);
+
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * NioSocketChannel is used, or IOUringSocketChannel if the io_uring transport is used.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,7 +237,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * NioDatagramChannel is used, or IOUringDatagramChannel if the io_uring transport is used.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -221,8 +251,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private Boolean useIoUring;
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
 
         private DefaultBuilder() {
         }
@@ -247,6 +278,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder useIoUring(Boolean useIoUring) {
+            this.useIoUring = useIoUring;
+            return this;
+        }
+
+        public void setUseIoUring(Boolean useIoUring) {
+            useIoUring(useIoUring);
+        }
+
         @Override
         public Builder channelFactory(ChannelFactory<? extends Channel> channelFactory) {
             this.channelFactory = channelFactory;
@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Determines which HTTP/2 connection a new stream is placed on, among the connections with spare stream capacity.
+ *
+ * @see Http2Configuration.Builder#streamPlacementStrategy(StreamPlacementStrategy)
+ */
+@SdkPublicApi
+public enum StreamPlacementStrategy {
+    /**
+     * Place the stream on the first connection with spare capacity that is found. This fills connections one after the
+     * other, so new connections are only opened once the existing ones are saturated. This is the default.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Place the stream on the connection with the fewest outstanding streams, spreading the load evenly across all open
+     * connections.
+     */
+    LEAST_OUTSTANDING_STREAMS,
+
+    /**
+     * Place the stream on the least loaded of two connections chosen at random. This spreads the load almost as evenly as
+     * {@link #LEAST_OUTSTANDING_STREAMS} without having to compare every connection.
+     */
+    POWER_OF_TWO_CHOICES,
+
+    /**
+     * Place the stream on the least loaded connection served by the event loop of the request, if any, so the stream
+     * doesn't have to be handed over to another thread, and otherwise on the least loaded connection. A request made from
+     * one of the client's event loops is assigned to that event loop, and other requests to the next event loop of the
+     * group.
+     * <p>
+     * Affinity is best-effort. Each acquire is still first dispatched to the event loops that guard the connection pool's
+     * limits, and only then to the request's event loop, so acquiring takes the same number of thread hops as with the
+     * other strategies. What this strategy saves is handing the stream's reads and writes over to another thread for the
+     * rest of the request.
+     */
+    EVENT_LOOP_AFFINITY
+}
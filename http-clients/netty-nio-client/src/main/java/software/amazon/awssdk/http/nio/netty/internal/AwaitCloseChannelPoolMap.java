@@ -19,15 +19,18 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.EventExecutor;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -123,6 +126,18 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         Bootstrap bootstrap = createBootstrap(key);
 
+        if (configuration.eventLoopAffinity()) {
+            EventLoopGroup group = bootstrap.config().group();
+            int maxConnectionsPerEventLoop = maxConnectionsPerEventLoop(group);
+            return new SimpleChannelPoolAwareChannelPool(new EventLoopAffineChannelPool(
+                group, eventLoop -> newPool(key, sslContext, bootstrap.clone(eventLoop), maxConnectionsPerEventLoop)));
+        }
+
+        return newPool(key, sslContext, bootstrap, configuration.maxConnections());
+    }
+
+    private SimpleChannelPoolAwareChannelPool newPool(URI key, SslContext sslContext, Bootstrap bootstrap,
+                                                      int maxConnections) {
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
         ChannelPipelineInitializer pipelineInitializer = new ChannelPipelineInitializer(protocol,
@@ -147,12 +162,26 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             baseChannelPool = tcpChannelPool;
         }
 
-        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool);
+        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool, maxConnections);
 
         channelPoolRef.set(wrappedPool);
         return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
     }
 
+    /**
+     * Splits the maximum number of connections evenly across the event loops of the group, rounding up.
+     */
+    private int maxConnectionsPerEventLoop(EventLoopGroup group) {
+        int eventLoops = 0;
+        Iterator<EventExecutor> executors = group.iterator();
+        while (executors.hasNext()) {
+            executors.next();
+            eventLoops++;
+        }
+        int maxConnections = configuration.maxConnections();
+        return eventLoops == 0 ? maxConnections : Math.max(1, (int) ((maxConnections + (long) eventLoops - 1) / eventLoops));
+    }
+
     @Override
     public void close() {
         log.trace(null, () -> "Closing channel pools");
@@ -167,7 +196,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         try {
             CompletableFuture.allOf(channelPools.stream()
-                                                .map(pool -> pool.underlyingSimpleChannelPool().closeFuture())
+                                                .map(SimpleChannelPoolAwareChannelPool::closeFuture)
                                                 .toArray(CompletableFuture[]::new))
                              .get(CHANNEL_POOL_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
@@ -228,7 +257,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
-    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool) {
+    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool, int maxConnections) {
 
         // Wrap the channel pool such that the ChannelAttributeKey.CLOSE_ON_RELEASE flag is honored.
         channelPool = new HonorCloseOnReleaseChannelPool(channelPool);
@@ -236,7 +265,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // Wrap the channel pool such that HTTP 2 channels won't be released to the underlying pool while they're still in use.
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
-                                                                   configuration.maxConnections(),
+                                                                   maxConnections,
                                                                    configuration);
 
 
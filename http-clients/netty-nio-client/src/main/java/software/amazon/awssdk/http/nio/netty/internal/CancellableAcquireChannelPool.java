@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
@@ -76,6 +77,12 @@ public final class CancellableAcquireChannelPool implements SdkChannelPool {
         delegatePool.close();
     }
 
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = delegatePool.forEventLoop(eventLoop);
+        return eventLoopPool == delegatePool ? this : new CancellableAcquireChannelPool(eventLoop, eventLoopPool);
+    }
+
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         return delegatePool.collectChannelPoolMetrics(metrics);
@@ -73,6 +73,13 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<ChannelDiagnostics> CHANNEL_DIAGNOSTICS = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.channelDiagnostics");
 
+    /**
+     * Whether the TLS handshake of this connection resumed a previous session. This is set when the handshake completes, and
+     * cleared once it has been reported to the metrics of the first request served by the connection.
+     */
+    public static final AttributeKey<Boolean> TLS_SESSION_RESUMED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsSessionResumed");
+
     /**
      * {@link AttributeKey} to keep track of whether the streaming is completed and this is set to true when we receive the *
      * {@link LastHttpContent}.
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_SESSION_RESUMED;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.newSslHandler;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
@@ -46,6 +47,7 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.net.ssl.SSLSession;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
@@ -57,6 +59,8 @@ import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHa
  */
 @SdkInternalApi
 public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
+    private static final String TLS_SESSION_ESTABLISHED = "aws.http.nio.netty.async.tlsSessionEstablished";
+
     private final Protocol protocol;
     private final SslContext sslCtx;
     private final SslProvider sslProvider;
@@ -97,6 +101,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
 
+            recordTlsSessionResumption(ch, sslHandler);
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
@@ -113,6 +118,10 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             configureHttp11(ch, pipeline);
         }
 
+        if (configuration.hostAddressSelector() != null) {
+            pipeline.addLast(new HostAddressSelectorHandler(configuration.hostAddressSelector()));
+        }
+
         if (configuration.reapIdleConnections()) {
             pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis()));
         }
@@ -133,6 +142,24 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         pipeline.addLast(new LoggingHandler(LogLevel.DEBUG));
     }
 
+    /**
+     * Records on the channel whether its TLS handshake resumed a session from the session cache of the {@link SslContext}.
+     * Sessions are marked with a value once established, and the values of a session are kept in the cache with it, so a
+     * session that is already marked when the handshake completes was resumed.
+     */
+    private static void recordTlsSessionResumption(Channel ch, SslHandler sslHandler) {
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                SSLSession session = sslHandler.engine().getSession();
+                boolean resumed = session.getValue(TLS_SESSION_ESTABLISHED) != null;
+                if (!resumed) {
+                    session.putValue(TLS_SESSION_ESTABLISHED, Boolean.TRUE);
+                }
+                ch.attr(TLS_SESSION_RESUMED).set(resumed);
+            }
+        });
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.PREWARMED_CONNECTIONS;
+import static software.amazon.awssdk.http.HttpMetric.PREWARM_DURATION;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.Future;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Establishes connections in a channel pool by acquiring a number of channels at once, so that the pool has to open a
+ * connection for every channel it has no idle connection for, and releasing them all once every acquire is done.
+ */
+@SdkInternalApi
+public final class ChannelPoolPrewarmer {
+    private ChannelPoolPrewarmer() {
+    }
+
+    /**
+     * @param pool The pool to establish connections in.
+     * @param connections The number of channels to acquire at once. This must not exceed the maximum concurrency of the pool,
+     * or the acquires beyond it wait until they time out.
+     * @param metricCollector The collector the number of acquired channels and the time taken are reported to.
+     * @return A future completed with the number of channels that were acquired, or exceptionally if any acquire failed.
+     */
+    public static CompletableFuture<Integer> prewarm(SdkChannelPool pool, int connections, MetricCollector metricCollector) {
+        long start = System.nanoTime();
+        Queue<Channel> channels = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] acquires = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Void> acquire = new CompletableFuture<>();
+            pool.acquire().addListener((Future<Channel> f) -> {
+                if (f.isSuccess()) {
+                    channels.add(f.getNow());
+                    acquire.complete(null);
+                } else {
+                    acquire.completeExceptionally(f.cause());
+                }
+            });
+            acquires[i] = acquire;
+        }
+
+        return CompletableFuture.allOf(acquires)
+                                .whenComplete((r, t) -> {
+                                    channels.forEach(pool::release);
+                                    metricCollector.reportMetric(PREWARMED_CONNECTIONS, channels.size());
+                                    metricCollector.reportMetric(PREWARM_DURATION,
+                                                                 Duration.ofNanos(System.nanoTime() - start));
+                                })
+                                .thenApply(r -> channels.size());
+    }
+}
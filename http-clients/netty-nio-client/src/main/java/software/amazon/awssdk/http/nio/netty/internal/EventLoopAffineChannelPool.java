@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * A {@link SdkChannelPool} that is sharded by event loop: every event loop of the group owns its own pool, whose connections
+ * are all registered with that event loop and whose acquires and releases all run on it.
+ * <p>
+ * Requests are expected to pick their shard up front with {@link #forEventLoop(EventLoop)}, so that the whole request runs
+ * on one event loop. Acquires made through this pool directly go to the shard of the calling event loop, or of the next
+ * event loop of the group if the caller isn't one of them, and channels are released to the shard of their event loop.
+ * Shards are created the first time they are used.
+ */
+@SdkInternalApi
+public final class EventLoopAffineChannelPool implements SdkChannelPool {
+    private final EventLoopGroup group;
+    private final Function<EventLoop, SimpleChannelPoolAwareChannelPool> shardFactory;
+    private final Map<EventLoop, SimpleChannelPoolAwareChannelPool> shards = new ConcurrentHashMap<>();
+
+    EventLoopAffineChannelPool(EventLoopGroup group, Function<EventLoop, SimpleChannelPoolAwareChannelPool> shardFactory) {
+        this.group = group;
+        this.shardFactory = shardFactory;
+    }
+
+    /**
+     * Returns the event loop of the group the calling thread belongs to, or the next event loop of the group if the calling
+     * thread isn't one of them.
+     */
+    public static EventLoop selectEventLoop(EventLoopGroup group) {
+        for (EventExecutor executor : group) {
+            if (executor.inEventLoop() && executor instanceof EventLoop) {
+                return (EventLoop) executor;
+            }
+        }
+        return group.next();
+    }
+
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        return shards.computeIfAbsent(eventLoop, shardFactory);
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return forEventLoop(selectEventLoop(group)).acquire();
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return forEventLoop(selectEventLoop(group)).acquire(promise);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return forEventLoop(channel.eventLoop()).release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        return forEventLoop(channel.eventLoop()).release(channel, promise);
+    }
+
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        return forEventLoop(selectEventLoop(group)).collectChannelPoolMetrics(metrics);
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(SimpleChannelPoolAwareChannelPool::close);
+    }
+
+    /**
+     * Returns a future that is completed when the TCP connections of all shards have been closed.
+     */
+    CompletableFuture<Void> closeFuture() {
+        return CompletableFuture.allOf(shards.values()
+                                             .stream()
+                                             .map(SimpleChannelPoolAwareChannelPool::closeFuture)
+                                             .toArray(CompletableFuture[]::new));
+    }
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.KEEP_ALIVE;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.util.concurrent.Future;
@@ -50,8 +51,12 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
     public HealthCheckedChannelPool(EventLoopGroup eventLoopGroup,
                                     NettyConfiguration configuration,
                                     SdkChannelPool delegate) {
+        this(eventLoopGroup, configuration.connectionAcquireTimeoutMillis(), delegate);
+    }
+
+    private HealthCheckedChannelPool(EventLoopGroup eventLoopGroup, int acquireTimeoutMillis, SdkChannelPool delegate) {
         this.eventLoopGroup = eventLoopGroup;
-        this.acquireTimeoutMillis = configuration.connectionAcquireTimeoutMillis();
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
         this.delegate = delegate;
     }
 
@@ -172,6 +177,12 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
         return channel.isActive();
     }
 
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = delegate.forEventLoop(eventLoop);
+        return eventLoopPool == delegate ? this : new HealthCheckedChannelPool(eventLoop, acquireTimeoutMillis, eventLoopPool);
+    }
+
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         return delegate.collectChannelPoolMetrics(metrics);
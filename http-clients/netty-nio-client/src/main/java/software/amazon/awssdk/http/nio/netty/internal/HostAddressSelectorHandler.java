@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HostAddressSelector;
+
+/**
+ * Reports the outcome and the duration of the connection of a channel to the {@link HostAddressSelector} its remote address
+ * was resolved with and, for HTTP/1.1 channels, the time between a request being written and its response headers being
+ * read.
+ *
+ * <p>
+ * Must be added to the pipeline of the parent channel before it connects, behind the {@code HttpClientCodec} of HTTP/1.1
+ * channels. The responses of HTTP/2 streams are read by the stream channels, so only the connection of HTTP/2 channels is
+ * reported.
+ */
+@SdkInternalApi
+public final class HostAddressSelectorHandler extends ChannelDuplexHandler {
+    private final HostAddressSelector selector;
+    private boolean requestWritten;
+    private long requestWrittenNanos;
+
+    public HostAddressSelectorHandler(HostAddressSelector selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) throws Exception {
+        InetAddress address = remoteAddress instanceof InetSocketAddress ? ((InetSocketAddress) remoteAddress).getAddress()
+                                                                         : null;
+        if (address != null) {
+            long start = System.nanoTime();
+            promise.addListener(future -> {
+                if (future.isSuccess()) {
+                    selector.connectSucceeded(address, Duration.ofNanos(System.nanoTime() - start));
+                } else if (!future.isCancelled()) {
+                    selector.connectFailed(address);
+                }
+            });
+        }
+        super.connect(ctx, remoteAddress, localAddress, promise);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof LastHttpContent) {
+            requestWritten = true;
+            requestWrittenNanos = System.nanoTime();
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpResponse && requestWritten
+            && !HttpResponseStatus.CONTINUE.equals(((HttpResponse) msg).status())) {
+            InetAddress address = remoteAddress(ctx);
+            if (address != null) {
+                selector.responseReceived(address, Duration.ofNanos(System.nanoTime() - requestWrittenNanos));
+            }
+            requestWritten = false;
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    private static InetAddress remoteAddress(ChannelHandlerContext ctx) {
+        SocketAddress remoteAddress = ctx.channel().remoteAddress();
+        return remoteAddress instanceof InetSocketAddress ? ((InetSocketAddress) remoteAddress).getAddress() : null;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HostAddressSelector;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Resolves the remote addresses of new channels with a {@link HostAddressSelector}. A channel connects to the first address
+ * of the selector only: a failed connection is reported to the selector by the {@link HostAddressSelectorHandler}, so that
+ * the next connection to the host tries another address.
+ *
+ * <p>
+ * The selector is called on a shared pool of daemon threads rather than on the event loop, because it may block while it
+ * looks up the addresses of a host whose cached addresses expired. The threads of the pool are created on demand, and
+ * stopped once they are idle.
+ */
+@SdkInternalApi
+public final class HostAddressSelectorResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private static final ExecutorService RESOLVER_EXECUTOR =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-netty-address-resolver")
+                                                                .build());
+
+    private final HostAddressSelector selector;
+
+    public HostAddressSelectorResolverGroup(HostAddressSelector selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new SelectorAddressResolver(executor);
+    }
+
+    private final class SelectorAddressResolver extends AbstractAddressResolver<InetSocketAddress> {
+        private SelectorAddressResolver(EventExecutor executor) {
+            super(executor, InetSocketAddress.class);
+        }
+
+        @Override
+        protected boolean doIsResolved(InetSocketAddress address) {
+            return !address.isUnresolved();
+        }
+
+        @Override
+        protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+            resolve(unresolvedAddress, promise, addresses -> addresses.get(0));
+        }
+
+        @Override
+        protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+            resolve(unresolvedAddress, promise, Function.identity());
+        }
+
+        private <T> void resolve(InetSocketAddress unresolvedAddress, Promise<T> promise,
+                                 Function<List<InetSocketAddress>, T> result) {
+            try {
+                RESOLVER_EXECUTOR.execute(() -> {
+                    try {
+                        List<InetSocketAddress> addresses =
+                            selector.resolve(unresolvedAddress.getHostString())
+                                    .stream()
+                                    .map(address -> new InetSocketAddress(address, unresolvedAddress.getPort()))
+                                    .collect(Collectors.toList());
+                        promise.trySuccess(result.apply(addresses));
+                    } catch (UnknownHostException | RuntimeException e) {
+                        promise.tryFailure(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                promise.tryFailure(e);
+            }
+        }
+    }
+}
@@ -132,6 +132,15 @@ public final class ListenerInvokingChannelPool implements SdkChannelPool {
         delegatePool.close();
     }
 
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = delegatePool.forEventLoop(eventLoop);
+        if (eventLoopPool == delegatePool) {
+            return this;
+        }
+        return new ListenerInvokingChannelPool(eventLoop::newPromise, eventLoopPool, listeners);
+    }
+
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         return delegatePool.collectChannelPoolMetrics(metrics);
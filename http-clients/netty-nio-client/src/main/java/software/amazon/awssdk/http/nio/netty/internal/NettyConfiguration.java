@@ -25,9 +25,11 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HostAddressSelector;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -42,6 +44,22 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
+    /**
+     * The strategy used to choose the HTTP/2 connection a new stream is placed on.
+     */
+    public static final AttributeMap.Key<StreamPlacementStrategy> HTTP2_STREAM_PLACEMENT_STRATEGY =
+        new NettyOption<>(StreamPlacementStrategy.class);
+
+    /**
+     * The number of HTTP/2 connections to a host that are opened before streams are placed on existing connections.
+     */
+    public static final AttributeMap.Key<Integer> HTTP2_MIN_CONNECTIONS = new NettyOption<>(Integer.class);
+
+    /**
+     * Whether every event loop owns its own connections to each host, and requests stay on the event loop they start on.
+     */
+    public static final AttributeMap.Key<Boolean> EVENT_LOOP_AFFINITY = new NettyOption<>(Boolean.class);
+
     private final AttributeMap configuration;
 
     public NettyConfiguration(AttributeMap configuration) {
@@ -107,4 +125,36 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public Integer tlsSessionCacheSize() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public Duration tlsSessionTimeout() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+    }
+
+    public HostAddressSelector hostAddressSelector() {
+        return configuration.get(SdkHttpConfigurationOption.HOST_ADDRESS_SELECTOR);
+    }
+
+    public StreamPlacementStrategy http2StreamPlacementStrategy() {
+        StreamPlacementStrategy strategy = configuration.get(HTTP2_STREAM_PLACEMENT_STRATEGY);
+        return strategy != null ? strategy : StreamPlacementStrategy.FIRST_AVAILABLE;
+    }
+
+    public int http2MinConnections() {
+        Integer minConnections = configuration.get(HTTP2_MIN_CONNECTIONS);
+        return minConnections != null ? minConnections : 0;
+    }
+
+    public boolean eventLoopAffinity() {
+        return Boolean.TRUE.equals(configuration.get(EVENT_LOOP_AFFINITY));
+    }
+
+    private static final class NettyOption<T> extends AttributeMap.Key<T> {
+        private NettyOption(Class<T> valueType) {
+            super(valueType);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +64,18 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish whether the TLS handshake of the connection of the provided channel resumed a previous session, if the
+     * connection has not served a request before.
+     */
+    public static void publishTlsSessionMetrics(MetricCollector metricCollector, Channel channel) {
+        Channel connection = channel.parent() != null ? channel.parent() : channel;
+        Boolean sessionResumed = connection.attr(ChannelAttributeKey.TLS_SESSION_RESUMED).getAndSet(null);
+        if (sessionResumed != null && metricsAreEnabled(metricCollector)) {
+            metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, sessionResumed);
+        }
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.FixedChannelPool;
 import io.netty.util.AttributeKey;
@@ -95,6 +96,12 @@ public class ReleaseOnceChannelPool implements SdkChannelPool {
         delegate.close();
     }
 
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = delegate.forEventLoop(eventLoop);
+        return eventLoopPool == delegate ? this : new ReleaseOnceChannelPool(eventLoopPool);
+    }
+
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         return delegate.collectChannelPoolMetrics(metrics);
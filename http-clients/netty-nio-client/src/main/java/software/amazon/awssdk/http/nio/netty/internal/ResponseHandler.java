@@ -17,6 +17,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
+import static software.amazon.awssdk.http.async.SdkAsyncHttpResponseExecutionAttribute.ZERO_COPY_BODY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_DIAGNOSTICS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.KEEP_ALIVE;
@@ -45,6 +46,7 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.util.ReferenceCountUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,6 +64,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -107,7 +110,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             requestContext.handler().onStream(
                     new DataCountingPublisher(channelContext,
                                               new PublisherAdapter((StreamedHttpResponse) msg, channelContext,
-                                                                   requestContext, ef)));
+                                                                   requestContext, ef, zeroCopyBody(requestContext))));
         } else if (msg instanceof FullHttpResponse) {
             ByteBuf fullContent = null;
             try {
@@ -270,32 +273,64 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         return bb;
     }
 
+    /**
+     * Whether the request declared that its response body subscriber is done with every buffer before it requests more.
+     */
+    private static boolean zeroCopyBody(RequestContext requestContext) {
+        AsyncExecuteRequest executeRequest = requestContext.executeRequest();
+        return executeRequest != null
+               && Boolean.TRUE.equals(executeRequest.httpExecutionAttributes().getAttribute(ZERO_COPY_BODY));
+    }
+
     private static CompletableFuture<Void> executeFuture(ChannelHandlerContext ctx) {
         return ctx.channel().attr(EXECUTE_FUTURE_KEY).get();
     }
 
+    /**
+     * Adapts the {@link HttpContent}s of a streamed response to {@link ByteBuffer}s.
+     * <p>
+     * By default every buffer is a copy, so the subscriber may hold on to it for as long as it wants. In zero-copy mode,
+     * enabled by requests whose subscriber is known to be done with every buffer when it requests more, a buffer requested
+     * on its own is a read-only view of the content, which is only released once the subscriber is done with it: when it
+     * requests more data or cancels. A subscriber that requested more than one buffer may still hold the earlier ones when
+     * the next one is delivered, so those buffers are copied. If the response completes while the subscriber has no
+     * outstanding demand, it may still be consuming the last buffer asynchronously, so the completion is deferred until its
+     * next request.
+     */
     static class PublisherAdapter implements Publisher<ByteBuffer> {
         private final StreamedHttpResponse response;
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final boolean zeroCopy;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
+            this(response, channelContext, requestContext, executeFuture, false);
+        }
+
+        PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
+                         RequestContext requestContext, CompletableFuture<Void> executeFuture, boolean zeroCopy) {
             this.response = response;
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopy = zeroCopy;
         }
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
             response.subscribe(new Subscriber<HttpContent>() {
+                // Zero-copy mode only, guarded by this
+                private final List<HttpContent> delivered = new ArrayList<>();
+                private long demand;
+                private boolean completeOnRelease;
+
                 @Override
                 public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(new OnCancelSubscription(resolveSubscription(subscription),
-                                                                    this::onCancel));
+                    Subscription s = new OnCancelSubscription(resolveSubscription(subscription), this::onCancel);
+                    subscriber.onSubscribe(zeroCopy ? new ReleasingSubscription(s) : s);
                 }
 
                 private Subscription resolveSubscription(Subscription subscription) {
@@ -330,6 +365,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (zeroCopy && takeDemand()) {
+                        deliverView(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,8 +385,69 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Takes one unit of demand.
+                 *
+                 * @return whether it was the only outstanding demand, in which case the subscriber can't receive another
+                 * buffer before it requests more, so the content may be delivered as a view
+                 */
+                private synchronized boolean takeDemand() {
+                    boolean onlyDemand = demand == 1;
+                    if (demand != Long.MAX_VALUE && demand > 0) {
+                        demand--;
+                    }
+                    return onlyDemand;
+                }
+
+                private void deliverView(HttpContent httpContent) {
+                    ByteBuffer byteBuffer = tryCatchFinally(() -> httpContent.content().nioBuffer().asReadOnlyBuffer(),
+                                                            t -> {
+                                                                httpContent.release();
+                                                                onError(t);
+                                                            },
+                                                            () -> { });
+                    if (byteBuffer == null) {
+                        return;
+                    }
+
+                    try {
+                        tryCatch(() -> subscriber.onNext(byteBuffer), this::notifyError);
+                    } finally {
+                        // Only tracked once onNext returned, so that a request racing with the delivery can't release it
+                        // before the subscriber has seen it. A request made from within onNext releases it on the following
+                        // request instead.
+                        synchronized (this) {
+                            delivered.add(httpContent);
+                        }
+                    }
+                }
+
+                /**
+                 * Releases the content of the buffers delivered so far.
+                 *
+                 * @return whether the completion of the response was deferred until the subscriber was done with them
+                 */
+                private boolean releaseDelivered() {
+                    List<HttpContent> released;
+                    boolean complete;
+                    synchronized (this) {
+                        if (delivered.isEmpty()) {
+                            return false;
+                        }
+                        released = new ArrayList<>(delivered);
+                        delivered.clear();
+                        complete = completeOnRelease;
+                        completeOnRelease = false;
+                    }
+                    released.forEach(ReferenceCountUtil::release);
+                    return complete;
+                }
+
                 @Override
                 public void onError(Throwable t) {
+                    if (zeroCopy) {
+                        releaseDelivered();
+                    }
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
@@ -363,6 +464,19 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void onComplete() {
+                    if (zeroCopy) {
+                        synchronized (this) {
+                            if (!delivered.isEmpty() && demand == 0) {
+                                completeOnRelease = true;
+                                return;
+                            }
+                        }
+                        releaseDelivered();
+                    }
+                    complete();
+                }
+
+                private void complete() {
                     // For HTTP/2 it's possible to get an onComplete after we cancel due to the channel becoming
                     // inactive. We guard against that here and just ignore the signal (see HandlerPublisher)
                     if (!isDone.compareAndSet(false, true)) {
@@ -393,6 +507,39 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     executeFuture.completeExceptionally(throwable);
                 }
 
+                /**
+                 * Releases the buffers delivered so far once the subscriber requests more data or cancels.
+                 */
+                final class ReleasingSubscription extends DelegatingSubscription {
+                    private ReleasingSubscription(Subscription subscription) {
+                        super(subscription);
+                    }
+
+                    @Override
+                    public void request(long n) {
+                        if (n > 0) {
+                            addDemand(n);
+                        }
+                        if (releaseDelivered()) {
+                            complete();
+                        } else {
+                            super.request(n);
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        try {
+                            super.cancel();
+                        } finally {
+                            releaseDelivered();
+                        }
+                    }
+                }
+
+                private synchronized void addDemand(long n) {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
             });
         }
     }
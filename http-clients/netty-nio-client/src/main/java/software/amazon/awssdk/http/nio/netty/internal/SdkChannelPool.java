@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelPool;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -34,4 +35,15 @@ public interface SdkChannelPool extends ChannelPool {
      * @return A future that is completed when all metric publishing is complete.
      */
     CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics);
+
+    /**
+     * Returns the pool that requests executed on the provided event loop should use. Pools that aren't sharded by event
+     * loop return themselves.
+     *
+     * @param eventLoop The event loop the request is assigned to.
+     * @return The pool owned by the event loop.
+     */
+    default SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        return this;
+    }
 }
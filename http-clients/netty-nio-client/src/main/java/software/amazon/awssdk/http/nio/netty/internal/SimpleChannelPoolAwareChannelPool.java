@@ -16,9 +16,13 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollector;
 
@@ -26,10 +30,24 @@ import software.amazon.awssdk.metrics.MetricCollector;
 final class SimpleChannelPoolAwareChannelPool implements SdkChannelPool {
     private final SdkChannelPool delegate;
     private final BetterSimpleChannelPool simpleChannelPool;
+    private final Supplier<CompletableFuture<?>> closeFuture;
+
+    /**
+     * The views of the delegate returned by {@link #forEventLoop(EventLoop)}, created once per event loop rather than once
+     * per request.
+     */
+    private final Map<EventLoop, SdkChannelPool> eventLoopPools = new ConcurrentHashMap<>();
 
     SimpleChannelPoolAwareChannelPool(SdkChannelPool delegate, BetterSimpleChannelPool simpleChannelPool) {
         this.delegate = delegate;
         this.simpleChannelPool = simpleChannelPool;
+        this.closeFuture = simpleChannelPool::closeFuture;
+    }
+
+    SimpleChannelPoolAwareChannelPool(EventLoopAffineChannelPool delegate) {
+        this.delegate = delegate;
+        this.simpleChannelPool = null;
+        this.closeFuture = delegate::closeFuture;
     }
 
     @Override
@@ -57,10 +75,29 @@ final class SimpleChannelPoolAwareChannelPool implements SdkChannelPool {
         delegate.close();
     }
 
+    /**
+     * Returns the pool of TCP connections, or null if the delegate is sharded by event loop and owns one per event loop.
+     */
     public BetterSimpleChannelPool underlyingSimpleChannelPool() {
         return simpleChannelPool;
     }
 
+    /**
+     * Returns a future that is completed when all TCP connections of this pool have been closed.
+     */
+    public CompletableFuture<?> closeFuture() {
+        return closeFuture.get();
+    }
+
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = eventLoopPools.get(eventLoop);
+        if (eventLoopPool != null) {
+            return eventLoopPool;
+        }
+        return eventLoopPools.computeIfAbsent(eventLoop, delegate::forEventLoop);
+    }
+
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         return delegate.collectChannelPoolMetrics(metrics);
@@ -21,6 +21,7 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.time.Duration;
 import java.util.List;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -40,22 +41,41 @@ public final class SslContextProvider {
     private final SslProvider sslProvider;
     private final TrustManagerFactory trustManagerFactory;
     private final KeyManagerFactory keyManagerFactory;
+    private final Integer sessionCacheSize;
+    private final Duration sessionTimeout;
 
     public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider) {
         this.protocol = protocol;
         this.sslProvider = sslProvider;
         this.trustManagerFactory = getTrustManager(configuration);
         this.keyManagerFactory = getKeyManager(configuration);
+        this.sessionCacheSize = configuration.tlsSessionCacheSize();
+        this.sessionTimeout = configuration.tlsSessionTimeout();
     }
 
+    /**
+     * Creates the {@link SslContext} of a connection pool. Every connection of the pool shares the session cache of the
+     * context, so a new connection to the endpoint of the pool may resume the TLS session of a previous one.
+     */
     public SslContext sslContext() {
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(trustManagerFactory)
-                                    .keyManager(keyManagerFactory)
-                                    .build();
+            SslContextBuilder builder = SslContextBuilder.forClient()
+                                                         .sslProvider(sslProvider)
+                                                         .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
+                                                         .trustManager(trustManagerFactory)
+                                                         .keyManager(keyManagerFactory);
+            if (sessionCacheSize != null && sessionCacheSize > 0) {
+                builder.sessionCacheSize(sessionCacheSize);
+            }
+            if (sessionTimeout != null) {
+                builder.sessionTimeout(Math.max(1, sessionTimeout.getSeconds()));
+            }
+            SslContext sslContext = builder.build();
+            if (sessionCacheSize != null && sessionCacheSize == 0) {
+                // Netty reads a size of 0 as the default size, so an unbounded cache is set on the session context itself
+                sslContext.sessionContext().setSessionCacheSize(0);
+            }
+            return sslContext;
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
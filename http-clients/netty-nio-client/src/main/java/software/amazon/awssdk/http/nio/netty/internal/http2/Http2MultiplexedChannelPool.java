@@ -49,10 +49,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -64,8 +66,9 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are placed on the available connections according to a
+ * {@link StreamPlacementStrategy}, and a new connection is opened when no connection has spare streams or fewer than the
+ * minimum number of connections are open.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -92,6 +95,14 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final StreamPlacementStrategy streamPlacementStrategy;
+    private final StreamPlacementPolicy streamPlacementPolicy;
+    private final int minConnections;
+
+    /**
+     * The number of connections being established, which are not in {@link #connections} yet.
+     */
+    private final AtomicInteger pendingConnections = new AtomicInteger();
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +112,26 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, StreamPlacementStrategy.FIRST_AVAILABLE, 0);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamPlacementStrategy The strategy used to choose the connection a new stream is placed on.
+     * @param minConnections The number of connections opened before streams are placed on existing connections.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                StreamPlacementStrategy streamPlacementStrategy,
+                                int minConnections) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamPlacementStrategy = streamPlacementStrategy;
+        this.streamPlacementPolicy = StreamPlacementPolicy.create(streamPlacementStrategy);
+        this.minConnections = minConnections;
     }
 
     @SdkTestInternalApi
@@ -116,6 +143,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         this.connections.addAll(connections);
     }
 
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                StreamPlacementStrategy streamPlacementStrategy,
+                                int minConnections) {
+        this(connectionPool, eventLoopGroup, (Duration) null, streamPlacementStrategy, minConnections);
+        this.connections.addAll(connections);
+    }
+
     @Override
     public Future<Channel> acquire() {
         return acquire(eventLoopGroup.next().newPromise());
@@ -127,18 +164,39 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
-            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
-                return promise;
+        if (!needsMoreConnections()) {
+            for (MultiplexedChannelRecord multiplexedChannel : streamPlacementPolicy.candidates(connections)) {
+                if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
+                    return promise;
+                }
             }
         }
 
-        // No available streams on existing connections, establish new connection and add it to list
+        // No available streams on existing connections, or too few connections to spread the streams across. Establish a new
+        // connection and add it to list
         acquireStreamOnNewConnection(promise);
         return promise;
     }
 
+    /**
+     * With {@link StreamPlacementStrategy#EVENT_LOOP_AFFINITY}, returns a view of this pool that runs acquires on the provided
+     * event loop, so that streams are placed on the connections it serves. Otherwise returns this pool.
+     */
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        if (streamPlacementStrategy != StreamPlacementStrategy.EVENT_LOOP_AFFINITY) {
+            return this;
+        }
+        return new EventLoopView(eventLoop);
+    }
+
+    private boolean needsMoreConnections() {
+        return minConnections > 0 && connections.size() + pendingConnections.get() < minConnections;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
+        pendingConnections.incrementAndGet();
+        promise.addListener(f -> pendingConnections.decrementAndGet());
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
         newConnectionAcquire.addListener(f -> {
@@ -453,6 +511,48 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return result;
     }
 
+    /**
+     * A view of this pool returned by {@link #forEventLoop(EventLoop)}, which dispatches acquires to its event loop.
+     */
+    private final class EventLoopView implements SdkChannelPool {
+        private final EventLoop eventLoop;
+
+        private EventLoopView(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public Future<Channel> acquire() {
+            return acquire(eventLoop.newPromise());
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            doInEventLoop(eventLoop, () -> Http2MultiplexedChannelPool.this.acquire(promise), promise);
+            return promise;
+        }
+
+        @Override
+        public Future<Void> release(Channel childChannel) {
+            return Http2MultiplexedChannelPool.this.release(childChannel);
+        }
+
+        @Override
+        public Future<Void> release(Channel childChannel, Promise<Void> promise) {
+            return Http2MultiplexedChannelPool.this.release(childChannel, promise);
+        }
+
+        @Override
+        public void close() {
+            Http2MultiplexedChannelPool.this.close();
+        }
+
+        @Override
+        public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+            return Http2MultiplexedChannelPool.this.collectChannelPoolMetrics(metrics);
+        }
+    }
+
     private void accumulateMetrics(CompletableFuture<MultiplexedChannelRecord.Metrics> result,
                                    List<CompletableFuture<MultiplexedChannelRecord.Metrics>> channelMetrics) {
         accumulateMetrics(result, channelMetrics, new MultiplexedChannelRecord.Metrics(), 0);
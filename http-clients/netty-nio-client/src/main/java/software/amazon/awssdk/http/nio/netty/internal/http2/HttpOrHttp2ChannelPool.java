@@ -27,9 +27,12 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -50,10 +53,16 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final NettyConfiguration configuration;
 
     private boolean protocolImplPromiseInitializationStarted = false;
-    private Promise<ChannelPool> protocolImplPromise;
+    private Promise<SdkChannelPool> protocolImplPromise;
     private BetterFixedChannelPool protocolImpl;
     private boolean closed;
 
+    /**
+     * The views of {@link #protocolImpl} that acquire on behalf of each caller event loop, created once per event loop rather
+     * than once per acquire. Only accessed from {@link #eventLoop}.
+     */
+    private final Map<EventLoop, SdkChannelPool> protocolImplViews = new HashMap<>();
+
     public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
                                   EventLoopGroup group,
                                   int maxConcurrency,
@@ -73,26 +82,42 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
-        doInEventLoop(eventLoop, () -> acquire0(promise), promise);
+        return acquire(promise, null);
+    }
+
+    /**
+     * With {@link StreamPlacementStrategy#EVENT_LOOP_AFFINITY}, returns a view of this pool that places the HTTP/2 streams it
+     * acquires according to the provided event loop. Otherwise returns this pool.
+     */
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop callerEventLoop) {
+        if (configuration.http2StreamPlacementStrategy() != StreamPlacementStrategy.EVENT_LOOP_AFFINITY) {
+            return this;
+        }
+        return new EventLoopView(callerEventLoop);
+    }
+
+    private Future<Channel> acquire(Promise<Channel> promise, EventLoop callerEventLoop) {
+        doInEventLoop(eventLoop, () -> acquire0(promise, callerEventLoop), promise);
         return promise;
     }
 
-    private void acquire0(Promise<Channel> promise) {
+    private void acquire0(Promise<Channel> promise, EventLoop callerEventLoop) {
         if (closed) {
             promise.setFailure(new IllegalStateException("Channel pool is closed!"));
             return;
         }
 
         if (protocolImpl != null) {
-            protocolImpl.acquire(promise);
+            protocolImplFor(callerEventLoop).acquire(promise);
             return;
         }
         if (!protocolImplPromiseInitializationStarted) {
             initializeProtocol();
         }
-        protocolImplPromise.addListener((GenericFutureListener<Future<ChannelPool>>) future -> {
+        protocolImplPromise.addListener((GenericFutureListener<Future<SdkChannelPool>>) future -> {
             if (future.isSuccess()) {
-                future.getNow().acquire(promise);
+                protocolImplFor(callerEventLoop).acquire(promise);
             } else {
                 // Couldn't negotiate protocol, fail this acquire.
                 promise.setFailure(future.cause());
@@ -100,6 +125,13 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         });
     }
 
+    private SdkChannelPool protocolImplFor(EventLoop callerEventLoop) {
+        if (callerEventLoop == null) {
+            return protocolImpl;
+        }
+        return protocolImplViews.computeIfAbsent(callerEventLoop, protocolImpl::forEventLoop);
+    }
+
     /**
      * Establishes a single connection to initialize the protocol and choose the appropriate {@link ChannelPool} implementation
      * for {@link #protocolImpl}.
@@ -170,7 +202,9 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    configuration.http2StreamPlacementStrategy(),
+                                                                    configuration.http2MinConnections());
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
@@ -224,7 +258,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         if (protocolImpl != null) {
             protocolImpl.close();
         } else if (protocolImplPromiseInitializationStarted) {
-            protocolImplPromise.addListener((Future<ChannelPool> f) -> {
+            protocolImplPromise.addListener((Future<SdkChannelPool> f) -> {
                 if (f.isSuccess()) {
                     f.getNow().close();
                 } else {
@@ -254,4 +288,45 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         });
         return result;
     }
+
+    /**
+     * A view of this pool returned by {@link #forEventLoop(EventLoop)}, which acquires channels on behalf of its event loop.
+     */
+    private final class EventLoopView implements SdkChannelPool {
+        private final EventLoop callerEventLoop;
+
+        private EventLoopView(EventLoop callerEventLoop) {
+            this.callerEventLoop = callerEventLoop;
+        }
+
+        @Override
+        public Future<Channel> acquire() {
+            return acquire(callerEventLoop.newPromise());
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            return HttpOrHttp2ChannelPool.this.acquire(promise, callerEventLoop);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel) {
+            return HttpOrHttp2ChannelPool.this.release(channel);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel, Promise<Void> promise) {
+            return HttpOrHttp2ChannelPool.this.release(channel, promise);
+        }
+
+        @Override
+        public void close() {
+            HttpOrHttp2ChannelPool.this.close();
+        }
+
+        @Override
+        public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+            return HttpOrHttp2ChannelPool.this.collectChannelPoolMetrics(metrics);
+        }
+    }
 }
@@ -300,6 +300,13 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return the number of streams that can currently be claimed on this connection.
+     */
+    long availableStreams() {
+        return state == RecordState.OPEN ? availableChildChannels.get() : 0;
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
+
+/**
+ * Orders the connections of a {@link Http2MultiplexedChannelPool} by preference for a new stream, according to a
+ * {@link StreamPlacementStrategy}.
+ * <p>
+ * The load of a connection changes concurrently, so a stream can't always be claimed on the preferred connection. Every
+ * policy therefore only puts its preferred connections first and returns all other connections after them, in iteration
+ * order, so that an existing connection with spare capacity is always found.
+ */
+@SdkInternalApi
+@FunctionalInterface
+interface StreamPlacementPolicy {
+
+    /**
+     * @return the connections to try to claim a stream on, in order of preference.
+     */
+    Iterable<MultiplexedChannelRecord> candidates(Collection<MultiplexedChannelRecord> connections);
+
+    static StreamPlacementPolicy create(StreamPlacementStrategy strategy) {
+        switch (strategy) {
+            case FIRST_AVAILABLE:
+                return connections -> connections;
+            case LEAST_OUTSTANDING_STREAMS:
+                return connections -> preferring(connections, leastLoaded(connections, c -> true));
+            case POWER_OF_TWO_CHOICES:
+                return StreamPlacementPolicy::powerOfTwoChoices;
+            case EVENT_LOOP_AFFINITY:
+                return connections -> {
+                    MultiplexedChannelRecord local = leastLoaded(connections, c -> c.getConnection().eventLoop().inEventLoop());
+                    return preferring(connections, local != null ? local : leastLoaded(connections, c -> true));
+                };
+            default:
+                throw new IllegalArgumentException("Unsupported stream placement strategy: " + strategy);
+        }
+    }
+
+    static Iterable<MultiplexedChannelRecord> powerOfTwoChoices(Collection<MultiplexedChannelRecord> connections) {
+        List<MultiplexedChannelRecord> snapshot = new ArrayList<>(connections);
+        if (snapshot.size() < 2) {
+            return snapshot;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(snapshot.size());
+        int second = random.nextInt(snapshot.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        MultiplexedChannelRecord a = snapshot.get(first);
+        MultiplexedChannelRecord b = snapshot.get(second);
+        return preferring(snapshot, a.availableStreams() >= b.availableStreams() ? a : b);
+    }
+
+    static MultiplexedChannelRecord leastLoaded(Collection<MultiplexedChannelRecord> connections,
+                                                Predicate<MultiplexedChannelRecord> filter) {
+        MultiplexedChannelRecord leastLoaded = null;
+        long mostAvailable = 0;
+        for (MultiplexedChannelRecord connection : connections) {
+            long available = connection.availableStreams();
+            if (available > mostAvailable && filter.test(connection)) {
+                leastLoaded = connection;
+                mostAvailable = available;
+            }
+        }
+        return leastLoaded;
+    }
+
+    static Iterable<MultiplexedChannelRecord> preferring(Collection<MultiplexedChannelRecord> connections,
+                                                        MultiplexedChannelRecord preferred) {
+        if (preferred == null) {
+            return connections;
+        }
+        List<MultiplexedChannelRecord> candidates = new ArrayList<>(connections.size());
+        candidates.add(preferred);
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection != preferred) {
+                candidates.add(connection);
+            }
+        }
+        return candidates;
+    }
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal.utils;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.EventExecutor;
@@ -120,7 +121,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                             // create a new connection.
                             task.acquired();
 
-                            delegateChannelPool.acquire(task.promise);
+                            task.pool.acquire(task.promise);
                         }
                     };
                     break;
@@ -139,11 +140,25 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(final Promise<Channel> promise) {
+        return acquire(promise, delegateChannelPool);
+    }
+
+    /**
+     * Returns a view of this pool that acquires channels from the pool the delegate returns for the provided event loop,
+     * within the same limits as this pool.
+     */
+    @Override
+    public SdkChannelPool forEventLoop(EventLoop eventLoop) {
+        SdkChannelPool eventLoopPool = delegateChannelPool.forEventLoop(eventLoop);
+        return eventLoopPool == delegateChannelPool ? this : new EventLoopView(eventLoopPool);
+    }
+
+    private Future<Channel> acquire(Promise<Channel> promise, SdkChannelPool pool) {
         try {
             if (executor.inEventLoop()) {
-                acquire0(promise);
+                acquire0(promise, pool);
             } else {
-                executor.execute(() -> acquire0(promise));
+                executor.execute(() -> acquire0(promise, pool));
             }
         } catch (Throwable cause) {
             promise.setFailure(cause);
@@ -168,7 +183,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return CompletableFuture.allOf(result, delegateMetricResult);
     }
 
-    private void acquire0(final Promise<Channel> promise) {
+    private void acquire0(final Promise<Channel> promise, SdkChannelPool pool) {
         assert executor.inEventLoop();
 
         if (closed) {
@@ -184,12 +199,12 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             AcquireListener l = new AcquireListener(promise);
             l.acquired();
             p.addListener(l);
-            delegateChannelPool.acquire(p);
+            pool.acquire(p);
         } else {
             if (pendingAcquireCount >= maxPendingAcquires) {
                 promise.setFailure(FULL_EXCEPTION);
             } else {
-                AcquireTask task = new AcquireTask(promise);
+                AcquireTask task = new AcquireTask(promise, pool);
                 if (pendingAcquireQueue.offer(task)) {
                     ++pendingAcquireCount;
 
@@ -272,7 +287,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             --pendingAcquireCount;
             task.acquired();
 
-            delegateChannelPool.acquire(task.promise);
+            task.pool.acquire(task.promise);
         }
 
         // We should never have a negative value.
@@ -283,11 +298,13 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     // AcquireTask extends AcquireListener to reduce object creations and so GC pressure
     private final class AcquireTask extends AcquireListener {
         final Promise<Channel> promise;
+        final SdkChannelPool pool;
         final long expireNanoTime = System.nanoTime() + acquireTimeoutNanos;
         ScheduledFuture<?> timeoutFuture;
 
-        public AcquireTask(Promise<Channel> promise) {
+        public AcquireTask(Promise<Channel> promise, SdkChannelPool pool) {
             super(promise);
+            this.pool = pool;
             // We need to create a new promise as we need to ensure the AcquireListener runs in the correct
             // EventLoop.
             this.promise = executor.<Channel>newPromise().addListener(this);
@@ -393,6 +410,48 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         }
     }
 
+    /**
+     * A view of this pool returned by {@link #forEventLoop(EventLoop)}, which acquires channels from the event loop's pool of
+     * the delegate and otherwise behaves like this pool.
+     */
+    private final class EventLoopView implements SdkChannelPool {
+        private final SdkChannelPool eventLoopPool;
+
+        private EventLoopView(SdkChannelPool eventLoopPool) {
+            this.eventLoopPool = eventLoopPool;
+        }
+
+        @Override
+        public Future<Channel> acquire() {
+            return acquire(new DefaultPromise<>(executor));
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            return BetterFixedChannelPool.this.acquire(promise, eventLoopPool);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel) {
+            return BetterFixedChannelPool.this.release(channel);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel, Promise<Void> promise) {
+            return BetterFixedChannelPool.this.release(channel, promise);
+        }
+
+        @Override
+        public void close() {
+            BetterFixedChannelPool.this.close();
+        }
+
+        @Override
+        public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+            return BetterFixedChannelPool.this.collectChannelPoolMetrics(metrics);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.socket.DatagramChannel;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Loads the io_uring transport of the netty-incubator-transport-native-io_uring module, if it is on the classpath.
+ * <p>
+ * The module is an optional dependency, so its classes are only ever accessed reflectively.
+ */
+@SdkInternalApi
+public final class IoUringTransport {
+    static final String EVENT_LOOP_GROUP_CLASS = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    static final String SOCKET_CHANNEL_CLASS = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+    static final String DATAGRAM_CHANNEL_CLASS = "io.netty.incubator.channel.uring.IOUringDatagramChannel";
+    private static final String IO_URING_CLASS = "io.netty.incubator.channel.uring.IOUring";
+
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(IoUringTransport.class);
+
+    private IoUringTransport() {
+    }
+
+    /**
+     * @return whether the io_uring transport is on the classpath and supported by the kernel.
+     */
+    public static boolean isAvailable() {
+        return AvailabilityHolder.AVAILABLE;
+    }
+
+    public static EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+        return invokeSafely(() -> (EventLoopGroup) loadClass(EVENT_LOOP_GROUP_CLASS)
+            .getConstructor(int.class, ThreadFactory.class)
+            .newInstance(numberOfThreads, threadFactory));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends Channel> socketChannelFactory() {
+        return invokeSafely(() -> new ReflectiveChannelFactory(loadClass(SOCKET_CHANNEL_CLASS)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends DatagramChannel> datagramChannelFactory() {
+        return invokeSafely(() -> new ReflectiveChannelFactory(loadClass(DATAGRAM_CHANNEL_CLASS)));
+    }
+
+    private static Class<?> loadClass(String className) throws ClassNotFoundException {
+        return Class.forName(className, true, IoUringTransport.class.getClassLoader());
+    }
+
+    private static final class AvailabilityHolder {
+        private static final boolean AVAILABLE = checkAvailability();
+
+        private static boolean checkAvailability() {
+            try {
+                Class<?> ioUring = loadClass(IO_URING_CLASS);
+                if ((Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                    return true;
+                }
+                Throwable cause = (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null);
+                log.debug(null, () -> "The io_uring transport is not supported on this system, using NIO", cause);
+                return false;
+            } catch (ClassNotFoundException e) {
+                return false;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.debug(null, () -> "The io_uring transport could not be loaded, using NIO", e);
+                return false;
+            }
+        }
+    }
+}
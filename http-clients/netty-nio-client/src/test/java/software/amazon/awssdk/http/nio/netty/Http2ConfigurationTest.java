@@ -49,6 +49,8 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .streamPlacementStrategy(StreamPlacementStrategy.POWER_OF_TWO_CHOICES)
+                .minConnections(3)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
@@ -89,4 +91,10 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_minConnections_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().minConnections(0);
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.assertCanReceiveBasicRequest;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createProvider;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createRequest;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HostAddressSelector;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class NettyNioAsyncHttpClientHostAddressSelectorTest {
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> resolverThreads = Collections.synchronizedList(new ArrayList<>());
+    private InetAddress loopback;
+    private SdkAsyncHttpClient client;
+
+    @Before
+    public void methodSetup() throws UnknownHostException {
+        loopback = InetAddress.getByName("127.0.0.1");
+        client = NettyNioAsyncHttpClient.builder()
+                                        .hostAddressSelector(new RecordingSelector())
+                                        .build();
+    }
+
+    @After
+    public void methodTeardown() {
+        client.close();
+    }
+
+    @Test
+    public void request_resolvesHostWithSelector_andReportsLatencies() throws Exception {
+        URI uri = URI.create("http://magic.local.host:" + mockServer.port());
+
+        assertCanReceiveBasicRequest(client, uri, randomAlphabetic(10));
+
+        assertThat(events).containsExactly("resolve magic.local.host", "connected 127.0.0.1", "response 127.0.0.1");
+    }
+
+    @Test
+    public void request_resolvesHostOffTheEventLoop() throws Exception {
+        URI uri = URI.create("http://magic.local.host:" + mockServer.port());
+
+        assertCanReceiveBasicRequest(client, uri, randomAlphabetic(10));
+
+        assertThat(resolverThreads).hasSize(1);
+        assertThat(resolverThreads.get(0)).startsWith("aws-java-sdk-netty-address-resolver");
+    }
+
+    @Test
+    public void request_connectFails_reportsFailure() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        URI uri = URI.create("http://magic.local.host:" + closedPort);
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(createRequest(uri))
+                                          .requestContentPublisher(createProvider(""))
+                                          .responseHandler(recorder)
+                                          .build());
+
+        assertThatThrownBy(() -> recorder.completeFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(events).containsExactly("resolve magic.local.host", "failed 127.0.0.1");
+    }
+
+    @Test
+    public void build_withNonBlockingDnsResolver_throws() {
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder()
+                                                        .hostAddressSelector(HostAddressSelector.latencyAware())
+                                                        .useNonBlockingDnsResolver(true)
+                                                        .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("hostAddressSelector");
+    }
+
+    private final class RecordingSelector implements HostAddressSelector {
+        @Override
+        public List<InetAddress> resolve(String host) {
+            events.add("resolve " + host);
+            resolverThreads.add(Thread.currentThread().getName());
+            return Collections.singletonList(loopback);
+        }
+
+        @Override
+        public void connectSucceeded(InetAddress address, Duration connectTime) {
+            events.add("connected " + address.getHostAddress());
+        }
+
+        @Override
+        public void connectFailed(InetAddress address) {
+            events.add("failed " + address.getHostAddress());
+        }
+
+        @Override
+        public void responseReceived(InetAddress address, Duration timeToFirstByte) {
+            events.add("response " + address.getHostAddress());
+        }
+    }
+}
@@ -81,6 +81,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.HttpTestUtils;
+import software.amazon.awssdk.http.PrewarmRequest;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -92,6 +93,7 @@ import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -660,6 +662,18 @@ public class NettyNioAsyncHttpClientWireMockTest {
             .hasMessageContaining("must be positive");
     }
 
+    @Test
+    public void createNettyClient_tlsSessionCacheSizeZero_shouldBeAllowed() {
+        NettyNioAsyncHttpClient.builder().tlsSessionCacheSize(0).build().close();
+    }
+
+    @Test
+    public void createNettyClient_tlsSessionCacheSizeNegative_shouldThrowException() {
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder().tlsSessionCacheSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be negative");
+    }
+
 
     @Test
     public void metricsAreCollectedWhenMaxPendingConnectionAcquisitionsAreExceeded() throws Exception {
@@ -712,6 +726,141 @@ public class NettyNioAsyncHttpClientWireMockTest {
         customClient.close();
     }
 
+    @Test
+    public void eventLoopAffinity_metricsDescribeShardOfEventLoop() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .eventLoopGroupBuilder(SdkEventLoopGroup.builder()
+                                                                                                         .numberOfThreads(2))
+                                                                 .maxConcurrency(10)
+                                                                 .eventLoopAffinity(true)
+                                                                 .build();
+
+        for (int i = 0; i < 4; i++) {
+            RecordingResponseHandler handler = makeSimpleRequestAndReturnResponseHandler(customClient);
+            handler.executionFuture.get(10, TimeUnit.SECONDS);
+            handler.completeFuture.get(10, TimeUnit.SECONDS);
+
+            MetricCollection metrics = handler.collector.collect();
+            assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(5);
+        }
+
+        customClient.close();
+    }
+
+    @Test
+    public void prewarm_establishesConnections() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.create();
+        MetricCollector collector = MetricCollector.create("prewarm");
+
+        Integer connections = customClient.prewarm(PrewarmRequest.builder()
+                                                                  .endpoint(URI.create("http://localhost:" + mockServer.port()))
+                                                                  .connections(3)
+                                                                  .metricCollector(collector)
+                                                                  .build())
+                                          .get(10, TimeUnit.SECONDS);
+
+        assertThat(connections).isEqualTo(3);
+        assertThat(awaitOpenedSockets(3)).isEqualTo(3);
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.PREWARMED_CONNECTIONS)).containsExactly(3);
+        assertThat(metrics.metricValues(HttpMetric.PREWARM_DURATION)).hasSize(1);
+
+        customClient.close();
+    }
+
+    /**
+     * The client completes a connection once it is accepted, which may be before the server notifies its listener of it.
+     */
+    private int awaitOpenedSockets(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (wiremockTrafficListener.openedSockets() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return wiremockTrafficListener.openedSockets();
+    }
+
+    @Test
+    public void prewarm_cappedAtMaxConcurrency() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(2)
+                                                                 .build();
+
+        Integer connections = customClient.prewarm(PrewarmRequest.builder()
+                                                                  .endpoint(URI.create("http://localhost:" + mockServer.port()))
+                                                                  .connections(5)
+                                                                  .build())
+                                          .get(10, TimeUnit.SECONDS);
+
+        assertThat(connections).isEqualTo(2);
+        assertThat(awaitOpenedSockets(2)).isEqualTo(2);
+
+        customClient.close();
+    }
+
+    @Test
+    public void tlsSession_openSsl_resumedByNewConnection() throws Exception {
+        assertTlsSessionResumedByNewConnection(SslProvider.OPENSSL);
+    }
+
+    @Test
+    public void tlsSession_jdk_resumedByNewConnection() throws Exception {
+        assertTlsSessionResumedByNewConnection(SslProvider.JDK);
+    }
+
+    private void assertTlsSessionResumedByNewConnection(SslProvider sslProvider) throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .sslProvider(sslProvider)
+                                                                 .tlsSessionCacheSize(10)
+                                                                 .tlsSessionTimeout(Duration.ofMinutes(5))
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .metricCollector(recorder.collector)
+                                                    .build())
+                        .get(10, TimeUnit.SECONDS);
+
+            // Both requests are served by a new connection, the second one resuming the session of the first one
+            MetricCollection metrics = recorder.collector.collect();
+            assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(i > 0);
+        }
+
+        customClient.close();
+    }
+
+    @Test
+    public void tlsSessionResumed_onlyReportedForFirstRequestOfConnection() throws Exception {
+        // A single connection, so that the second request waits for the first one to release it instead of racing it
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(1)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("body")));
+
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .metricCollector(recorder.collector)
+                                                    .build())
+                        .get(10, TimeUnit.SECONDS);
+            recorder.completeFuture.get(10, TimeUnit.SECONDS);
+
+            MetricCollection metrics = recorder.collector.collect();
+            assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).hasSize(i == 0 ? 1 : 0);
+        }
+
+        customClient.close();
+    }
+
     @Test
     public void metricsAreCollectedForClosedClientCalls() throws Exception {
         SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
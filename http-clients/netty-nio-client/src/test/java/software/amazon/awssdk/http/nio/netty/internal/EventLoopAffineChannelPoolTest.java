@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Promise;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EventLoopAffineChannelPool}.
+ */
+public class EventLoopAffineChannelPoolTest {
+    private static final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+
+    private final Map<EventLoop, SdkChannelPool> delegates = new ConcurrentHashMap<>();
+    private final Map<EventLoop, BetterSimpleChannelPool> tcpPools = new ConcurrentHashMap<>();
+
+    private EventLoopAffineChannelPool pool;
+
+    @Before
+    public void setup() {
+        pool = new EventLoopAffineChannelPool(eventLoopGroup, eventLoop -> {
+            SdkChannelPool delegate = mock(SdkChannelPool.class);
+            BetterSimpleChannelPool tcpPool = new BetterSimpleChannelPool(new Bootstrap().group(eventLoop)
+                                                                                         .channel(NioSocketChannel.class),
+                                                                          new AbstractChannelPoolHandler() {
+                                                                              @Override
+                                                                              public void channelCreated(Channel ch) {
+                                                                              }
+                                                                          });
+            delegates.put(eventLoop, delegate);
+            tcpPools.put(eventLoop, tcpPool);
+            return new SimpleChannelPoolAwareChannelPool(delegate, tcpPool);
+        });
+    }
+
+    @AfterClass
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void forEventLoop_createsOneShardPerEventLoop() {
+        EventLoop first = eventLoopGroup.next();
+        EventLoop second = eventLoopGroup.next();
+
+        assertThat(pool.forEventLoop(first)).isSameAs(pool.forEventLoop(first));
+        assertThat(pool.forEventLoop(first)).isNotSameAs(pool.forEventLoop(second));
+        assertThat(delegates).hasSize(2);
+    }
+
+    @Test
+    public void selectEventLoop_onEventLoop_returnsCallingEventLoop() throws Exception {
+        EventLoop eventLoop = eventLoopGroup.next();
+
+        assertThat(eventLoop.submit(() -> EventLoopAffineChannelPool.selectEventLoop(eventLoopGroup)).get())
+            .isSameAs(eventLoop);
+    }
+
+    @Test
+    public void acquire_onEventLoop_usesShardOfCallingEventLoop() throws Exception {
+        EventLoop eventLoop = eventLoopGroup.next();
+        Promise<Channel> promise = eventLoop.newPromise();
+
+        eventLoop.submit(() -> pool.acquire(promise)).get();
+
+        verify(delegates.get(eventLoop)).acquire(promise);
+        assertThat(delegates).hasSize(1);
+    }
+
+    @Test
+    public void release_usesShardOfChannelEventLoop() {
+        EventLoop eventLoop = eventLoopGroup.next();
+        Channel channel = mock(Channel.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+
+        pool.release(channel);
+
+        verify(delegates.get(eventLoop)).release(channel);
+    }
+
+    @Test
+    public void close_closesAllShards() throws Exception {
+        EventLoop first = eventLoopGroup.next();
+        EventLoop second = eventLoopGroup.next();
+        pool.forEventLoop(first);
+        pool.forEventLoop(second);
+
+        CompletableFuture<Void> closeFuture = pool.closeFuture();
+        assertThat(closeFuture).isNotDone();
+
+        pool.close();
+
+        verify(delegates.get(first)).close();
+        verify(delegates.get(second)).close();
+        tcpPools.values().forEach(BetterSimpleChannelPool::close);
+        assertThat(pool.closeFuture()).isCompleted();
+    }
+}
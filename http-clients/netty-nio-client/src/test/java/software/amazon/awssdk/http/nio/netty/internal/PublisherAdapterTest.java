@@ -22,10 +22,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.async.SdkAsyncHttpResponseExecutionAttribute.ZERO_COPY_BODY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,10 +42,14 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.reactivestreams.Publisher;
@@ -56,6 +62,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -285,6 +292,212 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
+    @Test
+    public void zeroCopy_contentReleasedOnNextRequest() {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeZeroCopy(publisher);
+        ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("second", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(first));
+
+        assertThat(subscriber.buffers).hasSize(1);
+        assertThat(subscriber.buffers.get(0).isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.buffers.get(0)).toString()).isEqualTo("first");
+        assertThat(first.refCnt()).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(first.refCnt()).isZero();
+
+        publisher.send(new DefaultHttpContent(second));
+        assertThat(second.refCnt()).isEqualTo(1);
+        subscriber.subscription.cancel();
+        assertThat(second.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopy_unboundedDemand_contentCopied() {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeZeroCopy(publisher);
+        ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("second", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        publisher.send(new DefaultHttpContent(first));
+        publisher.send(new DefaultHttpContent(second));
+
+        // The subscriber may still hold the first buffer when the second one is delivered, so neither is a view
+        assertThat(first.refCnt()).isZero();
+        assertThat(second.refCnt()).isZero();
+        assertThat(subscriber.buffers).noneMatch(ByteBuffer::isReadOnly);
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.buffers.get(0)).toString()).isEqualTo("first");
+
+        publisher.complete();
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+    }
+
+    @Test
+    public void zeroCopy_demandOfMoreThanOne_onlyLastRequestedBufferIsView() {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeZeroCopy(publisher);
+        ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("second", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(2);
+        publisher.send(new DefaultHttpContent(first));
+        publisher.send(new DefaultHttpContent(second));
+
+        assertThat(subscriber.buffers.get(0).isReadOnly()).isFalse();
+        assertThat(first.refCnt()).isZero();
+        assertThat(subscriber.buffers.get(1).isReadOnly()).isTrue();
+        assertThat(second.refCnt()).isEqualTo(1);
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.buffers.get(0)).toString()).isEqualTo("first");
+
+        subscriber.subscription.request(1);
+        assertThat(second.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopy_requestFromWithinOnNext_contentReleasedOnFollowingRequest() {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeZeroCopy(publisher);
+        ByteBuf content = Unpooled.copiedBuffer("content", StandardCharsets.UTF_8);
+        subscriber.requestOnNext = true;
+
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(content));
+
+        // The request was made before onNext returned, so the buffer may still be in use
+        assertThat(content.refCnt()).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopy_completedWithoutDemand_completionDeferredUntilNextRequest() {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeZeroCopy(publisher);
+        ByteBuf content = Unpooled.copiedBuffer("content", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(content));
+        publisher.complete();
+
+        assertThat(subscriber.isCompleted).isFalse();
+        assertThat(executeFuture).isNotDone();
+        assertThat(content.refCnt()).isEqualTo(1);
+        verify(channelPool, times(0)).release(channel);
+
+        subscriber.subscription.request(1);
+
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+        assertThat(executeFuture).isCompleted();
+    }
+
+    @Test
+    public void subscriberKeepingBuffersAcrossRequests_buffersAreCopies() throws Exception {
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeThroughHandler(publisher, requestContext);
+        ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("second", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(first));
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(second));
+        subscriber.subscription.request(1);
+        publisher.complete();
+
+        assertThat(first.refCnt()).isZero();
+        assertThat(second.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+        assertThat(subscriber.buffers).noneMatch(ByteBuffer::isReadOnly);
+        assertThat(subscriber.buffers).extracting(b -> StandardCharsets.UTF_8.decode(b.duplicate()).toString())
+                                      .containsExactly("first", "second");
+    }
+
+    @Test
+    public void zeroCopyBodyRequested_buffersAreViews() throws Exception {
+        RequestContext zeroCopyContext =
+            new RequestContext(channelPool,
+                               eventLoopGroup,
+                               AsyncExecuteRequest.builder()
+                                                  .request(requestContext.executeRequest().request())
+                                                  .responseHandler(responseHandler)
+                                                  .putHttpExecutionAttribute(ZERO_COPY_BODY, true)
+                                                  .build(),
+                               null);
+        channel.attr(REQUEST_CONTEXT_KEY).set(zeroCopyContext);
+        SimplePublisher<HttpContent> publisher = new SimplePublisher<>();
+        ManualSubscriber subscriber = subscribeThroughHandler(publisher, zeroCopyContext);
+        ByteBuf content = Unpooled.copiedBuffer("content", StandardCharsets.UTF_8);
+
+        subscriber.subscription.request(1);
+        publisher.send(new DefaultHttpContent(content));
+
+        assertThat(subscriber.buffers.get(0).isReadOnly()).isTrue();
+        assertThat(content.refCnt()).isEqualTo(1);
+        subscriber.subscription.request(1);
+        assertThat(content.refCnt()).isZero();
+    }
+
+    private ManualSubscriber subscribeThroughHandler(Publisher<HttpContent> publisher, RequestContext context)
+            throws Exception {
+        nettyResponseHandler.channelRead0(ctx, new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                               HttpResponseStatus.OK, publisher));
+        ArgumentCaptor<Publisher<ByteBuffer>> body = ArgumentCaptor.forClass(Publisher.class);
+        verify(context.handler()).onStream(body.capture());
+        ManualSubscriber subscriber = new ManualSubscriber();
+        body.getValue().subscribe(subscriber);
+        return subscriber;
+    }
+
+    private ManualSubscriber subscribeZeroCopy(Publisher<HttpContent> publisher) {
+        StreamedHttpResponse streamedResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                HttpResponseStatus.OK, publisher);
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedResponse, ctx,
+                                                                                                 requestContext,
+                                                                                                 executeFuture, true);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherAdapter.subscribe(subscriber);
+        return subscriber;
+    }
+
+    static final class ManualSubscriber implements Subscriber<ByteBuffer> {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private Subscription subscription;
+        private boolean isCompleted = false;
+        private boolean requestOnNext = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            buffers.add(byteBuffer);
+            if (requestOnNext) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SimpleChannelPoolAwareChannelPool}.
+ */
+public class SimpleChannelPoolAwareChannelPoolTest {
+    private static final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+
+    @AfterClass
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void forEventLoop_createsOneViewPerEventLoop() {
+        SdkChannelPool delegate = mock(SdkChannelPool.class);
+        when(delegate.forEventLoop(any())).thenAnswer(i -> mock(SdkChannelPool.class));
+        BetterSimpleChannelPool tcpPool = new BetterSimpleChannelPool(new Bootstrap().group(eventLoopGroup)
+                                                                                     .channel(NioSocketChannel.class),
+                                                                      new AbstractChannelPoolHandler() {
+                                                                          @Override
+                                                                          public void channelCreated(Channel ch) {
+                                                                          }
+                                                                      });
+        SimpleChannelPoolAwareChannelPool pool = new SimpleChannelPoolAwareChannelPool(delegate, tcpPool);
+        EventLoop first = eventLoopGroup.next();
+        EventLoop second = eventLoopGroup.next();
+
+        SdkChannelPool firstView = pool.forEventLoop(first);
+
+        assertThat(pool.forEventLoop(first)).isSameAs(firstView);
+        assertThat(pool.forEventLoop(second)).isNotSameAs(firstView);
+        verify(delegate, times(1)).forEventLoop(first);
+        verify(delegate, times(1)).forEventLoop(second);
+    }
+}
@@ -18,13 +18,17 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -61,6 +65,14 @@ public class SslContextProviderTest {
         assertThat(sslContextProvider.sslContext().cipherSuites()).isNotIn(Http2SecurityUtil.CIPHERS);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SslProvider.class, names = {"JDK", "OPENSSL"})
+    public void sslContext_tlsSessionCacheSize_shouldBeSetOnSessionContext(SslProvider sslProvider) {
+        assertThat(sslContext(sslProvider, 10).sessionContext().getSessionCacheSize()).isEqualTo(10);
+        // 0 means the cache is unbounded
+        assertThat(sslContext(sslProvider, 0).sessionContext().getSessionCacheSize()).isEqualTo(0);
+    }
+
     @Test
     public void customizedKeyManagerPresent_shouldUseCustomized() {
         TlsKeyManagersProvider mockProvider = Mockito.mock(TlsKeyManagersProvider.class);
@@ -107,4 +119,13 @@ public class SslContextProviderTest {
                                                                                                + "set");
 
     }
+
+    private static SslContext sslContext(SslProvider sslProvider, int sessionCacheSize) {
+        return new SslContextProvider(new NettyConfiguration(AttributeMap.builder()
+                                                                         .put(TRUST_ALL_CERTIFICATES, false)
+                                                                         .put(TLS_SESSION_CACHE_SIZE, sessionCacheSize)
+                                                                         .build()),
+                                      Protocol.HTTP1_1,
+                                      sslProvider).sslContext();
+    }
 }
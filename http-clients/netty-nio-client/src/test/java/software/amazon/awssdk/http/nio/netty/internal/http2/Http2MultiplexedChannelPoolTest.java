@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.http2.utils.Http2TestUtils.newHttp2Channel;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -40,6 +41,7 @@ import io.netty.util.concurrent.Promise;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -47,6 +49,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -108,6 +111,56 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void fewerConnectionsThanMinimum_opensNewConnectionDespiteSpareStreams() throws InterruptedException {
+        IOException exception = new IOException();
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), exception));
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 8, null);
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(),
+                                                                             Collections.singleton(record),
+                                                                             StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS,
+                                                                             2);
+
+        Future<Channel> acquirePromise = h2Pool.acquire().await();
+        assertThat(acquirePromise.cause()).isEqualTo(exception);
+        assertThat(record.availableStreams()).isEqualTo(8);
+        Mockito.verify(connectionPool).acquire();
+    }
+
+    @Test
+    public void eventLoopAffinity_acquiresOnTheEventLoopOfTheRequest() throws InterruptedException {
+        EventLoop eventLoop = loopGroup.next();
+        IOException exception = new IOException();
+        AtomicBoolean acquiredOnEventLoop = new AtomicBoolean();
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenAnswer(i -> {
+            acquiredOnEventLoop.set(eventLoop.inEventLoop());
+            return new FailedFuture<>(eventLoop, exception);
+        });
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                             Collections.emptySet(),
+                                                                             StreamPlacementStrategy.EVENT_LOOP_AFFINITY,
+                                                                             0);
+
+        Future<Channel> acquirePromise = h2Pool.forEventLoop(eventLoop).acquire().await();
+        assertThat(acquirePromise.cause()).isEqualTo(exception);
+        assertThat(acquiredOnEventLoop).isTrue();
+    }
+
+    @Test
+    public void otherStrategies_forEventLoopReturnsThisPool() {
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup,
+                                                                             Collections.emptySet(),
+                                                                             StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS,
+                                                                             0);
+
+        assertThat(h2Pool.forEventLoop(loopGroup.next())).isSameAs(h2Pool);
+    }
+
     @Test
     public void acquireAfterCloseFails() throws InterruptedException {
         ChannelPool connectionPool = mock(ChannelPool.class);
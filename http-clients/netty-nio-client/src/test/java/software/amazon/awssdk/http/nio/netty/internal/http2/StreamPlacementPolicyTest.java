@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
+
+public class StreamPlacementPolicyTest {
+    private static EventLoopGroup loopGroup;
+
+    private final MultiplexedChannelRecord busy = new MultiplexedChannelRecord(new EmbeddedChannel(), 2, null);
+    private final MultiplexedChannelRecord idle = new MultiplexedChannelRecord(new EmbeddedChannel(), 8, null);
+    private final MultiplexedChannelRecord halfBusy = new MultiplexedChannelRecord(new EmbeddedChannel(), 4, null);
+    private final List<MultiplexedChannelRecord> connections = Arrays.asList(busy, idle, halfBusy);
+
+    @BeforeAll
+    public static void setup() {
+        loopGroup = new NioEventLoopGroup(1);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        loopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void firstAvailable_keepsIterationOrder() {
+        StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.FIRST_AVAILABLE);
+
+        assertThat(policy.candidates(connections)).containsExactly(busy, idle, halfBusy);
+    }
+
+    @Test
+    public void leastOutstandingStreams_prefersConnectionWithMostAvailableStreams() {
+        StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS);
+
+        assertThat(policy.candidates(connections)).containsExactly(idle, busy, halfBusy);
+    }
+
+    @Test
+    public void leastOutstandingStreams_skipsConnectionsClosedToNewStreams() {
+        idle.closeToNewStreams();
+        StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS);
+
+        assertThat(policy.candidates(connections).iterator().next()).isEqualTo(halfBusy);
+    }
+
+    @RepeatedTest(10)
+    public void powerOfTwoChoices_neverPrefersTheMostLoadedConnection() {
+        StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.POWER_OF_TWO_CHOICES);
+
+        assertThat(policy.candidates(connections)).hasSize(3).containsAll(connections);
+        assertThat(policy.candidates(connections).iterator().next()).isNotEqualTo(busy);
+    }
+
+    @Test
+    public void powerOfTwoChoices_singleConnection() {
+        StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.POWER_OF_TWO_CHOICES);
+
+        assertThat(policy.candidates(Arrays.asList(busy))).containsExactly(busy);
+    }
+
+    @Test
+    public void eventLoopAffinity_prefersConnectionOnCurrentEventLoop() {
+        NioSocketChannel remoteChannel = new NioSocketChannel();
+        try {
+            loopGroup.register(remoteChannel).awaitUninterruptibly();
+            MultiplexedChannelRecord remote = new MultiplexedChannelRecord(remoteChannel, 100, null);
+            StreamPlacementPolicy policy = StreamPlacementPolicy.create(StreamPlacementStrategy.EVENT_LOOP_AFFINITY);
+
+            // Embedded channels are always on the current event loop
+            assertThat(policy.candidates(Arrays.asList(remote, busy, idle))).containsExactly(idle, remote, busy);
+            assertThat(policy.candidates(Arrays.asList(remote)).iterator().next()).isEqualTo(remote);
+        } finally {
+            remoteChannel.close().awaitUninterruptibly();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Future;
@@ -151,6 +152,39 @@ public class BetterFixedChannelPoolTest {
         assertConnectionsCheckedOutAndPending(0, 0);
     }
 
+    @Test(timeout = 5_000)
+    public void eventLoopViewAcquiresFromEventLoopPoolWithinTheSameLimit() throws Exception {
+        SdkChannelPool eventLoopPool = mock(SdkChannelPool.class);
+        EventLoop eventLoop = eventLoopGroup.next();
+        Mockito.when(delegatePool.forEventLoop(eventLoop)).thenReturn(eventLoopPool);
+
+        List<Promise<Channel>> acquirePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(eventLoopPool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            acquirePromises.add(promise);
+            return promise;
+        });
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        SdkChannelPool view = channelPool.forEventLoop(eventLoop);
+        view.acquire();
+        completePromise(acquirePromises, 0);
+        view.acquire();
+        completePromise(acquirePromises, 1);
+        channelPool.acquire();
+
+        assertConnectionsCheckedOutAndPending(2, 1);
+        Mockito.verify(delegatePool, Mockito.never()).acquire(any());
+    }
+
+    @Test
+    public void forEventLoopReturnsThisPoolIfTheDelegateIsNotShardedByEventLoop() {
+        EventLoop eventLoop = eventLoopGroup.next();
+        Mockito.when(delegatePool.forEventLoop(eventLoop)).thenReturn(delegatePool);
+
+        assertThat(channelPool.forEventLoop(eventLoop)).isSameAs(channelPool);
+    }
+
     private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
         waitForPromise(promises, promiseIndex);
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.TableSchemaSourceGenerator.UnsupportedTypeException;
+
+/**
+ * An annotation processor that generates a table schema at compile time for every class annotated with
+ * {@code DynamoDbBean} or {@code DynamoDbImmutable}. The generated table schema maps items the same way as the
+ * {@code BeanTableSchema} or {@code ImmutableTableSchema} of the class, but is built from method references instead of
+ * introspecting the class at runtime, which makes creating it much cheaper and doesn't require any reflection
+ * configuration for native images.
+ * <p>
+ * The generated table schema is named after the class, with the names of any enclosing classes joined by underscores and a
+ * {@code _TableSchema} suffix, and lives in the same package. It can be instantiated directly, e.g.
+ * {@code new Customer_TableSchema()}. It is also registered as a {@code TableSchemaProvider} service, so that
+ * {@code TableSchema.fromClass} returns it in place of the reflective table schema. {@code TableSchema.fromBean} and
+ * {@code TableSchema.fromImmutableClass} keep returning the reflective table schemas.
+ * <p>
+ * The processor is only needed at compile time, and runs when it is on the annotation processor path, for example with
+ * Maven:
+ * <pre>
+ * {@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>software.amazon.awssdk</groupId>
+ *         <artifactId>dynamodb-enhanced-processor</artifactId>
+ *         <version>${awsjavasdk.version}</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * }
+ * </pre>
+ * <p>
+ * Classes that can't be expressed by a generated table schema, such as generic classes or classes that refer to themselves
+ * through their attributes, are skipped with a note explaining why, and keep using the reflective table schemas.
+ */
+@SdkPublicApi
+@SupportedAnnotationTypes({TableSchemaSourceGenerator.DYNAMO_DB_BEAN, TableSchemaSourceGenerator.DYNAMO_DB_IMMUTABLE})
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private static final String PROVIDERS_FILE = "META-INF/services/" + TableSchemaSourceGenerator.TABLE_SCHEMA_PROVIDER;
+
+    private final Set<String> providers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeProviders();
+            return false;
+        }
+
+        Set<TypeElement> annotatedTypes = new LinkedHashSet<>();
+        annotations.forEach(a -> annotatedTypes.addAll(ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(a))));
+
+        // Find the classes that are supported first, so that their generated table schemas can reference each other.
+        TableSchemaSourceGenerator validator = new TableSchemaSourceGenerator(processingEnv, t -> false);
+        Set<TypeElement> supportedTypes = new HashSet<>();
+        for (TypeElement type : annotatedTypes) {
+            try {
+                validator.generate(type);
+                supportedTypes.add(type);
+            } catch (UnsupportedTypeException e) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    "Not generating a table schema for " + type + ", the reflective table schema will be used: "
+                    + e.getMessage(),
+                    type);
+            }
+        }
+
+        TableSchemaSourceGenerator generator = new TableSchemaSourceGenerator(
+            processingEnv, t -> supportedTypes.contains(t) || hasGeneratedSchema(t));
+        Map<TypeElement, String> sources = new LinkedHashMap<>();
+        annotatedTypes.stream().filter(supportedTypes::contains).forEach(t -> sources.put(t, generator.generate(t)));
+        sources.forEach(this::write);
+        return false;
+    }
+
+    /**
+     * Whether a table schema was generated for a class of an earlier compilation, e.g. a class of a dependency.
+     */
+    private boolean hasGeneratedSchema(TypeElement type) {
+        TypeElement generated = processingEnv.getElementUtils().getTypeElement(
+            TableSchemaSourceGenerator.generatedClassName(processingEnv.getElementUtils(), type));
+        TypeElement tableSchema = processingEnv.getElementUtils().getTypeElement(TableSchemaSourceGenerator.TABLE_SCHEMA);
+        return generated != null
+               && tableSchema != null
+               && processingEnv.getTypeUtils().isAssignable(generated.asType(),
+                                                             processingEnv.getTypeUtils().erasure(tableSchema.asType()));
+    }
+
+    private void write(TypeElement type, String source) {
+        String generatedClassName = TableSchemaSourceGenerator.generatedClassName(processingEnv.getElementUtils(), type);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generatedClassName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            providers.add(TableSchemaSourceGenerator.providerBinaryName(processingEnv.getElementUtils(), type));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write " + generatedClassName + ": " + e.getMessage(),
+                                                     type);
+        }
+    }
+
+    /**
+     * Lists the providers of the generated table schemas in the service configuration file, keeping the providers already
+     * listed there by an earlier, incremental compilation.
+     */
+    private void writeProviders() {
+        if (providers.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", PROVIDERS_FILE);
+            try (Reader reader = new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(providers::add);
+            }
+        } catch (IOException e) {
+            // There is no earlier service configuration file
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PROVIDERS_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String provider : providers) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write " + PROVIDERS_FILE + ": " + e.getMessage());
+        }
+    }
+}
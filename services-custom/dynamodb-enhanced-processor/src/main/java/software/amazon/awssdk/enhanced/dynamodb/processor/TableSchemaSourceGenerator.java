@@ -0,0 +1,858 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates the source of a {@code WrappedTableSchema} that builds the same {@code StaticTableSchema} (or
+ * {@code StaticImmutableTableSchema}) as {@code BeanTableSchema} (or {@code ImmutableTableSchema}) would for a class, using
+ * method references instead of reflection. The generated class nests a {@code TableSchemaProvider} that
+ * {@link TableSchemaProcessor} registers as a service, so that {@code TableSchema.fromClass} finds it.
+ * <p>
+ * Properties are discovered with the same rules the reflective table schemas use, so the generated table schema maps items
+ * identically. Anything that can't be expressed in source, such as a generic class, a property of a wildcard type or a
+ * class that refers to itself through its attributes, is rejected with an {@link UnsupportedTypeException} so that the
+ * reflective table schema keeps being used for that class.
+ * <p>
+ * All the types in the generated source are fully qualified, to avoid clashing with the names of the mapped classes.
+ */
+@SdkInternalApi
+final class TableSchemaSourceGenerator {
+    static final String DYNAMO_DB_BEAN = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean";
+    static final String DYNAMO_DB_IMMUTABLE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable";
+    static final String TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.TableSchema";
+    static final String TABLE_SCHEMA_PROVIDER = "software.amazon.awssdk.enhanced.dynamodb.mapper.TableSchemaProvider";
+    static final String CLASS_NAME_SUFFIX = "_TableSchema";
+    static final String PROVIDER_CLASS_NAME = "Provider";
+
+    private static final String ANNOTATIONS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    private static final String DYNAMO_DB_ATTRIBUTE = ANNOTATIONS_PACKAGE + "DynamoDbAttribute";
+    private static final String DYNAMO_DB_CONVERTED_BY = ANNOTATIONS_PACKAGE + "DynamoDbConvertedBy";
+    private static final String DYNAMO_DB_FLATTEN = ANNOTATIONS_PACKAGE + "DynamoDbFlatten";
+    private static final String DYNAMO_DB_IGNORE = ANNOTATIONS_PACKAGE + "DynamoDbIgnore";
+    private static final String DYNAMO_DB_IGNORE_NULLS = ANNOTATIONS_PACKAGE + "DynamoDbIgnoreNulls";
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = ANNOTATIONS_PACKAGE + "DynamoDbPreserveEmptyObject";
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = ANNOTATIONS_PACKAGE + "BeanTableSchemaAttributeTag";
+    private static final String TRANSIENT = "java.beans.Transient";
+
+    private static final String GENERATED = "software.amazon.awssdk.annotations.Generated";
+    private static final String ENHANCED_TYPE = "software.amazon.awssdk.enhanced.dynamodb.EnhancedType";
+    private static final String WRAPPED_TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.mapper.WrappedTableSchema";
+    private static final String STATIC_TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema";
+    private static final String STATIC_IMMUTABLE_TABLE_SCHEMA =
+        "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema";
+
+    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+    private static final Set<Modifier> PUBLIC_STATIC = EnumSet.of(Modifier.PUBLIC, Modifier.STATIC);
+
+    private final Elements elements;
+    private final Types types;
+    private final Predicate<TypeElement> hasGeneratedSchema;
+    private final Set<String> objectMethodNames;
+
+    /**
+     * @param processingEnv the environment of the annotation processor
+     * @param hasGeneratedSchema whether a table schema is (or will be) generated for a class, in which case the generated
+     * table schema is referenced directly where the class is used as a document or flattened
+     */
+    TableSchemaSourceGenerator(ProcessingEnvironment processingEnv, Predicate<TypeElement> hasGeneratedSchema) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.hasGeneratedSchema = hasGeneratedSchema;
+        this.objectMethodNames = ElementFilter.methodsIn(elements.getTypeElement(Object.class.getName()).getEnclosedElements())
+                                              .stream()
+                                              .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                                              .map(m -> m.getSimpleName().toString())
+                                              .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the qualified source name of the table schema generated for a class.
+     */
+    static String generatedClassName(Elements elements, TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedSimpleName(type);
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * Returns the binary name of the {@code TableSchemaProvider} nested in the table schema generated for a class, as it is
+     * listed in the service configuration file.
+     */
+    static String providerBinaryName(Elements elements, TypeElement type) {
+        return generatedClassName(elements, type) + "$" + PROVIDER_CLASS_NAME;
+    }
+
+    private static String generatedSimpleName(TypeElement type) {
+        Deque<String> names = new ArrayDeque<>();
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            names.addFirst(e.getSimpleName().toString());
+        }
+        return String.join("_", names) + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Generates the source of the table schema for a class annotated with {@code DynamoDbBean} or
+     * {@code DynamoDbImmutable}.
+     *
+     * @throws UnsupportedTypeException if the class can't be mapped by a generated table schema
+     */
+    String generate(TypeElement type) {
+        validateRootType(type);
+        validateNotRecursive(type);
+
+        if (annotation(type, DYNAMO_DB_IMMUTABLE) != null) {
+            return generateImmutableSchema(type);
+        }
+
+        return generateBeanSchema(type);
+    }
+
+    private void validateRootType(TypeElement type) {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+            throw new UnsupportedTypeException("local and anonymous classes are not supported");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("generic classes are not supported");
+        }
+        validateAccessible(type, type);
+    }
+
+    private String generateBeanSchema(TypeElement beanType) {
+        String beanName = beanType.getQualifiedName().toString();
+        validateInstantiable(beanType, beanType);
+
+        SourceBuilder source = new SourceBuilder();
+        String schemaType = STATIC_TABLE_SCHEMA + "<" + beanName + ">";
+        startClass(source, beanType, schemaType);
+        source.line("        return " + STATIC_TABLE_SCHEMA + ".builder(" + beanName + ".class)")
+              .line("            .newItemSupplier(" + beanName + "::new)");
+        addConverterProviders(source, beanType, annotation(beanType, DYNAMO_DB_BEAN));
+
+        for (Property property : beanProperties(beanType)) {
+            addProperty(source, beanType, property, beanName + "::" + property.setter.getSimpleName());
+        }
+
+        endClass(source, beanType);
+        return source.toString();
+    }
+
+    private String generateImmutableSchema(TypeElement immutableType) {
+        String immutableName = immutableType.getQualifiedName().toString();
+        AnnotationMirror dynamoDbImmutable = annotation(immutableType, DYNAMO_DB_IMMUTABLE);
+        TypeElement builderType = asTypeElement((TypeMirror) annotationValue(dynamoDbImmutable, "builder").getValue());
+        if (!builderType.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("generic builder classes are not supported");
+        }
+        validateAccessible(builderType, immutableType);
+        String builderName = builderType.getQualifiedName().toString();
+
+        Map<String, ExecutableElement> builderMethods = new HashMap<>();
+        for (ExecutableElement method : mappableImmutableMethods(builderType)) {
+            if (builderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedTypeException("the builder has overloaded methods named "
+                                                   + normalizeSetterName(method));
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove("build");
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(types.erasure(buildMethod.getReturnType()), types.erasure(immutableType.asType()))) {
+            throw new UnsupportedTypeException("the builder has no build() method that returns " + immutableName);
+        }
+
+        SourceBuilder source = new SourceBuilder();
+        String schemaType = STATIC_IMMUTABLE_TABLE_SCHEMA + "<" + immutableName + ", " + builderName + ">";
+        startClass(source, immutableType, schemaType);
+        source.line("        return " + STATIC_IMMUTABLE_TABLE_SCHEMA + ".builder(" + immutableName + ".class, "
+                    + builderName + ".class)")
+              .line("            .newItemBuilder(" + newBuilderSupplier(immutableType, builderType) + ", "
+                    + builderName + "::build)");
+        addConverterProviders(source, immutableType, dynamoDbImmutable);
+
+        for (ExecutableElement getter : mappableImmutableMethods(immutableType)) {
+            ExecutableType getterType = (ExecutableType) types.asMemberOf((DeclaredType) immutableType.asType(), getter);
+            if (!getter.getParameters().isEmpty() || getterType.getReturnType().getKind() == TypeKind.VOID) {
+                throw new UnsupportedTypeException(getter + " is not a valid getter");
+            }
+
+            ExecutableElement setter = builderMethods.remove(normalizeGetterName(getter, getterType.getReturnType()));
+            if (setter == null || !isValidImmutableSetter(setter, getterType.getReturnType(), builderType)) {
+                throw new UnsupportedTypeException(getter + " has no matching setter on the builder");
+            }
+
+            Property property = new Property(getter, setter, getterType.getReturnType());
+            addProperty(source, immutableType, property, builderName + "::" + setter.getSimpleName());
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedTypeException(builderMethods.values().iterator().next()
+                                               + " has no matching getter on the immutable class");
+        }
+
+        endClass(source, immutableType);
+        return source.toString();
+    }
+
+    private void startClass(SourceBuilder source, TypeElement type, String schemaType) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedSimpleName(type);
+        if (!packageName.isEmpty()) {
+            source.line("package " + packageName + ";")
+                  .line("");
+        }
+        source.line("@" + GENERATED + "(\"" + TableSchemaProcessor.class.getName() + "\")")
+              .line("public final class " + simpleName)
+              .line("    extends " + WRAPPED_TABLE_SCHEMA + "<" + type.getQualifiedName() + ", " + schemaType + "> {")
+              .line("")
+              .line("    public " + simpleName + "() {")
+              .line("        super(createTableSchema());")
+              .line("    }")
+              .line("")
+              .line("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})")
+              .line("    private static " + schemaType + " createTableSchema() {");
+    }
+
+    private void endClass(SourceBuilder source, TypeElement type) {
+        source.line("            .build();")
+              .line("    }")
+              .line("")
+              .line("    public static final class " + PROVIDER_CLASS_NAME + " implements " + TABLE_SCHEMA_PROVIDER + " {")
+              .line("        @Override")
+              .line("        public Class<?> itemClass() {")
+              .line("            return " + type.getQualifiedName() + ".class;")
+              .line("        }")
+              .line("")
+              .line("        @Override")
+              .line("        public " + TABLE_SCHEMA + "<?> tableSchema() {")
+              .line("            return new " + generatedSimpleName(type) + "();")
+              .line("        }")
+              .line("    }")
+              .line("}");
+    }
+
+    private void addConverterProviders(SourceBuilder source, TypeElement type, AnnotationMirror classAnnotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) annotationValue(classAnnotation, "converterProviders").getValue();
+        String arguments = providers.stream()
+                                    .map(p -> newInstance(asTypeElement((TypeMirror) p.getValue()), type))
+                                    .collect(Collectors.joining(", "));
+        source.line("            .attributeConverterProviders(" + arguments + ")");
+    }
+
+    private void addProperty(SourceBuilder source, TypeElement type, Property property, String setterReference) {
+        String getterReference = type.getQualifiedName() + "::" + property.getter.getSimpleName();
+
+        if (propertyAnnotation(property, DYNAMO_DB_FLATTEN) != null) {
+            TypeElement flattenedType = schemaTypeOf(property.type);
+            if (flattenedType == null) {
+                throw new UnsupportedTypeException(property.getter + " is flattened but its type is not annotated with "
+                                                   + "@DynamoDbBean or @DynamoDbImmutable");
+            }
+            source.line("            .flatten(" + tableSchemaOf(flattenedType, type) + ", " + getterReference + ", "
+                        + setterReference + ")");
+            return;
+        }
+
+        boolean preserveEmptyObject = propertyAnnotation(property, DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null;
+        boolean ignoreNulls = propertyAnnotation(property, DYNAMO_DB_IGNORE_NULLS) != null;
+        source.line("            .addAttribute(" + enhancedType(property.type, type, preserveEmptyObject, ignoreNulls)
+                    + ", a -> a.name(" + stringLiteral(attributeName(property)) + ")")
+              .line("                .getter(" + getterReference + ")")
+              .line("                .setter(" + setterReference + ")");
+
+        AnnotationMirror convertedBy = propertyAnnotation(property, DYNAMO_DB_CONVERTED_BY);
+        if (convertedBy != null) {
+            TypeElement converterType = asTypeElement((TypeMirror) annotationValue(convertedBy, "value").getValue());
+            source.line("                .attributeConverter(" + newInstance(converterType, type) + ")");
+        }
+
+        List<AnnotationMirror> annotations = new ArrayList<>(property.getter.getAnnotationMirrors());
+        annotations.addAll(property.setter.getAnnotationMirrors());
+        for (AnnotationMirror annotation : annotations) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            AnnotationMirror tag = annotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+            if (tag != null) {
+                TypeElement tagType = asTypeElement((TypeMirror) annotationValue(tag, "value").getValue());
+                validateTagSupplier(tagType, annotationType, type);
+                source.line("                .addTag(" + tagType.getQualifiedName() + "." + ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME
+                            + "(" + annotationInstance(annotation, type) + "))");
+            }
+        }
+
+        source.line("            )");
+    }
+
+    private String attributeName(Property property) {
+        AnnotationMirror dynamoDbAttribute = propertyAnnotation(property, DYNAMO_DB_ATTRIBUTE);
+        if (dynamoDbAttribute != null) {
+            return (String) annotationValue(dynamoDbAttribute, "value").getValue();
+        }
+        return property.name;
+    }
+
+    /**
+     * Discovers the properties of a bean the way {@code java.beans.Introspector} does: a property has a public getter (either
+     * {@code getX()}, or {@code isX()} returning a {@code boolean}) and a public {@code void setX(...)} setter taking the
+     * type returned by the getter. Properties are ordered by name.
+     */
+    private List<Property> beanProperties(TypeElement beanType) {
+        DeclaredType beanDeclaredType = (DeclaredType) beanType.asType();
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(beanType))) {
+            if (!isPublicInstanceMethod(method) || isDeclaredByObjectOrInterface(method)) {
+                continue;
+            }
+
+            String name = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(beanDeclaredType, method);
+            TypeKind returnKind = methodType.getReturnType().getKind();
+            if (method.getParameters().isEmpty()) {
+                if (name.length() > 2 && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+                    getters.put(decapitalize(name.substring(2)), method);
+                } else if (name.length() > 3 && name.startsWith("get") && returnKind != TypeKind.VOID) {
+                    getters.putIfAbsent(decapitalize(name.substring(3)), method);
+                }
+            } else if (method.getParameters().size() == 1
+                       && name.length() > 3 && name.startsWith("set") && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(beanDeclaredType, getter)).getReturnType();
+            ExecutableElement setter = setters.getOrDefault(name, new ArrayList<>())
+                                              .stream()
+                                              .filter(s -> isSameErasure(parameterType(beanDeclaredType, s), propertyType))
+                                              .findFirst()
+                                              .orElse(null);
+            if (setter == null) {
+                return;
+            }
+
+            Property property = new Property(name, getter, setter, propertyType);
+            if (propertyAnnotation(property, DYNAMO_DB_IGNORE) == null && propertyAnnotation(property, TRANSIENT) == null) {
+                validateMethod(getter);
+                validateMethod(setter);
+                properties.add(property);
+            }
+        });
+        return properties;
+    }
+
+    private List<ExecutableElement> mappableImmutableMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!isPublicInstanceMethod(method)
+                || isDeclaredByObject(method)
+                || objectMethodNames.contains(method.getSimpleName().toString())
+                || method.getSimpleName().contentEquals(TO_BUILDER_METHOD)
+                || annotation(method, DYNAMO_DB_IGNORE) != null
+                || annotation(method, TRANSIENT) != null) {
+                continue;
+            }
+            validateMethod(method);
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private boolean isValidImmutableSetter(ExecutableElement setter, TypeMirror propertyType, TypeElement builderType) {
+        if (setter.getParameters().size() != 1
+            || !isSameErasure(parameterType((DeclaredType) builderType.asType(), setter), propertyType)) {
+            return false;
+        }
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || types.isAssignable(types.erasure(builderType.asType()), types.erasure(returnType));
+    }
+
+    private String newBuilderSupplier(TypeElement immutableType, TypeElement builderType) {
+        String builderName = builderType.getQualifiedName().toString();
+        for (ExecutableElement method : ElementFilter.methodsIn(immutableType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("builder")
+                && method.getParameters().isEmpty()
+                && method.getModifiers().containsAll(PUBLIC_STATIC)
+                && types.isAssignable(types.erasure(builderType.asType()), types.erasure(method.getReturnType()))) {
+                return "() -> (" + builderName + ") " + immutableType.getQualifiedName() + ".builder()";
+            }
+        }
+
+        validateInstantiable(builderType, immutableType);
+        return builderName + "::new";
+    }
+
+    /**
+     * Same as {@code java.beans.Introspector#decapitalize}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter, TypeMirror returnType) {
+        String name = getter.getSimpleName().toString();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN
+                            || returnType.toString().equals(Boolean.class.getName());
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith("is") && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("get")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("set")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * Builds the {@code EnhancedType} of an attribute. Like the reflective table schemas, lists and maps are unwrapped to
+     * find annotated classes, which are mapped as documents with their own table schema.
+     */
+    private String enhancedType(TypeMirror type, TypeElement from, boolean preserveEmptyObject, boolean ignoreNulls) {
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.ARRAY) {
+            return plainEnhancedType(type, from);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedTypeException("attributes of type " + type + " are not supported");
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        String name = element.getQualifiedName().toString();
+
+        if (typeArguments.isEmpty() && isSchemaType(element)) {
+            return ENHANCED_TYPE + ".documentOf(" + name + ".class, " + tableSchemaOf(element, from)
+                   + ", b -> b.preserveEmptyObject(" + preserveEmptyObject + ").ignoreNulls(" + ignoreNulls + "))";
+        }
+        if (List.class.getName().equals(name) && typeArguments.size() == 1) {
+            return ENHANCED_TYPE + ".listOf(" + enhancedType(typeArguments.get(0), from, preserveEmptyObject, ignoreNulls)
+                   + ")";
+        }
+        if (Map.class.getName().equals(name) && typeArguments.size() == 2) {
+            return ENHANCED_TYPE + ".mapOf(" + plainEnhancedType(typeArguments.get(0), from) + ", "
+                   + enhancedType(typeArguments.get(1), from, preserveEmptyObject, ignoreNulls) + ")";
+        }
+        if (isSchemaType(element)) {
+            throw new UnsupportedTypeException("attributes of generic document type " + type + " are not supported");
+        }
+        return plainEnhancedType(type, from);
+    }
+
+    private String plainEnhancedType(TypeMirror type, TypeElement from) {
+        if (types.isSameType(type, types.erasure(type))) {
+            return ENHANCED_TYPE + ".of(" + typeName(type, from) + ".class)";
+        }
+        return "new " + ENHANCED_TYPE + "<" + typeName(type, from) + ">() { }";
+    }
+
+    /**
+     * Renders the source name of a type. Wildcards are only allowed where {@code allowWildcards} is set, as type tokens
+     * can't capture them.
+     */
+    private String typeName(TypeMirror type, TypeElement from) {
+        return typeName(type, from, false);
+    }
+
+    private String typeName(TypeMirror type, TypeElement from, boolean allowWildcards) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType(), from, allowWildcards) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement element = (TypeElement) declaredType.asElement();
+                validateAccessible(element, from);
+                String name = element.getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                return name + declaredType.getTypeArguments()
+                                          .stream()
+                                          .map(t -> typeName(t, from, allowWildcards))
+                                          .collect(Collectors.joining(", ", "<", ">"));
+            case WILDCARD:
+                if (!allowWildcards) {
+                    break;
+                }
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcardType.getExtendsBound(), from, true);
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    return "? super " + typeName(wildcardType.getSuperBound(), from, true);
+                }
+                return "?";
+            default:
+                break;
+        }
+
+        throw new UnsupportedTypeException("attributes of type " + type + " are not supported");
+    }
+
+    private String tableSchemaOf(TypeElement schemaType, TypeElement from) {
+        validateAccessible(schemaType, from);
+        if (hasGeneratedSchema.test(schemaType)) {
+            return "new " + generatedClassName(elements, schemaType) + "()";
+        }
+        return TABLE_SCHEMA + ".fromClass(" + schemaType.getQualifiedName() + ".class)";
+    }
+
+    /**
+     * Implements an annotation as an anonymous class, so that tag suppliers can be called with the same values they would
+     * receive from the reflective table schemas.
+     */
+    private String annotationInstance(AnnotationMirror annotation, TypeElement from) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        validateAccessible(annotationType, from);
+        String annotationName = annotationType.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        source.append("new ").append(annotationName).append("() { ")
+              .append("public java.lang.Class<? extends java.lang.annotation.Annotation> annotationType() { return ")
+              .append(annotationName).append(".class; }");
+
+        elements.getElementValuesWithDefaults(annotation).forEach((element, value) -> {
+            source.append(" public ").append(typeName(element.getReturnType(), from, true)).append(' ')
+                  .append(element.getSimpleName()).append("() { return ")
+                  .append(annotationValueLiteral(element.getReturnType(), value, from)).append("; }");
+        });
+
+        return source.append(" }").toString();
+    }
+
+    private String annotationValueLiteral(TypeMirror type, AnnotationValue annotationValue, TypeElement from) {
+        Object value = annotationValue.getValue();
+        if (value instanceof List) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            return ((List<?>) value).stream()
+                                    .map(v -> annotationValueLiteral(componentType, (AnnotationValue) v, from))
+                                    .collect(Collectors.joining(", ",
+                                                                "new " + typeName(types.erasure(componentType), from)
+                                                                + "[] {",
+                                                                "}"));
+        }
+        if (value instanceof TypeMirror) {
+            return typeName(types.erasure((TypeMirror) value), from) + ".class";
+        }
+        if (value instanceof VariableElement) {
+            VariableElement enumConstant = (VariableElement) value;
+            TypeElement enumType = (TypeElement) enumConstant.getEnclosingElement();
+            validateAccessible(enumType, from);
+            return enumType.getQualifiedName() + "." + enumConstant.getSimpleName();
+        }
+        if (value instanceof AnnotationMirror) {
+            throw new UnsupportedTypeException("tag annotations with annotation values are not supported");
+        }
+        if (value instanceof String) {
+            return stringLiteral((String) value);
+        }
+        if (value instanceof Float || value instanceof Double) {
+            return floatingPointLiteral(type, ((Number) value).doubleValue());
+        }
+        if (value instanceof Byte || value instanceof Short) {
+            return "(" + typeName(type, from) + ") " + value;
+        }
+        // Booleans, chars, ints and longs render as literals in source.
+        return annotationValue.toString();
+    }
+
+    private static String floatingPointLiteral(TypeMirror type, double value) {
+        String boxed = type.getKind() == TypeKind.FLOAT ? "java.lang.Float" : "java.lang.Double";
+        if (Double.isNaN(value)) {
+            return boxed + ".NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return boxed + (value > 0 ? ".POSITIVE_INFINITY" : ".NEGATIVE_INFINITY");
+        }
+        return type.getKind() == TypeKind.FLOAT ? Float.toString((float) value) + "f" : Double.toString(value) + "d";
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void validateTagSupplier(TypeElement tagType, TypeElement annotationType, TypeElement from) {
+        validateAccessible(tagType, from);
+        boolean found = ElementFilter.methodsIn(tagType.getEnclosedElements())
+                                     .stream()
+                                     .anyMatch(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME)
+                                                    && m.getModifiers().containsAll(PUBLIC_STATIC)
+                                                    && m.getParameters().size() == 1
+                                                    && types.isSameType(m.getParameters().get(0).asType(),
+                                                                        annotationType.asType()));
+        if (!found) {
+            throw new UnsupportedTypeException(tagType + " has no public static " + ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME + "("
+                                               + annotationType + ") method");
+        }
+    }
+
+    /**
+     * Rejects classes that refer to themselves through the attributes of the classes they map as documents or flatten.
+     * Generated table schemas create the table schemas of those classes eagerly, so such a class is left to the
+     * reflective table schemas which resolve the cycle.
+     */
+    private void validateNotRecursive(TypeElement rootType) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>(referencedSchemaTypes(rootType));
+        while (!toVisit.isEmpty()) {
+            TypeElement type = toVisit.pop();
+            if (type.equals(rootType)) {
+                throw new UnsupportedTypeException("classes that refer to themselves through their attributes are not "
+                                                   + "supported");
+            }
+            if (visited.add(type)) {
+                toVisit.addAll(referencedSchemaTypes(type));
+            }
+        }
+    }
+
+    private Set<TypeElement> referencedSchemaTypes(TypeElement type) {
+        Set<TypeElement> referencedTypes = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (isPublicInstanceMethod(method) && method.getParameters().isEmpty()) {
+                collectSchemaTypes(method.getReturnType(), referencedTypes);
+            }
+        }
+        return referencedTypes;
+    }
+
+    private void collectSchemaTypes(TypeMirror type, Set<TypeElement> schemaTypes) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            collectSchemaTypes(((ArrayType) type).getComponentType(), schemaTypes);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            if (isSchemaType(element)) {
+                schemaTypes.add(element);
+            }
+            declaredType.getTypeArguments().forEach(t -> collectSchemaTypes(t, schemaTypes));
+        }
+    }
+
+    private TypeElement schemaTypeOf(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return isSchemaType(element) ? element : null;
+    }
+
+    private boolean isSchemaType(TypeElement type) {
+        return annotation(type, DYNAMO_DB_BEAN) != null || annotation(type, DYNAMO_DB_IMMUTABLE) != null;
+    }
+
+    private String newInstance(TypeElement type, TypeElement from) {
+        validateInstantiable(type, from);
+        return "new " + type.getQualifiedName() + "()";
+    }
+
+    /**
+     * The reflective table schemas instantiate classes through their public no-argument constructor.
+     */
+    private void validateInstantiable(TypeElement type, TypeElement from) {
+        validateAccessible(type, from);
+        boolean hasPublicNoArgConstructor =
+            ElementFilter.constructorsIn(type.getEnclosedElements())
+                         .stream()
+                         .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if (type.getKind() != ElementKind.CLASS
+            || type.getModifiers().contains(Modifier.ABSTRACT)
+            || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+            || !hasPublicNoArgConstructor) {
+            throw new UnsupportedTypeException(type + " has no public no-argument constructor");
+        }
+    }
+
+    /**
+     * Checks that a type can be referenced from the generated table schema, which lives in the package of {@code from}.
+     */
+    private void validateAccessible(TypeElement type, TypeElement from) {
+        boolean samePackage = elements.getPackageOf(type).equals(elements.getPackageOf(from));
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (((TypeElement) e).getQualifiedName().length() == 0
+                || modifiers.contains(Modifier.PRIVATE)
+                || (!modifiers.contains(Modifier.PUBLIC) && !samePackage)) {
+                throw new UnsupportedTypeException(type + " is not accessible from the generated table schema");
+            }
+        }
+    }
+
+    private static void validateMethod(ExecutableElement method) {
+        if (!method.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("generic method " + method + " is not supported");
+        }
+    }
+
+    private TypeMirror parameterType(DeclaredType containing, ExecutableElement method) {
+        return ((ExecutableType) types.asMemberOf(containing, method)).getParameterTypes().get(0);
+    }
+
+    private boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    private static boolean isPublicInstanceMethod(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static boolean isDeclaredByObject(ExecutableElement method) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private static boolean isDeclaredByObjectOrInterface(ExecutableElement method) {
+        return isDeclaredByObject(method) || method.getEnclosingElement().getKind() == ElementKind.INTERFACE;
+    }
+
+    private TypeElement asTypeElement(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedTypeException(type + " is not a class");
+        }
+        return (TypeElement) types.asElement(type);
+    }
+
+    private static AnnotationMirror propertyAnnotation(Property property, String annotationName) {
+        AnnotationMirror getterAnnotation = annotation(property.getter, annotationName);
+        return getterAnnotation != null ? getterAnnotation : annotation(property.setter, annotationName);
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .map(Map.Entry::getValue)
+                       .findFirst()
+                       .orElseThrow(() -> new UnsupportedTypeException("missing annotation value " + name));
+    }
+
+    private static final class Property {
+        private final String name;
+        private final ExecutableElement getter;
+        private final ExecutableElement setter;
+        private final TypeMirror type;
+
+        private Property(String name, ExecutableElement getter, ExecutableElement setter, TypeMirror type) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.type = type;
+        }
+
+        private Property(ExecutableElement getter, ExecutableElement setter, TypeMirror type) {
+            this(normalizeGetterName(getter, type), getter, setter, type);
+        }
+    }
+
+    private static final class SourceBuilder {
+        private final StringBuilder source = new StringBuilder();
+
+        private SourceBuilder line(String line) {
+            source.append(line).append('\n');
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+
+    /**
+     * Thrown when a class can't be mapped by a generated table schema, with the reason as its message.
+     */
+    static final class UnsupportedTypeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTypeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported to the {@link MetricCollector} of a bulk operation, such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}.
+ * <p>
+ * Metrics of individual batch calls are reported once per call, and summary metrics once per bulk operation. As the batch
+ * calls of a bulk operation run concurrently, all its metrics are reported together, from a single thread, when the bulk
+ * operation is done; the summary metrics are only reported if it completes successfully.
+ */
+@SdkPublicApi
+public final class BulkOperationMetric {
+    /**
+     * The time taken by a single BatchWriteItem or BatchGetItem call.
+     */
+    public static final SdkMetric<Duration> BATCH_CALL_DURATION =
+        metric("BulkBatchCallDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of write requests or keys submitted in a single batch call.
+     */
+    public static final SdkMetric<Integer> BATCH_SIZE = metric("BulkBatchSize", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of write requests or keys returned as unprocessed by a single batch call.
+     */
+    public static final SdkMetric<Integer> UNPROCESSED_COUNT =
+        metric("BulkUnprocessedCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The time waited before resubmitting the unprocessed write requests or keys of a batch call.
+     */
+    public static final SdkMetric<Duration> BACKOFF_DELAY = metric("BulkBackoffDelay", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The total number of write requests or keys that were processed by the bulk operation.
+     */
+    public static final SdkMetric<Long> PROCESSED_COUNT = metric("BulkProcessedCount", Long.class, MetricLevel.INFO);
+
+    /**
+     * The total number of write requests or keys that were still unprocessed after the maximum number of attempts.
+     */
+    public static final SdkMetric<Long> EXHAUSTED_COUNT = metric("BulkExhaustedCount", Long.class, MetricLevel.INFO);
+
+    /**
+     * The time taken by the whole bulk operation.
+     */
+    public static final SdkMetric<Duration> TOTAL_DURATION =
+        metric("BulkTotalDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of write requests or keys processed per second over the whole bulk operation.
+     */
+    public static final SdkMetric<Double> THROUGHPUT = metric("BulkThroughput", Double.class, MetricLevel.INFO);
+
+    private BulkOperationMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
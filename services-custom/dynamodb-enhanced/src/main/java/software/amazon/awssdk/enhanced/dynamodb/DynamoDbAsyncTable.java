@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +786,60 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and each segment is
+     * scanned by its own sequence of scan calls, with up to {@link ParallelScanEnhancedRequest#maxConcurrentSegments()}
+     * segments being scanned at the same time. The pages of all segments are merged into a single publisher. Pages of a
+     * single segment are published in order, but pages of different segments are interleaved in the order they are
+     * retrieved.
+     * <p>
+     * The next page of a segment is only requested once the previous page of that segment has been delivered to the
+     * subscriber, so slow subscribers naturally slow the scan down. If any segment fails, the error is delivered to the
+     * subscriber and the remaining segments are cancelled.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                         .totalSegments(8)
+     *                                                         .maxConcurrentSegments(4)
+     *                                                         .build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan each of them.
+     * @return a publisher {@link PagePublisher} with paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan each of them.
+     * @return a publisher {@link PagePublisher} with paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
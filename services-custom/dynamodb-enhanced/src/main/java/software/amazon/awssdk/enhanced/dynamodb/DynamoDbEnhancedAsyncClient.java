@@ -29,13 +29,17 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
 /**
@@ -262,6 +266,128 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Retrieves an unbounded stream of items from one or more tables. The keys of the supplied {@link ReadBatch}es are
+     * packed into BatchGetItem calls of up to 100 keys, several of which are in flight at the same time, and the keys
+     * each call leaves unprocessed are resubmitted with a jittered exponential backoff.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BulkGetItemEnhancedRequest}.
+     * <p>
+     * The result is accessed through iterable pages (see {@link BatchGetResultPage}), one per BatchGetItem call, in the order
+     * the calls complete. Keys that are still unprocessed after the maximum number of attempts are reported by the page of
+     * the last attempt, see {@link BatchGetResultPage#unprocessedKeysForTable(MappedTableResource)}. A call slot is only
+     * released once its page has been delivered, so a slow subscriber slows the reads down. Metrics of the calls and of the
+     * whole operation are reported to the metric collector of the request, see {@link BulkOperationMetric}.
+     * <p>
+     * If a call fails, the error is delivered to the subscriber and no further calls are made.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Publisher<ReadBatch> readBatches = ...;
+     * enhancedClient.bulkGetItem(BulkGetItemEnhancedRequest.builder()
+     *                                                      .readBatches(readBatches)
+     *                                                      .maxConcurrentBatches(8)
+     *                                                      .build())
+     *               .subscribe(page -> page.resultsForTable(firstItemTable).forEach(item -> System.out.println(item)));
+     * }
+     * </pre>
+     *
+     * @see #batchGetItem(BatchGetItemEnhancedRequest)
+     * @param request A {@link BulkGetItemEnhancedRequest} containing the read batches and how to submit them.
+     * @return a publisher {@link SdkPublisher} with paginated results (see {@link BatchGetResultPage}).
+     */
+    default BatchGetResultPagePublisher bulkGetItem(BulkGetItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves an unbounded stream of items from one or more tables. See
+     * {@link #bulkGetItem(BulkGetItemEnhancedRequest)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkGetItemEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BatchGetResultPagePublisher publisher = enhancedClient.bulkGetItem(r -> r.readBatches(readBatches));
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkGetItemEnhancedRequest.Builder} containing the read batches and
+     * how to submit them.
+     * @return a publisher {@link SdkPublisher} with paginated results (see {@link BatchGetResultPage}).
+     */
+    default BatchGetResultPagePublisher bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes an unbounded stream of items in one or more tables. The put and delete actions of the supplied
+     * {@link WriteBatch}es are packed into BatchWriteItem calls of up to 25 actions and 16 MB, several of which are in flight
+     * at the same time, and the actions each call leaves unprocessed are resubmitted with a jittered exponential backoff.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BulkWriteItemEnhancedRequest}.
+     * <p>
+     * <b>Note: </b> Like BatchWriteItem, this operation cannot update items, and a single BatchWriteItem call cannot
+     * write the same item twice.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put call is atomic, but the operation as a whole is not. Actions that are
+     * still unprocessed after the maximum number of attempts can be retrieved through the result, see
+     * {@link BatchWriteResult}. If a call fails, the returned future completes exceptionally and no further calls are made;
+     * actions of earlier calls may have been written. Metrics of the calls and of the whole operation are reported to the
+     * metric collector of the request, see {@link BulkOperationMetric}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Publisher<WriteBatch> writeBatches = ...;
+     * BatchWriteResult result = enhancedClient.bulkWriteItem(BulkWriteItemEnhancedRequest.builder()
+     *                                                                                    .writeBatches(writeBatches)
+     *                                                                                    .maxConcurrentBatches(8)
+     *                                                                                    .build()).join();
+     * }
+     * </pre>
+     *
+     * @see #batchWriteItem(BatchWriteItemEnhancedRequest)
+     * @param request A {@link BulkWriteItemEnhancedRequest} containing the write batches and how to submit them.
+     * @return a {@link CompletableFuture} of {@link BatchWriteResult}, containing any actions that were still unprocessed
+     * after the maximum number of attempts.
+     */
+    default CompletableFuture<BatchWriteResult> bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes an unbounded stream of items in one or more tables. See
+     * {@link #bulkWriteItem(BulkWriteItemEnhancedRequest)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BatchWriteResult result = enhancedClient.bulkWriteItem(r -> r.writeBatches(writeBatches)).join();
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteItemEnhancedRequest.Builder} containing the write batches
+     * and how to submit them.
+     * @return a {@link CompletableFuture} of {@link BatchWriteResult}, containing any actions that were still unprocessed
+     * after the maximum number of attempts.
+     */
+    default CompletableFuture<BatchWriteResult> bulkWriteItem(Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a
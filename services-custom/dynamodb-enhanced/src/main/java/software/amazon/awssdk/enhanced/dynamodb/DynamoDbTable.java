@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +767,64 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and each segment is
+     * scanned by its own sequence of scan calls on a background thread, with up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments being scanned at the same time. The pages of all
+     * segments are merged into a single iterable. Pages of a single segment are returned in order, but pages of different
+     * segments are interleaved in the order they are retrieved.
+     * <p>
+     * Each segment retrieves its next page only once there is room for it, and at most
+     * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} pages are held ahead of the caller, so slow callers
+     * naturally slow the scan down. If any segment fails, the error is thrown to the caller and the remaining segments are
+     * stopped. The segments are also stopped when the {@link PageIterable#stream()} is closed or the iterator is no longer
+     * referenced; close the stream to stop promptly when abandoning iteration early.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                         .totalSegments(8)
+     *                                                         .maxConcurrentSegments(4)
+     *                                                         .build());
+     * try (Stream<Page<MyItem>> pages = results.stream()) {
+     *     pages.forEach(p -> p.items().forEach(item -> System.out.println(item)));
+     * }
+     * }
+     * </pre>
+     *
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan each of them.
+     * @return an iterator of type {@link SdkIterable} with paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan each of them.
+     * @return an iterator of type {@link SdkIterable} with paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -18,14 +18,17 @@ package software.amazon.awssdk.enhanced.dynamodb;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoader;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.TableSchemaProvider;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
@@ -152,6 +155,11 @@ public interface TableSchema<T> {
      * because it's a moderately expensive operation.
      *
      * <p>
+     * If a table schema was generated for the class at compile time by the {@code dynamodb-enhanced-processor} annotation
+     * processor, that table schema is returned instead of scanning the class, which is much cheaper. See
+     * {@link TableSchemaProvider}.
+     *
+     * <p>
      * If this table schema is not behaving as you expect, enable debug logging for
      * {@code software.amazon.awssdk.enhanced.dynamodb.beans}.
      *
@@ -160,6 +168,11 @@ public interface TableSchema<T> {
      * @return An initialized {@link TableSchema}
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
+        Optional<TableSchema<T>> generatedTableSchema = GeneratedTableSchemaLoader.load(annotatedClass);
+        if (generatedTableSchema.isPresent()) {
+            return generatedTableSchema.get();
+        }
+
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
             return fromImmutableClass(annotatedClass);
         }
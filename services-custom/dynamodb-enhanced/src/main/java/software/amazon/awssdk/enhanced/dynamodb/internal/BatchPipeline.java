@@ -0,0 +1,457 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Packs a stream of entries (write requests or keys) into batches and submits them with bounded concurrency.
+ * <p>
+ * Upstream elements are requested one at a time, and only while fewer than {@code maxConcurrentBatches} batches are in
+ * flight and no full batch is waiting to be submitted, so at most a batch worth of entries plus one upstream element is
+ * held in memory ahead of the in-flight batches. The entries a batch call leaves unprocessed are resubmitted, after a
+ * delay computed by the backoff strategy, by the same batch slot until {@code maxAttempts} is reached; whatever is still
+ * unprocessed at that point is returned as the result of the pipeline.
+ * <p>
+ * When an ordering key function is set, entries with the same non-null key are submitted in upstream order: an entry is
+ * held back, and no more upstream elements are requested, while an earlier entry with its key is still in a batch being
+ * packed, in flight or waiting to be resubmitted.
+ * <p>
+ * The first failed batch call, or upstream error, fails the pipeline and cancels the upstream subscription.
+ * <p>
+ * Metrics are buffered while the pipeline runs, as batch calls complete concurrently, and reported to the metric collector
+ * once, when the pipeline completes or fails.
+ * <p>
+ * Batch calls may complete synchronously, on the thread that submitted them. Draining is therefore trampolined: a drain
+ * requested while another one is running on any thread is carried out by that running drain, instead of recursing.
+ *
+ * @param <U> the type of the upstream elements
+ * @param <E> the type of the entries batches are made of
+ */
+@SdkInternalApi
+public final class BatchPipeline<U, E> {
+
+    /**
+     * Only used to wait out backoff delays; the resubmitted calls themselves are asynchronous.
+     */
+    private static final ScheduledExecutorService BACKOFF_SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-bulk-backoff")
+                                                                             .daemonThreads(true)
+                                                                             .build());
+
+    private final Publisher<U> upstream;
+    private final Function<? super U, ? extends Collection<E>> entriesFunction;
+    private final BiPredicate<List<E>, E> fitsInBatch;
+    private final Function<? super E, ?> orderingKeyFunction;
+    private final BatchSubmitter<E> submitter;
+    private final int maxConcurrentBatches;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final MetricCollector metricCollector;
+
+    private final CompletableFuture<List<E>> result = new CompletableFuture<>();
+    private final Deque<E> pending = new ArrayDeque<>();
+    private final List<E> exhausted = new ArrayList<>();
+    private final MetricBuffer metricBuffer = new MetricBuffer();
+    private final Set<Object> submittedKeys = new HashSet<>();
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private Subscription subscription;
+    private int inFlight;
+    private boolean upstreamRequested;
+    private boolean upstreamDone;
+    private boolean heldBack;
+    private boolean finished;
+    private long startNanos;
+
+    private BatchPipeline(Builder<U, E> builder) {
+        this.upstream = builder.upstream;
+        this.entriesFunction = builder.entriesFunction;
+        this.fitsInBatch = builder.fitsInBatch;
+        this.orderingKeyFunction = builder.orderingKeyFunction != null ? builder.orderingKeyFunction : e -> null;
+        this.submitter = builder.submitter;
+        this.maxConcurrentBatches = builder.maxConcurrentBatches;
+        this.maxAttempts = builder.maxAttempts;
+        this.backoffStrategy = builder.backoffStrategy;
+        this.metricCollector = builder.metricCollector;
+    }
+
+    public static <U, E> Builder<U, E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Starts the pipeline.
+     *
+     * @return a future completed with the entries that were still unprocessed after the maximum number of attempts.
+     * Cancelling the future cancels the upstream subscription.
+     */
+    public CompletableFuture<List<E>> execute() {
+        startNanos = System.nanoTime();
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+        upstream.subscribe(new UpstreamSubscriber());
+        return result;
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            drainOnce();
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void drainOnce() {
+        List<List<E>> batches = new ArrayList<>();
+        Subscription s;
+        boolean requestUpstream = false;
+        boolean complete = false;
+        synchronized (this) {
+            if (finished || subscription == null) {
+                return;
+            }
+            s = subscription;
+            List<E> batch;
+            while (inFlight < maxConcurrentBatches && (batch = takeBatch()) != null) {
+                inFlight++;
+                batches.add(batch);
+            }
+            if (!upstreamDone && !upstreamRequested && !heldBack && inFlight < maxConcurrentBatches) {
+                upstreamRequested = true;
+                requestUpstream = true;
+            }
+            if (upstreamDone && pending.isEmpty() && inFlight == 0) {
+                finished = true;
+                complete = true;
+            }
+        }
+
+        batches.forEach(batch -> submit(batch, 1));
+        if (requestUpstream) {
+            s.request(1);
+        }
+        if (complete) {
+            complete();
+        }
+    }
+
+    /**
+     * Takes the next batch off the pending entries, or returns null if the pending entries don't fill a batch yet and more
+     * may arrive from upstream. Entries whose ordering key is already submitted, or in the batch, are held back; a batch
+     * that holds back an entry is taken even if it isn't full, so that the held back entry can follow it.
+     */
+    private List<E> takeBatch() {
+        heldBack = false;
+        if (pending.isEmpty()) {
+            return null;
+        }
+        List<E> batch = new ArrayList<>();
+        Set<Object> batchKeys = new HashSet<>();
+        Iterator<E> entries = pending.iterator();
+        boolean full = false;
+        while (entries.hasNext()) {
+            E entry = entries.next();
+            Object key = orderingKeyFunction.apply(entry);
+            if (key != null && (submittedKeys.contains(key) || batchKeys.contains(key))) {
+                heldBack = true;
+                continue;
+            }
+            if (!batch.isEmpty() && !fitsInBatch.test(batch, entry)) {
+                full = true;
+                break;
+            }
+            batch.add(entry);
+            if (key != null) {
+                batchKeys.add(key);
+            }
+        }
+        if (batch.isEmpty() || !full && !heldBack && !upstreamDone) {
+            return null;
+        }
+        // The batch entries are in pending order, but may not be a prefix of the pending entries if some were held back.
+        Iterator<E> remaining = pending.iterator();
+        for (E entry : batch) {
+            while (remaining.next() != entry) {
+                // Held back
+            }
+            remaining.remove();
+        }
+        submittedKeys.addAll(batchKeys);
+        return batch;
+    }
+
+    private void submit(List<E> batch, int attempt) {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+        }
+        CompletableFuture<List<E>> future;
+        try {
+            future = submitter.submit(batch, attempt >= maxAttempts, metricBuffer);
+        } catch (Throwable t) {
+            fail(t);
+            return;
+        }
+
+        future.whenComplete((unprocessed, t) -> {
+            if (t != null) {
+                fail(t);
+                return;
+            }
+            processedCount.addAndGet(batch.size() - unprocessed.size());
+            if (unprocessed.isEmpty()) {
+                releaseBatchSlot(batch, unprocessed);
+            } else if (attempt >= maxAttempts) {
+                synchronized (this) {
+                    exhausted.addAll(unprocessed);
+                }
+                releaseBatchSlot(batch, Collections.emptyList());
+            } else {
+                releaseKeys(batch, unprocessed);
+                drain();
+                Duration delay = backoffStrategy.computeDelay(attempt + 1);
+                metricBuffer.reportMetric(BulkOperationMetric.BACKOFF_DELAY, delay);
+                BACKOFF_SCHEDULER.schedule(() -> submit(unprocessed, attempt + 1), delay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void releaseBatchSlot(List<E> batch, List<E> unprocessed) {
+        synchronized (this) {
+            releaseKeys(batch, unprocessed);
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Releases the ordering keys of the entries of a batch that are done, that is, all but the unprocessed ones that will be
+     * resubmitted.
+     */
+    private synchronized void releaseKeys(List<E> batch, List<E> unprocessed) {
+        Set<Object> unprocessedKeys = new HashSet<>();
+        unprocessed.forEach(entry -> unprocessedKeys.add(orderingKeyFunction.apply(entry)));
+        for (E entry : batch) {
+            Object key = orderingKeyFunction.apply(entry);
+            if (key != null && !unprocessedKeys.contains(key)) {
+                submittedKeys.remove(key);
+            }
+        }
+    }
+
+    private void complete() {
+        Duration totalDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+        long processed = processedCount.get();
+        List<E> unprocessed;
+        synchronized (this) {
+            unprocessed = new ArrayList<>(exhausted);
+        }
+
+        metricBuffer.reportMetric(BulkOperationMetric.PROCESSED_COUNT, processed);
+        metricBuffer.reportMetric(BulkOperationMetric.EXHAUSTED_COUNT, (long) unprocessed.size());
+        metricBuffer.reportMetric(BulkOperationMetric.TOTAL_DURATION, totalDuration);
+        if (!totalDuration.isZero()) {
+            metricBuffer.reportMetric(BulkOperationMetric.THROUGHPUT,
+                                      processed * (double) TimeUnit.SECONDS.toNanos(1) / totalDuration.toNanos());
+        }
+        metricBuffer.publishTo(metricCollector);
+        result.complete(unprocessed);
+    }
+
+    private void fail(Throwable t) {
+        Subscription s;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            pending.clear();
+            s = subscription;
+        }
+        if (s != null) {
+            s.cancel();
+        }
+        metricBuffer.publishTo(metricCollector);
+        result.completeExceptionally(t);
+    }
+
+    /**
+     * Submits a batch of entries to the service.
+     */
+    @FunctionalInterface
+    public interface BatchSubmitter<E> {
+        /**
+         * @param batch the entries to submit
+         * @param lastAttempt whether the entries the call leaves unprocessed will be returned rather than resubmitted
+         * @param metrics the buffer to report the metrics of the call to
+         * @return a future completed with the entries the call left unprocessed
+         */
+        CompletableFuture<List<E>> submit(List<E> batch, boolean lastAttempt, MetricBuffer metrics);
+    }
+
+    private final class UpstreamSubscriber implements Subscriber<U> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            synchronized (BatchPipeline.this) {
+                if (subscription != null || finished) {
+                    s.cancel();
+                    return;
+                }
+                subscription = s;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(U element) {
+            Collection<E> entries;
+            try {
+                entries = entriesFunction.apply(element);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            synchronized (BatchPipeline.this) {
+                upstreamRequested = false;
+                if (!finished) {
+                    pending.addAll(entries);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (BatchPipeline.this) {
+                upstreamDone = true;
+            }
+            drain();
+        }
+    }
+
+    public static final class Builder<U, E> {
+        private Publisher<U> upstream;
+        private Function<? super U, ? extends Collection<E>> entriesFunction;
+        private BiPredicate<List<E>, E> fitsInBatch;
+        private Function<? super E, ?> orderingKeyFunction;
+        private BatchSubmitter<E> submitter;
+        private int maxConcurrentBatches;
+        private int maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private MetricCollector metricCollector;
+
+        private Builder() {
+        }
+
+        public Builder<U, E> upstream(Publisher<U> upstream) {
+            this.upstream = upstream;
+            return this;
+        }
+
+        /**
+         * Splits an upstream element into the entries to batch.
+         */
+        public Builder<U, E> entriesFunction(Function<? super U, ? extends Collection<E>> entriesFunction) {
+            this.entriesFunction = entriesFunction;
+            return this;
+        }
+
+        /**
+         * Tests whether an entry can be added to a non-empty batch. An entry is always added to an empty batch.
+         */
+        public Builder<U, E> fitsInBatch(BiPredicate<List<E>, E> fitsInBatch) {
+            this.fitsInBatch = fitsInBatch;
+            return this;
+        }
+
+        /**
+         * Returns the key of the item an entry refers to, or null if it doesn't need to be ordered. Entries with the same key
+         * are submitted one after the other, in upstream order. Defaults to no ordering.
+         */
+        public Builder<U, E> orderingKeyFunction(Function<? super E, ?> orderingKeyFunction) {
+            this.orderingKeyFunction = orderingKeyFunction;
+            return this;
+        }
+
+        public Builder<U, E> submitter(BatchSubmitter<E> submitter) {
+            this.submitter = submitter;
+            return this;
+        }
+
+        public Builder<U, E> maxConcurrentBatches(int maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        public Builder<U, E> maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder<U, E> backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * The collector the metrics of the pipeline, and of its batch calls, are reported to once the pipeline is done.
+         */
+        public Builder<U, E> metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
+        public BatchPipeline<U, E> build() {
+            return new BatchPipeline<>(this);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Merges the elements of several source iterables into a single iterable, iterating at most {@code maxConcurrency} sources
+ * at a time on background threads. This is the blocking counterpart of {@link MergingPublisher}: elements of a single
+ * source are returned in order, while elements of different sources are interleaved in the order they are retrieved.
+ * <p>
+ * At most {@code maxConcurrency} elements are buffered ahead of the caller, and each source waits for buffer space before
+ * retrieving its next element. The first error of any source is thrown to the caller and stops all other sources. Sources
+ * stop as soon as the {@link #stream()} is closed or the iterator is no longer reachable; at most the element each active
+ * source is retrieving at that point is still retrieved.
+ */
+@SdkInternalApi
+public final class MergingIterable<T> implements SdkIterable<T> {
+
+    /**
+     * Used to iterate sources. Threads are daemon threads and are released when idle, so an abandoned iterator does not keep
+     * the JVM alive or hold on to threads.
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-enhanced-parallel-scan")
+                                                                .daemonThreads(true)
+                                                                .build());
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final List<Supplier<? extends Iterable<T>>> sources;
+    private final int maxConcurrency;
+    private final Executor executor;
+
+    public MergingIterable(List<Supplier<? extends Iterable<T>>> sources, int maxConcurrency) {
+        this(sources, maxConcurrency, DEFAULT_EXECUTOR);
+    }
+
+    public MergingIterable(List<Supplier<? extends Iterable<T>>> sources, int maxConcurrency, Executor executor) {
+        this.sources = new ArrayList<>(Validate.paramNotNull(sources, "sources"));
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new MergingIterator<>(sources, maxConcurrency, executor);
+    }
+
+    /**
+     * Creates a stream whose iterator stops all sources when the stream is closed.
+     */
+    @Override
+    public Stream<T> stream() {
+        MergingIterator<T> iterator = new MergingIterator<>(sources, maxConcurrency, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                            .onClose(iterator::close);
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+        private final Merge<T> merge;
+        private Object next;
+        private boolean done;
+
+        private MergingIterator(List<Supplier<? extends Iterable<T>>> sources, int maxConcurrency, Executor executor) {
+            this.merge = new Merge<>(sources, maxConcurrency, this);
+            merge.start(executor);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (done) {
+                return false;
+            }
+            if (next == null) {
+                next = merge.take();
+            }
+            if (next == Merge.END) {
+                done = true;
+                next = null;
+                return false;
+            }
+            if (next instanceof Failure) {
+                done = true;
+                merge.stop();
+                Throwable cause = ((Failure) next).cause;
+                next = null;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw SdkClientException.create("Failed to retrieve the next element", cause);
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements left");
+            }
+            T value = (T) next;
+            next = null;
+            return value;
+        }
+
+        private void close() {
+            done = true;
+            next = null;
+            merge.stop();
+        }
+    }
+
+    /**
+     * The state shared between an iterator and the workers iterating its sources. Workers only reference the merge, and
+     * the merge only weakly references its iterator, so an iterator the caller abandoned can be collected and its workers
+     * then stop.
+     */
+    private static final class Merge<T> {
+        private static final Object END = new Object();
+
+        private final Queue<Supplier<? extends Iterable<T>>> pendingSources;
+        private final int maxConcurrency;
+        private final BlockingQueue<Object> buffer;
+        private final AtomicInteger remainingWorkers = new AtomicInteger();
+        private final WeakReference<MergingIterator<T>> owner;
+        private volatile boolean stopped;
+
+        private Merge(List<Supplier<? extends Iterable<T>>> sources, int maxConcurrency, MergingIterator<T> owner) {
+            this.pendingSources = new ConcurrentLinkedQueue<>(sources);
+            this.maxConcurrency = maxConcurrency;
+            this.buffer = new ArrayBlockingQueue<>(maxConcurrency);
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private void start(Executor executor) {
+            int workers = Math.min(maxConcurrency, pendingSources.size());
+            if (workers == 0) {
+                buffer.add(END);
+                return;
+            }
+            remainingWorkers.set(workers);
+            for (int i = 0; i < workers; i++) {
+                try {
+                    executor.execute(this::iterateSources);
+                } catch (RejectedExecutionException e) {
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        private Object take() {
+            try {
+                return buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+                throw SdkClientException.create("Interrupted while waiting for the next element", e);
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            pendingSources.clear();
+            buffer.clear();
+        }
+
+        private void iterateSources() {
+            try {
+                Supplier<? extends Iterable<T>> source;
+                while (isActive() && (source = pendingSources.poll()) != null) {
+                    Iterator<T> iterator = source.get().iterator();
+                    while (isActive() && iterator.hasNext()) {
+                        put(iterator.next());
+                    }
+                }
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (remainingWorkers.decrementAndGet() == 0) {
+                try {
+                    put(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(e);
+                }
+            }
+        }
+
+        private void put(Object element) throws InterruptedException {
+            while (isActive()) {
+                if (buffer.offer(element, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (!stopped) {
+                // Elements that are still buffered are discarded. At most one element of each other worker can be added
+                // after the buffer is cleared, so there is always room for the failure.
+                stopped = true;
+                pendingSources.clear();
+                buffer.clear();
+                buffer.add(new Failure(t));
+            }
+        }
+
+        private boolean isActive() {
+            if (stopped) {
+                return false;
+            }
+            if (owner.get() == null) {
+                stop();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
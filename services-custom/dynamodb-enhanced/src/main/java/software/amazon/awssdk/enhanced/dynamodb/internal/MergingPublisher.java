@@ -0,0 +1,219 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Merges the events of several source publishers into a single publisher, subscribing to at most
+ * {@code maxConcurrency} sources at a time. Events of a single source are delivered in order, while events of different
+ * sources are interleaved in the order they arrive.
+ * <p>
+ * Each source has at most one event requested at a time, and the next one is only requested once the previous event has
+ * been delivered downstream, so at most {@code maxConcurrency} events are buffered. The first error of any source is
+ * delivered downstream and cancels all other sources. Cancelling the downstream subscription cancels all sources, and
+ * sources that have not been started yet are never subscribed to.
+ */
+@SdkInternalApi
+public final class MergingPublisher<T> implements SdkPublisher<T> {
+    private final List<Supplier<? extends Publisher<T>>> sources;
+    private final int maxConcurrency;
+
+    public MergingPublisher(List<Supplier<? extends Publisher<T>>> sources, int maxConcurrency) {
+        this.sources = new ArrayList<>(Validate.paramNotNull(sources, "sources"));
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        new Merge<>(sources, maxConcurrency, subscriber).start();
+    }
+
+    private static final class Merge<T> {
+        private final SimplePublisher<T> buffer = new SimplePublisher<>();
+        private final Queue<Supplier<? extends Publisher<T>>> pendingSources;
+        private final int maxConcurrency;
+        private final AtomicInteger remainingSources;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+        private final Set<SourceSubscriber> activeSources = ConcurrentHashMap.newKeySet();
+
+        private Merge(List<Supplier<? extends Publisher<T>>> sources, int maxConcurrency,
+                      Subscriber<? super T> subscriber) {
+            this.pendingSources = new ConcurrentLinkedQueue<>(sources);
+            this.maxConcurrency = maxConcurrency;
+            this.remainingSources = new AtomicInteger(sources.size());
+            buffer.subscribe(new CancellationPropagatingSubscriber(subscriber));
+        }
+
+        private void start() {
+            if (remainingSources.get() == 0) {
+                buffer.complete();
+                return;
+            }
+            for (int i = 0; i < maxConcurrency; i++) {
+                startNextSource();
+            }
+        }
+
+        private void startNextSource() {
+            if (done.get()) {
+                return;
+            }
+            Supplier<? extends Publisher<T>> source = pendingSources.poll();
+            if (source == null) {
+                return;
+            }
+            SourceSubscriber sourceSubscriber = new SourceSubscriber();
+            activeSources.add(sourceSubscriber);
+            try {
+                source.get().subscribe(sourceSubscriber);
+            } catch (RuntimeException e) {
+                onSourceError(e);
+            }
+        }
+
+        private void onSourceComplete(SourceSubscriber sourceSubscriber) {
+            activeSources.remove(sourceSubscriber);
+            if (remainingSources.decrementAndGet() == 0) {
+                if (done.compareAndSet(false, true)) {
+                    buffer.complete();
+                }
+            } else {
+                startNextSource();
+            }
+        }
+
+        private void onSourceError(Throwable t) {
+            if (done.compareAndSet(false, true)) {
+                buffer.error(t);
+                cancelSources();
+            }
+        }
+
+        private void cancel() {
+            if (done.compareAndSet(false, true)) {
+                cancelSources();
+            }
+        }
+
+        private void cancelSources() {
+            pendingSources.clear();
+            activeSources.forEach(SourceSubscriber::cancel);
+        }
+
+        private final class SourceSubscriber implements Subscriber<T> {
+            private final AtomicBoolean cancelled = new AtomicBoolean(false);
+            private volatile Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                if (subscription != null) {
+                    s.cancel();
+                    return;
+                }
+                subscription = s;
+                if (done.get()) {
+                    cancel();
+                    return;
+                }
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                buffer.send(item).whenComplete((r, t) -> {
+                    if (t != null) {
+                        // The downstream subscriber cancelled, or the merge already failed.
+                        Merge.this.cancel();
+                    } else if (!done.get()) {
+                        subscription.request(1);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                onSourceError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                onSourceComplete(this);
+            }
+
+            private void cancel() {
+                Subscription s = subscription;
+                if (s != null && cancelled.compareAndSet(false, true)) {
+                    s.cancel();
+                }
+            }
+        }
+
+        /**
+         * Cancels the sources as soon as the downstream subscriber cancels, rather than when the next event of each source
+         * fails to be delivered.
+         */
+        private final class CancellationPropagatingSubscriber implements Subscriber<T> {
+            private final Subscriber<? super T> delegate;
+
+            private CancellationPropagatingSubscriber(Subscriber<? super T> delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                delegate.onSubscribe(new DelegatingSubscription(s) {
+                    @Override
+                    public void cancel() {
+                        super.cancel();
+                        Merge.this.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T item) {
+                delegate.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                delegate.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                delegate.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Holds metrics reported from concurrent callbacks until they can be published to a {@link MetricCollector}, which is not
+ * thread safe, from a single thread.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class MetricBuffer {
+    private final Queue<Consumer<MetricCollector>> metrics = new ConcurrentLinkedQueue<>();
+
+    public <T> void reportMetric(SdkMetric<T> metric, T value) {
+        metrics.add(metricCollector -> metricCollector.reportMetric(metric, value));
+    }
+
+    /**
+     * Reports the buffered metrics, in the order they were reported to this buffer, to the given collector.
+     */
+    public void publishTo(MetricCollector metricCollector) {
+        Consumer<MetricCollector> metric;
+        while ((metric = metrics.poll()) != null) {
+            metric.accept(metricCollector);
+        }
+    }
+}
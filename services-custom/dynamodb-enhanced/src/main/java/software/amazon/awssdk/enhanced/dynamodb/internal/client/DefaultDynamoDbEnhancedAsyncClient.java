@@ -28,12 +28,16 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BulkGetItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BulkWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -87,6 +91,34 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public BatchGetResultPagePublisher bulkGetItem(BulkGetItemEnhancedRequest request) {
+        BulkGetItemOperation operation = BulkGetItemOperation.create(request);
+        return operation.executeAsync(dynamoDbClient, extension);
+    }
+
+    @Override
+    public BatchGetResultPagePublisher bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        BulkGetItemEnhancedRequest.Builder builder = BulkGetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkGetItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<BatchWriteResult> bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        BulkWriteItemOperation operation = BulkWriteItemOperation.create(request);
+        return operation.executeAsync(dynamoDbClient);
+    }
+
+    @Override
+    public CompletableFuture<BatchWriteResult> bulkWriteItem(
+        Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+
+        BulkWriteItemEnhancedRequest.Builder builder = BulkWriteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWriteItem(builder.build());
+    }
+
     @Override
     public CompletableFuture<List<Document>> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
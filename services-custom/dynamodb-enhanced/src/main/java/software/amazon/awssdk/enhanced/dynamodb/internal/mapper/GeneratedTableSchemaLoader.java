@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.TableSchemaProvider;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Locates the table schemas generated at compile time by the {@code dynamodb-enhanced-processor} annotation processor,
+ * which registers them as {@link TableSchemaProvider} services.
+ * <p>
+ * The result of the lookup is cached per class, whether a table schema was found or not, so the services are only loaded
+ * once for every class.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemaLoader {
+    private static final Logger log = Logger.loggerFor(GeneratedTableSchemaLoader.class);
+
+    private static final ClassValue<Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMAS =
+        new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> type) {
+                return find(type);
+            }
+        };
+
+    private GeneratedTableSchemaLoader() {
+    }
+
+    /**
+     * Returns the table schema generated for the given class, if one was generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> load(Class<T> annotatedClass) {
+        return GENERATED_TABLE_SCHEMAS.get(annotatedClass).map(tableSchema -> (TableSchema<T>) tableSchema);
+    }
+
+    private static Optional<TableSchema<?>> find(Class<?> annotatedClass) {
+        ClassLoader classLoader = annotatedClass.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+
+        Iterator<TableSchemaProvider> providers = ServiceLoader.load(TableSchemaProvider.class, classLoader).iterator();
+        while (hasNext(providers)) {
+            TableSchemaProvider provider;
+            try {
+                provider = providers.next();
+            } catch (ServiceConfigurationError e) {
+                // e.g. a provider of a class that was removed since the service configuration file was generated
+                log.warn(() -> "Skipping a table schema provider that could not be loaded", e);
+                continue;
+            }
+
+            if (annotatedClass.equals(provider.itemClass())) {
+                return Optional.of(provider.tableSchema());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean hasNext(Iterator<TableSchemaProvider> providers) {
+        try {
+            return providers.hasNext();
+        } catch (ServiceConfigurationError e) {
+            log.warn(() -> "Could not read the table schema provider configuration", e);
+            return false;
+        }
+    }
+}
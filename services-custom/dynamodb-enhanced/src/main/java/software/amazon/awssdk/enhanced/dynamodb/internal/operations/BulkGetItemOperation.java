@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.internal.BatchPipeline;
+import software.amazon.awssdk.enhanced.dynamodb.internal.MetricBuffer;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Reads an unbounded stream of {@link ReadBatch}es by repacking their keys into BatchGetItem calls of at most
+ * {@value #MAX_KEYS} keys, and resubmitting the unprocessed keys of each call. See {@link BatchPipeline}.
+ * <p>
+ * Every call results in one {@link BatchGetResultPage}. A batch slot is only released once its page has been delivered to
+ * the subscriber, so a slow subscriber slows the reads down. Pages only report the unprocessed keys of calls that will
+ * not be retried.
+ */
+@SdkInternalApi
+public final class BulkGetItemOperation {
+    private static final int MAX_KEYS = 100;
+
+    private final BulkGetItemEnhancedRequest request;
+
+    private BulkGetItemOperation(BulkGetItemEnhancedRequest request) {
+        this.request = request;
+    }
+
+    public static BulkGetItemOperation create(BulkGetItemEnhancedRequest request) {
+        return new BulkGetItemOperation(request);
+    }
+
+    public BatchGetResultPagePublisher executeAsync(DynamoDbAsyncClient dynamoDbAsyncClient,
+                                                    DynamoDbEnhancedClientExtension extension) {
+        return BatchGetResultPagePublisher.create(subscriber -> {
+            SimplePublisher<BatchGetResultPage> pages = new SimplePublisher<>();
+            pages.subscribe(subscriber);
+            BatchPipeline.<ReadBatch, Entry>builder()
+                         .upstream(request.readBatches())
+                         .entriesFunction(BulkGetItemOperation::entries)
+                         .fitsInBatch(BulkGetItemOperation::fitsInBatch)
+                         .submitter((batch, lastAttempt, metrics) -> submit(dynamoDbAsyncClient, extension, batch,
+                                                                            lastAttempt, pages, metrics))
+                         .maxConcurrentBatches(request.maxConcurrentBatches())
+                         .maxAttempts(request.maxAttempts())
+                         .backoffStrategy(request.backoffStrategy())
+                         .metricCollector(request.metricCollector())
+                         .build()
+                         .execute()
+                         .whenComplete((r, t) -> {
+                             if (t != null) {
+                                 pages.error(t);
+                             } else {
+                                 pages.complete();
+                             }
+                         });
+        });
+    }
+
+    private static List<Entry> entries(ReadBatch readBatch) {
+        KeysAndAttributes keysAndAttributes = readBatch.keysAndAttributes();
+        if (keysAndAttributes == null) {
+            return Collections.emptyList();
+        }
+        return keysAndAttributes.keys()
+                                .stream()
+                                .map(key -> new Entry(readBatch.tableName(), key, keysAndAttributes.consistentRead()))
+                                .collect(Collectors.toList());
+    }
+
+    /**
+     * A batch is limited to {@value #MAX_KEYS} keys, may not contain the same key twice and all keys of a table must share
+     * the same consistent read setting.
+     */
+    private static boolean fitsInBatch(List<Entry> batch, Entry entry) {
+        if (batch.size() >= MAX_KEYS) {
+            return false;
+        }
+        for (Entry batchEntry : batch) {
+            if (batchEntry.tableName.equals(entry.tableName)
+                && (!Objects.equals(batchEntry.consistentRead, entry.consistentRead) || batchEntry.key.equals(entry.key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CompletableFuture<List<Entry>> submit(DynamoDbAsyncClient dynamoDbAsyncClient,
+                                                         DynamoDbEnhancedClientExtension extension,
+                                                         List<Entry> batch,
+                                                         boolean lastAttempt,
+                                                         SimplePublisher<BatchGetResultPage> pages,
+                                                         MetricBuffer metrics) {
+        Map<String, List<Entry>> entriesByTable = new LinkedHashMap<>();
+        batch.forEach(entry -> entriesByTable.computeIfAbsent(entry.tableName, t -> new ArrayList<>()).add(entry));
+        Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+        entriesByTable.forEach((tableName, entries) -> requestItems.put(
+            tableName,
+            KeysAndAttributes.builder()
+                             .keys(entries.stream().map(entry -> entry.key).collect(Collectors.toList()))
+                             .consistentRead(entries.get(0).consistentRead)
+                             .build()));
+        BatchGetItemRequest batchGetItemRequest = BatchGetItemRequest.builder().requestItems(requestItems).build();
+
+        metrics.reportMetric(BulkOperationMetric.BATCH_SIZE, batch.size());
+        long start = System.nanoTime();
+        return dynamoDbAsyncClient.batchGetItem(batchGetItemRequest).thenCompose(response -> {
+            metrics.reportMetric(BulkOperationMetric.BATCH_CALL_DURATION, Duration.ofNanos(System.nanoTime() - start));
+            List<Entry> unprocessed = new ArrayList<>();
+            response.unprocessedKeys().forEach(
+                (tableName, keysAndAttributes) -> keysAndAttributes.keys().forEach(
+                    key -> unprocessed.add(new Entry(tableName, key, keysAndAttributes.consistentRead()))));
+            metrics.reportMetric(BulkOperationMetric.UNPROCESSED_COUNT, unprocessed.size());
+
+            BatchGetItemResponse pageResponse = lastAttempt
+                                                ? response
+                                                : response.toBuilder().unprocessedKeys(Collections.emptyMap()).build();
+            BatchGetResultPage page = BatchGetResultPage.builder()
+                                                        .batchGetItemResponse(pageResponse)
+                                                        .mapperExtension(extension)
+                                                        .build();
+            return pages.send(page).thenApply(ignored -> unprocessed);
+        });
+    }
+
+    private static final class Entry {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+        private final Boolean consistentRead;
+
+        private Entry(String tableName, Map<String, AttributeValue> key, Boolean consistentRead) {
+            this.tableName = tableName;
+            this.key = key;
+            this.consistentRead = consistentRead;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.BatchPipeline;
+import software.amazon.awssdk.enhanced.dynamodb.internal.MetricBuffer;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes an unbounded stream of {@link WriteBatch}es by repacking their write requests into BatchWriteItem calls of at
+ * most {@value #MAX_WRITE_REQUESTS} requests and an estimated {@value #MAX_REQUEST_BYTES} bytes, and resubmitting the
+ * unprocessed requests of each call. Write requests for the same item are written one at a time, in the order of the
+ * stream, including when they are resubmitted. See {@link BatchPipeline}.
+ */
+@SdkInternalApi
+public final class BulkWriteItemOperation {
+    private static final int MAX_WRITE_REQUESTS = 25;
+    private static final long MAX_REQUEST_BYTES = 16L * 1024 * 1024;
+
+    private final BulkWriteItemEnhancedRequest request;
+
+    private BulkWriteItemOperation(BulkWriteItemEnhancedRequest request) {
+        this.request = request;
+    }
+
+    public static BulkWriteItemOperation create(BulkWriteItemEnhancedRequest request) {
+        return new BulkWriteItemOperation(request);
+    }
+
+    public CompletableFuture<BatchWriteResult> executeAsync(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return BatchPipeline.<WriteBatch, Entry>builder()
+                            .upstream(request.writeBatches())
+                            .entriesFunction(BulkWriteItemOperation::entries)
+                            .fitsInBatch(BulkWriteItemOperation::fitsInBatch)
+                            .orderingKeyFunction(entry -> entry.itemKey)
+                            .submitter((batch, lastAttempt, metrics) -> submit(dynamoDbAsyncClient, batch, metrics))
+                            .maxConcurrentBatches(request.maxConcurrentBatches())
+                            .maxAttempts(request.maxAttempts())
+                            .backoffStrategy(request.backoffStrategy())
+                            .metricCollector(request.metricCollector())
+                            .build()
+                            .execute()
+                            .thenApply(BulkWriteItemOperation::toResult);
+    }
+
+    private static List<Entry> entries(WriteBatch writeBatch) {
+        MappedTableResource<?> mappedTableResource = writeBatch.mappedTableResource();
+        Collection<String> primaryKeys = mappedTableResource != null
+                                         ? mappedTableResource.tableSchema().tableMetadata().primaryKeys()
+                                         : null;
+        return writeBatch.writeRequests()
+                         .stream()
+                         .map(writeRequest -> new Entry(writeBatch.tableName(), writeRequest,
+                                                        primaryKey(writeRequest, primaryKeys)))
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * A batch is limited to {@value #MAX_WRITE_REQUESTS} requests and {@value #MAX_REQUEST_BYTES} bytes. It never refers
+     * to the same item twice, which DynamoDB rejects, as the requests for an item are ordered by their item key.
+     */
+    private static boolean fitsInBatch(List<Entry> batch, Entry entry) {
+        if (batch.size() >= MAX_WRITE_REQUESTS) {
+            return false;
+        }
+        long batchBytes = 0;
+        for (Entry batchEntry : batch) {
+            batchBytes += batchEntry.estimatedBytes;
+        }
+        return batchBytes + entry.estimatedBytes <= MAX_REQUEST_BYTES;
+    }
+
+    /**
+     * Returns the primary key of the item a write request refers to, or null if it can't be determined.
+     */
+    private static Map<String, AttributeValue> primaryKey(WriteRequest writeRequest, Collection<String> primaryKeys) {
+        if (writeRequest.deleteRequest() != null) {
+            return writeRequest.deleteRequest().key();
+        }
+        if (writeRequest.putRequest() == null || primaryKeys == null) {
+            return null;
+        }
+        Map<String, AttributeValue> item = writeRequest.putRequest().item();
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (String primaryKey : primaryKeys) {
+            key.put(primaryKey, item.get(primaryKey));
+        }
+        return key;
+    }
+
+    private static CompletableFuture<List<Entry>> submit(DynamoDbAsyncClient dynamoDbAsyncClient,
+                                                         List<Entry> batch,
+                                                         MetricBuffer metrics) {
+        Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+        Map<String, Map<WriteRequest, Entry>> entriesByRequest = new HashMap<>();
+        batch.forEach(entry -> {
+            requestItems.computeIfAbsent(entry.tableName, t -> new ArrayList<>()).add(entry.writeRequest);
+            entriesByRequest.computeIfAbsent(entry.tableName, t -> new HashMap<>()).put(entry.writeRequest, entry);
+        });
+        BatchWriteItemRequest batchWriteItemRequest = BatchWriteItemRequest.builder()
+                                                                           .requestItems(requestItems)
+                                                                           .build();
+
+        metrics.reportMetric(BulkOperationMetric.BATCH_SIZE, batch.size());
+        long start = System.nanoTime();
+        return dynamoDbAsyncClient.batchWriteItem(batchWriteItemRequest).thenApply(response -> {
+            metrics.reportMetric(BulkOperationMetric.BATCH_CALL_DURATION, Duration.ofNanos(System.nanoTime() - start));
+            List<Entry> unprocessed = new ArrayList<>();
+            // Resubmit the original entries, which know the key of their item.
+            response.unprocessedItems().forEach(
+                (tableName, writeRequests) -> writeRequests.forEach(writeRequest -> {
+                    Entry entry = entriesByRequest.getOrDefault(tableName, Collections.emptyMap()).get(writeRequest);
+                    unprocessed.add(entry != null ? entry
+                                                  : new Entry(tableName, writeRequest, primaryKey(writeRequest, null)));
+                }));
+            metrics.reportMetric(BulkOperationMetric.UNPROCESSED_COUNT, unprocessed.size());
+            return unprocessed;
+        });
+    }
+
+    private static BatchWriteResult toResult(List<Entry> unprocessed) {
+        Map<String, List<WriteRequest>> unprocessedRequests = new HashMap<>();
+        unprocessed.forEach(entry -> unprocessedRequests.computeIfAbsent(entry.tableName, t -> new ArrayList<>())
+                                                        .add(entry.writeRequest));
+        return BatchWriteResult.builder().unprocessedRequests(Collections.unmodifiableMap(unprocessedRequests)).build();
+    }
+
+    /**
+     * Estimates the number of bytes a write request adds to the JSON body of a BatchWriteItem request. The estimate is
+     * only used to keep batches of large items below the request size limit, and errs on the high side.
+     */
+    private static long estimateBytes(WriteRequest writeRequest) {
+        if (writeRequest.putRequest() != null) {
+            return estimateBytes(writeRequest.putRequest().item()) + 32;
+        }
+        if (writeRequest.deleteRequest() != null) {
+            return estimateBytes(writeRequest.deleteRequest().key()) + 32;
+        }
+        return 32;
+    }
+
+    private static long estimateBytes(Map<String, AttributeValue> item) {
+        long bytes = 2;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            bytes += estimateBytes(attribute.getKey()) + estimateBytes(attribute.getValue()) + 2;
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(AttributeValue value) {
+        long bytes = 8;
+        switch (value.type()) {
+            case S:
+                return bytes + estimateBytes(value.s());
+            case N:
+                return bytes + value.n().length();
+            case B:
+                // Base64 encoded
+                return bytes + (value.b().asByteArrayUnsafe().length + 2) / 3 * 4;
+            case SS:
+                return bytes + value.ss().stream().mapToLong(s -> estimateBytes(s) + 1).sum();
+            case NS:
+                return bytes + value.ns().stream().mapToLong(n -> n.length() + 3).sum();
+            case BS:
+                return bytes + value.bs().stream().mapToLong(b -> (b.asByteArrayUnsafe().length + 2) / 3 * 4 + 3).sum();
+            case M:
+                return bytes + estimateBytes(value.m());
+            case L:
+                return bytes + value.l().stream().mapToLong(BulkWriteItemOperation::estimateBytes).sum();
+            default:
+                return bytes;
+        }
+    }
+
+    /**
+     * Counts every character as the worst case of a 6-byte JSON escape sequence when it is not ASCII.
+     */
+    private static long estimateBytes(String s) {
+        int bytes = s.getBytes(StandardCharsets.UTF_8).length;
+        return bytes == s.length() ? bytes + 2 : s.length() * 6L + 2;
+    }
+
+    private static final class Entry {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final List<Object> itemKey;
+        private final long estimatedBytes;
+
+        private Entry(String tableName, WriteRequest writeRequest, Map<String, AttributeValue> primaryKey) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.itemKey = primaryKey != null ? Arrays.asList(tableName, primaryKey) : null;
+            this.estimatedBytes = estimateBytes(writeRequest) + tableName.length();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Provides the table schema of a class that was generated at compile time by the {@code dynamodb-enhanced-processor}
+ * annotation processor. The processor registers a provider for every table schema it generates as a
+ * {@link java.util.ServiceLoader} service, and {@link TableSchema#fromClass(Class)} returns the provided table schema in
+ * place of the reflective one.
+ * <p>
+ * This interface is implemented by the generated code and is not meant to be implemented directly.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface TableSchemaProvider {
+    /**
+     * @return the class the provided table schema maps
+     */
+    Class<?> itemClass();
+
+    /**
+     * @return a new instance of the table schema of {@link #itemClass()}
+     */
+    TableSchema<?> tableSchema();
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.IterablePublisher;
+
+/**
+ * Defines parameters used for the bulkWriteItem() operation (such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}).
+ * <p>
+ * The put and delete actions of the {@link WriteBatch}es are repacked into BatchWriteItem calls of at most 25 actions
+ * and 16 MB, regardless of how they are grouped into write batches. Unlike the write batches of a
+ * {@link BatchWriteItemEnhancedRequest}, write batches may contain any number of actions and any number of write batches
+ * may be supplied.
+ * <p>
+ * {@link #writeBatches()} is required; all other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItemEnhancedRequest {
+    private static final Integer DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final Integer DEFAULT_MAX_ATTEMPTS = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(50), Duration.ofSeconds(5));
+
+    private final Publisher<WriteBatch> writeBatches;
+    private final Integer maxConcurrentBatches;
+    private final Integer maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final MetricCollector metricCollector;
+
+    private BulkWriteItemEnhancedRequest(Builder builder) {
+        this.writeBatches = Validate.paramNotNull(builder.writeBatches, "writeBatches");
+        this.maxConcurrentBatches = builder.maxConcurrentBatches != null
+                                    ? Validate.isPositiveOrNull(builder.maxConcurrentBatches, "maxConcurrentBatches")
+                                    : DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.maxAttempts = builder.maxAttempts != null
+                           ? Validate.isPositiveOrNull(builder.maxAttempts, "maxAttempts")
+                           : DEFAULT_MAX_ATTEMPTS;
+        this.backoffStrategy = builder.backoffStrategy != null ? builder.backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.metricCollector = builder.metricCollector != null ? builder.metricCollector : NoOpMetricCollector.create();
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return new Builder().writeBatches(writeBatches)
+                            .maxConcurrentBatches(maxConcurrentBatches)
+                            .maxAttempts(maxAttempts)
+                            .backoffStrategy(backoffStrategy)
+                            .metricCollector(metricCollector);
+    }
+
+    /**
+     * Returns the publisher of write batches to write.
+     */
+    public Publisher<WriteBatch> writeBatches() {
+        return writeBatches;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls in flight at the same time.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of times an action is submitted before it is returned as unprocessed.
+     */
+    public Integer maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the backoff strategy used to delay the resubmission of unprocessed actions.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the metric collector the metrics of the operation are reported to.
+     */
+    public MetricCollector metricCollector() {
+        return metricCollector;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItemEnhancedRequest that = (BulkWriteItemEnhancedRequest) o;
+
+        return Objects.equals(writeBatches, that.writeBatches)
+               && Objects.equals(maxConcurrentBatches, that.maxConcurrentBatches)
+               && Objects.equals(maxAttempts, that.maxAttempts)
+               && Objects.equals(backoffStrategy, that.backoffStrategy)
+               && Objects.equals(metricCollector, that.metricCollector);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(writeBatches);
+        result = 31 * result + Objects.hashCode(maxConcurrentBatches);
+        result = 31 * result + Objects.hashCode(maxAttempts);
+        result = 31 * result + Objects.hashCode(backoffStrategy);
+        result = 31 * result + Objects.hashCode(metricCollector);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the write batches to write.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Publisher<WriteBatch> writeBatches;
+        private Integer maxConcurrentBatches;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private MetricCollector metricCollector;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the publisher of write batches to write. The next write batch is only requested once the actions received so
+         * far don't fill a BatchWriteItem call and a call slot is free, so the publisher may be unbounded.
+         * <p>
+         * Actions on the same item are written one at a time, in the order of the stream, as DynamoDb rejects a
+         * BatchWriteItem call that writes the same item twice. The next write batch is not requested while such an action
+         * waits for the previous action on its item.
+         *
+         * @param writeBatches a publisher of {@link WriteBatch}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Publisher<WriteBatch> writeBatches) {
+            this.writeBatches = writeBatches;
+            return this;
+        }
+
+        /**
+         * Sets the write batches to write.
+         *
+         * @param writeBatches a collection of {@link WriteBatch}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Collection<WriteBatch> writeBatches) {
+            return writeBatches(new IterablePublisher<>(writeBatches));
+        }
+
+        /**
+         * Sets the write batches to write.
+         *
+         * @param writeBatches one or more {@link WriteBatch}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(WriteBatch... writeBatches) {
+            return writeBatches(Arrays.asList(writeBatches));
+        }
+
+        /**
+         * Sets the maximum number of BatchWriteItem calls in flight at the same time, including calls waiting to resubmit
+         * unprocessed actions. Defaults to 4.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent calls
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times an action is submitted. Actions that are still unprocessed after the last
+         * attempt are returned in the {@link BatchWriteResult}. Defaults to 10.
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return a builder of this type
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the backoff strategy used to delay the resubmission of unprocessed actions, which DynamoDb returns when the
+         * table is being throttled. Defaults to an exponential delay with full jitter, starting at 50 milliseconds and
+         * capped at 5 seconds.
+         *
+         * @param backoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the metric collector the metrics of the operation are reported to, see {@link BulkOperationMetric}.
+         *
+         * @param metricCollector the metric collector
+         * @return a builder of this type
+         */
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
+        public BulkWriteItemEnhancedRequest build() {
+            return new BulkWriteItemEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table in parallel segments using the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The table is divided into {@link #totalSegments()} segments, each of which is scanned with the parameters of
+ * {@link #scanRequest()}. At most {@link #maxConcurrentSegments()} segments are scanned at the same time.
+ * <p>
+ * {@link #totalSegments()} is required; all other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+
+    /**
+     * The maximum number of segments DynamoDB allows a table to be divided into.
+     */
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.isPositiveOrNull(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                       "totalSegments");
+        Validate.isTrue(totalSegments <= MAX_TOTAL_SEGMENTS, "totalSegments must not exceed %s, but was %s.",
+                        MAX_TOTAL_SEGMENTS, totalSegments);
+        this.maxConcurrentSegments = builder.maxConcurrentSegments != null
+                                     ? Validate.isPositiveOrNull(builder.maxConcurrentSegments, "maxConcurrentSegments")
+                                     : totalSegments;
+        Validate.isNull(scanRequest.segment(), "The scan request of a parallel scan must not specify a segment.");
+        Validate.isNull(scanRequest.totalSegments(),
+                        "The scan request of a parallel scan must not specify total segments.");
+        Validate.isNull(scanRequest.exclusiveStartKey(),
+                        "The scan request of a parallel scan must not specify an exclusive start key.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments);
+    }
+
+    /**
+     * Returns the scan parameters applied to every segment.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments scanned at the same time. Defaults to {@link #totalSegments()}.
+     */
+    public Integer maxConcurrentSegments() {
+        return maxConcurrentSegments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (!totalSegments.equals(that.totalSegments)) {
+            return false;
+        }
+        return maxConcurrentSegments.equals(that.maxConcurrentSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments.hashCode();
+        result = 31 * result + maxConcurrentSegments.hashCode();
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan parameters applied to every segment, such as a filter expression, a projection or a page limit. The
+         * request must not specify a segment, total segments or an exclusive start key, since those are managed by the
+         * parallel scan.
+         *
+         * @param scanRequest the scan parameters applied to every segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan parameters applied to every segment. See {@link #scanRequest(ScanEnhancedRequest)}.
+         *
+         * @param scanRequest a consumer of {@link ScanEnhancedRequest.Builder} defining the scan parameters
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * The number of segments to divide the table into. Each segment is scanned by a separate sequence of scan calls.
+         * Must be between 1 and 1,000,000, the maximum DynamoDB allows.
+         *
+         * @param totalSegments the total number of segments to divide the table
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments scanned at the same time. Once a segment has been fully scanned, the next
+         * segment is started. Use this to bound the load a parallel scan puts on the table's provisioned throughput.
+         * Defaults to the total number of segments.
+         *
+         * @param maxConcurrentSegments the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -48,10 +48,12 @@ import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 public final class WriteBatch {
     private final String tableName;
     private final List<WriteRequest> writeRequests;
+    private final MappedTableResource<?> mappedTableResource;
 
     private WriteBatch(BuilderImpl<?> builder) {
         this.tableName = builder.mappedTableResource != null ? builder.mappedTableResource.tableName() : null;
         this.writeRequests = getItemsFromSupplier(builder.itemSupplierList);
+        this.mappedTableResource = builder.mappedTableResource;
     }
 
     /**
@@ -79,6 +81,13 @@ public final class WriteBatch {
         return writeRequests;
     }
 
+    /**
+     * Returns the mapped table resource (table) associated with this batch.
+     */
+    public MappedTableResource<?> mappedTableResource() {
+        return mappedTableResource;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,187 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.utils.async.IterablePublisher;
+
+public class AsyncBulkItemTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 230)
+                 .mapToObj(i -> new Record().setId("id-value-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+        DefaultDynamoDbEnhancedAsyncClient.builder()
+                                          .dynamoDbClient(getDynamoDbAsyncClient())
+                                          .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void bulkWriteItem_putsAllItems() {
+        MetricCollector metricCollector = MetricCollector.create("BulkWriteItem");
+
+        BatchWriteResult result =
+            enhancedAsyncClient.bulkWriteItem(r -> r.writeBatches(new IterablePublisher<>(writeBatches()))
+                                                    .maxConcurrentBatches(3)
+                                                    .metricCollector(metricCollector))
+                               .join();
+
+        assertThat(result.unprocessedPutItemsForTable(mappedTable), is(empty()));
+        assertThat(drainPublisher(mappedTable.scan().items(), RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(metricCollector.collect().metricValues(BulkOperationMetric.PROCESSED_COUNT),
+                   is(Collections.singletonList((long) RECORDS.size())));
+    }
+
+    @Test
+    public void bulkWriteItem_deletesItems() {
+        enhancedAsyncClient.bulkWriteItem(r -> r.writeBatches(writeBatches())).join();
+
+        WriteBatch.Builder<Record> deletes = WriteBatch.builder(Record.class).mappedTableResource(mappedTable);
+        RECORDS.subList(0, 100).forEach(deletes::addDeleteItem);
+        enhancedAsyncClient.bulkWriteItem(r -> r.writeBatches(deletes.build())).join();
+
+        assertThat(drainPublisher(mappedTable.scan().items(), RECORDS.size() - 100),
+                   containsInAnyOrder(RECORDS.subList(100, RECORDS.size()).toArray()));
+    }
+
+    @Test
+    public void bulkGetItem_getsAllItems() {
+        enhancedAsyncClient.bulkWriteItem(r -> r.writeBatches(writeBatches())).join();
+
+        List<ReadBatch> readBatches = new ArrayList<>();
+        for (int i = 0; i < RECORDS.size(); i += 70) {
+            ReadBatch.Builder<Record> readBatch = ReadBatch.builder(Record.class).mappedTableResource(mappedTable);
+            RECORDS.subList(i, Math.min(i + 70, RECORDS.size())).forEach(readBatch::addGetItem);
+            readBatches.add(readBatch.build());
+        }
+
+        List<Record> results = new ArrayList<>();
+        enhancedAsyncClient.bulkGetItem(r -> r.readBatches(readBatches).maxConcurrentBatches(2))
+                           .subscribe(page -> results.addAll(page.resultsForTable(mappedTable)))
+                           .join();
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void bulkGetItem_noReadBatches() {
+        List<Record> results = new ArrayList<>();
+        enhancedAsyncClient.bulkGetItem(r -> r.readBatches(new ArrayList<>()))
+                           .subscribe(page -> results.addAll(page.resultsForTable(mappedTable)))
+                           .join();
+
+        assertThat(results, is(empty()));
+    }
+
+    private List<WriteBatch> writeBatches() {
+        List<WriteBatch> writeBatches = new ArrayList<>();
+        for (int i = 0; i < RECORDS.size(); i += 40) {
+            WriteBatch.Builder<Record> writeBatch = WriteBatch.builder(Record.class).mappedTableResource(mappedTable);
+            RECORDS.subList(i, Math.min(i + 40, RECORDS.size())).forEach(writeBatch::addPutItem);
+            writeBatches.add(writeBatch.build());
+        }
+        return writeBatches;
+    }
+}
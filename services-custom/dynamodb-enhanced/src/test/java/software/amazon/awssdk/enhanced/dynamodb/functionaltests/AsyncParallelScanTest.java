@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 30)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+        DefaultDynamoDbEnhancedAsyncClient.builder()
+                                          .dynamoDbClient(getDynamoDbAsyncClient())
+                                          .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    private void insertRecords() {
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)).join());
+    }
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScanAllRecords() {
+        insertRecords();
+
+        SdkPublisher<Page<Record>> publisher = mappedTable.parallelScan(r -> r.totalSegments(4));
+        List<Page<Record>> results = drainPublisher(publisher, 4);
+
+        List<Record> items = results.stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+        assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanAllRecords_viaItems() {
+        insertRecords();
+
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(3)
+                                                                        .maxConcurrentSegments(2)
+                                                                        .scanRequest(s -> s.limit(4))).items();
+        List<Record> results = drainPublisher(publisher, RECORDS.size());
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanSingleSegmentPreservesScanOrder() {
+        insertRecords();
+
+        List<Record> scanResults = drainPublisher(mappedTable.scan().items(), RECORDS.size());
+        List<Record> parallelScanResults = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(1)
+                                                                                         .scanRequest(s -> s.limit(7)))
+                                                                     .items(),
+                                                          RECORDS.size());
+
+        assertThat(parallelScanResults, is(scanResults));
+    }
+
+    @Test
+    public void parallelScanEmptyTable() {
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4)).items();
+        List<Record> results = drainPublisher(publisher, 0);
+
+        assertThat(results, is(empty()));
+    }
+
+    @Test
+    public void parallelScanCancelledEarly() {
+        insertRecords();
+        AtomicInteger received = new AtomicInteger();
+
+        mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(1)))
+                   .items()
+                   .limit(5)
+                   .subscribe(item -> received.incrementAndGet())
+                   .join();
+
+        assertThat(received.get(), is(5));
+    }
+
+    @Test
+    public void parallelScanMissingTable() {
+        DynamoDbAsyncTable<Record> missingTable =
+            enhancedAsyncClient.table(getConcreteTableName("missing-table"), TABLE_SCHEMA);
+
+        List<Page<Record>> results = drainPublisherToError(missingTable.parallelScan(r -> r.totalSegments(4)),
+                                                           0,
+                                                           CompletionException.class);
+
+        assertThat(results, is(empty()));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class ParallelScanTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 30)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    private void insertRecords() {
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)));
+    }
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void parallelScanAllRecords() {
+        insertRecords();
+
+        List<Record> items = mappedTable.parallelScan(r -> r.totalSegments(4))
+                                        .stream()
+                                        .flatMap(page -> page.items().stream())
+                                        .collect(Collectors.toList());
+
+        assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanAllRecords_viaItems() {
+        insertRecords();
+
+        List<Record> items = mappedTable.parallelScan(r -> r.totalSegments(3)
+                                                            .maxConcurrentSegments(2)
+                                                            .scanRequest(s -> s.limit(4)))
+                                        .items()
+                                        .stream()
+                                        .collect(Collectors.toList());
+
+        assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanSingleSegmentPreservesScanOrder() {
+        insertRecords();
+
+        List<Record> scanResults = mappedTable.scan().items().stream().collect(Collectors.toList());
+        List<Record> parallelScanResults = mappedTable.parallelScan(r -> r.totalSegments(1).scanRequest(s -> s.limit(7)))
+                                                      .items()
+                                                      .stream()
+                                                      .collect(Collectors.toList());
+
+        assertThat(parallelScanResults, is(scanResults));
+    }
+
+    @Test
+    public void parallelScanEmptyTable() {
+        List<Record> items = mappedTable.parallelScan(r -> r.totalSegments(4))
+                                        .items()
+                                        .stream()
+                                        .collect(Collectors.toList());
+
+        assertThat(items, is(empty()));
+    }
+
+    @Test
+    public void parallelScanStoppedEarly() {
+        insertRecords();
+
+        try (Stream<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(1)))
+                                                     .stream()) {
+            assertThat(pages.limit(5).collect(Collectors.toList()), hasSize(5));
+        }
+    }
+
+    @Test
+    public void parallelScanMissingTable() {
+        DynamoDbTable<Record> missingTable = enhancedClient.table(getConcreteTableName("missing-table"), TABLE_SCHEMA);
+
+        assertThatThrownBy(() -> missingTable.parallelScan(r -> r.totalSegments(4)).iterator().hasNext())
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
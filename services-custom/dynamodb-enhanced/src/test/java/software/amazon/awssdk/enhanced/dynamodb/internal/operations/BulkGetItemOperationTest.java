@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkGetItemOperationTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private static final List<FakeItem> FAKE_ITEMS =
+        IntStream.range(0, 250).mapToObj($ -> createUniqueFakeItem()).collect(toList());
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> fakeItemMappedTable;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(mockDynamoDbAsyncClient).extensions().build();
+        fakeItemMappedTable = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    public void packsKeysIntoBatchesOfOneHundred() {
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(i -> {
+            BatchGetItemRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(itemsResponse(request.requestItems().get(TABLE_NAME).keys()));
+        });
+
+        List<FakeItem> results = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatch(FAKE_ITEMS.subList(0, 120)),
+                                                      readBatch(FAKE_ITEMS.subList(120, 250))))
+                      .subscribe(page -> results.addAll(page.resultsForTable(fakeItemMappedTable)))
+                      .join();
+
+        assertThat(results).containsExactlyElementsOf(FAKE_ITEMS);
+        assertThat(submittedBatchSizes(3)).containsExactly(100, 100, 50);
+    }
+
+    @Test
+    public void splitsBatchesOnDuplicateKeys() {
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchGetItemResponse.builder().build()));
+
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatch(FAKE_ITEMS.subList(0, 3)),
+                                                      readBatch(FAKE_ITEMS.subList(2, 4))))
+                      .subscribe(page -> { })
+                      .join();
+
+        assertThat(submittedBatchSizes(2)).containsExactly(3, 2);
+    }
+
+    @Test
+    public void resubmitsUnprocessedKeys() {
+        List<Map<String, AttributeValue>> unprocessedKeys = keyMaps(FAKE_ITEMS.subList(0, 2));
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                itemsResponse(keyMaps(FAKE_ITEMS.subList(2, 10))).toBuilder()
+                                                                  .unprocessedKeys(unprocessedKeysMap(unprocessedKeys))
+                                                                  .build()))
+            .thenReturn(CompletableFuture.completedFuture(itemsResponse(unprocessedKeys)));
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatch(FAKE_ITEMS.subList(0, 10)))
+                                         .backoffStrategy(BackoffStrategy.retryImmediately()))
+                      .subscribe(pages::add)
+                      .join();
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0).resultsForTable(fakeItemMappedTable)).containsExactlyElementsOf(FAKE_ITEMS.subList(2, 10));
+        assertThat(pages.get(0).unprocessedKeysForTable(fakeItemMappedTable)).isEmpty();
+        assertThat(pages.get(1).resultsForTable(fakeItemMappedTable)).containsExactlyElementsOf(FAKE_ITEMS.subList(0, 2));
+        assertThat(submittedBatchSizes(2)).containsExactly(10, 2);
+    }
+
+    @Test
+    public void reportsUnprocessedKeysAfterMaxAttempts() {
+        List<Map<String, AttributeValue>> unprocessedKeys = keyMaps(FAKE_ITEMS.subList(0, 1));
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder().unprocessedKeys(unprocessedKeysMap(unprocessedKeys)).build()));
+
+        List<BatchGetResultPage> pages = new ArrayList<>();
+        enhancedClient.bulkGetItem(r -> r.readBatches(readBatch(FAKE_ITEMS.subList(0, 1)))
+                                         .maxAttempts(2)
+                                         .backoffStrategy(BackoffStrategy.retryImmediately()))
+                      .subscribe(pages::add)
+                      .join();
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0).unprocessedKeysForTable(fakeItemMappedTable)).isEmpty();
+        assertThat(pages.get(1).unprocessedKeysForTable(fakeItemMappedTable))
+            .containsExactly(Key.builder().partitionValue(FAKE_ITEMS.get(0).getId()).build());
+    }
+
+    private ReadBatch readBatch(Collection<FakeItem> items) {
+        ReadBatch.Builder<FakeItem> builder = ReadBatch.builder(FakeItem.class).mappedTableResource(fakeItemMappedTable);
+        items.forEach(builder::addGetItem);
+        return builder.build();
+    }
+
+    private List<Integer> submittedBatchSizes(int calls) {
+        ArgumentCaptor<BatchGetItemRequest> requests = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(mockDynamoDbAsyncClient, times(calls)).batchGetItem(requests.capture());
+        return requests.getAllValues().stream().map(r -> r.requestItems().get(TABLE_NAME).keys().size()).collect(toList());
+    }
+
+    private static List<Map<String, AttributeValue>> keyMaps(List<FakeItem> items) {
+        return items.stream()
+                    .map(item -> FakeItem.getTableSchema().itemToMap(item, FakeItem.getTableMetadata().primaryKeys()))
+                    .collect(toList());
+    }
+
+    private static BatchGetItemResponse itemsResponse(List<Map<String, AttributeValue>> keys) {
+        List<Map<String, AttributeValue>> items =
+            keys.stream()
+                .map(key -> FAKE_ITEMS.stream()
+                                      .filter(item -> key.equals(
+                                          FakeItem.getTableSchema().itemToMap(item,
+                                                                              FakeItem.getTableMetadata().primaryKeys())))
+                                      .findFirst()
+                                      .map(item -> FakeItem.getTableSchema().itemToMap(item, true))
+                                      .orElseThrow(IllegalStateException::new))
+                .collect(toList());
+        return BatchGetItemResponse.builder().responses(singletonMap(TABLE_NAME, items)).build();
+    }
+
+    private static Map<String, KeysAndAttributes> unprocessedKeysMap(List<Map<String, AttributeValue>> keys) {
+        return singletonMap(TABLE_NAME, KeysAndAttributes.builder().keys(keys).build());
+    }
+}
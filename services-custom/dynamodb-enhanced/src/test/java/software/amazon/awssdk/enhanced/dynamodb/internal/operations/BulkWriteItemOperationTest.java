@@ -0,0 +1,284 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.enhanced.dynamodb.BulkOperationMetric;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriteItemOperationTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private static final List<FakeItem> FAKE_ITEMS =
+        IntStream.range(0, 60).mapToObj($ -> createUniqueFakeItem()).collect(toList());
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> fakeItemMappedTable;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(mockDynamoDbAsyncClient).extensions().build();
+        fakeItemMappedTable = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    public void packsWriteRequestsIntoBatchesOfTwentyFive() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        BatchWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 20)),
+                                                             putBatch(FAKE_ITEMS.subList(20, 60))))
+                          .join();
+
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable)).isEmpty();
+        assertThat(submittedBatchSizes(3)).containsExactly(25, 25, 10);
+    }
+
+    @Test
+    public void holdsBackWriteRequestsForAnItemAlreadyInTheBatch() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 5)),
+                                                         deleteBatch(FAKE_ITEMS.subList(3, 5)),
+                                                         putBatch(FAKE_ITEMS.subList(5, 10))))
+                      .join();
+
+        assertThat(submittedBatchSizes(2)).containsExactly(5, 7);
+    }
+
+    @Test
+    public void writesRequestsForTheSameItemInStreamOrder_whenTheFirstIsResubmitted() {
+        FakeItem item = FAKE_ITEMS.get(0);
+        FakeItem updatedItem = FakeItem.builder().id(item.getId()).version(2).build();
+        List<Map<String, List<WriteRequest>>> calls = Collections.synchronizedList(new ArrayList<>());
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            BatchWriteItemRequest request = i.getArgument(0);
+            calls.add(request.requestItems());
+            BatchWriteItemResponse response = calls.size() == 1 ? unprocessedResponse(singletonList(putRequest(item)))
+                                                                : BatchWriteItemResponse.builder().build();
+            return CompletableFuture.completedFuture(response);
+        });
+
+        BatchWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 3)),
+                                                             putBatch(Arrays.asList(updatedItem, FAKE_ITEMS.get(3))))
+                                               .backoffStrategy(BackoffStrategy.retryImmediately()))
+                          .join();
+
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable)).isEmpty();
+        assertThat(calls).extracting(call -> call.get(TABLE_NAME))
+                         .containsExactly(Arrays.asList(putRequest(FAKE_ITEMS.get(0)), putRequest(FAKE_ITEMS.get(1)),
+                                                        putRequest(FAKE_ITEMS.get(2)), putRequest(FAKE_ITEMS.get(3))),
+                                          singletonList(putRequest(item)),
+                                          singletonList(putRequest(updatedItem)));
+    }
+
+    @Test
+    public void synchronouslyCompletingBatches_doNotOverflowTheStack() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        List<FakeItem> items = IntStream.range(0, 100_000).mapToObj($ -> createUniqueFakeItem()).collect(toList());
+
+        BatchWriteResult result = enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(items))
+                                                                      .maxConcurrentBatches(1))
+                                                .join();
+
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable)).isEmpty();
+        verify(mockDynamoDbAsyncClient, times(4000)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void resubmitsUnprocessedWriteRequests() {
+        List<WriteRequest> unprocessed = Arrays.asList(putRequest(FAKE_ITEMS.get(3)), putRequest(FAKE_ITEMS.get(7)));
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(unprocessedResponse(unprocessed)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        BatchWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 10)))
+                                               .backoffStrategy(BackoffStrategy.retryImmediately()))
+                          .join();
+
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable)).isEmpty();
+        ArgumentCaptor<BatchWriteItemRequest> requests = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(mockDynamoDbAsyncClient, times(2)).batchWriteItem(requests.capture());
+        assertThat(requests.getAllValues().get(1).requestItems()).isEqualTo(singletonMap(TABLE_NAME, unprocessed));
+    }
+
+    @Test
+    public void returnsUnprocessedWriteRequestsAfterMaxAttempts() {
+        List<WriteRequest> unprocessed = singletonList(putRequest(FAKE_ITEMS.get(0)));
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(unprocessedResponse(unprocessed)));
+
+        BatchWriteResult result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 1)))
+                                               .maxAttempts(3)
+                                               .backoffStrategy(BackoffStrategy.retryImmediately()))
+                          .join();
+
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable)).containsExactly(FAKE_ITEMS.get(0));
+        verify(mockDynamoDbAsyncClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void limitsConcurrentBatches() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new ArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(i -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        CompletableFuture<BatchWriteResult> result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS)).maxConcurrentBatches(2));
+
+        assertThat(responses).hasSize(2);
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertThat(responses).hasSize(3);
+        responses.get(1).complete(BatchWriteItemResponse.builder().build());
+        responses.get(2).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(result.join().unprocessedPutItemsForTable(fakeItemMappedTable)).isEmpty();
+    }
+
+    @Test
+    public void failsOnServiceError() {
+        CompletableFuture<BatchWriteItemResponse> failure = new CompletableFuture<>();
+        failure.completeExceptionally(ResourceNotFoundException.builder().message("no table").build());
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(failure);
+
+        assertThatThrownBy(() -> enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS))).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(ResourceNotFoundException.class);
+        verify(mockDynamoDbAsyncClient).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void reportsMetrics() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(unprocessedResponse(singletonList(putRequest(FAKE_ITEMS.get(0))))))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        MetricCollector metricCollector = MetricCollector.create("BulkWriteItem");
+
+        enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 30)))
+                                           .maxConcurrentBatches(1)
+                                           .backoffStrategy(BackoffStrategy.retryImmediately())
+                                           .metricCollector(metricCollector))
+                      .join();
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(BulkOperationMetric.BATCH_SIZE)).containsExactly(25, 1, 5);
+        assertThat(metrics.metricValues(BulkOperationMetric.UNPROCESSED_COUNT)).containsExactly(1, 0, 0);
+        assertThat(metrics.metricValues(BulkOperationMetric.BATCH_CALL_DURATION)).hasSize(3);
+        assertThat(metrics.metricValues(BulkOperationMetric.BACKOFF_DELAY)).hasSize(1);
+        assertThat(metrics.metricValues(BulkOperationMetric.PROCESSED_COUNT)).containsExactly(30L);
+        assertThat(metrics.metricValues(BulkOperationMetric.EXHAUSTED_COUNT)).containsExactly(0L);
+        assertThat(metrics.metricValues(BulkOperationMetric.TOTAL_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void reportsMetricsWhenTheOperationIsDone() {
+        CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(response);
+        MetricCollector metricCollector = mock(MetricCollector.class);
+
+        CompletableFuture<BatchWriteResult> result =
+            enhancedClient.bulkWriteItem(r -> r.writeBatches(putBatch(FAKE_ITEMS.subList(0, 10)))
+                                               .metricCollector(metricCollector));
+
+        verifyNoInteractions(metricCollector);
+        response.complete(BatchWriteItemResponse.builder().build());
+        result.join();
+        verify(metricCollector).reportMetric(BulkOperationMetric.BATCH_SIZE, 10);
+        verify(metricCollector).reportMetric(BulkOperationMetric.PROCESSED_COUNT, 10L);
+    }
+
+    private WriteBatch putBatch(Collection<FakeItem> items) {
+        WriteBatch.Builder<FakeItem> builder = WriteBatch.builder(FakeItem.class).mappedTableResource(fakeItemMappedTable);
+        items.forEach(builder::addPutItem);
+        return builder.build();
+    }
+
+    private WriteBatch deleteBatch(Collection<FakeItem> items) {
+        WriteBatch.Builder<FakeItem> builder = WriteBatch.builder(FakeItem.class).mappedTableResource(fakeItemMappedTable);
+        items.forEach(builder::addDeleteItem);
+        return builder.build();
+    }
+
+    private List<Integer> submittedBatchSizes(int calls) {
+        ArgumentCaptor<BatchWriteItemRequest> requests = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(mockDynamoDbAsyncClient, times(calls)).batchWriteItem(requests.capture());
+        return requests.getAllValues().stream().map(r -> r.requestItems().get(TABLE_NAME).size()).collect(toList());
+    }
+
+    private static WriteRequest putRequest(FakeItem item) {
+        Map<String, AttributeValue> itemMap = FakeItem.getTableSchema().itemToMap(item, true);
+        return WriteRequest.builder().putRequest(PutRequest.builder().item(itemMap).build()).build();
+    }
+
+    private static BatchWriteItemResponse unprocessedResponse(List<WriteRequest> unprocessed) {
+        return BatchWriteItemResponse.builder().unprocessedItems(singletonMap(TABLE_NAME, unprocessed)).build();
+    }
+}
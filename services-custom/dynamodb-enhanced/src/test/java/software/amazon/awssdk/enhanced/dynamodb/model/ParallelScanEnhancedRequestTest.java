@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.maxConcurrentSegments(), is(4));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().limit(5).consistentRead(true).build();
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(scanRequest)
+                                                                             .totalSegments(8)
+                                                                             .maxConcurrentSegments(2)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest(), is(scanRequest));
+        assertThat(builtObject.totalSegments(), is(8));
+        assertThat(builtObject.maxConcurrentSegments(), is(2));
+    }
+
+    @Test
+    public void builder_maximumSegments() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(1_000_000).build();
+
+        assertThat(builtObject.totalSegments(), is(1_000_000));
+    }
+
+    @Test
+    public void builder_scanRequestConsumer() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(r -> r.limit(5))
+                                                                             .totalSegments(2)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().limit(5).build()));
+    }
+
+    @Test
+    public void builder_invalidSegments() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(1_000_001).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).maxConcurrentSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_scanRequestWithSegmentParameters() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .scanRequest(r -> r.segment(0))
+                                                            .totalSegments(2)
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .scanRequest(r -> r.totalSegments(2))
+                                                            .totalSegments(2)
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .scanRequest(r -> r.exclusiveStartKey(
+                                                                singletonMap("id", stringValue("id-value"))))
+                                                            .totalSegments(2)
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(3)
+                                                                             .maxConcurrentSegments(1)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+}
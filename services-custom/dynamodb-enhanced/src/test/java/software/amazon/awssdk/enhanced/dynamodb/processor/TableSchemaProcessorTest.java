@@ -0,0 +1,282 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.enhanced.dynamodb.IndexMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.NestedRecordWithUpdateBehavior;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.RecordWithUpdateBehaviors;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.RecursiveRecordBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.AbstractBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.AbstractImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.DocumentImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.FlattenedBeanBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.ListBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.MapBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SecondaryIndexBean;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class TableSchemaProcessorTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Test
+    public void bean_withCollections_mapsLikeBeanTableSchema() throws Exception {
+        ClassLoader classLoader = process(ListBean.class.getName(), MapBean.class.getName());
+
+        ListBean listBean = new ListBean();
+        listBean.setId("id-value");
+        listBean.setStringList(asList("one", "two"));
+        listBean.setStringListList(singletonList(asList("three", "four")));
+        assertMapsLikeReflectiveSchema(generatedSchema(classLoader, ListBean.class), BeanTableSchema.create(ListBean.class),
+                                       listBean);
+
+        MapBean mapBean = new MapBean();
+        mapBean.setId("id-value");
+        mapBean.setStringMap(Collections.singletonMap("one", "two"));
+        mapBean.setNestedStringMap(Collections.singletonMap("three", Collections.singletonMap("four", "five")));
+        assertMapsLikeReflectiveSchema(generatedSchema(classLoader, MapBean.class), BeanTableSchema.create(MapBean.class),
+                                       mapBean);
+    }
+
+    @Test
+    public void bean_withTagsConvertersAndDocuments_mapsLikeBeanTableSchema() throws Exception {
+        ClassLoader classLoader = process(RecordWithUpdateBehaviors.class.getName(),
+                                          NestedRecordWithUpdateBehavior.class.getName());
+
+        NestedRecordWithUpdateBehavior nestedRecord = new NestedRecordWithUpdateBehavior();
+        nestedRecord.setId("nested-id");
+        nestedRecord.setNestedCounter(5L);
+        RecordWithUpdateBehaviors record = new RecordWithUpdateBehaviors();
+        record.setId("id-value");
+        record.setCreatedOn(Instant.ofEpochSecond(1000));
+        record.setVersion(3L);
+        record.setLastAutoUpdatedOnMillis(Instant.ofEpochMilli(123456789));
+        record.setFormattedLastAutoUpdatedOn(Instant.ofEpochSecond(2000));
+        record.setNestedRecord(nestedRecord);
+
+        TableSchema<RecordWithUpdateBehaviors> generatedSchema = generatedSchema(classLoader, RecordWithUpdateBehaviors.class);
+        assertMapsLikeReflectiveSchema(generatedSchema, BeanTableSchema.create(RecordWithUpdateBehaviors.class), record);
+        assertThat(generatedSchema.converterForAttribute("nestedRecord").type().tableSchema().get(),
+                   instanceOf(classLoader.loadClass(NestedRecordWithUpdateBehavior.class.getName() + "_TableSchema")));
+    }
+
+    @Test
+    public void bean_withIndicesAndFlattenedBean_mapsLikeBeanTableSchema() throws Exception {
+        ClassLoader classLoader = process(SecondaryIndexBean.class.getName(), FlattenedBeanBean.class.getName());
+
+        SecondaryIndexBean secondaryIndexBean = new SecondaryIndexBean();
+        secondaryIndexBean.setId("id-value");
+        secondaryIndexBean.setSort(7);
+        secondaryIndexBean.setAttribute("attribute-value");
+        assertMapsLikeReflectiveSchema(generatedSchema(classLoader, SecondaryIndexBean.class),
+                                       BeanTableSchema.create(SecondaryIndexBean.class),
+                                       secondaryIndexBean);
+
+        AbstractBean abstractBean = new AbstractBean();
+        abstractBean.setAttribute2("attribute2-value");
+        FlattenedBeanBean flattenedBeanBean = new FlattenedBeanBean();
+        flattenedBeanBean.setId("id-value");
+        flattenedBeanBean.setAttribute1("attribute1-value");
+        flattenedBeanBean.setAbstractBean(abstractBean);
+        assertMapsLikeReflectiveSchema(generatedSchema(classLoader, FlattenedBeanBean.class),
+                                       BeanTableSchema.create(FlattenedBeanBean.class),
+                                       flattenedBeanBean);
+    }
+
+    @Test
+    public void immutable_withDocuments_mapsLikeImmutableTableSchema() throws Exception {
+        ClassLoader classLoader = process(DocumentImmutable.class.getName());
+
+        AbstractBean abstractBean = new AbstractBean();
+        abstractBean.setAttribute2("bean-value");
+        AbstractImmutable abstractImmutable = AbstractImmutable.builder().attribute2("immutable-value").build();
+        DocumentImmutable documentImmutable =
+            DocumentImmutable.builder()
+                             .id("id-value")
+                             .attribute1("attribute1-value")
+                             .abstractBean(abstractBean)
+                             .abstractBeanList(singletonList(abstractBean))
+                             .abstractImmutableMap(Collections.singletonMap("key", abstractImmutable))
+                             .build();
+
+        assertMapsLikeReflectiveSchema(generatedSchema(classLoader, DocumentImmutable.class),
+                                       ImmutableTableSchema.create(DocumentImmutable.class),
+                                       documentImmutable);
+    }
+
+    @Test
+    public void recursiveBean_isNotGenerated() throws Exception {
+        ClassLoader classLoader = process(RecursiveRecordBean.class.getName());
+
+        assertThat(notes(), hasItem(containsString("Not generating a table schema for "
+                                                   + RecursiveRecordBean.class.getCanonicalName())));
+        assertThat(new File(temporaryFolder.getRoot(), RecursiveRecordBean.class.getName().replace('.', '/')
+                                                       + "_TableSchema.class").exists(),
+                   is(false));
+        assertThat(TableSchema.fromClass(classLoader.loadClass(RecursiveRecordBean.class.getName())),
+                   instanceOf(BeanTableSchema.class));
+    }
+
+    @Test
+    public void fromClass_returnsGeneratedSchema() throws Exception {
+        String source = "package com.example;\n"
+                        + "\n"
+                        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;\n"
+                        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;\n"
+                        + "\n"
+                        + "public class Outer {\n"
+                        + "    @DynamoDbBean\n"
+                        + "    public static class Order {\n"
+                        + "        private String id;\n"
+                        + "        private boolean shipped;\n"
+                        + "\n"
+                        + "        @DynamoDbPartitionKey\n"
+                        + "        public String getId() { return id; }\n"
+                        + "        public void setId(String id) { this.id = id; }\n"
+                        + "        public boolean isShipped() { return shipped; }\n"
+                        + "        public void setShipped(boolean shipped) { this.shipped = shipped; }\n"
+                        + "    }\n"
+                        + "}\n";
+        ClassLoader classLoader = compile(singletonList(sourceFile("com.example.Outer", source)), Collections.emptyList());
+
+        Class<?> orderClass = classLoader.loadClass("com.example.Outer$Order");
+        TableSchema<?> tableSchema = TableSchema.fromClass(orderClass);
+
+        assertThat(tableSchema.getClass().getName(), is("com.example.Outer_Order_TableSchema"));
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey(), is("id"));
+        assertThat(tableSchema.attributeNames(), is(asList("id", "shipped")));
+        assertThat(TableSchema.fromClass(orderClass), sameInstance(tableSchema));
+    }
+
+    @Test
+    public void generatedSchemas_areRegisteredAsProviders() throws Exception {
+        process(ListBean.class.getName(), MapBean.class.getName(), RecursiveRecordBean.class.getName());
+
+        File providers = new File(temporaryFolder.getRoot(),
+                                  "META-INF/services/software.amazon.awssdk.enhanced.dynamodb.mapper.TableSchemaProvider");
+        assertThat(Files.readAllLines(providers.toPath(), StandardCharsets.UTF_8),
+                   is(asList(ListBean.class.getName() + "_TableSchema$Provider",
+                             MapBean.class.getName() + "_TableSchema$Provider")));
+    }
+
+    private ClassLoader process(String... classNames) throws Exception {
+        return compile(Collections.emptyList(), asList(classNames));
+    }
+
+    private ClassLoader compile(List<JavaFileObject> sources, List<String> classNames) throws Exception {
+        File output = temporaryFolder.getRoot();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                                                                                   StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, singletonList(output));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, singletonList(output));
+            JavaCompiler.CompilationTask task =
+                compiler.getTask(null, fileManager, diagnostics,
+                                 asList("-classpath", System.getProperty("java.class.path")), classNames, sources);
+            task.setProcessors(singletonList(new TableSchemaProcessor()));
+            boolean success = task.call();
+            assertThat(diagnostics.getDiagnostics().toString(), success, is(true));
+        }
+        return new URLClassLoader(new URL[] {output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private List<String> notes() {
+        return diagnostics.getDiagnostics()
+                          .stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                          .map(d -> d.getMessage(null))
+                          .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TableSchema<T> generatedSchema(ClassLoader classLoader, Class<T> mappedClass) throws Exception {
+        Class<?> generatedClass = classLoader.loadClass(mappedClass.getName() + "_TableSchema");
+        return (TableSchema<T>) generatedClass.getConstructor().newInstance();
+    }
+
+    private static <T> void assertMapsLikeReflectiveSchema(TableSchema<T> generatedSchema,
+                                                           TableSchema<T> reflectiveSchema,
+                                                           T item) {
+        assertThat(generatedSchema, not(instanceOf(reflectiveSchema.getClass())));
+        assertThat(new HashSet<>(generatedSchema.attributeNames()), is(new HashSet<>(reflectiveSchema.attributeNames())));
+        assertSameMetadata(generatedSchema.tableMetadata(), reflectiveSchema.tableMetadata());
+
+        Map<String, AttributeValue> itemMap = reflectiveSchema.itemToMap(item, false);
+        assertThat(generatedSchema.itemToMap(item, false), is(itemMap));
+        assertThat(generatedSchema.itemToMap(item, true), is(reflectiveSchema.itemToMap(item, true)));
+        assertThat(reflectiveSchema.itemToMap(generatedSchema.mapToItem(itemMap), false), is(itemMap));
+    }
+
+    private static void assertSameMetadata(TableMetadata generated, TableMetadata reflective) {
+        assertThat(generated.primaryKeys(), is(reflective.primaryKeys()));
+        assertThat(generated.customMetadata(), is(reflective.customMetadata()));
+        for (IndexMetadata index : reflective.indices()) {
+            assertThat(generated.indexKeys(index.name()), is(reflective.indexKeys(index.name())));
+        }
+        assertThat(generated.indices().size(), is(reflective.indices().size()));
+    }
+
+    private static JavaFileObject sourceFile(String className, String source) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
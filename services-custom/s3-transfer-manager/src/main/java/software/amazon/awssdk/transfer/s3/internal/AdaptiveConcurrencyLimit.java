@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A concurrency limit that adapts to the observed throughput of the operations it limits.
+ *
+ * <p>Completions are counted over windows of at least {@code windowDuration} that contain at least one completion per
+ * permitted concurrent operation. At the end of each window, the throughput of the window is compared to the previous one.
+ * When it improved noticeably, the limit is moved a multiplicative step in its current direction; when it dropped
+ * noticeably, the direction is reversed and the limit is moved a step in the new direction; otherwise the throughput has
+ * plateaued and the limit is held, so that it settles where more concurrency stops paying off instead of drifting to
+ * either bound. The limit is only raised when the operations actually used all of it during the window, so a slow producer
+ * does not inflate it. The limit always stays between {@code minLimit} and {@code maxLimit}; a limit created with equal
+ * bounds never changes.
+ */
+@SdkInternalApi
+public final class AdaptiveConcurrencyLimit {
+    private static final Logger log = Logger.loggerFor(AdaptiveConcurrencyLimit.class);
+
+    private static final double INCREASE_FACTOR = 1.25;
+    private static final double DECREASE_FACTOR = 0.8;
+
+    /**
+     * The throughput of a window must fall below this fraction of the previous window's for the direction to reverse, so
+     * that the limit does not oscillate on noise.
+     */
+    private static final double THROUGHPUT_DROP_THRESHOLD = 0.9;
+
+    /**
+     * The throughput of a window must exceed the previous window's by this factor for the limit to keep moving in its
+     * current direction. Anything between this and {@link #THROUGHPUT_DROP_THRESHOLD} is a plateau, and holds the limit.
+     */
+    private static final double THROUGHPUT_GAIN_THRESHOLD = 1.1;
+
+    private static final Duration DEFAULT_WINDOW_DURATION = Duration.ofSeconds(1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile int limit;
+    private boolean increasing = true;
+    private long windowStartNanos;
+    private int windowCompletions;
+    private boolean windowSaturated;
+    private double previousThroughput = -1;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, DEFAULT_WINDOW_DURATION, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration windowDuration, LongSupplier nanoClock) {
+        Validate.isPositive(minLimit, "minLimit");
+        Validate.isTrue(minLimit <= maxLimit, "minLimit (%s) must not be greater than maxLimit (%s)", minLimit, maxLimit);
+        Validate.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+                        "initialLimit (%s) must be between minLimit (%s) and maxLimit (%s)", initialLimit, minLimit, maxLimit);
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Create a limit that never changes.
+     */
+    public static AdaptiveConcurrencyLimit fixed(int limit) {
+        return new AdaptiveConcurrencyLimit(limit, limit, limit);
+    }
+
+    /**
+     * @return the number of operations currently allowed to be in flight
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Record the completion of an operation.
+     *
+     * @param inFlight the number of operations that were in flight, including the completed one, when it completed
+     */
+    public synchronized void onCompletion(int inFlight) {
+        if (minLimit == maxLimit) {
+            return;
+        }
+
+        windowCompletions++;
+        windowSaturated |= inFlight >= limit;
+
+        long now = nanoClock.getAsLong();
+        long elapsed = now - windowStartNanos;
+        if (elapsed < windowNanos || windowCompletions < limit) {
+            return;
+        }
+
+        double throughput = windowCompletions / (double) elapsed;
+        boolean move = previousThroughput < 0 || throughput > previousThroughput * THROUGHPUT_GAIN_THRESHOLD;
+        if (previousThroughput >= 0 && throughput < previousThroughput * THROUGHPUT_DROP_THRESHOLD) {
+            increasing = !increasing;
+            move = true;
+        }
+
+        if (move) {
+            if (!increasing) {
+                limit = Math.max(minLimit, (int) (limit * DECREASE_FACTOR));
+            } else if (windowSaturated) {
+                limit = Math.min(maxLimit, (int) Math.ceil(limit * INCREASE_FACTOR));
+            }
+        }
+
+        log.trace(() -> "Concurrency limit adjusted to " + limit);
+        previousThroughput = throughput;
+        windowStartNanos = now;
+        windowCompletions = 0;
+        windowSaturated = false;
+    }
+}
@@ -28,7 +28,8 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link Subscriber} that execute the provided function for every event and limits the number of concurrent
- * function execution to the given {@code maxConcurrentRequests}
+ * function execution to the given {@code maxConcurrentRequests}, or to an {@link AdaptiveConcurrencyLimit} that is adjusted
+ * as the executions complete.
  *
  * @param <T> Type of data requested
  */
@@ -37,8 +38,9 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
     private static final Logger log = Logger.loggerFor(AsyncBufferingSubscriber.class);
     private final CompletableFuture<?> returnFuture;
     private final Function<T, CompletableFuture<?>> consumer;
-    private final int maxConcurrentExecutions;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
     private final AtomicInteger numRequestsInFlight;
+    private long outstandingDemand;
     private volatile boolean upstreamDone;
     private Subscription subscription;
 
@@ -47,9 +49,15 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
     public AsyncBufferingSubscriber(Function<T, CompletableFuture<?>> consumer,
                                     CompletableFuture<Void> returnFuture,
                                     int maxConcurrentExecutions) {
+        this(consumer, returnFuture, AdaptiveConcurrencyLimit.fixed(maxConcurrentExecutions));
+    }
+
+    public AsyncBufferingSubscriber(Function<T, CompletableFuture<?>> consumer,
+                                    CompletableFuture<Void> returnFuture,
+                                    AdaptiveConcurrencyLimit concurrencyLimit) {
         this.returnFuture = returnFuture;
         this.consumer = consumer;
-        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.concurrencyLimit = concurrencyLimit;
         this.numRequestsInFlight = new AtomicInteger(0);
         this.requestsInFlight = ConcurrentHashMap.newKeySet();
 
@@ -69,23 +77,41 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
             return;
         }
         this.subscription = subscription;
-        subscription.request(maxConcurrentExecutions);
+        synchronized (this) {
+            requestUpToLimit();
+        }
     }
 
     @Override
     public void onNext(T item) {
-        numRequestsInFlight.incrementAndGet();
+        synchronized (this) {
+            numRequestsInFlight.incrementAndGet();
+            outstandingDemand--;
+        }
         CompletableFuture<?> currentRequest = consumer.apply(item);
         requestsInFlight.add(currentRequest);
         currentRequest.whenComplete((r, t) -> {
+            concurrencyLimit.onCompletion(numRequestsInFlight.get());
             checkForCompletion(numRequestsInFlight.decrementAndGet());
             requestsInFlight.remove(currentRequest);
             synchronized (this) {
-                subscription.request(1);
+                requestUpToLimit();
             }
         });
     }
 
+    /**
+     * Request enough items for the executions in flight and the items already requested to reach the current limit. When the
+     * limit has been lowered, nothing is requested until enough executions complete.
+     */
+    private void requestUpToLimit() {
+        long deficit = concurrencyLimit.limit() - numRequestsInFlight.get() - outstandingDemand;
+        if (deficit > 0) {
+            outstandingDemand += deficit;
+            subscription.request(deficit);
+        }
+    }
+
     @Override
     public void onError(Throwable t) {
         // Need to complete future exceptionally first to prevent
@@ -15,10 +15,15 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PAUSE_OBSERVABLE;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PROGRESS_LISTENER;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_RESUME_TOKEN;
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.JAVA_PROGRESS_LISTENER;
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PAUSE_OBSERVABLE;
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.RESUME_TOKEN;
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_LISTING_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.utils.FileUtils.fileNotModified;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
 import java.util.concurrent.CompletableFuture;
@@ -47,7 +52,9 @@ import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.multipart.DownloadPauseObservable;
 import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3DownloadResumeToken;
 import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultCopy;
@@ -81,6 +88,7 @@ import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadRequest;
 import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
+import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -104,8 +112,9 @@ class GenericS3TransferManager implements S3TransferManager {
                              boolean isDefaultS3AsyncClient) {
         this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = transferConfiguration;
-        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
-        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
+        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile, this::uploadSmallFile);
+        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2,
+                                                                      DEFAULT_DIRECTORY_LISTING_CONCURRENCY);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
@@ -218,6 +227,41 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultFileUpload(returnFuture, progressUpdater.progress(), pauseObservable, uploadFileRequest);
     }
 
+    /**
+     * Upload a file that has already been read into the given request body. Unlike {@link #uploadFile}, the progress is only
+     * tracked when the request has transfer listeners, and the uploads are not pausable.
+     */
+    private CompletableFuture<CompletedFileUpload> uploadSmallFile(UploadFileRequest uploadFileRequest,
+                                                                   AsyncRequestBody requestBody) {
+        CompletableFuture<CompletedFileUpload> returnFuture = new CompletableFuture<>();
+
+        if (!CollectionUtils.isNullOrEmpty(uploadFileRequest.transferListeners())) {
+            TransferProgressUpdater progressUpdater =
+                new TransferProgressUpdater(uploadFileRequest, requestBody.contentLength().orElse(null));
+            progressUpdater.transferInitiated();
+            requestBody = progressUpdater.wrapRequestBody(requestBody);
+            progressUpdater.registerCompletion(returnFuture);
+        }
+
+        try {
+            assertNotUnsupportedArn(uploadFileRequest.putObjectRequest().bucket(), "upload");
+
+            CompletableFuture<PutObjectResponse> putObjectFuture =
+                s3AsyncClient.putObject(uploadFileRequest.putObjectRequest(), requestBody);
+
+            // Forward upload cancellation to putObjectFuture
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, putObjectFuture);
+
+            CompletableFutureUtils.forwardTransformedResultTo(putObjectFuture, returnFuture,
+                                                              r -> CompletedFileUpload.builder()
+                                                                                      .response(r)
+                                                                                      .build());
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+        return returnFuture;
+    }
+
     @Override
     public final FileUpload resumeUploadFile(ResumableFileUpload resumableFileUpload) {
         Validate.paramNotNull(resumableFileUpload, "resumableFileUpload");
@@ -301,6 +345,20 @@ class GenericS3TransferManager implements S3TransferManager {
                                .build();
     }
 
+    private GetObjectRequest attachSdkAttribute(GetObjectRequest getObjectRequest,
+                                                Consumer<AwsRequestOverrideConfiguration.Builder> builderMutation) {
+        AwsRequestOverrideConfiguration modifiedRequestOverrideConfig =
+            getObjectRequest.overrideConfiguration()
+                            .map(o -> o.toBuilder().applyMutation(builderMutation).build())
+                            .orElseGet(() -> AwsRequestOverrideConfiguration.builder()
+                                                                            .applyMutation(builderMutation)
+                                                                            .build());
+
+        return getObjectRequest.toBuilder()
+                               .overrideConfiguration(modifiedRequestOverrideConfig)
+                               .build();
+    }
+
     @Override
     public final DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
         Validate.paramNotNull(uploadDirectoryRequest, "uploadDirectoryRequest");
@@ -356,24 +414,45 @@ class GenericS3TransferManager implements S3TransferManager {
                                             FileTransformerConfiguration.defaultCreateOrReplaceExisting());
 
         CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
-        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture);
+        DownloadPauseObservable pauseObservable = isS3ClientMultipartEnabled() ? new DownloadPauseObservable() : null;
+        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture,
+                                                                 pauseObservable, null);
 
-        return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null);
+        return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null,
+                                       pauseObservable);
     }
 
     private TransferProgressUpdater doDownloadFile(
         DownloadFileRequest downloadRequest,
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer,
-        CompletableFuture<CompletedFileDownload> returnFuture) {
+        CompletableFuture<CompletedFileDownload> returnFuture,
+        DownloadPauseObservable pauseObservable,
+        S3DownloadResumeToken resumeToken) {
         TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
         try {
             progressUpdater.transferInitiated();
-            responseTransformer = progressUpdater.wrapResponseTransformer(responseTransformer);
             progressUpdater.registerCompletion(returnFuture);
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<GetObjectResponse> future = doGetObject(downloadRequest.getObjectRequest(), responseTransformer);
+            CompletableFuture<GetObjectResponse> future;
+            if (isS3ClientMultipartEnabled()) {
+                // The parts written to the file at their offset don't flow through the response transformer, so the
+                // multipart client notifies the progress listener of them itself
+                Consumer<AwsRequestOverrideConfiguration.Builder> attachObservableAndListener = b -> {
+                    b.putExecutionAttribute(DOWNLOAD_PAUSE_OBSERVABLE, pauseObservable);
+                    b.putExecutionAttribute(DOWNLOAD_PROGRESS_LISTENER, progressUpdater.responseTransformerListener());
+                    if (resumeToken != null) {
+                        b.putExecutionAttribute(DOWNLOAD_RESUME_TOKEN, resumeToken);
+                    }
+                };
+                GetObjectRequest getObjectRequest = attachSdkAttribute(downloadRequest.getObjectRequest(),
+                                                                       attachObservableAndListener);
+                future = s3AsyncClient.getObject(getObjectRequest, responseTransformer);
+            } else {
+                future = doGetObject(downloadRequest.getObjectRequest(),
+                                     progressUpdater.wrapResponseTransformer(responseTransformer));
+            }
 
             // Forward download cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -396,6 +475,7 @@ class GenericS3TransferManager implements S3TransferManager {
         GetObjectRequest getObjectRequest = originalDownloadRequest.getObjectRequest();
         CompletableFuture<TransferProgress> progressFuture = new CompletableFuture<>();
         CompletableFuture<DownloadFileRequest> newDownloadFileRequestFuture = new CompletableFuture<>();
+        DownloadPauseObservable pauseObservable = isS3ClientMultipartEnabled() ? new DownloadPauseObservable() : null;
 
         CompletableFuture<HeadObjectResponse> headFuture =
             s3AsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()));
@@ -404,6 +484,22 @@ class GenericS3TransferManager implements S3TransferManager {
         CompletableFutureUtils.forwardExceptionTo(returnFuture, headFuture);
 
         headFuture.thenAccept(headObjectResponse -> {
+            if (pauseObservable != null && resumableByParts(resumableFileDownload, headObjectResponse)) {
+                newDownloadFileRequestFuture.complete(originalDownloadRequest);
+                log.debug(() -> "Resuming the download of the parts missing from " + originalDownloadRequest.destination());
+
+                AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
+                    AsyncResponseTransformer.toFile(originalDownloadRequest.destination(),
+                                                    FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+                TransferProgressUpdater progressUpdater = doDownloadFile(originalDownloadRequest,
+                                                                         responseTransformer,
+                                                                         returnFuture,
+                                                                         pauseObservable,
+                                                                         s3DownloadResumeToken(resumableFileDownload));
+                progressFuture.complete(progressUpdater.progress());
+                return;
+            }
+
             Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
                 requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
                                                                   originalDownloadRequest);
@@ -414,7 +510,9 @@ class GenericS3TransferManager implements S3TransferManager {
 
             TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
                                                                      requestPair.right(),
-                                                                     returnFuture);
+                                                                     returnFuture,
+                                                                     pauseObservable,
+                                                                     null);
             progressFuture.complete(progressUpdater.progress());
         }).exceptionally(throwable -> {
             handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
@@ -424,7 +522,32 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultFileDownload(returnFuture,
                                        new ResumeTransferProgress(progressFuture),
                                        () -> newOrOriginalRequestForPause(newDownloadFileRequestFuture, originalDownloadRequest),
-                                       resumableFileDownload);
+                                       resumableFileDownload,
+                                       pauseObservable);
+    }
+
+    /**
+     * A download written in parts can be resumed by downloading the missing parts only if neither the object nor the file
+     * changed since it was paused.
+     */
+    private static boolean resumableByParts(ResumableFileDownload resumableFileDownload,
+                                            HeadObjectResponse headObjectResponse) {
+        return resumableFileDownload.partSizeInBytes().isPresent()
+               && resumableFileDownload.totalSizeInBytes().isPresent()
+               && resumableFileDownload.s3ObjectETag().isPresent()
+               && resumableFileDownload.s3ObjectETag().get().equals(headObjectResponse.eTag())
+               && fileNotModified(resumableFileDownload.bytesTransferred(),
+                                  resumableFileDownload.fileLastModified(),
+                                  resumableFileDownload.downloadFileRequest().destination());
+    }
+
+    private static S3DownloadResumeToken s3DownloadResumeToken(ResumableFileDownload resumableFileDownload) {
+        return S3DownloadResumeToken.builder()
+                                    .eTag(resumableFileDownload.s3ObjectETag().orElse(null))
+                                    .objectSize(resumableFileDownload.totalSizeInBytes().getAsLong())
+                                    .partSize(resumableFileDownload.partSizeInBytes().getAsLong())
+                                    .completedParts(resumableFileDownload.completedParts())
+                                    .build();
     }
 
     private DownloadFileRequest newOrOriginalRequestForPause(CompletableFuture<DownloadFileRequest> newDownloadFuture,
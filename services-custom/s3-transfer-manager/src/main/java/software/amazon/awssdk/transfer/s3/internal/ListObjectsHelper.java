@@ -15,17 +15,20 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
-import software.amazon.awssdk.core.pagination.async.PaginatedItemsPublisher;
 import software.amazon.awssdk.core.util.PaginatorUtils;
 import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -34,34 +37,58 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
  * A helper class that returns all objects within a bucket given a {@link ListObjectsV2Request} recursively.
+ *
+ * <p>The common prefixes returned for a request with a delimiter are listed concurrently, up to
+ * {@code maxConcurrentListings} at a time. A request without a delimiter is a single flat listing that can't be split, and
+ * is listed flat by default. When concurrent listings are allowed and the first page shows that splitting the rest of the
+ * listing pays off, because the listing continues and the keys of the page are spread over only a few directories, the rest is
+ * listed with a {@code "/"} delimiter, starting after the last key of that page, and its common prefixes are listed
+ * concurrently in turn. This returns the same objects as the flat listing, as every key is either returned by a listing or
+ * rolled up into exactly one of its common prefixes. The pages of a single prefix are always listed one after another, and the
+ * next page is only requested once the subscriber has received the objects of the previous one.
  */
 @SdkInternalApi
 public class ListObjectsHelper {
     private static final Logger logger = Logger.loggerFor(S3TransferManager.class);
+    private static final String FAN_OUT_DELIMITER = "/";
     private final Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction;
     private final S3ObjectsIteratorFunction objectsIteratorFunction;
+    private final int maxConcurrentListings;
 
     public ListObjectsHelper(Function<ListObjectsV2Request,
         CompletableFuture<ListObjectsV2Response>> listObjectsFunction) {
-        this .objectsIteratorFunction = new S3ObjectsIteratorFunction();
+        this(listObjectsFunction, 1);
+    }
+
+    public ListObjectsHelper(Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction,
+                             int maxConcurrentListings) {
+        this.objectsIteratorFunction = new S3ObjectsIteratorFunction();
         this.listObjectsFunction = listObjectsFunction;
+        this.maxConcurrentListings = maxConcurrentListings;
     }
 
     public SdkPublisher<S3Object> listS3ObjectsRecursively(ListObjectsV2Request firstRequest) {
-        return PaginatedItemsPublisher.builder().nextPageFetcher(new ListObjectsV2ResponseFetcher(firstRequest))
-                                      .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
+        return new RecursiveListing(firstRequest);
     }
 
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
         public Iterator<S3Object> apply(ListObjectsV2Response response) {
+            return apply(response, response == null ? null : response.prefix());
+        }
+
+        /**
+         * Returns the objects of the response, skipping the object named after {@code virtualDirectory} if there is one.
+         */
+        Iterator<S3Object> apply(ListObjectsV2Response response, String virtualDirectory) {
             if (response != null && !CollectionUtils.isNullOrEmpty(response.contents())) {
                 return response.contents().stream().filter(r -> {
-                    if (response.prefix() != null && response.prefix().equals(r.key())) {
+                    if (virtualDirectory != null && virtualDirectory.equals(r.key())) {
                         logger.debug(() -> "Skipping download for object (" + r.key() + ") since it is a virtual directory");
                         return false;
                     }
@@ -74,47 +101,169 @@ public class ListObjectsHelper {
         }
     }
 
-    private final class ListObjectsV2ResponseFetcher implements AsyncPageFetcher<ListObjectsV2Response> {
-        private final Deque<String> commonPrefixes = new ConcurrentLinkedDeque<>();
-        private volatile ListObjectsV2Request firstRequest;
+    /**
+     * Lists a request and, depth first, the common prefixes it returns. The listing starts when it is subscribed to.
+     */
+    private final class RecursiveListing implements SdkPublisher<S3Object> {
+        private final ListObjectsV2Request firstRequest;
+        private final boolean splittable;
+        /**
+         * The request the listings of common prefixes are built from, which is the split listing once it was split.
+         */
+        private volatile ListObjectsV2Request prefixRequest;
+        private final SimplePublisher<S3Object> publisher = new SimplePublisher<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final Deque<String> pendingPrefixes = new ArrayDeque<>();
+        private int activeListings;
+        private boolean done;
 
-        private ListObjectsV2ResponseFetcher(ListObjectsV2Request firstRequest) {
+        private RecursiveListing(ListObjectsV2Request firstRequest) {
+            this.splittable = firstRequest.delimiter() == null && maxConcurrentListings > 1;
             this.firstRequest = firstRequest;
+            this.prefixRequest = firstRequest;
         }
 
         @Override
-        public boolean hasNextPage(ListObjectsV2Response previousPage) {
-            return PaginatorUtils.isOutputTokenAvailable(previousPage.nextContinuationToken()) ||
-                   !commonPrefixes.isEmpty();
+        public void subscribe(Subscriber<? super S3Object> subscriber) {
+            publisher.subscribe(subscriber);
+            if (started.compareAndSet(false, true)) {
+                synchronized (this) {
+                    activeListings++;
+                }
+                listPage(firstRequest);
+            }
         }
 
-        @Override
-        public CompletableFuture<ListObjectsV2Response> nextPage(ListObjectsV2Response previousPage) {
+        private void listPage(ListObjectsV2Request request) {
             CompletableFuture<ListObjectsV2Response> future;
+            try {
+                future = listObjectsFunction.apply(request);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
 
-            if (previousPage == null) {
-                // If this is the first request
-                future = listObjectsFunction.apply(firstRequest);
-            } else if (PaginatorUtils.isOutputTokenAvailable(previousPage.nextContinuationToken())) {
-                // If there is a next page with the same prefix
-                future =
-                    listObjectsFunction.apply(firstRequest.toBuilder()
-                                                          .continuationToken(previousPage.nextContinuationToken())
-                                                          .build());
-            } else {
-                // If there is no next page, we should start with the next common prefix
-                String nextPrefix = commonPrefixes.pop();
-                firstRequest = firstRequest.toBuilder().prefix(nextPrefix).build();
-                future = listObjectsFunction.apply(firstRequest);
+            future.whenComplete((response, t) -> {
+                if (t != null) {
+                    fail(t);
+                    return;
+                }
+                onPage(request, response);
+            });
+        }
+
+        private void onPage(ListObjectsV2Request request, ListObjectsV2Response response) {
+            List<CommonPrefix> commonPrefixes = response.commonPrefixes();
+            if (!CollectionUtils.isNullOrEmpty(commonPrefixes)) {
+                synchronized (this) {
+                    for (int i = commonPrefixes.size() - 1; i >= 0; i--) {
+                        pendingPrefixes.push(commonPrefixes.get(i).prefix());
+                    }
+                }
+                startPendingListings();
+            }
+
+            ListObjectsV2Request splitRequest = request == firstRequest && shouldSplit(response) ? split(response) : null;
+
+            CompletableFuture<Void> sent = CompletableFuture.completedFuture(null);
+            // A flat listing only skips the virtual directory of the requested prefix, not those of the prefixes it is split into
+            Iterator<S3Object> objects = splittable ? objectsIteratorFunction.apply(response, firstRequest.prefix())
+                                                    : objectsIteratorFunction.apply(response);
+            while (objects.hasNext()) {
+                sent = publisher.send(objects.next());
             }
 
-            return future.thenApply(t -> {
-                List<CommonPrefix> newCommonPrefixes = t.commonPrefixes();
-                for (int i = newCommonPrefixes.size() - 1; i >= 0; i--) {
-                    commonPrefixes.push(newCommonPrefixes.get(i).prefix());
+            sent.whenComplete((r, t) -> {
+                if (t != null) {
+                    // The subscriber cancelled, or the listing of another prefix failed
+                    stop();
+                } else if (!isDone() && splitRequest != null) {
+                    listPage(splitRequest);
+                    return;
+                } else if (!isDone() && PaginatorUtils.isOutputTokenAvailable(response.nextContinuationToken())) {
+                    listPage(request.toBuilder().continuationToken(response.nextContinuationToken()).build());
+                    return;
+                }
+                synchronized (this) {
+                    activeListings--;
                 }
-                return t;
+                startPendingListings();
             });
         }
+
+        private void startPendingListings() {
+            List<String> prefixes = new ArrayList<>();
+            synchronized (this) {
+                while (!done && activeListings < maxConcurrentListings && !pendingPrefixes.isEmpty()) {
+                    prefixes.add(pendingPrefixes.pop());
+                    activeListings++;
+                }
+
+                if (!done && activeListings == 0 && pendingPrefixes.isEmpty()) {
+                    done = true;
+                    publisher.complete();
+                }
+            }
+            ListObjectsV2Request request = prefixRequest;
+            prefixes.forEach(prefix -> listPage(request.toBuilder().prefix(prefix).build()));
+        }
+
+        /**
+         * Continues a flat listing after its first page with a delimiter, and lists its common prefixes likewise.
+         */
+        private ListObjectsV2Request split(ListObjectsV2Response firstPage) {
+            List<S3Object> contents = firstPage.contents();
+            prefixRequest = firstRequest.toBuilder()
+                                        .delimiter(FAN_OUT_DELIMITER)
+                                        .startAfter(contents.get(contents.size() - 1).key())
+                                        .build();
+            return prefixRequest;
+        }
+
+        /**
+         * Whether to list the rest of a flat listing with a delimiter, given its first page. Splitting pays off when the
+         * listing continues, and the keys of the page are spread over fewer directories than the number of concurrent
+         * listings, counting the directories they are nested in. Each directory then holds more than a page's worth of keys
+         * divided by the number of concurrent listings, so that listing them concurrently returns keys faster than the flat
+         * listing, and the additional requests are few compared to the keys listed.
+         */
+        private boolean shouldSplit(ListObjectsV2Response response) {
+            if (!splittable
+                || !PaginatorUtils.isOutputTokenAvailable(response.nextContinuationToken())
+                || CollectionUtils.isNullOrEmpty(response.contents())) {
+                return false;
+            }
+
+            String prefix = firstRequest.prefix() == null ? "" : firstRequest.prefix();
+            Set<String> directories = new HashSet<>();
+            for (S3Object object : response.contents()) {
+                String key = object.key();
+                int end = key.indexOf(FAN_OUT_DELIMITER, prefix.length());
+                while (end >= 0) {
+                    directories.add(key.substring(0, end + 1));
+                    if (directories.size() >= maxConcurrentListings) {
+                        return false;
+                    }
+                    end = key.indexOf(FAN_OUT_DELIMITER, end + 1);
+                }
+            }
+            return !directories.isEmpty();
+        }
+
+        private synchronized boolean isDone() {
+            return done;
+        }
+
+        private synchronized void stop() {
+            done = true;
+            pendingPrefixes.clear();
+        }
+
+        private synchronized void fail(Throwable t) {
+            if (!done) {
+                stop();
+                publisher.error(t);
+            }
+        }
     }
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Walks a file tree and publishes the regular files within it, listing up to {@code maxConcurrentListings} directories
+ * concurrently on the given executor.
+ *
+ * <p>This follows the semantics of {@link Files#walk}: files are published up to {@code maxDepth} levels below the root,
+ * symbolic links are only resolved when {@code followSymbolicLinks} is set, and a {@link FileSystemLoopException} is
+ * reported when following links leads to a cycle. The files are published in no particular order.
+ *
+ * <p>Only the directories that are waiting to be listed are held in memory. Each listing stops after handing
+ * {@code maxUnsentFilesPerListing} files to the publisher and only resumes once the subscriber has received them, so the files
+ * of a large tree are never buffered all at once.
+ */
+@SdkInternalApi
+public final class ParallelDirectoryWalker {
+    private static final Logger log = Logger.loggerFor(ParallelDirectoryWalker.class);
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final Executor executor;
+    private final int maxConcurrentListings;
+    private final int maxUnsentFilesPerListing;
+    private final LinkOption[] linkOptions;
+
+    private final SimplePublisher<Path> publisher = new SimplePublisher<>();
+    private final Deque<Directory> pendingDirectories = new ConcurrentLinkedDeque<>();
+    private int activeListings;
+    private boolean done;
+
+    public ParallelDirectoryWalker(Path root,
+                                   int maxDepth,
+                                   boolean followSymbolicLinks,
+                                   Executor executor,
+                                   int maxConcurrentListings,
+                                   int maxUnsentFilesPerListing) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.followSymbolicLinks = followSymbolicLinks;
+        this.executor = executor;
+        this.maxConcurrentListings = maxConcurrentListings;
+        this.maxUnsentFilesPerListing = maxUnsentFilesPerListing;
+        this.linkOptions = followSymbolicLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+    }
+
+    /**
+     * Start walking the file tree. The root directory is listed on the calling thread, up to the first
+     * {@code maxUnsentFilesPerListing} files, and the rest of the tree on the executor.
+     *
+     * @return a publisher of the regular files within the tree
+     */
+    public SdkPublisher<Path> walk() {
+        if (maxDepth > 0) {
+            synchronized (this) {
+                activeListings++;
+            }
+            list(new Directory(root, 0, fileKey(root), null));
+        } else {
+            scheduleListings();
+        }
+        return SdkPublisher.adapt(publisher);
+    }
+
+    private synchronized void scheduleListings() {
+        while (!done && activeListings < maxConcurrentListings && !pendingDirectories.isEmpty()) {
+            Directory directory = pendingDirectories.poll();
+            activeListings++;
+            try {
+                executor.execute(() -> list(directory));
+            } catch (Throwable t) {
+                activeListings--;
+                fail(t);
+                return;
+            }
+        }
+
+        if (!done && activeListings == 0 && pendingDirectories.isEmpty()) {
+            done = true;
+            publisher.complete();
+        }
+    }
+
+    private void list(Directory directory) {
+        DirectoryStream<Path> stream;
+        try {
+            stream = Files.newDirectoryStream(directory.path);
+        } catch (Throwable t) {
+            listingFailed(directory, t);
+            return;
+        }
+        continueListing(directory, stream, stream.iterator());
+    }
+
+    private void continueListing(Directory directory, DirectoryStream<Path> stream, Iterator<Path> entries) {
+        try {
+            CompletableFuture<Void> lastSend = null;
+            int unsentFiles = 0;
+            while (!isDone() && entries.hasNext()) {
+                Path entry = entries.next();
+                BasicFileAttributes attributes = readAttributes(entry);
+                if (attributes.isDirectory()) {
+                    if (directory.depth + 1 < maxDepth) {
+                        pendingDirectories.push(subdirectory(directory, entry, attributes));
+                        scheduleListings();
+                    }
+                } else if (attributes.isRegularFile()) {
+                    lastSend = publisher.send(entry);
+                    if (++unsentFiles >= maxUnsentFilesPerListing) {
+                        break;
+                    }
+                }
+            }
+
+            if (lastSend != null && !isDone() && entries.hasNext()) {
+                lastSend.whenComplete((r, t) -> {
+                    if (t != null) {
+                        // The subscriber cancelled or the walk failed elsewhere; either way there is nothing left to send to.
+                        stop();
+                        closeListing(stream);
+                        return;
+                    }
+                    resumeListing(directory, stream, entries);
+                });
+                return;
+            }
+        } catch (Throwable t) {
+            IoUtils.closeQuietly(stream, log.logger());
+            listingFailed(directory, t);
+            return;
+        }
+        closeListing(stream);
+    }
+
+    private void resumeListing(Directory directory, DirectoryStream<Path> stream, Iterator<Path> entries) {
+        try {
+            executor.execute(() -> continueListing(directory, stream, entries));
+        } catch (Throwable t) {
+            // Like scheduleListings, a rejected listing fails the walk rather than leaving it waiting forever
+            IoUtils.closeQuietly(stream, log.logger());
+            listingFailed(directory, t);
+        }
+    }
+
+    private void closeListing(DirectoryStream<Path> stream) {
+        IoUtils.closeQuietly(stream, log.logger());
+        synchronized (this) {
+            activeListings--;
+        }
+        scheduleListings();
+    }
+
+    private BasicFileAttributes readAttributes(Path path) throws IOException {
+        if (!followSymbolicLinks) {
+            return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+        }
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // A broken link is reported as the link itself, like Files#walk does
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        }
+    }
+
+    private Directory subdirectory(Directory parent, Path path, BasicFileAttributes attributes) throws IOException {
+        Object fileKey = attributes.fileKey();
+        if (followSymbolicLinks) {
+            for (Directory ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                boolean sameFile = fileKey != null && ancestor.fileKey != null ? fileKey.equals(ancestor.fileKey)
+                                                                                : Files.isSameFile(path, ancestor.path);
+                if (sameFile) {
+                    throw new FileSystemLoopException(path.toString());
+                }
+            }
+        }
+        return new Directory(path, parent.depth + 1, fileKey, parent);
+    }
+
+    private Object fileKey(Path path) {
+        try {
+            return readAttributes(path).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void listingFailed(Directory directory, Throwable t) {
+        synchronized (this) {
+            activeListings--;
+        }
+        fail(SdkClientException.create("Failed to list files within the provided directory: " + directory.path, t));
+    }
+
+    private synchronized boolean isDone() {
+        return done;
+    }
+
+    private synchronized void stop() {
+        done = true;
+        pendingDirectories.clear();
+    }
+
+    private synchronized void fail(Throwable t) {
+        if (!done) {
+            done = true;
+            pendingDirectories.clear();
+            publisher.error(t);
+        }
+    }
+
+    private static final class Directory {
+        private final Path path;
+        private final int depth;
+        private final Object fileKey;
+        private final Directory parent;
+
+        private Directory(Path path, int depth, Object fileKey, Directory parent) {
+            this.path = path;
+            this.depth = depth;
+            this.fileKey = fileKey;
+            this.parent = parent;
+        }
+    }
+}
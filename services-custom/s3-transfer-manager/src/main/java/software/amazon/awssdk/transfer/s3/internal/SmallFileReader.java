@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * Reads files no larger than a threshold into memory, so that they can be uploaded without opening a file channel per request
+ * body subscription. Each file is read into an array of exactly its size, which the request body then uses without copying
+ * it again.
+ * <p>
+ * The files held in memory at once are bounded by a budget of bytes, since up to as many files as there are concurrent
+ * uploads may be read at the same time. A file that doesn't fit in the remaining budget is not read, and is uploaded from the
+ * file system like the larger files instead of waiting for the budget to be released.
+ */
+@SdkInternalApi
+final class SmallFileReader {
+    private final int threshold;
+    private final AtomicLong remainingBudget;
+
+    SmallFileReader(int threshold, long budget) {
+        this.threshold = threshold;
+        this.remainingBudget = new AtomicLong(budget);
+    }
+
+    /**
+     * Read the file if it is no larger than the threshold and fits in the remaining budget. This blocks on the file system.
+     * The content length of the returned request body must be {@link #release(long) released} once it was uploaded.
+     *
+     * @return a request body with the content of the file, or null if the file is larger than the threshold or than the
+     * remaining budget
+     */
+    AsyncRequestBody read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > threshold || !reserve(size)) {
+                return null;
+            }
+
+            try {
+                return read(channel, (int) size);
+            } catch (IOException | RuntimeException e) {
+                release(size);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns bytes of the budget reserved by {@link #read(Path)}.
+     */
+    void release(long bytes) {
+        remainingBudget.addAndGet(bytes);
+    }
+
+    private boolean reserve(long bytes) {
+        long remaining;
+        do {
+            remaining = remainingBudget.get();
+            if (remaining < bytes) {
+                return false;
+            }
+        } while (!remainingBudget.compareAndSet(remaining, remaining - bytes));
+        return true;
+    }
+
+    private AsyncRequestBody read(FileChannel channel, int size) throws IOException {
+        byte[] content = new byte[size];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Keep reading until the array is full or the file ends
+        }
+        if (!buffer.hasRemaining()) {
+            return AsyncRequestBody.fromBytesUnsafe(content);
+        }
+        // The file was truncated since its size was read, so only the bytes read remain reserved
+        release(buffer.remaining());
+        return AsyncRequestBody.fromBytesUnsafe(Arrays.copyOf(content, buffer.position()));
+    }
+}
@@ -35,9 +35,18 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
+    public static final TransferConfigurationOption<Executor> DIRECTORY_LISTING_EXECUTOR =
+        new TransferConfigurationOption<>("DirectoryListingExecutor", Executor.class);
+
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
-    public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
+    public static final int DEFAULT_DIRECTORY_TRANSFER_INITIAL_CONCURRENCY = 100;
+    public static final int DEFAULT_DIRECTORY_TRANSFER_MIN_CONCURRENCY = 10;
+    public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 1_000;
+    public static final int DEFAULT_DIRECTORY_LISTING_CONCURRENCY = 8;
+    public static final int DEFAULT_DIRECTORY_LISTING_MAX_UNSENT_ITEMS = 1_000;
+    public static final long MAX_SMALL_FILE_THRESHOLD_IN_BYTES = 8L * 1024 * 1024;
+    public static final long SMALL_FILE_MEMORY_BUDGET_IN_BYTES = 64L * 1024 * 1024;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_LISTING_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
@@ -48,10 +49,13 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
 
     private void finalizeExecutor(Builder builder, AttributeMap.Builder standardOptions) {
         if (builder.executor != null) {
-            standardOptions.put(TransferConfigurationOption.EXECUTOR, ExecutorUtils.unmanagedExecutor(builder.executor));
+            Executor executor = ExecutorUtils.unmanagedExecutor(builder.executor);
+            standardOptions.put(TransferConfigurationOption.EXECUTOR, executor);
+            standardOptions.put(TransferConfigurationOption.DIRECTORY_LISTING_EXECUTOR, executor);
         } else {
 
             standardOptions.put(TransferConfigurationOption.EXECUTOR, defaultExecutor());
+            standardOptions.put(TransferConfigurationOption.DIRECTORY_LISTING_EXECUTOR, defaultDirectoryListingExecutor());
         }
     }
 
@@ -89,6 +93,23 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         return executor;
     }
 
+    /**
+     * Directory listings block on the file system, so they get their own threads, one per concurrent listing. The default
+     * executor above only starts a second thread once its queue is full, which would run the listings one at a time.
+     */
+    private Executor defaultDirectoryListingExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_DIRECTORY_LISTING_CONCURRENCY,
+                                                             DEFAULT_DIRECTORY_LISTING_CONCURRENCY,
+                                                             60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder()
+                                                                 .threadNamePrefix("s3-transfer-manager-directory-listing")
+                                                                 .build());
+        // Allow idle core threads to time out
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
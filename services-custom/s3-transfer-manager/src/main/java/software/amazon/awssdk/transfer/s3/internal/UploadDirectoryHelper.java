@@ -16,11 +16,15 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_LISTING_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_LISTING_MAX_UNSENT_ITEMS;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_INITIAL_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MIN_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.SMALL_FILE_MEMORY_BUDGET_IN_BYTES;
 
 import java.io.IOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
@@ -28,9 +32,10 @@ import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -58,12 +63,25 @@ public class UploadDirectoryHelper {
 
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
+    private final BiFunction<UploadFileRequest, AsyncRequestBody, CompletableFuture<CompletedFileUpload>> smallFileUploadFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
+        this(transferConfiguration, uploadFunction, null);
+    }
+
+    /**
+     * @param smallFileUploadFunction uploads the files read into memory when the request sets a small file threshold, or null
+     * to upload every file with the {@code uploadFunction}
+     */
+    public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 Function<UploadFileRequest, FileUpload> uploadFunction,
+                                 BiFunction<UploadFileRequest, AsyncRequestBody, CompletableFuture<CompletedFileUpload>>
+                                     smallFileUploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.uploadFunction = uploadFunction;
+        this.smallFileUploadFunction = smallFileUploadFunction;
     }
 
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -91,20 +109,20 @@ public class UploadDirectoryHelper {
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
-        Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
-
-        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> stream.iterator())
-                                                           .doAfterOnCancel(() -> stream.close())
-                                                           .doAfterOnError(t -> stream.close())
-                                                           .doAfterOnComplete(() -> stream.close());
+        SmallFileReader smallFileReader = smallFileReader(uploadDirectoryRequest);
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
+        AdaptiveConcurrencyLimit concurrencyLimit =
+            new AdaptiveConcurrencyLimit(DEFAULT_DIRECTORY_TRANSFER_INITIAL_CONCURRENCY,
+                                         DEFAULT_DIRECTORY_TRANSFER_MIN_CONCURRENCY,
+                                         DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
         AsyncBufferingSubscriber<Path> bufferingSubscriber =
-            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, path),
-                                           allOfFutures, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
+            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads,
+                                                                    smallFileReader, path),
+                                           allOfFutures, concurrencyLimit);
 
-        iterablePublisher.subscribe(bufferingSubscriber);
+        listFiles(directory, uploadDirectoryRequest).subscribe(bufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
@@ -126,13 +144,23 @@ public class UploadDirectoryHelper {
         }
     }
 
+    private SmallFileReader smallFileReader(UploadDirectoryRequest uploadDirectoryRequest) {
+        if (smallFileUploadFunction == null || !uploadDirectoryRequest.smallFileThresholdInBytes().isPresent()) {
+            return null;
+        }
+        // The request validates that the threshold is no larger than MAX_SMALL_FILE_THRESHOLD_IN_BYTES
+        int threshold = (int) uploadDirectoryRequest.smallFileThresholdInBytes().getAsLong();
+        return new SmallFileReader(threshold, SMALL_FILE_MEMORY_BUDGET_IN_BYTES);
+    }
+
     private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
                                                                     Collection<FailedFileUpload> failedFileUploads,
+                                                                    SmallFileReader smallFileReader,
                                                                     Path path) {
         int nameCount = uploadDirectoryRequest.source().getNameCount();
         UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
-        CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
+        CompletableFuture<CompletedFileUpload> executionFuture = upload(uploadFileRequest, smallFileReader);
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
             if (t != null) {
                 failedFileUploads.add(FailedFileUpload.builder()
@@ -145,31 +173,59 @@ public class UploadDirectoryHelper {
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
+    private CompletableFuture<CompletedFileUpload> upload(UploadFileRequest uploadFileRequest, SmallFileReader smallFileReader) {
+        if (smallFileReader == null) {
+            return uploadFunction.apply(uploadFileRequest).completionFuture();
+        }
 
+        // Reading the file blocks, so it happens on the executor rather than on the thread that delivered the path
+        CompletableFuture<AsyncRequestBody> requestBodyFuture;
         try {
-            boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
-            int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+            requestBodyFuture = CompletableFuture.supplyAsync(() -> readSmallFile(smallFileReader, uploadFileRequest.source()),
+                                                              transferConfiguration.option(TransferConfigurationOption.EXECUTOR));
+        } catch (Throwable t) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("Failed to read the file " + uploadFileRequest.source(), t));
+        }
 
-            if (followSymbolicLinks) {
-                return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
+        return requestBodyFuture.thenCompose(requestBody -> {
+            if (requestBody == null) {
+                return uploadFunction.apply(uploadFileRequest).completionFuture();
             }
+            long contentLength = requestBody.contentLength().orElse(0L);
+            CompletableFuture<CompletedFileUpload> uploadFuture;
+            try {
+                uploadFuture = smallFileUploadFunction.apply(uploadFileRequest, requestBody);
+            } catch (Throwable t) {
+                smallFileReader.release(contentLength);
+                throw t;
+            }
+            return uploadFuture.whenComplete((r, t) -> smallFileReader.release(contentLength));
+        });
+    }
 
-            return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
-
+    private static AsyncRequestBody readSmallFile(SmallFileReader smallFileReader, Path path) {
+        try {
+            return smallFileReader.read(path);
         } catch (IOException e) {
-            throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
+            throw SdkClientException.create("Failed to read the file " + path, e);
         }
     }
 
-    private boolean isRegularFile(Path path, boolean followSymlinks) {
-        if (followSymlinks) {
-            return Files.isRegularFile(path);
-        }
-
-        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS);
+    /**
+     * Walk the subdirectories concurrently rather than with {@link Files#walk}, so that listing a tree with many directories
+     * keeps up with the uploads, while only the files the uploads are ready for are held in memory.
+     */
+    private SdkPublisher<Path> listFiles(Path directory, UploadDirectoryRequest request) {
+        boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
+        int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+
+        return new ParallelDirectoryWalker(directory,
+                                           maxDepth,
+                                           followSymbolicLinks,
+                                           transferConfiguration.option(TransferConfigurationOption.DIRECTORY_LISTING_EXECUTOR),
+                                           DEFAULT_DIRECTORY_LISTING_CONCURRENCY,
+                                           DEFAULT_DIRECTORY_LISTING_MAX_UNSENT_ITEMS).walk();
     }
 
     /**
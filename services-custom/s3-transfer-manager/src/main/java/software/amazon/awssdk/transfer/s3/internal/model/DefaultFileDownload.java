@@ -21,6 +21,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.multipart.DownloadPauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3DownloadResumeToken;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
@@ -38,16 +40,26 @@ public final class DefaultFileDownload implements FileDownload {
     private final TransferProgress progress;
     private final Supplier<DownloadFileRequest> requestSupplier;
     private final ResumableFileDownload resumedDownload;
+    private final DownloadPauseObservable pauseObservable;
 
     public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
                                TransferProgress progress,
                                Supplier<DownloadFileRequest> requestSupplier,
                                ResumableFileDownload resumedDownload) {
+        this(completedFileDownloadFuture, progress, requestSupplier, resumedDownload, null);
+    }
+
+    public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
+                               TransferProgress progress,
+                               Supplier<DownloadFileRequest> requestSupplier,
+                               ResumableFileDownload resumedDownload,
+                               DownloadPauseObservable pauseObservable) {
         this.completionFuture = Validate.paramNotNull(completedFileDownloadFuture, "completedFileDownloadFuture");
         this.progress = Validate.paramNotNull(progress, "progress");
         this.requestSupplier = Validate.paramNotNull(requestSupplier, "requestSupplier");
         this.resumableFileDownload = new Lazy<>(this::doPause);
         this.resumedDownload = resumedDownload;
+        this.pauseObservable = pauseObservable;
     }
 
     @Override
@@ -77,16 +89,30 @@ public final class DefaultFileDownload implements FileDownload {
                                                                               : null;
         }
 
+        // Pausing a download written in parts waits for the parts in flight to land, so the file below is settled
+        S3DownloadResumeToken token = pauseObservable == null ? null : pauseObservable.pause();
+
         DownloadFileRequest request = requestSupplier.get();
         File destination = request.destination().toFile();
         long length = destination.length();
         Instant fileLastModified = Instant.ofEpochMilli(destination.lastModified());
-        return ResumableFileDownload.builder()
-                                    .downloadFileRequest(request)
-                                    .s3ObjectLastModified(s3objectLastModified)
-                                    .fileLastModified(fileLastModified)
-                                    .bytesTransferred(length)
-                                    .totalSizeInBytes(totalSizeInBytes)
+        ResumableFileDownload.Builder resumableFileDownload = ResumableFileDownload.builder()
+                                                                                   .downloadFileRequest(request)
+                                                                                   .s3ObjectLastModified(s3objectLastModified)
+                                                                                   .fileLastModified(fileLastModified)
+                                                                                   .bytesTransferred(length)
+                                                                                   .totalSizeInBytes(totalSizeInBytes);
+
+        // Download hasn't started writing parts yet, or it's a single object download
+        if (token == null) {
+            return resumableFileDownload.build();
+        }
+
+        // The parts were written at their offset, so the length of the file doesn't tell which bytes were transferred
+        return resumableFileDownload.totalSizeInBytes(token.objectSize())
+                                    .s3ObjectETag(token.eTag())
+                                    .partSizeInBytes(token.partSize())
+                                    .completedParts(token.completedParts())
                                     .build();
     }
 
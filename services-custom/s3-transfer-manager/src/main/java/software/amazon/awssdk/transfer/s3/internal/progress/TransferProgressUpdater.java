@@ -166,41 +166,47 @@ public class TransferProgressUpdater {
 
     public <ResultT> AsyncResponseTransformer<GetObjectResponse, ResultT> wrapResponseTransformer(
         AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer) {
-        return AsyncResponseTransformerListener.wrap(
-            responseTransformer,
-            new AsyncResponseTransformerListener<GetObjectResponse>() {
-                @Override
-                public void transformerOnResponse(GetObjectResponse response) {
-                    if (response.contentLength() != null) {
-                            progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
-                    }
-                }
+        return AsyncResponseTransformerListener.wrap(responseTransformer, responseTransformerListener());
+    }
 
-                @Override
-                public void transformerExceptionOccurred(Throwable t) {
-                    transferFailed(t);
+    /**
+     * Progress listener for downloads. The Java-based S3Client with multipart enabled notifies it of the parts it writes to
+     * the destination file itself, which don't flow through the response transformer.
+     */
+    public AsyncResponseTransformerListener<GetObjectResponse> responseTransformerListener() {
+        return new AsyncResponseTransformerListener<GetObjectResponse>() {
+            @Override
+            public void transformerOnResponse(GetObjectResponse response) {
+                if (response.contentLength() != null) {
+                    progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
                 }
+            }
 
-                @Override
-                public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
-                    resetBytesTransferred();
-                }
+            @Override
+            public void transformerExceptionOccurred(Throwable t) {
+                transferFailed(t);
+            }
 
-                @Override
-                public void subscriberOnNext(ByteBuffer byteBuffer) {
-                    incrementBytesTransferred(byteBuffer.limit());
-                }
+            @Override
+            public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
+                resetBytesTransferred();
+            }
 
-                @Override
-                public void subscriberOnError(Throwable t) {
-                    transferFailed(t);
-                }
+            @Override
+            public void subscriberOnNext(ByteBuffer byteBuffer) {
+                incrementBytesTransferred(byteBuffer.limit());
+            }
 
-                @Override
-                public void subscriberOnComplete() {
-                    endOfStreamFuture.complete(null);
-                }
-            });
+            @Override
+            public void subscriberOnError(Throwable t) {
+                transferFailed(t);
+            }
+
+            @Override
+            public void subscriberOnComplete() {
+                endOfStreamFuture.complete(null);
+            }
+        };
     }
 
     private void resetBytesTransferred() {
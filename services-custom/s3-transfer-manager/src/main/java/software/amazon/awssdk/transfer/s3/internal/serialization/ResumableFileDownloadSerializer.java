@@ -22,6 +22,8 @@ import static software.amazon.awssdk.transfer.s3.internal.serialization.Transfer
 import java.io.InputStream;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
@@ -62,12 +64,61 @@ public final class ResumableFileDownloadSerializer {
                                        jsonGenerator,
                                        "s3ObjectLastModified");
         }
+        if (download.s3ObjectETag().isPresent()) {
+            TransferManagerJsonMarshaller.STRING.marshall(download.s3ObjectETag().get(), jsonGenerator, "s3ObjectETag");
+        }
+        if (download.partSizeInBytes().isPresent()) {
+            TransferManagerJsonMarshaller.LONG.marshall(download.partSizeInBytes().getAsLong(), jsonGenerator,
+                                                        "partSizeInBytes");
+        }
+        if (!download.completedParts().isEmpty()) {
+            TransferManagerJsonMarshaller.STRING.marshall(toPartRanges(download.completedParts()), jsonGenerator,
+                                                          "completedParts");
+        }
         marshallDownloadFileRequest(download.downloadFileRequest(), jsonGenerator);
         jsonGenerator.writeEndObject();
 
         return jsonGenerator.getBytes();
     }
 
+    /**
+     * Writes the part numbers as a list of ranges, e.g. {@code 1-1200,1202,1205-1300}, which stays small for downloads of
+     * thousands of parts.
+     */
+    private static String toPartRanges(List<Integer> partNumbers) {
+        StringBuilder ranges = new StringBuilder();
+        int i = 0;
+        while (i < partNumbers.size()) {
+            int start = partNumbers.get(i);
+            int end = start;
+            while (i + 1 < partNumbers.size() && partNumbers.get(i + 1) == end + 1) {
+                end = partNumbers.get(++i);
+            }
+            if (ranges.length() > 0) {
+                ranges.append(',');
+            }
+            ranges.append(start);
+            if (end != start) {
+                ranges.append('-').append(end);
+            }
+            i++;
+        }
+        return ranges.toString();
+    }
+
+    private static List<Integer> fromPartRanges(String ranges) {
+        List<Integer> partNumbers = new ArrayList<>();
+        for (String range : ranges.split(",")) {
+            int separator = range.indexOf('-');
+            int start = Integer.parseInt(separator < 0 ? range.trim() : range.substring(0, separator).trim());
+            int end = separator < 0 ? start : Integer.parseInt(range.substring(separator + 1).trim());
+            for (int partNumber = start; partNumber <= end; partNumber++) {
+                partNumbers.add(partNumber);
+            }
+        }
+        return partNumbers;
+    }
+
     /**
      * At this point we do not need to persist the TransferRequestOverrideConfiguration, because it only contains listeners and
      * they are not used in the resume operation.
@@ -126,6 +177,8 @@ public final class ResumableFileDownloadSerializer {
             (TransferManagerJsonUnmarshaller<Long>) getUnmarshaller(MarshallingType.LONG);
         TransferManagerJsonUnmarshaller<Instant> instantUnmarshaller =
             (TransferManagerJsonUnmarshaller<Instant>) getUnmarshaller(MarshallingType.INSTANT);
+        TransferManagerJsonUnmarshaller<String> stringUnmarshaller =
+            (TransferManagerJsonUnmarshaller<String>) getUnmarshaller(MarshallingType.STRING);
 
         ResumableFileDownload.Builder builder = ResumableFileDownload.builder();
         builder.bytesTransferred(longUnmarshaller.unmarshall(downloadNodes.get("bytesTransferred")));
@@ -137,6 +190,15 @@ public final class ResumableFileDownloadSerializer {
         if (downloadNodes.get("s3ObjectLastModified") != null) {
             builder.s3ObjectLastModified(instantUnmarshaller.unmarshall(downloadNodes.get("s3ObjectLastModified")));
         }
+        if (downloadNodes.get("s3ObjectETag") != null) {
+            builder.s3ObjectETag(stringUnmarshaller.unmarshall(downloadNodes.get("s3ObjectETag")));
+        }
+        if (downloadNodes.get("partSizeInBytes") != null) {
+            builder.partSizeInBytes(longUnmarshaller.unmarshall(downloadNodes.get("partSizeInBytes")));
+        }
+        if (downloadNodes.get("completedParts") != null) {
+            builder.completedParts(fromPartRanges(stringUnmarshaller.unmarshall(downloadNodes.get("completedParts"))));
+        }
         builder.downloadFileRequest(parseDownloadFileRequest(downloadNodes.get("downloadFileRequest")));
 
         return builder.build();
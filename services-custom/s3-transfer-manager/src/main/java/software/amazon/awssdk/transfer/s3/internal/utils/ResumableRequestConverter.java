@@ -54,14 +54,17 @@ public final class ResumableRequestConverter {
         boolean fileNotModified = fileNotModified(resumableFileDownload.bytesTransferred(),
             resumableFileDownload.fileLastModified(), resumableFileDownload.downloadFileRequest().destination());
 
-        if (fileNotModified && s3ObjectNotModified) {
+        // A file written in parts may have gaps, and can't be resumed by appending to it
+        boolean writtenInParts = resumableFileDownload.partSizeInBytes().isPresent();
+
+        if (fileNotModified && s3ObjectNotModified && !writtenInParts) {
             newDownloadFileRequest = resumedDownloadFileRequest(resumableFileDownload,
                                                                 originalDownloadRequest,
                                                                 getObjectRequest,
                                                                 headObjectResponse);
             shouldAppend = true;
         } else {
-            logIfNeeded(originalDownloadRequest, getObjectRequest, fileNotModified, s3ObjectNotModified);
+            logIfNeeded(originalDownloadRequest, getObjectRequest, fileNotModified, s3ObjectNotModified, writtenInParts);
             shouldAppend = false;
             newDownloadFileRequest = newDownloadFileRequest(originalDownloadRequest, getObjectRequest,
                                                             headObjectResponse);
@@ -86,8 +89,18 @@ public final class ResumableRequestConverter {
     private static void logIfNeeded(DownloadFileRequest downloadRequest,
                                     GetObjectRequest getObjectRequest,
                                     boolean fileNotModified,
-                                    boolean s3ObjectNotModified) {
+                                    boolean s3ObjectNotModified,
+                                    boolean writtenInParts) {
         if (log.logger().isDebugEnabled()) {
+            if (writtenInParts && fileNotModified && s3ObjectNotModified) {
+                log.debug(() -> String.format("The file (%s) was written in parts that can't be resumed. The SDK will "
+                                              + "download the requested object in bucket (%s) with key (%s) from the "
+                                              + "beginning.",
+                                              downloadRequest.destination(),
+                                              getObjectRequest.bucket(),
+                                              getObjectRequest.key()));
+            }
+
             if (!s3ObjectNotModified) {
                 log.debug(() -> String.format("The requested object in bucket (%s) with key (%s) "
                                               + "has been modified on Amazon S3 since the last "
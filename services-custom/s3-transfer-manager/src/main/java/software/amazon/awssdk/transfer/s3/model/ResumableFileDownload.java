@@ -23,6 +23,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -61,6 +63,9 @@ public final class ResumableFileDownload implements ResumableTransfer,
     private final Instant s3ObjectLastModified;
     private final Long totalSizeInBytes;
     private final Instant fileLastModified;
+    private final String s3ObjectETag;
+    private final Long partSizeInBytes;
+    private final List<Integer> completedParts;
 
     private ResumableFileDownload(DefaultBuilder builder) {
         this.downloadFileRequest = Validate.paramNotNull(builder.downloadFileRequest, "downloadFileRequest");
@@ -69,6 +74,11 @@ public final class ResumableFileDownload implements ResumableTransfer,
         this.s3ObjectLastModified = builder.s3ObjectLastModified;
         this.totalSizeInBytes = Validate.isPositiveOrNull(builder.totalSizeInBytes, "totalSizeInBytes");
         this.fileLastModified = builder.fileLastModified;
+        this.s3ObjectETag = builder.s3ObjectETag;
+        this.partSizeInBytes = Validate.isPositiveOrNull(builder.partSizeInBytes, "partSizeInBytes");
+        this.completedParts = builder.completedParts == null
+                              ? Collections.emptyList()
+                              : Collections.unmodifiableList(builder.completedParts);
     }
 
     @Override
@@ -94,6 +104,15 @@ public final class ResumableFileDownload implements ResumableTransfer,
         if (!Objects.equals(fileLastModified, that.fileLastModified)) {
             return false;
         }
+        if (!Objects.equals(s3ObjectETag, that.s3ObjectETag)) {
+            return false;
+        }
+        if (!Objects.equals(partSizeInBytes, that.partSizeInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(completedParts, that.completedParts)) {
+            return false;
+        }
         return Objects.equals(totalSizeInBytes, that.totalSizeInBytes);
     }
 
@@ -104,6 +123,9 @@ public final class ResumableFileDownload implements ResumableTransfer,
         result = 31 * result + (s3ObjectLastModified != null ? s3ObjectLastModified.hashCode() : 0);
         result = 31 * result + (fileLastModified != null ? fileLastModified.hashCode() : 0);
         result = 31 * result + (totalSizeInBytes != null ? totalSizeInBytes.hashCode() : 0);
+        result = 31 * result + (s3ObjectETag != null ? s3ObjectETag.hashCode() : 0);
+        result = 31 * result + (partSizeInBytes != null ? partSizeInBytes.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(completedParts);
         return result;
     }
 
@@ -149,6 +171,33 @@ public final class ResumableFileDownload implements ResumableTransfer,
         return totalSizeInBytes == null ? OptionalLong.empty() : OptionalLong.of(totalSizeInBytes);
     }
 
+    /**
+     * The ETag of the S3 object since last pause, or {@link Optional#empty()} if the download wasn't split into parts
+     */
+    public Optional<String> s3ObjectETag() {
+        return Optional.ofNullable(s3ObjectETag);
+    }
+
+    /**
+     * The size of the parts the download was split into, or {@link OptionalLong#empty()} if it wasn't split into parts
+     *
+     * @return the optional part size of the download
+     */
+    public OptionalLong partSizeInBytes() {
+        return partSizeInBytes == null ? OptionalLong.empty() : OptionalLong.of(partSizeInBytes);
+    }
+
+    /**
+     * The numbers of the parts, starting at 1, that were written to the destination file when the download was paused. Part
+     * {@code n} covers the bytes of the object from {@code (n - 1) * partSizeInBytes} to {@code n * partSizeInBytes}. Empty if
+     * the download wasn't split into parts.
+     *
+     * @return the part numbers in ascending order
+     */
+    public List<Integer> completedParts() {
+        return completedParts;
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ResumableFileDownload")
@@ -156,6 +205,9 @@ public final class ResumableFileDownload implements ResumableTransfer,
                        .add("fileLastModified", fileLastModified)
                        .add("s3ObjectLastModified", s3ObjectLastModified)
                        .add("totalSizeInBytes", totalSizeInBytes)
+                       .add("s3ObjectETag", s3ObjectETag)
+                       .add("partSizeInBytes", partSizeInBytes)
+                       .add("completedParts", completedParts.size())
                        .add("downloadFileRequest", downloadFileRequest)
                        .build();
     }
@@ -318,6 +370,30 @@ public final class ResumableFileDownload implements ResumableTransfer,
          * @return a reference to this object so that method calls can be chained together.
          */
         Builder fileLastModified(Instant lastModified);
+
+        /**
+         * Sets the ETag of the object
+         *
+         * @param s3ObjectETag the ETag of the object
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder s3ObjectETag(String s3ObjectETag);
+
+        /**
+         * Sets the size of the parts the download was split into
+         *
+         * @param partSizeInBytes the part size in bytes
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * Sets the numbers, starting at 1, of the parts written to the destination file
+         *
+         * @param completedParts the completed part numbers in ascending order
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder completedParts(List<Integer> completedParts);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -327,6 +403,9 @@ public final class ResumableFileDownload implements ResumableTransfer,
         private Instant s3ObjectLastModified;
         private Long totalSizeInBytes;
         private Instant fileLastModified;
+        private String s3ObjectETag;
+        private Long partSizeInBytes;
+        private List<Integer> completedParts;
 
         private DefaultBuilder() {
         }
@@ -337,6 +416,9 @@ public final class ResumableFileDownload implements ResumableTransfer,
             this.totalSizeInBytes = persistableFileDownload.totalSizeInBytes;
             this.fileLastModified = persistableFileDownload.fileLastModified;
             this.s3ObjectLastModified = persistableFileDownload.s3ObjectLastModified;
+            this.s3ObjectETag = persistableFileDownload.s3ObjectETag;
+            this.partSizeInBytes = persistableFileDownload.partSizeInBytes;
+            this.completedParts = persistableFileDownload.completedParts;
         }
 
         @Override
@@ -369,6 +451,24 @@ public final class ResumableFileDownload implements ResumableTransfer,
             return this;
         }
 
+        @Override
+        public Builder s3ObjectETag(String s3ObjectETag) {
+            this.s3ObjectETag = s3ObjectETag;
+            return this;
+        }
+
+        @Override
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder completedParts(List<Integer> completedParts) {
+            this.completedParts = completedParts;
+            return this;
+        }
+
         @Override
         public ResumableFileDownload build() {
             return new ResumableFileDownload(this);
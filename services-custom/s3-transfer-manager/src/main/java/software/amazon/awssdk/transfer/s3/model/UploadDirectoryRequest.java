@@ -15,11 +15,13 @@
 
 package software.amazon.awssdk.transfer.s3.model;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MAX_SMALL_FILE_THRESHOLD_IN_BYTES;
 
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -45,6 +47,7 @@ public final class UploadDirectoryRequest
     private final String s3Delimiter;
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
+    private final Long smallFileThresholdInBytes;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
 
 
@@ -55,9 +58,18 @@ public final class UploadDirectoryRequest
         this.s3Delimiter = builder.s3Delimiter;
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
+        this.smallFileThresholdInBytes = validateSmallFileThreshold(builder.smallFileThresholdInBytes);
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
     }
 
+    private static Long validateSmallFileThreshold(Long smallFileThresholdInBytes) {
+        Validate.isNotNegativeOrNull(smallFileThresholdInBytes, "smallFileThresholdInBytes");
+        Validate.isTrue(smallFileThresholdInBytes == null || smallFileThresholdInBytes <= MAX_SMALL_FILE_THRESHOLD_IN_BYTES,
+                        "The small file threshold provided (%s) must not be greater than %s bytes",
+                        smallFileThresholdInBytes, MAX_SMALL_FILE_THRESHOLD_IN_BYTES);
+        return smallFileThresholdInBytes;
+    }
+
     /**
      * The source directory to upload
      *
@@ -111,6 +123,14 @@ public final class UploadDirectoryRequest
         return maxDepth == null ? OptionalInt.empty() : OptionalInt.of(maxDepth);
     }
 
+    /**
+     * @return the size up to which files are uploaded from memory
+     * @see Builder#smallFileThresholdInBytes(Long)
+     */
+    public OptionalLong smallFileThresholdInBytes() {
+        return smallFileThresholdInBytes == null ? OptionalLong.empty() : OptionalLong.of(smallFileThresholdInBytes);
+    }
+
     /**
      * @return the upload request transformer if not null, otherwise no-op
      * @see Builder#uploadFileRequestTransformer(Consumer)
@@ -159,6 +179,9 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(maxDepth, that.maxDepth)) {
             return false;
         }
+        if (!Objects.equals(smallFileThresholdInBytes, that.smallFileThresholdInBytes)) {
+            return false;
+        }
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
@@ -173,6 +196,7 @@ public final class UploadDirectoryRequest
         result = 31 * result + (s3Delimiter != null ? s3Delimiter.hashCode() : 0);
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
+        result = 31 * result + (smallFileThresholdInBytes != null ? smallFileThresholdInBytes.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
         return result;
     }
@@ -186,6 +210,7 @@ public final class UploadDirectoryRequest
                        .add("s3Delimiter", s3Delimiter)
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
+                       .add("smallFileThresholdInBytes", smallFileThresholdInBytes)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
                        .build();
     }
@@ -288,6 +313,29 @@ public final class UploadDirectoryRequest
          */
         Builder maxDepth(Integer maxDepth);
 
+        /**
+         * Specifies the size, in bytes, up to which files are uploaded from memory. Each file no larger than this is read
+         * with a single read and sent as one buffer, skipping the file channel and per-chunk progress tracking used for larger
+         * files. Transfer listeners configured through {@link #uploadFileRequestTransformer(Consumer)} still receive the
+         * initiated, completed and failed events of these files, but only a single progress update each.
+         *
+         * <p>
+         * This is intended for directories of many files of a few kilobytes, whose uploads are dominated by the per-file
+         * overhead rather than by the data transfer. Files larger than this are uploaded as usual. Must not be negative nor
+         * greater than 8 MiB.
+         *
+         * <p>
+         * At most 64 MiB of files are held in memory at once for each directory upload. While that many are being uploaded,
+         * further small files are uploaded as usual as well.
+         *
+         * <p>
+         * Default to not set, which uploads every file as usual.
+         *
+         * @param smallFileThresholdInBytes the size up to which files are uploaded from memory
+         * @return This builder for method chaining.
+         */
+        Builder smallFileThresholdInBytes(Long smallFileThresholdInBytes);
+
         /**
          * Specifies a function used to transform the {@link UploadFileRequest}s generated by this {@link UploadDirectoryRequest}.
          * The provided function is called once for each file that is uploaded, allowing you to modify the paths resolved by
@@ -346,6 +394,7 @@ public final class UploadDirectoryRequest
         private String s3Delimiter;
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
+        private Long smallFileThresholdInBytes;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
 
         private DefaultBuilder() {
@@ -358,6 +407,7 @@ public final class UploadDirectoryRequest
             this.s3Delimiter = request.s3Delimiter;
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
+            this.smallFileThresholdInBytes = request.smallFileThresholdInBytes;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
         }
 
@@ -445,6 +495,20 @@ public final class UploadDirectoryRequest
             return maxDepth;
         }
 
+        @Override
+        public Builder smallFileThresholdInBytes(Long smallFileThresholdInBytes) {
+            this.smallFileThresholdInBytes = smallFileThresholdInBytes;
+            return this;
+        }
+
+        public void setSmallFileThresholdInBytes(Long smallFileThresholdInBytes) {
+            smallFileThresholdInBytes(smallFileThresholdInBytes);
+        }
+
+        public Long getSmallFileThresholdInBytes() {
+            return smallFileThresholdInBytes;
+        }
+
         @Override
         public Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer) {
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
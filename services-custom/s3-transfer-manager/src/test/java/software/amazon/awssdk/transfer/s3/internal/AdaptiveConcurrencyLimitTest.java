@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+    }
+
+    @Test
+    void fixed_shouldNeverChange() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.fixed(5);
+        for (int i = 0; i < 100; i++) {
+            limit.onCompletion(5);
+        }
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void saturatedWindows_throughputGrowsWithLimit_shouldKeepIncreasingUpToMax() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 20);
+
+        completeWindow(limit, 10, 10, WINDOW);
+        assertThat(limit.limit()).isEqualTo(13);
+
+        completeWindow(limit, 13, 13, WINDOW);
+        assertThat(limit.limit()).isEqualTo(17);
+
+        completeWindow(limit, 17, 17, WINDOW);
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void throughputDrops_shouldReverseDirection() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100);
+
+        completeWindow(limit, 10, 10, WINDOW);
+        assertThat(limit.limit()).isEqualTo(13);
+
+        completeWindow(limit, 13, 13, WINDOW.multipliedBy(2));
+        assertThat(limit.limit()).isEqualTo(10);
+
+        completeWindow(limit, 10, 10, WINDOW);
+        assertThat(limit.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void throughputSaturates_shouldSettleBelowMax() {
+        int capacity = 30;
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 1000);
+
+        for (int i = 0; i < 20; i++) {
+            completeSaturatingWindow(limit, capacity);
+        }
+        int settled = limit.limit();
+        for (int i = 0; i < 20; i++) {
+            completeSaturatingWindow(limit, capacity);
+            assertThat(limit.limit()).isEqualTo(settled);
+        }
+
+        assertThat(settled).isGreaterThanOrEqualTo(capacity).isLessThan((int) (capacity * 1.25 * 1.25));
+    }
+
+    @Test
+    void throughputPlateausAfterBackingOff_shouldHold() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100);
+
+        completeWindow(limit, 10, 10, WINDOW);
+        completeWindow(limit, 13, 13, WINDOW.multipliedBy(2));
+        assertThat(limit.limit()).isEqualTo(10);
+
+        for (int i = 0; i < 10; i++) {
+            completeWindow(limit, 10, 10, WINDOW.multipliedBy(3).dividedBy(2));
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void decreasing_shouldNotGoBelowMin() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 9, 100);
+
+        completeWindow(limit, 10, 10, WINDOW);
+        completeWindow(limit, 13, 13, WINDOW.multipliedBy(2));
+        completeWindow(limit, 10, 10, WINDOW);
+
+        assertThat(limit.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void windowNotSaturated_shouldNotIncrease() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100);
+
+        completeWindow(limit, 10, 3, WINDOW);
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void windowTooShortOrTooFewCompletions_shouldNotChange() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100);
+
+        completeWindow(limit, 10, 10, WINDOW.dividedBy(2));
+        assertThat(limit.limit()).isEqualTo(10);
+
+        clock.addAndGet(WINDOW.toNanos());
+        limit.onCompletion(10);
+        assertThat(limit.limit()).isEqualTo(13);
+
+        completeWindow(limit, 5, 13, WINDOW.multipliedBy(5));
+        assertThat(limit.limit()).isEqualTo(13);
+    }
+
+    @Test
+    void initialLimitOutOfBounds_shouldThrow() {
+        assertThatThrownBy(() -> newLimit(5, 10, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newLimit(10, 20, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, WINDOW, clock::get);
+    }
+
+    /**
+     * Complete a window against a server that completes at most {@code capacity} operations per second, however many are in
+     * flight.
+     */
+    private void completeSaturatingWindow(AdaptiveConcurrencyLimit limit, int capacity) {
+        int current = limit.limit();
+        double seconds = current / (double) Math.min(current, capacity);
+        completeWindow(limit, current, current, Duration.ofNanos((long) (seconds * WINDOW.toNanos())));
+    }
+
+    private void completeWindow(AdaptiveConcurrencyLimit limit, int completions, int inFlight, Duration duration) {
+        clock.addAndGet(duration.toNanos());
+        for (int i = 0; i < completions; i++) {
+            limit.onCompletion(inFlight);
+        }
+    }
+}
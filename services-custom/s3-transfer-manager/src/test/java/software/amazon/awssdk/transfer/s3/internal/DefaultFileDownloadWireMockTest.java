@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
+import software.amazon.awssdk.transfer.s3.model.FileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * WireMock test for pausing and resuming a download split into parts by an S3Client with multipart enabled.
+ */
+@Timeout(30)
+public class DefaultFileDownloadWireMockTest {
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+    private static final String PATH = "/bucket/key";
+    private static final String ETAG = "\"etag\"";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-01-01T00:00:00Z");
+    private static final byte[] CONTENT = "abcdefghijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private S3AsyncClient s3;
+    private S3TransferManager tm;
+    private Path tempDir;
+
+    @BeforeAll
+    public static void setup() {
+        wireMock.start();
+    }
+
+    @AfterAll
+    public static void teardown() {
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    public void methodSetup() throws IOException {
+        wireMock.resetAll();
+        tempDir = Files.createTempDirectory("file-download");
+        s3 = S3AsyncClient.builder()
+                          .credentialsProvider(StaticCredentialsProvider.create(
+                              AwsBasicCredentials.create("akid", "skid")))
+                          .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                          .region(Region.US_EAST_1)
+                          .forcePathStyle(true)
+                          .multipartEnabled(true)
+                          .multipartConfiguration(c -> c.minimumPartSizeInBytes(10L).apiCallBufferSizeInBytes(40L))
+                          .build();
+        tm = S3TransferManager.builder().s3Client(s3).build();
+    }
+
+    @AfterEach
+    public void methodTeardown() throws IOException {
+        tm.close();
+        s3.close();
+        Files.walk(tempDir).sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+    }
+
+    @Test
+    void pauseAndResume_shouldOnlyDownloadMissingParts() throws Exception {
+        stubHead(ETAG);
+        stubRanges(CONTENT, ETAG);
+        // The third part doesn't arrive before the download is paused
+        stubRange(CONTENT, ETAG, 20, Duration.ofSeconds(10));
+        Path destination = tempDir.resolve("object");
+
+        FileDownload download = tm.downloadFile(downloadFileRequest(destination));
+        waitForTransferredBytes(download, CONTENT.length - 10);
+        ResumableFileDownload resumableFileDownload = download.pause();
+
+        assertThat(resumableFileDownload.s3ObjectETag()).hasValue(ETAG);
+        assertThat(resumableFileDownload.partSizeInBytes()).hasValue(10L);
+        assertThat(resumableFileDownload.totalSizeInBytes()).hasValue(CONTENT.length);
+        assertThat(resumableFileDownload.completedParts()).containsExactly(1, 2, 4);
+
+        ResumableFileDownload deserialized = ResumableFileDownload.fromString(resumableFileDownload.serializeToString());
+        wireMock.resetRequests();
+        stubRange(CONTENT, ETAG, 20, Duration.ZERO);
+
+        tm.resumeDownloadFile(deserialized).completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        wireMock.verify(1, getRequestedFor(urlEqualTo(PATH)));
+        wireMock.verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-29"))
+                                                         .withHeader("If-Match", equalTo(ETAG)));
+    }
+
+    @Test
+    void pauseWhilePartsInFlight_shouldResumeFromTheWrittenParts() throws Exception {
+        stubHead(ETAG);
+        stubRange(CONTENT, ETAG, 0, Duration.ZERO);
+        // The other parts are requested and written concurrently
+        for (int start = 10; start < CONTENT.length; start += 10) {
+            stubRange(CONTENT, ETAG, start, Duration.ofMillis(200));
+        }
+        Path destination = tempDir.resolve("object");
+        CompletableFuture<FileDownload> download = new CompletableFuture<>();
+        CompletableFuture<ResumableFileDownload> paused = new CompletableFuture<>();
+        // Paused as soon as the second part is written, before the download accounts for it
+        TransferListener pauseListener = new TransferListener() {
+            @Override
+            public void bytesTransferred(Context.BytesTransferred context) {
+                if (context.progressSnapshot().transferredBytes() > 10 && !paused.isDone()) {
+                    paused.complete(download.join().pause());
+                }
+            }
+        };
+
+        download.complete(tm.downloadFile(downloadFileRequest(destination).toBuilder()
+                                                                          .addTransferListener(pauseListener)
+                                                                          .build()));
+        ResumableFileDownload resumableFileDownload = paused.get(10, TimeUnit.SECONDS);
+
+        List<Integer> completedParts = resumableFileDownload.completedParts();
+        assertThat(completedParts).contains(1).hasSizeLessThan(4);
+        // The writes in flight landed before the file was recorded, so it is resumed from the parts it holds
+        Thread.sleep(300);
+        assertThat(Files.size(destination)).isEqualTo(resumableFileDownload.bytesTransferred());
+        assertThat(Files.getLastModifiedTime(destination).toMillis())
+            .isEqualTo(resumableFileDownload.fileLastModified().toEpochMilli());
+
+        wireMock.resetRequests();
+        tm.resumeDownloadFile(resumableFileDownload).completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        for (int part = 1; part <= 4; part++) {
+            int start = (part - 1) * 10;
+            int end = Math.min(CONTENT.length, start + 10) - 1;
+            wireMock.verify(completedParts.contains(part) ? 0 : 1,
+                            getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=" + start + "-" + end)));
+        }
+    }
+
+    @Test
+    void resume_objectChangedSincePause_shouldDownloadFromTheStart() throws Exception {
+        Path destination = tempDir.resolve("object");
+        Files.write(destination, Arrays.copyOf(CONTENT, 10));
+        ResumableFileDownload resumableFileDownload =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(downloadFileRequest(destination))
+                                 .bytesTransferred(Files.size(destination))
+                                 .fileLastModified(Files.getLastModifiedTime(destination).toInstant())
+                                 .s3ObjectLastModified(LAST_MODIFIED)
+                                 .totalSizeInBytes((long) CONTENT.length)
+                                 .s3ObjectETag(ETAG)
+                                 .partSizeInBytes(10L)
+                                 .completedParts(Arrays.asList(1))
+                                 .build();
+        byte[] newContent = "ABCDEFGHIJKLMNOPQRSTUVWXYZ9876543210".getBytes(StandardCharsets.UTF_8);
+        stubHead("\"new-etag\"");
+        stubRanges(newContent, "\"new-etag\"");
+
+        tm.resumeDownloadFile(resumableFileDownload).completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(newContent);
+        wireMock.verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9")));
+    }
+
+    private static DownloadFileRequest downloadFileRequest(Path destination) {
+        return DownloadFileRequest.builder()
+                                  .getObjectRequest(r -> r.bucket("bucket").key("key"))
+                                  .destination(destination)
+                                  .build();
+    }
+
+    private static void waitForTransferredBytes(FileDownload download, long bytes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (download.progress().snapshot().transferredBytes() < bytes && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(download.progress().snapshot().transferredBytes()).isEqualTo(bytes);
+    }
+
+    private static void stubHead(String eTag) {
+        wireMock.stubFor(head(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200)
+                                                                      .withHeader("ETag", eTag)
+                                                                      .withHeader("Content-Length",
+                                                                                  String.valueOf(CONTENT.length))
+                                                                      .withHeader("Last-Modified",
+                                                                                  DateUtils.formatRfc822Date(LAST_MODIFIED))));
+    }
+
+    private static void stubRanges(byte[] content, String eTag) {
+        for (int start = 0; start < content.length; start += 10) {
+            stubRange(content, eTag, start, Duration.ZERO);
+        }
+    }
+
+    private static void stubRange(byte[] content, String eTag, int start, Duration delay) {
+        int end = Math.min(content.length, start + 10) - 1;
+        // The first range is always requested with the full part size, as the size of the object isn't known yet
+        String range = "bytes=" + start + "-" + (start == 0 ? 9 : end);
+        wireMock.stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo(range))
+                                              .willReturn(aResponse().withStatus(206)
+                                                                     .withFixedDelay((int) delay.toMillis())
+                                                                     .withHeader("ETag", eTag)
+                                                                     .withHeader("Last-Modified",
+                                                                                 DateUtils.formatRfc822Date(LAST_MODIFIED))
+                                                                     .withHeader("Content-Range",
+                                                                                 "bytes " + start + "-" + end + "/"
+                                                                                 + content.length)
+                                                                     .withBody(Arrays.copyOfRange(content, start,
+                                                                                                  end + 1))));
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,7 +26,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +130,146 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3Objects_concurrentListings_shouldListCommonPrefixesConcurrently() {
+        Map<String, CompletableFuture<ListObjectsV2Response>> pendingListings = new ConcurrentHashMap<>();
+        ListObjectsHelper concurrentHelper = new ListObjectsHelper(request -> {
+            CompletableFuture<ListObjectsV2Response> future = new CompletableFuture<>();
+            pendingListings.put(request.prefix() == null ? "" : request.prefix(), future);
+            return future;
+        }, 3);
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        CompletableFuture<Void> listed = concurrentHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder()
+                                                                                                    .bucket("bucket")
+                                                                                                    .delimiter("/")
+                                                                                                    .build())
+                                                         .subscribe(actualObjects::add);
+
+        List<CommonPrefix> commonPrefixes = Arrays.asList(CommonPrefix.builder().prefix("jan/").build(),
+                                                          CommonPrefix.builder().prefix("feb/").build(),
+                                                          CommonPrefix.builder().prefix("mar/").build());
+        pendingListings.get("").complete(listObjectsV2Response(null, commonPrefixes, "1"));
+
+        // The root listing is done, so all three prefixes are listed at once
+        assertThat(pendingListings).containsOnlyKeys("", "jan/", "feb/", "mar/");
+        assertThat(listed).isNotDone();
+
+        pendingListings.get("mar/").complete(listObjectsV2Response(null, Collections.emptyList(), "mar/1"));
+        pendingListings.get("jan/").complete(listObjectsV2Response(null, Collections.emptyList(), "jan/1", "jan/2"));
+        assertThat(listed).isNotDone();
+        pendingListings.get("feb/").complete(listObjectsV2Response(null, Collections.emptyList(), "feb/1"));
+
+        listed.join();
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("1", "jan/1", "jan/2", "feb/1", "mar/1");
+    }
+
+    @Test
+    void listS3Objects_concurrentListingsWithoutDelimiter_singlePage_shouldListFlat() {
+        List<ListObjectsV2Request> requests = new ArrayList<>();
+        ListObjectsHelper concurrentHelper = new ListObjectsHelper(request -> {
+            requests.add(request);
+            return CompletableFuture.completedFuture(listObjectsV2Response("data/", "data/jan/1", "data/feb/1"));
+        }, 3);
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        concurrentHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").prefix("data/").build())
+                        .subscribe(actualObjects::add)
+                        .join();
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).delimiter()).isNull();
+        assertThat(actualObjects).extracting(S3Object::key).containsExactly("data/jan/1", "data/feb/1");
+    }
+
+    @Test
+    void listS3Objects_concurrentListingsWithoutDelimiter_firstPageInManyDirectories_shouldListFlat() {
+        List<ListObjectsV2Request> requests = new ArrayList<>();
+        List<CompletableFuture<ListObjectsV2Response>> pendingListings = new ArrayList<>();
+        ListObjectsHelper concurrentHelper = new ListObjectsHelper(request -> {
+            CompletableFuture<ListObjectsV2Response> future = new CompletableFuture<>();
+            requests.add(request);
+            pendingListings.add(future);
+            return future;
+        }, 3);
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        CompletableFuture<Void> listed = concurrentHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder()
+                                                                                                    .bucket("bucket")
+                                                                                                    .prefix("data/")
+                                                                                                    .build())
+                                                         .subscribe(actualObjects::add);
+
+        pendingListings.get(0).complete(listObjectsV2Response("token", Collections.emptyList(), "data/jan/1", "data/feb/1", "data/mar/1"));
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).delimiter()).isNull();
+        assertThat(requests.get(1).continuationToken()).isEqualTo("token");
+
+        pendingListings.get(1).complete(listObjectsV2Response("data/apr/1"));
+        listed.join();
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactly("data/jan/1", "data/feb/1", "data/mar/1", "data/apr/1");
+    }
+
+    @Test
+    void listS3Objects_concurrentListingsWithoutDelimiter_firstPageInFewDirectories_shouldListRestOfPrefixesConcurrently() {
+        List<ListObjectsV2Request> requests = new ArrayList<>();
+        Map<String, CompletableFuture<ListObjectsV2Response>> pendingListings = new ConcurrentHashMap<>();
+        ListObjectsHelper concurrentHelper = new ListObjectsHelper(request -> {
+            CompletableFuture<ListObjectsV2Response> future = new CompletableFuture<>();
+            requests.add(request);
+            pendingListings.put(request.prefix() + (request.delimiter() == null ? "" : request.delimiter()), future);
+            return future;
+        }, 3);
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        CompletableFuture<Void> listed = concurrentHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder()
+                                                                                                    .bucket("bucket")
+                                                                                                    .prefix("data/")
+                                                                                                    .build())
+                                                         .subscribe(actualObjects::add);
+
+        pendingListings.get("data/").complete(listObjectsV2Response("token", Collections.emptyList(), "data/", "data/jan/1", "data/jan/2"));
+
+        // The rest of the listing is split, starting after the last key of the first page
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).delimiter()).isEqualTo("/");
+        assertThat(requests.get(1).startAfter()).isEqualTo("data/jan/2");
+        assertThat(requests.get(1).continuationToken()).isNull();
+
+        List<CommonPrefix> commonPrefixes = Arrays.asList(CommonPrefix.builder().prefix("data/jan/").build(),
+                                                          CommonPrefix.builder().prefix("data/feb/").build());
+        pendingListings.get("data//").complete(listObjectsV2Response(null, commonPrefixes, "data/3"));
+
+        assertThat(pendingListings).containsOnlyKeys("data/", "data//", "data/jan//", "data/feb//");
+        assertThat(requests.subList(2, 4)).extracting(ListObjectsV2Request::startAfter).containsOnly("data/jan/2");
+
+        pendingListings.get("data/jan//").complete(listObjectsV2Response("data/jan/3"));
+        pendingListings.get("data/feb//").complete(listObjectsV2Response("data/feb/", "data/feb/1"));
+
+        listed.join();
+        // Like the flat listing, only the virtual directory of the requested prefix is skipped
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("data/jan/1", "data/jan/2", "data/3", "data/jan/3", "data/feb/",
+                                                            "data/feb/1");
+    }
+
+    @Test
+    void listS3Objects_listingFails_shouldFailPublisher() {
+        CompletableFuture<ListObjectsV2Response> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenReturn(failed);
+
+        CompletableFuture<Void> listed = listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder()
+                                                                                                       .bucket("bucket")
+                                                                                                       .build())
+                                                          .subscribe(o -> { });
+
+        assertThatThrownBy(listed::join).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
         return listObjectsV2Response(null, null, keys);
     }
@@ -0,0 +1,221 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.testutils.FileUtils;
+
+class ParallelDirectoryWalkerTest {
+    private static ExecutorService executor;
+    private FileSystem jimfs;
+    private Path root;
+
+    @BeforeAll
+    static void setUpExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void shutDownExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Creates a tree of 3 levels of 4 directories each, with 3 files in every directory including the root.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        jimfs = Jimfs.newFileSystem(Configuration.unix());
+        root = jimfs.getPath("/root");
+        createTree(root, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100})
+    void walk_shouldPublishAllRegularFiles(int maxUnsentFiles) throws IOException {
+        List<Path> files = walk(Integer.MAX_VALUE, false, 3, maxUnsentFiles);
+
+        List<Path> expected;
+        try (Stream<Path> stream = Files.walk(root)) {
+            expected = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        assertThat(files).hasSize(3 + 4 * 3 + 16 * 3 + 64 * 3).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    void walk_maxDepth_shouldMatchFilesWalk(int maxDepth) throws IOException {
+        List<Path> files = walk(maxDepth, false, 2, 5);
+
+        List<Path> expected;
+        try (Stream<Path> stream = Files.walk(root, maxDepth)) {
+            expected = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        assertThat(files).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void walk_subscriberCancels_shouldStopListing() {
+        CompletableFuture<Void> cancelled = new CompletableFuture<>();
+        List<Path> received = Collections.synchronizedList(new ArrayList<>());
+        new ParallelDirectoryWalker(root, Integer.MAX_VALUE, false, executor, 2, 1)
+            .walk()
+            .subscribe(new Subscriber<Path>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription = s;
+                    s.request(5);
+                }
+
+                @Override
+                public void onNext(Path path) {
+                    received.add(path);
+                    if (received.size() == 5) {
+                        subscription.cancel();
+                        cancelled.complete(null);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    cancelled.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    cancelled.completeExceptionally(new AssertionError("Should not complete"));
+                }
+            });
+
+        cancelled.join();
+        assertThat(received).hasSize(5);
+    }
+
+    @Test
+    void walk_executorRejectsResumedListing_shouldFail() throws IOException {
+        Path directory = jimfs.getPath("/flat");
+        Files.createDirectory(directory);
+        for (int i = 0; i < 3; i++) {
+            Files.createFile(directory.resolve("file" + i));
+        }
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, r -> {
+            throw new RejectedExecutionException("rejected");
+        }, 4, 1);
+
+        CompletableFuture<Void> walked = walker.walk().subscribe(path -> { });
+
+        assertThatThrownBy(() -> walked.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void walk_followSymbolicLinksWithLoop_shouldFail() throws IOException {
+        Path directory = Files.createTempDirectory("walker");
+        try {
+            Files.createDirectory(directory.resolve("foo"));
+            Files.createFile(directory.resolve("foo/1.txt"));
+            Files.createSymbolicLink(directory.resolve("foo/loop"), directory);
+
+            assertThatThrownBy(() -> new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, true, executor, 2, 10)
+                .walk()
+                .subscribe(p -> { })
+                .get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SdkClientException.class)
+                .hasRootCauseInstanceOf(FileSystemLoopException.class);
+        } finally {
+            Files.deleteIfExists(directory.resolve("foo/loop"));
+            FileUtils.cleanUpTestDirectory(directory);
+        }
+    }
+
+    @Test
+    void walk_notFollowingSymbolicLinks_shouldSkipLinks() throws IOException {
+        Path directory = Files.createTempDirectory("walker");
+        try {
+            Files.createDirectory(directory.resolve("foo"));
+            Files.createFile(directory.resolve("foo/1.txt"));
+            Files.createSymbolicLink(directory.resolve("loop"), directory.resolve("foo"));
+            Files.createSymbolicLink(directory.resolve("link.txt"), directory.resolve("foo/1.txt"));
+
+            List<Path> files = new ArrayList<>();
+            new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, executor, 2, 10)
+                .walk()
+                .subscribe(files::add)
+                .join();
+
+            assertThat(files).containsExactly(directory.resolve("foo/1.txt"));
+        } finally {
+            FileUtils.cleanUpTestDirectory(directory);
+        }
+    }
+
+    private List<Path> walk(int maxDepth, boolean followSymbolicLinks, int maxConcurrentListings, int maxUnsentFiles) {
+        List<Path> files = Collections.synchronizedList(new ArrayList<>());
+        new ParallelDirectoryWalker(root, maxDepth, followSymbolicLinks, executor, maxConcurrentListings, maxUnsentFiles)
+            .walk()
+            .subscribe(files::add)
+            .join();
+        return files;
+    }
+
+    private static void createTree(Path directory, int levels) throws IOException {
+        Files.createDirectories(directory);
+        for (int i = 0; i < 3; i++) {
+            Files.createFile(directory.resolve("file" + i));
+        }
+        if (levels > 0) {
+            for (int i = 0; i < 4; i++) {
+                createTree(directory.resolve("dir" + i), levels - 1);
+            }
+        }
+    }
+}
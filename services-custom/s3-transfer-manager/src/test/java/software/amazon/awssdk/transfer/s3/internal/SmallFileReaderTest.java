@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+class SmallFileReaderTest {
+    @TempDir
+    Path directory;
+
+    private Path first;
+    private Path second;
+
+    @BeforeEach
+    void setup() throws IOException {
+        first = Files.write(directory.resolve("first"), new byte[] {1, 2});
+        second = Files.write(directory.resolve("second"), new byte[] {3, 4});
+    }
+
+    @Test
+    void read_fileLargerThanThreshold_returnsNull() throws IOException {
+        SmallFileReader reader = new SmallFileReader(1, 10);
+
+        assertThat(reader.read(first)).isNull();
+    }
+
+    @Test
+    void read_fileWithinThreshold_returnsItsContent() throws IOException {
+        SmallFileReader reader = new SmallFileReader(2, 10);
+
+        AsyncRequestBody body = reader.read(first);
+
+        assertThat(body.contentLength()).hasValue(2L);
+    }
+
+    @Test
+    void read_budgetExhausted_returnsNullUntilReleased() throws IOException {
+        SmallFileReader reader = new SmallFileReader(2, 3);
+
+        assertThat(reader.read(first)).isNotNull();
+        assertThat(reader.read(second)).isNull();
+
+        reader.release(2);
+        assertThat(reader.read(second)).isNotNull();
+    }
+}
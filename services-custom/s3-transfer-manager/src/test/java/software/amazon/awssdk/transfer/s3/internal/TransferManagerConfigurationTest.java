@@ -18,12 +18,14 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_LISTING_EXECUTOR;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
 
 import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
@@ -71,6 +73,31 @@ public class TransferManagerConfigurationTest {
         transferManagerConfiguration.close();
         ExecutorService executor = (ExecutorService) transferManagerConfiguration.option(EXECUTOR);
         assertThat(executor.isShutdown()).isTrue();
+        ExecutorService directoryListingExecutor =
+            (ExecutorService) transferManagerConfiguration.option(DIRECTORY_LISTING_EXECUTOR);
+        assertThat(directoryListingExecutor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void noCustomExecutor_shouldListDirectoriesOnTheirOwnThreads() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder().build();
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) transferManagerConfiguration.option(EXECUTOR);
+        ThreadPoolExecutor directoryListingExecutor =
+            (ThreadPoolExecutor) transferManagerConfiguration.option(DIRECTORY_LISTING_EXECUTOR);
+
+        assertThat(executor.getCorePoolSize()).isZero();
+        assertThat(directoryListingExecutor.getCorePoolSize())
+            .isEqualTo(directoryListingExecutor.getMaximumPoolSize())
+            .isEqualTo(TransferConfigurationOption.DEFAULT_DIRECTORY_LISTING_CONCURRENCY);
+        transferManagerConfiguration.close();
+    }
+
+    @Test
+    public void customExecutor_shouldAlsoBeUsedForDirectoryListings() {
+        ExecutorService executorService = Mockito.mock(ExecutorService.class);
+        transferManagerConfiguration = TransferManagerConfiguration.builder().executor(executorService).build();
+        transferManagerConfiguration.option(DIRECTORY_LISTING_EXECUTOR).execute(() -> { });
+        verify(executorService).execute(Mockito.any());
     }
 
     @Test
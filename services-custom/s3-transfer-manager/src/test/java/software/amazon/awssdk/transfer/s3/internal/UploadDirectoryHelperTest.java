@@ -17,6 +17,7 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -33,8 +34,12 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -393,6 +398,66 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("bar.txt");
     }
 
+    @ParameterizedTest
+    @MethodSource("fileSystems")
+    void uploadDirectory_smallFileThreshold_shouldUploadSmallFilesFromMemory(FileSystem fileSystem) {
+        directory = createJimFsTestDirectory(fileSystem);
+        Map<String, Long> smallFileContentLengths = new ConcurrentHashMap<>();
+        UploadDirectoryHelper helper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(),
+                                                                 singleUploadFunction,
+                                                                 (request, body) -> {
+                                                                     smallFileContentLengths.put(
+                                                                         request.putObjectRequest().key(),
+                                                                         body.contentLength().get());
+                                                                     return completedUpload().completionFuture();
+                                                                 });
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture())).thenReturn(completedUpload());
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            helper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                         .source(directory)
+                                                         .bucket("bucket")
+                                                         .smallFileThresholdInBytes(2L)
+                                                         .build())
+                  .completionFuture().join();
+
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(smallFileContentLengths).containsOnly(entry("foo/1.txt", 1L), entry("foo/2.txt", 1L));
+        assertThat(requestArgumentCaptor.getAllValues()).extracting(r -> r.putObjectRequest().key())
+                                                        .containsOnly("bar.txt");
+    }
+
+    @Test
+    void uploadDirectory_smallFileThreshold_shouldReadSmallFilesOnTheExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "small-file-reader"));
+        try {
+            Map<String, String> readingThreads = new ConcurrentHashMap<>();
+            UploadDirectoryHelper helper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                                 .executor(executor)
+                                                                                                 .build(),
+                                                                     singleUploadFunction,
+                                                                     (request, body) -> {
+                                                                         readingThreads.put(request.putObjectRequest().key(),
+                                                                                            Thread.currentThread().getName());
+                                                                         return completedUpload().completionFuture();
+                                                                     });
+            when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+            CompletedDirectoryUpload completedDirectoryUpload =
+                helper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                             .source(directory)
+                                                             .bucket("bucket")
+                                                             .smallFileThresholdInBytes(2L)
+                                                             .build())
+                      .completionFuture().join();
+
+            assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+            assertThat(readingThreads).containsOnly(entry("1", "small-file-reader"), entry("2", "small-file-reader"));
+        } finally {
+            executor.shutdown();
+        }
+    }
 
     @ParameterizedTest
     @MethodSource("fileSystems")
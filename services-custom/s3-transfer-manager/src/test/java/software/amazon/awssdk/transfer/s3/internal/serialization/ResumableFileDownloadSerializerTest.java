@@ -94,6 +94,29 @@ class ResumableFileDownloadSerializerTest {
         assertThat(deserializedDownload).isEqualTo(download);
     }
 
+    @Test
+    void serializeDeserialize_downloadWrittenInParts_shouldPersistCompletedPartsAsRanges()  {
+        ResumableFileDownload download =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(d -> d.destination(Paths.get("test/request"))
+                                                            .getObjectRequest(GET_OBJECT_REQUESTS.get("STANDARD")))
+                                 .bytesTransferred(1000L)
+                                 .fileLastModified(parseIso8601Date("2022-03-08T10:15:30Z"))
+                                 .totalSizeInBytes(5000L)
+                                 .s3ObjectETag("\"etag\"")
+                                 .partSizeInBytes(100L)
+                                 .completedParts(Arrays.asList(1, 2, 3, 5, 7, 8))
+                                 .build();
+
+        byte[] serializedDownload = ResumableFileDownloadSerializer.toJson(download);
+        assertThat(new String(serializedDownload, StandardCharsets.UTF_8))
+            .contains("\"s3ObjectETag\":\"\\\"etag\\\"\",\"partSizeInBytes\":100,\"completedParts\":\"1-3,5,7-8\"");
+
+        ResumableFileDownload deserializedDownload = ResumableFileDownloadSerializer.fromJson(serializedDownload);
+        assertThat(deserializedDownload).isEqualTo(download);
+        assertThat(deserializedDownload.completedParts()).containsExactly(1, 2, 3, 5, 7, 8);
+    }
+
     @Test
     void serializeDeserialize_DoesNotPersistConfiguration()  {
         ResumableFileDownload download =
@@ -159,7 +182,12 @@ class ResumableFileDownloadSerializerTest {
             resumableFileDownload(1000L, null, null, null, request),
             resumableFileDownload(1000L, null, DATE1, null, request),
             resumableFileDownload(1000L, 2000L, DATE1, DATE2, request),
-            resumableFileDownload(Long.MAX_VALUE, Long.MAX_VALUE, DATE1, DATE2, request)
+            resumableFileDownload(Long.MAX_VALUE, Long.MAX_VALUE, DATE1, DATE2, request),
+            resumableFileDownload(1000L, 2000L, DATE1, DATE2, request).copy(d -> d.s3ObjectETag("etag")
+                                                                                  .partSizeInBytes(100L)
+                                                                                  .completedParts(Arrays.asList(1, 3))),
+            resumableFileDownload(1000L, 2000L, DATE1, DATE2, request).copy(d -> d.s3ObjectETag("etag")
+                                                                                  .partSizeInBytes(100L))
         );
     }
 
@@ -37,6 +37,28 @@ public class UploadDirectoryRequestTest {
         ).isInstanceOf(NullPointerException.class).hasMessageContaining("bucket");
     }
 
+    @Test
+    public void negativeSmallFileThreshold_throws() {
+        assertThatThrownBy(() ->
+                               UploadDirectoryRequest.builder()
+                                                     .source(Paths.get("."))
+                                                     .bucket("bucket")
+                                                     .smallFileThresholdInBytes(-1L)
+                                                     .build()
+        ).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("smallFileThresholdInBytes");
+    }
+
+    @Test
+    public void smallFileThresholdTooLarge_throws() {
+        assertThatThrownBy(() ->
+                               UploadDirectoryRequest.builder()
+                                                     .source(Paths.get("."))
+                                                     .bucket("bucket")
+                                                     .smallFileThresholdInBytes(8L * 1024 * 1024 + 1)
+                                                     .build()
+        ).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("small file threshold");
+    }
+
     @Test
     public void equals_hashcode() {
         EqualsVerifier.forClass(UploadDirectoryRequest.class)
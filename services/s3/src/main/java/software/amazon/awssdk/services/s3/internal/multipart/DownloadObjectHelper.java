@@ -0,0 +1,528 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PAUSE_OBSERVABLE;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PROGRESS_LISTENER;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_RESUME_TOKEN;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.multipart.DownloadPauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3DownloadResumeToken;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An internal helper class that downloads an object with concurrent ranged GET requests of one part size each.
+ * <p>
+ * The first range is requested on its own to learn the size and the ETag of the object. An object that fits in that range is
+ * passed to the response transformer as is. The remaining ranges of a larger object are requested conditionally on the ETag
+ * of the first one, and are written at their offset if the transformer writes a new or replaced file, or published in order
+ * to the transformer otherwise.
+ * <p>
+ * A download written at part offsets can be paused through the {@link DownloadPauseObservable} of the request, and resumed
+ * from the resulting {@link S3DownloadResumeToken}, in which case only the parts missing from the file are downloaded.
+ */
+@SdkInternalApi
+public final class DownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(S3AsyncClient.class);
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.maxInFlightParts = maxInFlightParts(resolver.apiCallBufferSize(), partSizeInBytes);
+    }
+
+    public <T> CompletableFuture<T> downloadObject(GetObjectRequest getObjectRequest,
+                                                   AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+        ObjectDownload<T> download = new ObjectDownload<>(getObjectRequest, asyncResponseTransformer);
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number specified on the request, downloading the object with a single request");
+            return s3AsyncClient.getObject(getObjectRequest, download.notifyingTransformer);
+        }
+
+        S3DownloadResumeToken resumeToken = executionAttribute(getObjectRequest, DOWNLOAD_RESUME_TOKEN);
+        if (resumeToken != null) {
+            FileAsyncResponseTransformer<?> fileTransformer = fileTransformer(asyncResponseTransformer);
+            if (fileTransformer != null && isResumable(resumeToken)) {
+                download.resume(fileTransformer, resumeToken);
+                return download.returnFuture;
+            }
+            log.debug(() -> "The resume token can't be used to resume the download, downloading the object from the start");
+        }
+
+        download.start();
+        return download.returnFuture;
+    }
+
+    private static int maxInFlightParts(long apiCallBufferSize, long partSizeInBytes) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, apiCallBufferSize / partSizeInBytes));
+    }
+
+    private static boolean isResumable(S3DownloadResumeToken resumeToken) {
+        return resumeToken.eTag() != null
+               && resumeToken.objectSize() != null && resumeToken.objectSize() > 0
+               && resumeToken.partSize() != null && resumeToken.partSize() > 0;
+    }
+
+    private static <T> T executionAttribute(GetObjectRequest getObjectRequest, ExecutionAttribute<T> attribute) {
+        return getObjectRequest.overrideConfiguration()
+                               .map(c -> c.executionAttributes().getAttribute(attribute))
+                               .orElse(null);
+    }
+
+    private static FileAsyncResponseTransformer<?> fileTransformer(Object asyncResponseTransformer) {
+        return asyncResponseTransformer instanceof FileAsyncResponseTransformer
+               ? (FileAsyncResponseTransformer<?>) asyncResponseTransformer : null;
+    }
+
+    /**
+     * Returns the transformer if it writes the object at the start of a new or replaced file, in which case the parts can be
+     * written at their offset as they arrive rather than in order, or null otherwise.
+     */
+    private static FileAsyncResponseTransformer<?> wholeFileTransformer(Object asyncResponseTransformer) {
+        FileAsyncResponseTransformer<?> fileTransformer = fileTransformer(asyncResponseTransformer);
+        if (fileTransformer == null) {
+            return null;
+        }
+        switch (fileTransformer.configuration().fileWriteOption()) {
+            case CREATE_NEW:
+            case CREATE_OR_REPLACE_EXISTING:
+                return fileTransformer;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A {@link FileAsyncResponseTransformer} results in the response itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T fileTransformerResult(GetObjectResponse response) {
+        return (T) response;
+    }
+
+    private static GetObjectResponse wholeObjectResponse(GetObjectResponse rangeResponse, long objectSize) {
+        return rangeResponse.toBuilder()
+                            .contentLength(objectSize)
+                            .contentRange(null)
+                            .build();
+    }
+
+    /**
+     * Returns the size of the object from the Content-Range of a ranged GET response, e.g. {@code bytes 0-99/1234}, or the
+     * length of the response if it isn't a partial response.
+     */
+    private static long objectSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            int separator = contentRange.lastIndexOf('/');
+            if (separator >= 0 && separator < contentRange.length() - 1 && contentRange.charAt(separator + 1) != '*') {
+                return Long.parseLong(contentRange.substring(separator + 1).trim());
+            }
+        }
+        return response.contentLength() == null ? 0 : response.contentLength();
+    }
+
+    private static long partLength(int partIndex, long objectSize, long partSize) {
+        return Math.min(partSize, objectSize - partIndex * partSize);
+    }
+
+    private static GetObjectRequest conditionalPartRequest(GetObjectRequest getObjectRequest, String eTag) {
+        if (getObjectRequest.ifMatch() != null || eTag == null) {
+            return getObjectRequest;
+        }
+        // Fail the download instead of mixing the ranges of two versions if the object is overwritten in the meantime
+        return getObjectRequest.toBuilder().ifMatch(eTag).build();
+    }
+
+    private static S3DownloadResumeToken resumeToken(String eTag, long objectSize, long partSize, BitSet writtenParts) {
+        List<Integer> completedParts = writtenParts.stream()
+                                                   .map(partIndex -> partIndex + 1)
+                                                   .boxed()
+                                                   .collect(Collectors.toList());
+        return S3DownloadResumeToken.builder()
+                                    .eTag(eTag)
+                                    .objectSize(objectSize)
+                                    .partSize(partSize)
+                                    .completedParts(completedParts)
+                                    .build();
+    }
+
+    private static void notifyListener(Runnable callback, String callbackName) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            log.error(() -> callbackName + " callback failed. This exception will be dropped.", e);
+        }
+    }
+
+    /**
+     * The state of a single {@link #downloadObject} call.
+     */
+    private final class ObjectDownload<T> {
+        private final GetObjectRequest getObjectRequest;
+        private final AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer;
+        private final AsyncResponseTransformer<GetObjectResponse, T> notifyingTransformer;
+        private final AsyncResponseTransformerListener<GetObjectResponse> progressListener;
+        private final DownloadPauseObservable pauseObservable;
+        private final CompletableFuture<T> returnFuture = new CompletableFuture<>();
+
+        private ObjectDownload(GetObjectRequest getObjectRequest,
+                               AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+            this.getObjectRequest = getObjectRequest;
+            this.asyncResponseTransformer = asyncResponseTransformer;
+            this.progressListener = executionAttribute(getObjectRequest, DOWNLOAD_PROGRESS_LISTENER);
+            this.pauseObservable = executionAttribute(getObjectRequest, DOWNLOAD_PAUSE_OBSERVABLE);
+            this.notifyingTransformer = progressListener == null
+                                        ? asyncResponseTransformer
+                                        : AsyncResponseTransformerListener.wrap(asyncResponseTransformer, progressListener);
+        }
+
+        private void start() {
+            try {
+                FirstPartTransformer<T> firstPartTransformer = new FirstPartTransformer<>(notifyingTransformer);
+                CompletableFuture<Object> firstPartFuture =
+                    s3AsyncClient.getObject(ParallelPartDownloader.rangeRequest(getObjectRequest, 0, partSizeInBytes),
+                                            firstPartTransformer);
+
+                // Ensure cancellations are forwarded to the first part future
+                CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+                firstPartFuture.whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        handleFirstPartFailure(throwable);
+                    } else if (!firstPartTransformer.multipart) {
+                        log.debug(() -> "The object was downloaded with a single request");
+                        returnFuture.complete(firstPartTransformer.transformerResult(result));
+                    } else {
+                        downloadInParts(firstPartTransformer.response, firstPartTransformer.objectSize,
+                                        firstPartTransformer.firstPart(result));
+                    }
+                });
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+            }
+        }
+
+        private void handleFirstPartFailure(Throwable throwable) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                              ? throwable.getCause() : throwable;
+            if (cause instanceof S3Exception && ((S3Exception) cause).statusCode() == RANGE_NOT_SATISFIABLE
+                && !returnFuture.isDone()) {
+                // An empty object has no byte range to satisfy
+                log.debug(() -> "The first range of the object is not satisfiable, downloading it with a single request");
+                CompletableFuture<T> getObjectFuture = s3AsyncClient.getObject(getObjectRequest, notifyingTransformer);
+                CompletableFutureUtils.forwardExceptionTo(returnFuture, getObjectFuture);
+                CompletableFutureUtils.forwardResultTo(getObjectFuture, returnFuture);
+                return;
+            }
+            returnFuture.completeExceptionally(throwable);
+        }
+
+        private void downloadInParts(GetObjectResponse firstPartResponse, long objectSize, ByteBuffer firstPart) {
+            GetObjectResponse response = wholeObjectResponse(firstPartResponse, objectSize);
+            GetObjectRequest partRequest = conditionalPartRequest(getObjectRequest, firstPartResponse.eTag());
+
+            log.debug(() -> String.format("Starting multipart download with objectSize: %s, partSize: %s, "
+                                          + "maxInFlightParts: %s", objectSize, partSizeInBytes, maxInFlightParts));
+
+            PartWriter partWriter;
+            CompletableFuture<T> transformerFuture;
+            try {
+                FileAsyncResponseTransformer<?> fileTransformer = wholeFileTransformer(asyncResponseTransformer);
+                if (fileTransformer != null) {
+                    partWriter = notifyingPartWriter(FilePartWriter.open(fileTransformer), response);
+                    transformerFuture = null;
+                } else {
+                    OrderedPartWriter orderedPartWriter = new OrderedPartWriter();
+                    partWriter = orderedPartWriter;
+                    transformerFuture = notifyingTransformer.prepare();
+                    notifyingTransformer.onResponse(response);
+                    notifyingTransformer.onStream(SdkPublisher.adapt(orderedPartWriter.publisher()));
+                    CompletableFutureUtils.forwardResultTo(transformerFuture, returnFuture);
+                }
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+                return;
+            }
+
+            // Parts published in order to a transformer can't be resumed from the parts written at their offset
+            DownloadPauseObservable observable = transformerFuture == null ? pauseObservable : null;
+            writeParts(partRequest, firstPartResponse.eTag(), objectSize, partSizeInBytes, new BitSet(), 0, firstPart,
+                       partWriter, observable).whenComplete((r, t) -> {
+                           if (t != null) {
+                               if (transformerFuture != null) {
+                                   notifyingTransformer.exceptionOccurred(t);
+                               }
+                               returnFuture.completeExceptionally(t);
+                           } else if (transformerFuture == null) {
+                               returnFuture.complete(fileTransformerResult(response));
+                           }
+                       });
+        }
+
+        /**
+         * Downloads the parts of the object that are missing from the file of a paused download. The first missing part is
+         * requested on its own to verify that the object wasn't overwritten since, before the file is opened.
+         */
+        private void resume(FileAsyncResponseTransformer<?> fileTransformer, S3DownloadResumeToken resumeToken) {
+            long objectSize = resumeToken.objectSize();
+            long partSize = resumeToken.partSize();
+            int partCount = ParallelPartDownloader.partCount(objectSize, partSize);
+            BitSet completedParts = new BitSet(partCount);
+            resumeToken.completedParts().stream()
+                       .filter(partNumber -> partNumber != null && partNumber >= 1 && partNumber <= partCount)
+                       .forEach(partNumber -> completedParts.set(partNumber - 1));
+
+            int firstMissingPart = completedParts.nextClearBit(0);
+            if (firstMissingPart >= partCount) {
+                // Every part was written before the download was paused; download the last one again to complete it
+                firstMissingPart = partCount - 1;
+                completedParts.clear(firstMissingPart);
+            }
+            int firstPartIndex = firstMissingPart;
+            long firstPartLength = partLength(firstPartIndex, objectSize, partSize);
+            long remainingBytes = objectSize - completedParts.stream()
+                                                             .mapToLong(partIndex -> partLength(partIndex, objectSize, partSize))
+                                                             .sum();
+            GetObjectRequest partRequest = conditionalPartRequest(getObjectRequest, resumeToken.eTag());
+
+            log.debug(() -> String.format("Resuming multipart download with objectSize: %s, partSize: %s, "
+                                          + "completed parts: %s", objectSize, partSize, completedParts.cardinality()));
+
+            try {
+                CompletableFuture<ResponseBytes<GetObjectResponse>> firstPartFuture =
+                    s3AsyncClient.getObject(ParallelPartDownloader.rangeRequest(partRequest, firstPartIndex * partSize,
+                                                                                firstPartLength),
+                                            AsyncResponseTransformer.toBytes());
+                CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+                firstPartFuture.whenComplete((bytes, throwable) -> {
+                    if (throwable != null) {
+                        returnFuture.completeExceptionally(throwable);
+                        return;
+                    }
+                    GetObjectResponse firstPartResponse = bytes.response();
+                    ByteBuffer firstPart = bytes.asByteBuffer();
+                    if (firstPart.remaining() != firstPartLength || objectSize(firstPartResponse) != objectSize) {
+                        returnFuture.completeExceptionally(SdkClientException.create(
+                            String.format("The object does not match the resume token: expected %d bytes of an object of "
+                                          + "%d bytes, but received %d bytes of an object of %d bytes", firstPartLength,
+                                          objectSize, firstPart.remaining(), objectSize(firstPartResponse))));
+                        return;
+                    }
+
+                    PartWriter partWriter;
+                    try {
+                        // Like a ranged GET resuming a download, the progress only accounts for the bytes left to download
+                        partWriter = notifyingPartWriter(FilePartWriter.openForResume(fileTransformer),
+                                                         wholeObjectResponse(firstPartResponse, remainingBytes));
+                    } catch (Throwable t) {
+                        returnFuture.completeExceptionally(t);
+                        return;
+                    }
+
+                    GetObjectResponse response = wholeObjectResponse(firstPartResponse, objectSize);
+                    writeParts(partRequest, resumeToken.eTag(), objectSize, partSize, completedParts, firstPartIndex,
+                               firstPart, partWriter, pauseObservable).whenComplete((r, t) -> {
+                                   if (t != null) {
+                                       returnFuture.completeExceptionally(t);
+                                   } else {
+                                       returnFuture.complete(fileTransformerResult(response));
+                                   }
+                               });
+                });
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+            }
+        }
+
+        /**
+         * Writes the given part, downloads and writes the other parts that are not completed yet, and completes the writer.
+         */
+        private CompletableFuture<Void> writeParts(GetObjectRequest partRequest,
+                                                   String eTag,
+                                                   long objectSize,
+                                                   long partSize,
+                                                   BitSet completedParts,
+                                                   int partIndex,
+                                                   ByteBuffer part,
+                                                   PartWriter partWriter,
+                                                   DownloadPauseObservable observable) {
+            ParallelPartDownloader downloader =
+                new ParallelPartDownloader(s3AsyncClient, partRequest, objectSize, partSize, maxInFlightParts, partWriter,
+                                           completedParts);
+            CompletableFuture<Void> downloadFuture = downloader.download(partIndex, part);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, downloadFuture);
+
+            CompletableFuture<Void> writtenFuture = new CompletableFuture<>();
+            downloadFuture.whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    // The writer is only done with the file once the writes in flight landed
+                    partWriter.fail(throwable).whenComplete((r, t) -> writtenFuture.completeExceptionally(throwable));
+                    return;
+                }
+                CompletableFutureUtils.forwardResultTo(partWriter.complete(), writtenFuture);
+            });
+
+            if (observable != null) {
+                observable.setPausableDownload(() -> {
+                    // Stop the download and wait until the writer is done with the file: the download can only be resumed
+                    // from its parts if the file doesn't change once paused
+                    downloadFuture.cancel(true);
+                    writtenFuture.handle((r, t) -> null).join();
+                    return resumeToken(eTag, objectSize, partSize, downloader.writtenParts());
+                });
+            }
+            return writtenFuture;
+        }
+
+        private PartWriter notifyingPartWriter(PartWriter partWriter, GetObjectResponse response) {
+            if (progressListener == null) {
+                return partWriter;
+            }
+            notifyListener(() -> progressListener.transformerOnResponse(response), "transformerOnResponse");
+            return new NotifyingPartWriter(partWriter, progressListener);
+        }
+    }
+
+    /**
+     * A {@link PartWriter} that notifies the progress listener of the download of the parts written at their offset, which
+     * don't flow through the response transformer.
+     */
+    private static final class NotifyingPartWriter implements PartWriter {
+        private final PartWriter delegate;
+        private final AsyncResponseTransformerListener<GetObjectResponse> listener;
+
+        private NotifyingPartWriter(PartWriter delegate, AsyncResponseTransformerListener<GetObjectResponse> listener) {
+            this.delegate = delegate;
+            this.listener = listener;
+        }
+
+        @Override
+        public CompletableFuture<Void> write(int partIndex, long offset, ByteBuffer part) {
+            ByteBuffer written = part.slice();
+            return delegate.write(partIndex, offset, part)
+                           .thenRun(() -> notifyListener(() -> listener.subscriberOnNext(written), "subscriberOnNext"));
+        }
+
+        @Override
+        public CompletableFuture<Void> complete() {
+            return delegate.complete()
+                           .thenRun(() -> notifyListener(listener::subscriberOnComplete, "subscriberOnComplete"));
+        }
+
+        @Override
+        public CompletableFuture<Void> fail(Throwable throwable) {
+            try {
+                return delegate.fail(throwable);
+            } finally {
+                notifyListener(() -> listener.subscriberOnError(throwable), "subscriberOnError");
+            }
+        }
+    }
+
+    /**
+     * Receives the first range of the object, and decides from its response whether the object fits in it. If so, the range is
+     * passed to the transformer of the download; otherwise, it is buffered to be written along with the remaining parts.
+     */
+    private final class FirstPartTransformer<T> implements AsyncResponseTransformer<GetObjectResponse, Object> {
+        private final AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer;
+        private volatile CompletableFuture<Object> future;
+        private volatile AsyncResponseTransformer<GetObjectResponse, ?> currentTransformer;
+        private volatile GetObjectResponse response;
+        private volatile long objectSize;
+        private volatile boolean multipart;
+
+        private FirstPartTransformer(AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+            this.asyncResponseTransformer = asyncResponseTransformer;
+        }
+
+        @Override
+        public CompletableFuture<Object> prepare() {
+            // prepare may be called once per attempt of the request
+            future = new CompletableFuture<>();
+            currentTransformer = null;
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse getObjectResponse) {
+            response = getObjectResponse;
+            objectSize = objectSize(getObjectResponse);
+            // A response without Content-Range already holds the whole object
+            multipart = getObjectResponse.contentRange() != null && objectSize > partSizeInBytes;
+            currentTransformer = multipart ? AsyncResponseTransformer.toBytes() : asyncResponseTransformer;
+
+            CompletableFuture<Object> attemptFuture = future;
+            currentTransformer.prepare().whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    attemptFuture.completeExceptionally(throwable);
+                } else {
+                    attemptFuture.complete(result);
+                }
+            });
+            currentTransformer.onResponse(multipart ? getObjectResponse : wholeObjectResponse(getObjectResponse, objectSize));
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            currentTransformer.onStream(publisher);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            AsyncResponseTransformer<GetObjectResponse, ?> transformer = currentTransformer;
+            if (transformer != null) {
+                transformer.exceptionOccurred(error);
+            }
+            future.completeExceptionally(error);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T transformerResult(Object result) {
+            return (T) result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ByteBuffer firstPart(Object result) {
+            return ((ResponseBytes<GetObjectResponse>) result).asByteBuffer();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A {@link PartWriter} that writes each part at its offset in a file as soon as it is downloaded, honoring the
+ * {@link FileTransformerConfiguration} of the {@link FileAsyncResponseTransformer} it replaces.
+ * <p>
+ * When the download fails, or is paused, the file is only closed once the writes in flight are done, so that it doesn't
+ * change after the writer released it.
+ */
+@SdkInternalApi
+final class FilePartWriter implements PartWriter {
+    private static final Logger log = Logger.loggerFor(FilePartWriter.class);
+
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+    private final AsynchronousFileChannel fileChannel;
+    private final CompletableFuture<Void> released = new CompletableFuture<>();
+    private int writesInFlight;
+    private boolean failed;
+
+    private FilePartWriter(Path path, FileTransformerConfiguration configuration, AsynchronousFileChannel fileChannel) {
+        this.path = path;
+        this.configuration = configuration;
+        this.fileChannel = fileChannel;
+    }
+
+    /**
+     * Opens the file of a transformer that writes a new file, or replaces an existing one.
+     */
+    static FilePartWriter open(FileAsyncResponseTransformer<?> transformer) throws IOException {
+        Set<OpenOption> options = new HashSet<>();
+        switch (transformer.configuration().fileWriteOption()) {
+            case CREATE_OR_REPLACE_EXISTING:
+                Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+                break;
+            case CREATE_NEW:
+                Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported file write option: "
+                                                   + transformer.configuration().fileWriteOption());
+        }
+        return open(transformer, options);
+    }
+
+    /**
+     * Opens the file of a transformer without truncating it, to write the parts of a resumed download that are not in it yet.
+     */
+    static FilePartWriter openForResume(FileAsyncResponseTransformer<?> transformer) throws IOException {
+        Set<OpenOption> options = new HashSet<>();
+        Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        return open(transformer, options);
+    }
+
+    private static FilePartWriter open(FileAsyncResponseTransformer<?> transformer, Set<OpenOption> options)
+            throws IOException {
+        FileTransformerConfiguration configuration = transformer.configuration();
+        AsynchronousFileChannel fileChannel =
+            AsynchronousFileChannel.open(transformer.path(), options, configuration.executorService().orElse(null));
+        return new FilePartWriter(transformer.path(), configuration, fileChannel);
+    }
+
+    @Override
+    public CompletableFuture<Void> write(int partIndex, long offset, ByteBuffer part) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (failed) {
+                future.completeExceptionally(new IOException("The download of " + path + " failed"));
+                return future;
+            }
+            writesInFlight++;
+        }
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        written.whenComplete((r, t) -> {
+            // The write is done before its future is completed, so that a pause triggered by its completion doesn't wait
+            // for it
+            writeDone();
+            if (t != null) {
+                future.completeExceptionally(t);
+            } else {
+                future.complete(null);
+            }
+        });
+        try {
+            writeFully(part, offset, written);
+        } catch (Throwable t) {
+            written.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    private void writeDone() {
+        boolean release;
+        synchronized (this) {
+            writesInFlight--;
+            release = failed && writesInFlight == 0;
+        }
+        if (release) {
+            release();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position, CompletableFuture<Void> future) {
+        fileChannel.write(buffer, position, buffer, new CompletionHandler<Integer, ByteBuffer>() {
+            @Override
+            public void completed(Integer written, ByteBuffer attachment) {
+                if (attachment.hasRemaining()) {
+                    writeFully(attachment, position + written, future);
+                } else {
+                    future.complete(null);
+                }
+            }
+
+            @Override
+            public void failed(Throwable exc, ByteBuffer attachment) {
+                future.completeExceptionally(exc);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> complete() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            fileChannel.close();
+            future.complete(null);
+        } catch (IOException e) {
+            fail(e);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> fail(Throwable throwable) {
+        boolean release;
+        synchronized (this) {
+            if (failed) {
+                return released;
+            }
+            failed = true;
+            release = writesInFlight == 0;
+        }
+        if (release) {
+            release();
+        }
+        return released;
+    }
+
+    private void release() {
+        try {
+            runAndLogError(log.logger(),
+                           String.format("Failed to close the file %s, resource may be leaked", path),
+                           fileChannel::close);
+        } finally {
+            if (configuration.failureBehavior() == FailureBehavior.DELETE) {
+                runAndLogError(log.logger(),
+                               String.format("Failed to delete the file %s", path),
+                               () -> Files.deleteIfExists(path));
+            }
+            released.complete(null);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * A {@link PartWriter} that publishes the parts in order, holding on to the parts that arrive before the ones preceding them
+ * until those are published.
+ */
+@SdkInternalApi
+final class OrderedPartWriter implements PartWriter {
+    private final SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+    private final Map<Integer, PendingPart> pendingParts = new HashMap<>();
+    private int nextPartToPublish;
+
+    SimplePublisher<ByteBuffer> publisher() {
+        return publisher;
+    }
+
+    @Override
+    public CompletableFuture<Void> write(int partIndex, long offset, ByteBuffer part) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            pendingParts.put(partIndex, new PendingPart(part, future));
+            PendingPart next;
+            while ((next = pendingParts.remove(nextPartToPublish)) != null) {
+                nextPartToPublish++;
+                // The publisher queues the parts in the order they are sent, and completes their future once delivered
+                CompletableFutureUtils.forwardResultTo(publisher.send(next.part), next.future);
+            }
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> complete() {
+        return publisher.complete();
+    }
+
+    @Override
+    public CompletableFuture<Void> fail(Throwable throwable) {
+        synchronized (this) {
+            pendingParts.clear();
+        }
+        publisher.error(throwable);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static final class PendingPart {
+        private final ByteBuffer part;
+        private final CompletableFuture<Void> future;
+
+        private PendingPart(ByteBuffer part, CompletableFuture<Void> future) {
+            this.part = part;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Downloads the parts of an object that are not written yet with ranged GET requests and hands them to a {@link PartWriter}.
+ * <p>
+ * A part holds its slot from the time it is requested until the writer is done with it, and at most
+ * {@code maxInFlightParts} slots are held at any time, which bounds the memory used by the download to as many parts. The
+ * first failed part fails the download and cancels the requests in flight.
+ */
+@SdkInternalApi
+final class ParallelPartDownloader {
+    private final S3AsyncClient s3AsyncClient;
+    private final GetObjectRequest partRequest;
+    private final long objectSize;
+    private final long partSizeInBytes;
+    private final int partCount;
+    private final int maxInFlightParts;
+    private final PartWriter partWriter;
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final Map<Integer, CompletableFuture<?>> inFlightRequests = new ConcurrentHashMap<>();
+    private final BitSet claimedParts;
+    private final BitSet writtenParts;
+    private int nextPart;
+    private int heldSlots;
+
+    ParallelPartDownloader(S3AsyncClient s3AsyncClient,
+                           GetObjectRequest partRequest,
+                           long objectSize,
+                           long partSizeInBytes,
+                           int maxInFlightParts,
+                           PartWriter partWriter) {
+        this(s3AsyncClient, partRequest, objectSize, partSizeInBytes, maxInFlightParts, partWriter, new BitSet());
+    }
+
+    /**
+     * @param completedParts the indexes of the parts that were already written by a previous download, which are skipped
+     */
+    ParallelPartDownloader(S3AsyncClient s3AsyncClient,
+                           GetObjectRequest partRequest,
+                           long objectSize,
+                           long partSizeInBytes,
+                           int maxInFlightParts,
+                           PartWriter partWriter,
+                           BitSet completedParts) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partRequest = partRequest;
+        this.objectSize = objectSize;
+        this.partSizeInBytes = partSizeInBytes;
+        this.partCount = partCount(objectSize, partSizeInBytes);
+        this.maxInFlightParts = maxInFlightParts;
+        this.partWriter = partWriter;
+        this.claimedParts = (BitSet) completedParts.clone();
+        this.writtenParts = (BitSet) completedParts.clone();
+    }
+
+    static int partCount(long objectSize, long partSizeInBytes) {
+        return (int) ((objectSize + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    static GetObjectRequest rangeRequest(GetObjectRequest getObjectRequest, long start, long length) {
+        return getObjectRequest.toBuilder()
+                               .range("bytes=" + start + "-" + (start + length - 1))
+                               .build();
+    }
+
+    /**
+     * Writes the already downloaded first part and downloads the remaining ones.
+     *
+     * @return a future completed once every part was written. Cancelling it cancels the requests in flight.
+     */
+    CompletableFuture<Void> download(ByteBuffer firstPart) {
+        return download(0, firstPart);
+    }
+
+    /**
+     * Writes an already downloaded part and downloads the remaining ones that are not written yet.
+     *
+     * @return a future completed once every part was written. Cancelling it cancels the requests in flight.
+     */
+    CompletableFuture<Void> download(int partIndex, ByteBuffer part) {
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                inFlightRequests.values().forEach(f -> f.cancel(true));
+            }
+        });
+        synchronized (this) {
+            claimedParts.set(partIndex);
+            nextPart = claimedParts.nextClearBit(0);
+            heldSlots = 1;
+        }
+        write(partIndex, part);
+        requestParts();
+        return result;
+    }
+
+    /**
+     * @return the indexes of the parts written so far, including the ones written by a previous download
+     */
+    synchronized BitSet writtenParts() {
+        return (BitSet) writtenParts.clone();
+    }
+
+    private void requestParts() {
+        List<Integer> parts = new ArrayList<>();
+        synchronized (this) {
+            while (!result.isDone() && heldSlots < maxInFlightParts && nextPart < partCount) {
+                heldSlots++;
+                claimedParts.set(nextPart);
+                parts.add(nextPart);
+                nextPart = claimedParts.nextClearBit(nextPart);
+            }
+        }
+        parts.forEach(this::requestPart);
+    }
+
+    private void requestPart(int part) {
+        long start = part * partSizeInBytes;
+        long length = Math.min(partSizeInBytes, objectSize - start);
+        CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+        try {
+            future = s3AsyncClient.getObject(rangeRequest(partRequest, start, length), AsyncResponseTransformer.toBytes());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+        inFlightRequests.put(part, future);
+        if (result.isDone()) {
+            future.cancel(true);
+        }
+
+        future.whenComplete((bytes, t) -> {
+            inFlightRequests.remove(part);
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+            ByteBuffer buffer = bytes.asByteBuffer();
+            if (buffer.remaining() != length) {
+                result.completeExceptionally(SdkClientException.create(
+                    String.format("Expected %d bytes for the range starting at %d, but received %d", length, start,
+                                  buffer.remaining())));
+                return;
+            }
+            write(part, buffer);
+        });
+    }
+
+    private void write(int part, ByteBuffer buffer) {
+        CompletableFuture<Void> writeFuture;
+        try {
+            writeFuture = partWriter.write(part, part * partSizeInBytes, buffer);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+
+        writeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+            boolean done;
+            synchronized (this) {
+                heldSlots--;
+                writtenParts.set(part);
+                done = writtenParts.cardinality() == partCount;
+            }
+            if (done) {
+                result.complete(null);
+            } else {
+                requestParts();
+            }
+        });
+    }
+}
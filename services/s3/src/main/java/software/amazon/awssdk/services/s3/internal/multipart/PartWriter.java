@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Writes the parts of an object downloaded by a {@link ParallelPartDownloader} to their destination.
+ */
+@SdkInternalApi
+interface PartWriter {
+
+    /**
+     * Writes a part of the object.
+     *
+     * @param partIndex the zero-based index of the part
+     * @param offset the offset of the part in the object
+     * @param part the content of the part
+     * @return a future completed once the writer no longer holds on to the content of the part
+     */
+    CompletableFuture<Void> write(int partIndex, long offset, ByteBuffer part);
+
+    /**
+     * Called once every part was written.
+     *
+     * @return a future completed once the destination is complete
+     */
+    CompletableFuture<Void> complete();
+
+    /**
+     * Called if the download fails, after which no more parts are written.
+     *
+     * @return a future completed once the writes that were in flight are done and the destination is released
+     */
+    CompletableFuture<Void> fail(Throwable throwable);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.services.s3.internal.multipart.PausableDownload;
+
+@SdkProtectedApi
+public class DownloadPauseObservable {
+
+    private volatile PausableDownload pausableDownload;
+
+    public void setPausableDownload(PausableDownload pausableDownload) {
+        this.pausableDownload = pausableDownload;
+    }
+
+    public S3DownloadResumeToken pause() {
+        // single part download, download not written to a file at part offsets, or TM is not used
+        if (pausableDownload == null) {
+            return null;
+        }
+        return pausableDownload.pause();
+    }
+
+    public PausableDownload pausableDownload() {
+        return pausableDownload;
+    }
+}
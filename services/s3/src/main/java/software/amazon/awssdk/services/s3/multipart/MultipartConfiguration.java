@@ -30,11 +30,8 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * Class that hold configuration properties related to multipart operation for a {@link S3AsyncClient}. Passing this class to the
  * {@link S3AsyncClientBuilder#multipartConfiguration(MultipartConfiguration)} will enable automatic conversion of
  * {@link S3AsyncClient#putObject(Consumer, AsyncRequestBody)}, {@link S3AsyncClient#copyObject(CopyObjectRequest)} to their
- * respective multipart operation.
- * <p>
- * <em>Note</em>: The multipart operation for {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} is
- * temporarily disabled and will result in throwing a {@link UnsupportedOperationException} if called when configured for
- * multipart operation.
+ * respective multipart operation, and of {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} to
+ * concurrent ranged GET requests.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -120,7 +117,7 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
 
         /**
          * Configures the part size, in bytes, to be used in each individual part requests.
-         * Only used for putObject and copyObject operations.
+         * For getObject operations, this is the size of the byte range fetched by each individual ranged GET request.
          * <p>
          * When uploading large payload, the size of the payload of each individual part requests might actually be
          * bigger than
@@ -149,6 +146,9 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * Configures the maximum amount of memory, in bytes, the SDK will use to buffer content of requests in memory.
          * Increasing this value may lead to better performance at the cost of using more memory.
          * <p>
+         * For getObject operations, this bounds the number of parts that are fetched concurrently or buffered waiting to be
+         * written, to {@code apiCallBufferSizeInBytes / minimumPartSizeInBytes}, and at least one.
+         * <p>
          * Default value: If not specified, the SDK will use the equivalent of four parts worth of memory, so 32 Mib by default.
          *
          * @param apiCallBufferSizeInBytes the value of the maximum memory usage.
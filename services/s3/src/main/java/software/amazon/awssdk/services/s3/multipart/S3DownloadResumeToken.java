@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * The state of a paused multipart download: the object it was downloading, the size of its parts, and the parts that were
+ * written to the destination file.
+ */
+@SdkProtectedApi
+public class S3DownloadResumeToken {
+
+    private final String eTag;
+    private final Long objectSize;
+    private final Long partSize;
+    private final List<Integer> completedParts;
+
+    public S3DownloadResumeToken(Builder builder) {
+        this.eTag = builder.eTag;
+        this.objectSize = builder.objectSize;
+        this.partSize = builder.partSize;
+        this.completedParts = builder.completedParts == null ? Collections.emptyList()
+                                                             : Collections.unmodifiableList(builder.completedParts);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        S3DownloadResumeToken that = (S3DownloadResumeToken) o;
+
+        return Objects.equals(eTag, that.eTag) && Objects.equals(objectSize, that.objectSize)
+               && Objects.equals(partSize, that.partSize) && completedParts.equals(that.completedParts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(eTag);
+    }
+
+    /**
+     * The ETag of the object being downloaded. The remaining parts are only downloaded if the object still has this ETag.
+     */
+    public String eTag() {
+        return eTag;
+    }
+
+    public Long objectSize() {
+        return objectSize;
+    }
+
+    public Long partSize() {
+        return partSize;
+    }
+
+    /**
+     * The numbers of the parts written to the destination file, starting at 1, in ascending order. Part {@code n} covers
+     * the bytes from {@code (n - 1) * partSize} up to {@code n * partSize}, or the end of the object.
+     */
+    public List<Integer> completedParts() {
+        return completedParts;
+    }
+
+    public static final class Builder {
+        private String eTag;
+        private Long objectSize;
+        private Long partSize;
+        private List<Integer> completedParts;
+
+        private Builder() {
+        }
+
+        public Builder eTag(String eTag) {
+            this.eTag = eTag;
+            return this;
+        }
+
+        public Builder objectSize(Long objectSize) {
+            this.objectSize = objectSize;
+            return this;
+        }
+
+        public Builder partSize(Long partSize) {
+            this.partSize = partSize;
+            return this;
+        }
+
+        public Builder completedParts(List<Integer> completedParts) {
+            this.completedParts = completedParts;
+            return this;
+        }
+
+        public S3DownloadResumeToken build() {
+            return new S3DownloadResumeToken(this);
+        }
+    }
+}
@@ -16,9 +16,11 @@
 package software.amazon.awssdk.services.s3.multipart;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 @SdkProtectedApi
 public final class S3MultipartExecutionAttribute extends SdkExecutionAttribute {
@@ -26,4 +28,10 @@ public final class S3MultipartExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<PauseObservable> PAUSE_OBSERVABLE = new ExecutionAttribute<>("PauseObservable");
     public static final ExecutionAttribute<PublisherListener<Long>> JAVA_PROGRESS_LISTENER =
         new ExecutionAttribute<>("JavaProgressListener");
+    public static final ExecutionAttribute<S3DownloadResumeToken> DOWNLOAD_RESUME_TOKEN =
+        new ExecutionAttribute<>("DownloadResumeToken");
+    public static final ExecutionAttribute<DownloadPauseObservable> DOWNLOAD_PAUSE_OBSERVABLE =
+        new ExecutionAttribute<>("DownloadPauseObservable");
+    public static final ExecutionAttribute<AsyncResponseTransformerListener<GetObjectResponse>>
+        DOWNLOAD_PROGRESS_LISTENER = new ExecutionAttribute<>("DownloadProgressListener");
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+
+/**
+ * Verifies that ListObjectsV2, which is opted in to streaming unmarshalling in the S3 customization, is unmarshalled
+ * straight from the XML event stream, including the detection of an error returned in the body of a 200 response.
+ */
+public class ListObjectsV2StreamingUnmarshallingTest {
+    private static final String STREAMING_UNMARSHALLER = "StreamingXmlUnmarshaller";
+    private static final String DOM_PARSER = "XmlDomParser";
+
+    private MockSyncHttpClient httpClient;
+    private S3Client s3;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = new MockSyncHttpClient();
+        s3 = S3Client.builder()
+                     .region(Region.US_WEST_2)
+                     .credentialsProvider(AnonymousCredentialsProvider.create())
+                     .httpClient(httpClient)
+                     .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        s3.close();
+        httpClient.close();
+    }
+
+    @Test
+    public void listObjectsV2_unmarshallsFromEventStream() {
+        StackRecordingInputStream content = stubResponse(200,
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+            + "<Name>bucket</Name>"
+            + "<Prefix>photos%2F</Prefix>"
+            + "<KeyCount>2</KeyCount>"
+            + "<MaxKeys>1000</MaxKeys>"
+            + "<Delimiter>%2F</Delimiter>"
+            + "<EncodingType>url</EncodingType>"
+            + "<IsTruncated>true</IsTruncated>"
+            + "<NextContinuationToken>token</NextContinuationToken>"
+            + "<Contents><Key>photos%2Fa+b.jpg</Key><Size>10</Size><StorageClass>STANDARD</StorageClass></Contents>"
+            + "<Contents><Key>photos%2Fc.jpg</Key><Size>20</Size><StorageClass>STANDARD</StorageClass></Contents>"
+            + "<CommonPrefixes><Prefix>photos%2F2024%2F</Prefix></CommonPrefixes>"
+            + "</ListBucketResult>");
+
+        ListObjectsV2Response response = s3.listObjectsV2(r -> r.bucket("bucket").prefix("photos/").delimiter("/"));
+
+        assertThat(response.name()).isEqualTo("bucket");
+        assertThat(response.prefix()).isEqualTo("photos/");
+        assertThat(response.keyCount()).isEqualTo(2);
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.nextContinuationToken()).isEqualTo("token");
+        assertThat(response.contents()).extracting(S3Object::key).containsExactly("photos/a b.jpg", "photos/c.jpg");
+        assertThat(response.contents()).extracting(S3Object::size).containsExactly(10L, 20L);
+        assertThat(response.commonPrefixes()).extracting(CommonPrefix::prefix).containsExactly("photos/2024/");
+        assertThat(response.responseMetadata().requestId()).isEqualTo("request-id");
+
+        assertThat(content.firstReadStack()).contains(STREAMING_UNMARSHALLER).doesNotContain(DOM_PARSER);
+    }
+
+    @Test
+    public void listObjectsV2_errorInSuccessBody_throwsServiceException() {
+        stubResponse(200,
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<Error>"
+            + "<Code>InternalError</Code>"
+            + "<Message>We encountered an internal error. Please try again.</Message>"
+            + "</Error>");
+
+        assertThatThrownBy(() -> s3.listObjectsV2(r -> r.bucket("bucket")))
+            .isInstanceOfSatisfying(S3Exception.class, e -> {
+                assertThat(e.statusCode()).isEqualTo(200);
+                assertThat(e.awsErrorDetails().errorCode()).isEqualTo("InternalError");
+                assertThat(e.awsErrorDetails().errorMessage())
+                    .isEqualTo("We encountered an internal error. Please try again.");
+            });
+    }
+
+    private StackRecordingInputStream stubResponse(int statusCode, String body) {
+        StackRecordingInputStream content =
+            new StackRecordingInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        // Errors in a 200 response are retried; stub enough of them for every attempt.
+        HttpExecuteResponse[] responses = new HttpExecuteResponse[5];
+        responses[0] = response(statusCode, content);
+        for (int i = 1; i < responses.length; i++) {
+            responses[i] = response(statusCode, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        }
+        httpClient.stubResponses(responses);
+        return content;
+    }
+
+    private static HttpExecuteResponse response(int statusCode, InputStream content) {
+        return HttpExecuteResponse.builder()
+                                  .response(SdkHttpResponse.builder()
+                                                           .statusCode(statusCode)
+                                                           .putHeader("x-amz-request-id", "request-id")
+                                                           .build())
+                                  .responseBody(AbortableInputStream.create(content))
+                                  .build();
+    }
+
+    /**
+     * Records the simple names of the classes on the stack the first time the content is read, which tells which parser
+     * consumed it.
+     */
+    private static final class StackRecordingInputStream extends FilterInputStream {
+        private List<String> firstReadStack;
+
+        private StackRecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            recordStack();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            recordStack();
+            return super.read(b, off, len);
+        }
+
+        private void recordStack() {
+            if (firstReadStack == null) {
+                firstReadStack = Arrays.stream(new Throwable().getStackTrace())
+                                       .map(StackTraceElement::getClassName)
+                                       .map(className -> className.substring(className.lastIndexOf('.') + 1))
+                                       .collect(Collectors.toList());
+            }
+        }
+
+        private List<String> firstReadStack() {
+            return firstReadStack;
+        }
+    }
+}
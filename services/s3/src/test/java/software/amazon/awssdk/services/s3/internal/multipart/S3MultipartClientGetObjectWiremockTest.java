@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PAUSE_OBSERVABLE;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_PROGRESS_LISTENER;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.DOWNLOAD_RESUME_TOKEN;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.multipart.DownloadPauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3DownloadResumeToken;
+
+@WireMockTest
+@Timeout(10)
+public class S3MultipartClientGetObjectWiremockTest {
+
+    private static final String BUCKET = "Example-Bucket";
+    private static final String KEY = "Example-Object";
+    private static final String PATH = "/" + BUCKET + "/" + KEY;
+    private static final String ETAG = "\"etag\"";
+    private static final byte[] CONTENT = "abcdefghijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private S3AsyncClient s3AsyncClient;
+    private Path tempDir;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wiremock) throws IOException {
+        tempDir = Files.createTempDirectory("multipart-download");
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                                     .credentialsProvider(
+                                         StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                                     .multipartEnabled(true)
+                                     .multipartConfiguration(b -> b.minimumPartSizeInBytes(10L).apiCallBufferSizeInBytes(20L))
+                                     .httpClientBuilder(AwsCrtAsyncHttpClient.builder())
+                                     .build();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        s3AsyncClient.close();
+        Files.walk(tempDir).sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+    }
+
+    @Test
+    void getObject_toBytes_shouldReassembleRangesInOrder() {
+        stubRanges(CONTENT);
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asByteArray()).isEqualTo(CONTENT);
+        assertThat(response.response().contentLength()).isEqualTo(CONTENT.length);
+        assertThat(response.response().contentRange()).isNull();
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9"))
+                                                .withHeader("If-Match", absent()));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-29"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=30-35"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(4, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_toFile_shouldWriteRangesAtTheirOffset() throws IOException {
+        stubRanges(CONTENT);
+        Path file = tempDir.resolve("object");
+
+        GetObjectResponse response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file)).join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(CONTENT);
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length);
+        verify(4, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_objectFitsInOnePart_shouldUseSingleRequest() {
+        byte[] content = Arrays.copyOf(CONTENT, 7);
+        stubRanges(content);
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asByteArray()).isEqualTo(content);
+        assertThat(response.response().contentLength()).isEqualTo(content.length);
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_emptyObject_shouldFallBackToSingleRequest() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9"))
+                                     .willReturn(aResponse().withStatus(416)));
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", absent())
+                                     .willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG).withBody(new byte[0])));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asByteArray()).isEmpty();
+        verify(2, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_rangeSpecified_shouldNotSplitRequest() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=5-24"))
+                                     .willReturn(aResponse().withStatus(206)
+                                                            .withHeader("Content-Range", "bytes 5-24/" + CONTENT.length)
+                                                            .withBody(Arrays.copyOfRange(CONTENT, 5, 25))));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY).range("bytes=5-24"), AsyncResponseTransformer.toBytes())
+                         .join();
+
+        assertThat(response.asByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 5, 25));
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_objectChangedDuringDownload_shouldFailAndDeleteFile() {
+        stubRanges(CONTENT);
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-29"))
+                                     .willReturn(aResponse().withStatus(412)));
+        Path file = tempDir.resolve("object");
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY),
+                                                         AsyncResponseTransformer.toFile(file)).join())
+            .hasRootCauseInstanceOf(S3Exception.class);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void getObject_pauseObservableAndProgressListener_shouldReportWrittenParts() {
+        stubRanges(CONTENT);
+        Path file = tempDir.resolve("object");
+        DownloadPauseObservable pauseObservable = new DownloadPauseObservable();
+        AtomicLong transferredBytes = new AtomicLong();
+        AtomicLong totalBytes = new AtomicLong();
+        AsyncResponseTransformerListener<GetObjectResponse> progressListener =
+            new AsyncResponseTransformerListener<GetObjectResponse>() {
+                @Override
+                public void transformerOnResponse(GetObjectResponse response) {
+                    totalBytes.set(response.contentLength());
+                }
+
+                @Override
+                public void subscriberOnNext(ByteBuffer byteBuffer) {
+                    transferredBytes.addAndGet(byteBuffer.remaining());
+                }
+            };
+
+        s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY)
+                                      .overrideConfiguration(o -> o.putExecutionAttribute(DOWNLOAD_PAUSE_OBSERVABLE,
+                                                                                          pauseObservable)
+                                                                   .putExecutionAttribute(DOWNLOAD_PROGRESS_LISTENER,
+                                                                                          progressListener)),
+                                AsyncResponseTransformer.toFile(file)).join();
+
+        S3DownloadResumeToken resumeToken = pauseObservable.pause();
+        assertThat(resumeToken.eTag()).isEqualTo(ETAG);
+        assertThat(resumeToken.objectSize()).isEqualTo(CONTENT.length);
+        assertThat(resumeToken.partSize()).isEqualTo(10L);
+        assertThat(resumeToken.completedParts()).containsExactly(1, 2, 3, 4);
+        assertThat(totalBytes).hasValue(CONTENT.length);
+        assertThat(transferredBytes).hasValue(CONTENT.length);
+    }
+
+    @Test
+    void getObject_resumeToken_shouldOnlyDownloadMissingParts() throws IOException {
+        stubRanges(CONTENT);
+        Path file = tempDir.resolve("object");
+        byte[] partialContent = new byte[CONTENT.length];
+        System.arraycopy(CONTENT, 0, partialContent, 0, 10);
+        System.arraycopy(CONTENT, 20, partialContent, 20, 10);
+        Files.write(file, partialContent);
+        S3DownloadResumeToken resumeToken = S3DownloadResumeToken.builder()
+                                                                 .eTag(ETAG)
+                                                                 .objectSize((long) CONTENT.length)
+                                                                 .partSize(10L)
+                                                                 .completedParts(Arrays.asList(1, 3))
+                                                                 .build();
+
+        GetObjectResponse response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY)
+                                          .overrideConfiguration(o -> o.putExecutionAttribute(DOWNLOAD_RESUME_TOKEN,
+                                                                                              resumeToken)),
+                                    AsyncResponseTransformer.toFile(file,
+                                                                    FileTransformerConfiguration.defaultCreateOrReplaceExisting()))
+                         .join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(CONTENT);
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length);
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=30-35"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(2, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    private static void stubRanges(byte[] content) {
+        for (int start = 0; start < content.length; start += 10) {
+            int end = Math.min(content.length, start + 10) - 1;
+            // The first range is always requested with the full part size, as the size of the object isn't known yet
+            String range = "bytes=" + start + "-" + (start == 0 ? 9 : end);
+            stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo(range))
+                                         .willReturn(aResponse().withStatus(206)
+                                                                .withHeader("ETag", ETAG)
+                                                                .withHeader("Content-Range",
+                                                                            "bytes " + start + "-" + end + "/" + content.length)
+                                                                .withBody(Arrays.copyOfRange(content, start, end + 1))));
+        }
+    }
+}
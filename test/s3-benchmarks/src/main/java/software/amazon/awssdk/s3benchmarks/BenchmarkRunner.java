@@ -61,6 +61,8 @@ public final class BenchmarkRunner {
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.UPLOAD, TransferManagerBenchmark::v2Upload);
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.DOWNLOAD_DIRECTORY, TransferManagerBenchmark::downloadDirectory);
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.UPLOAD_DIRECTORY, TransferManagerBenchmark::uploadDirectory);
+        OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.UPLOAD_SMALL_FILES_DIRECTORY,
+                                      TransferManagerBenchmark::uploadSmallFilesDirectory);
 
         OPERATION_TO_BENCHMARK_V1.put(TransferManagerOperation.COPY, TransferManagerBenchmark::v1Copy);
         OPERATION_TO_BENCHMARK_V1.put(TransferManagerOperation.DOWNLOAD, TransferManagerBenchmark::v1Download);
@@ -80,7 +82,7 @@ public final class BenchmarkRunner {
         options.addRequiredOption(null, BUCKET, true, "The s3 bucket");
         options.addOption(null, KEY, true, "The s3 key");
         options.addRequiredOption(null, OPERATION, true, "The operation to run tests: download | upload | download_directory | "
-                                                         + "upload_directory | copy");
+                                                         + "upload_directory | upload_small_files_directory | copy");
         options.addOption(null, FILE, true, "Destination file path to be written to or source file path to be "
                                             + "uploaded");
         options.addOption(null, PART_SIZE_IN_MB, true, "Part size in MB");
@@ -213,7 +215,8 @@ public final class BenchmarkRunner {
         UPLOAD,
         COPY,
         DOWNLOAD_DIRECTORY,
-        UPLOAD_DIRECTORY
+        UPLOAD_DIRECTORY,
+        UPLOAD_SMALL_FILES_DIRECTORY
     }
 
     private enum SdkVersion {
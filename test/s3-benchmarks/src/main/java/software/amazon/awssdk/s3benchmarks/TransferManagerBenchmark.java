@@ -44,6 +44,10 @@ public interface TransferManagerBenchmark {
         return new TransferManagerUploadDirectoryBenchmark(config);
     }
 
+    static TransferManagerBenchmark uploadSmallFilesDirectory(TransferManagerBenchmarkConfig config) {
+        return new TransferManagerUploadSmallFilesDirectoryBenchmark(config);
+    }
+
     static TransferManagerBenchmark copy(TransferManagerBenchmarkConfig config) {
         return new TransferManagerCopyBenchmark(config);
     }
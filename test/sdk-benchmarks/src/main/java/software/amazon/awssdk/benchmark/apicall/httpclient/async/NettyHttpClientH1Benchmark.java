@@ -20,6 +20,8 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.OPEN_SSL_
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslProvider;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
 
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.ssl.SslProvider;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
@@ -42,10 +44,11 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
- * Using netty client to test against local mock https server.
+ * Using netty client to test against local mock https server, with each of the NIO, epoll and io_uring transports.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -56,10 +59,14 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
     private MockServer mockServer;
     private SdkAsyncHttpClient sdkHttpClient;
+    private SdkEventLoopGroup eventLoopGroup;
 
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({"nio", "epoll", "io_uring"})
+    private String transport;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
@@ -67,8 +74,11 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         SslProvider sslProvider = getSslProvider(sslProviderValue);
 
+        eventLoopGroup = eventLoopGroup(transport);
+
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopGroup(eventLoopGroup)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
@@ -84,6 +94,25 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
         mockServer.stop();
         sdkHttpClient.close();
         client.close();
+        eventLoopGroup.eventLoopGroup().shutdownGracefully().awaitUninterruptibly();
+    }
+
+    private static SdkEventLoopGroup eventLoopGroup(String transport) {
+        switch (transport) {
+            case "nio":
+                return SdkEventLoopGroup.builder().useIoUring(false).build();
+            case "epoll":
+                return SdkEventLoopGroup.create(new EpollEventLoopGroup());
+            case "io_uring":
+                SdkEventLoopGroup ioUring = SdkEventLoopGroup.builder().useIoUring(true).build();
+                if (ioUring.eventLoopGroup() instanceof NioEventLoopGroup) {
+                    ioUring.eventLoopGroup().shutdownGracefully();
+                    throw new IllegalStateException("The io_uring transport is not available on this system");
+                }
+                return ioUring;
+            default:
+                throw new IllegalArgumentException("Unknown transport: " + transport);
+        }
     }
 
     public static void main(String... args) throws Exception {
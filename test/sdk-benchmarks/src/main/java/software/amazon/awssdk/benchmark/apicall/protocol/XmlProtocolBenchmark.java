@@ -19,6 +19,7 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_XML
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_ALL_TYPES_REQUEST;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_BODY;
 
+import java.io.ByteArrayInputStream;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -36,7 +37,15 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
+import software.amazon.awssdk.protocols.xml.XmlOperationMetadata;
 import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
+import software.amazon.awssdk.services.protocolrestxml.model.AllTypesResponse;
 
 /**
  * Benchmarking for running with different protocols.
@@ -48,13 +57,19 @@ import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 @BenchmarkMode(Mode.Throughput)
 public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final byte[] XML_BODY_BYTES = SdkBytes.fromUtf8String(XML_BODY).asByteArray();
+
     private ProtocolRestXmlClient client;
+    private HttpResponseHandler<AllTypesResponse> domResponseHandler;
+    private HttpResponseHandler<AllTypesResponse> streamingResponseHandler;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestXmlClient.builder()
                                       .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
                                       .build();
+        domResponseHandler = createResponseHandler(false);
+        streamingResponseHandler = createResponseHandler(true);
     }
 
     @Override
@@ -63,6 +78,33 @@ public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(XML_ALL_TYPES_REQUEST));
     }
 
+    @Benchmark
+    public void unmarshallResponse_dom(Blackhole blackhole) throws Exception {
+        blackhole.consume(domResponseHandler.handle(response(), new ExecutionAttributes()));
+    }
+
+    @Benchmark
+    public void unmarshallResponse_streaming(Blackhole blackhole) throws Exception {
+        blackhole.consume(streamingResponseHandler.handle(response(), new ExecutionAttributes()));
+    }
+
+    private static HttpResponseHandler<AllTypesResponse> createResponseHandler(boolean streaming) {
+        return AwsXmlProtocolFactory.builder()
+                                    .enableStreamingUnmarshalling(streaming)
+                                    .build()
+                                    .createResponseHandler(AllTypesResponse::builder,
+                                                           XmlOperationMetadata.builder()
+                                                                               .hasStreamingSuccessResponse(false)
+                                                                               .build());
+    }
+
+    private static SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(XML_BODY_BYTES)))
+                                  .build();
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(XmlProtocolBenchmark.class.getSimpleName())
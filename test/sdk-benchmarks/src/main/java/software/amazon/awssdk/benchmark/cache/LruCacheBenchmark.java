@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Benchmarks the throughput of {@link LruCache#get(Object)} as the number of calling threads grows. Run {@link #main} to
+ * measure it with 1 to 64 threads. The {@code hits} and {@code misses} secondary results give the hit ratio of each run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class LruCacheBenchmark {
+    private static final int CACHE_SIZE = 100;
+
+    /**
+     * The number of distinct keys requested, relative to the cache size. With 100 percent every request is a hit once the
+     * cache is warm.
+     */
+    @Param({"100", "200"})
+    private int keySpacePercent;
+
+    private LruCache<Integer, String> cache;
+    private int keySpace;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = LruCache.builder(LruCacheBenchmark::load)
+                        .maxSize(CACHE_SIZE)
+                        .build();
+        keySpace = CACHE_SIZE * keySpacePercent / 100;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache.get(i);
+        }
+    }
+
+    @Benchmark
+    public String get(Counters counters) {
+        counters.requests++;
+        return cache.get(ThreadLocalRandom.current().nextInt(keySpace));
+    }
+
+    /**
+     * Called by the cache on the requesting thread when the key is not cached.
+     */
+    private static String load(Integer key) {
+        Counters counters = Counters.CURRENT.get();
+        if (counters != null) {
+            counters.misses++;
+        }
+        return Integer.toString(key);
+    }
+
+    /**
+     * Counts the hits and misses of each benchmark thread. Misses are counted by the loader, so that the measured path only
+     * increments a field.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+        private long requests;
+        private long misses;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            requests = 0;
+            misses = 0;
+            CURRENT.set(this);
+        }
+
+        public long hits() {
+            return requests - misses;
+        }
+
+        public long misses() {
+            return misses;
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+            Options opt = new OptionsBuilder()
+                .include(LruCacheBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(opt).run();
+        }
+    }
+}
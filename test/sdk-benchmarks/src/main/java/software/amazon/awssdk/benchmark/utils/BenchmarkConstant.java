@@ -58,6 +58,18 @@ public final class BenchmarkConstant {
                                           + "-10-31T10:51:12.311305Z</NestedTimestamp></structWithNestedTimestampMember"
                                           + "><blobArg>aGVsbG8gd29ybGQ=</blobArg></AllTypesResponse>";
 
+    public static final String QUERY_XML_BODY = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><AllTypesResponse "
+                                                + "xmlns=\"https://query/\"><AllTypesResult><stringMember>foo</stringMember>"
+                                                + "<integerMember>123</integerMember><booleanMember>true</booleanMember>"
+                                                + "<floatMember>123.0</floatMember><doubleMember>123.9</doubleMember>"
+                                                + "<longMember>123</longMember><simpleList><member>so simple</member>"
+                                                + "</simpleList><listOfStructs><member><StringMember>listOfStructs1"
+                                                + "</StringMember></member></listOfStructs><timestampMember>2018-10-31T10:51:12"
+                                                + ".302183Z</timestampMember><blobArg>aGVsbG8gd29ybGQ=</blobArg>"
+                                                + "</AllTypesResult><ResponseMetadata><RequestId>"
+                                                + "725275ae-0b9b-4762-b238-436d7c65a1ac</RequestId></ResponseMetadata>"
+                                                + "</AllTypesResponse>";
+
     public static final String ERROR_XML_BODY = "<ErrorResponse>"
                                                 + "   <Error>"
                                                 + "      <Code>ImplicitPayloadException</Code>"
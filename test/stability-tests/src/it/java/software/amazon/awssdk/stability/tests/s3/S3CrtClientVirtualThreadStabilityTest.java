@@ -0,0 +1,234 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.stability.tests.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.SystemInfo;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.stability.tests.exceptions.StabilityTestsRetryableException;
+import software.amazon.awssdk.stability.tests.utils.RetryableTest;
+import software.amazon.awssdk.stability.tests.utils.StabilityTestRunner;
+import software.amazon.awssdk.testutils.service.AwsTestBase;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Stability tests for S3 sync client using {@link AwsCrtHttpClient}, called from virtual threads.
+ * <p>
+ * Every request runs on its own virtual thread, so thousands of requests wait for one of the {@value #CONCURRENCY}
+ * connections at the same time. A virtual thread that blocks while holding a monitor or while in native code pins its carrier
+ * thread, which the JVM reports as a {@code jdk.VirtualThreadPinned} JFR event. The tests record these events while the
+ * requests run, and fail if any was emitted.
+ * <p>
+ * Virtual threads and JFR are accessed through reflection because the SDK is built for Java 8; the tests are skipped on
+ * JVMs without virtual threads.
+ */
+public class S3CrtClientVirtualThreadStabilityTest extends AwsTestBase {
+    private static final Logger log = Logger.loggerFor(S3CrtClientVirtualThreadStabilityTest.class);
+
+    private static final String BUCKET_NAME =
+        String.format("s3crthttpclientvirtualthreadstabilitytests%d", System.currentTimeMillis());
+
+    private static final int CONCURRENCY = 100;
+    private static final int VIRTUAL_THREAD_COUNT = 10_000;
+    private static final int VIRTUAL_THREAD_TOTAL_RUNS = 3;
+
+    private static S3Client s3Client;
+    private static int allowedPeakThreads;
+    private static ExecutorService virtualThreadPool;
+
+    @BeforeAll
+    public static void setup() {
+        virtualThreadPool = newVirtualThreadPerTaskExecutor();
+        Assumptions.assumeTrue(virtualThreadPool != null, "Virtual threads are not available in this JVM");
+
+        s3Client = S3Client.builder()
+                           .httpClientBuilder(AwsCrtHttpClient.builder()
+                                                              .maxConcurrency(CONCURRENCY))
+                           .credentialsProvider(CREDENTIALS_PROVIDER_CHAIN)
+                           .overrideConfiguration(b -> b.apiCallTimeout(Duration.ofMinutes(10)))
+                           .build();
+
+        // The CRT client has a thread per processor by default, along with a DNS resolver thread, and the virtual threads have
+        // a carrier thread per processor by default. The JVM does a bunch under the hood, so leave some room for magic.
+        allowedPeakThreads = SystemInfo.getProcessorCount() + 1 + Runtime.getRuntime().availableProcessors() + 50;
+        s3Client.createBucket(b -> b.bucket(BUCKET_NAME));
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        if (virtualThreadPool == null) {
+            return;
+        }
+        deleteBucketAndAllContents();
+        virtualThreadPool.shutdown();
+        try {
+            virtualThreadPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        s3Client.close();
+        CrtResource.waitForNoResources();
+    }
+
+    @RetryableTest(maxRetries = 3, retryableException = StabilityTestsRetryableException.class)
+    public void putObject_getObject_tenThousandVirtualThreads_doNotPinCarrierThreads() throws Exception {
+        byte[] bytes = RandomStringUtils.randomAlphanumeric(1_000).getBytes();
+        PinnedThreadRecording recording = PinnedThreadRecording.start();
+
+        try {
+            IntFunction<CompletableFuture<?>> put = i -> CompletableFuture.runAsync(
+                () -> s3Client.putObject(b -> b.bucket(BUCKET_NAME).key(computeKeyName(i)), RequestBody.fromBytes(bytes)),
+                virtualThreadPool);
+            StabilityTestRunner.newRunner(allowedPeakThreads)
+                               .testName("S3CrtClientVirtualThreadStabilityTest.putObject")
+                               .futureFactory(put)
+                               .requestCountPerRun(VIRTUAL_THREAD_COUNT)
+                               .totalRuns(VIRTUAL_THREAD_TOTAL_RUNS)
+                               .delaysBetweenEachRun(Duration.ofMillis(100))
+                               .run();
+
+            IntFunction<CompletableFuture<?>> get = i -> CompletableFuture.runAsync(() -> {
+                byte[] object = s3Client.getObjectAsBytes(b -> b.bucket(BUCKET_NAME).key(computeKeyName(i))).asByteArray();
+                assertThat(object).isEqualTo(bytes);
+            }, virtualThreadPool);
+            StabilityTestRunner.newRunner(allowedPeakThreads)
+                               .testName("S3CrtClientVirtualThreadStabilityTest.getObject")
+                               .futureFactory(get)
+                               .requestCountPerRun(VIRTUAL_THREAD_COUNT)
+                               .totalRuns(VIRTUAL_THREAD_TOTAL_RUNS)
+                               .delaysBetweenEachRun(Duration.ofMillis(100))
+                               .run();
+        } finally {
+            recording.stop();
+        }
+
+        assertThat(recording.pinnedEvents()).as("jdk.VirtualThreadPinned events").isEmpty();
+    }
+
+    private static String computeKeyName(int i) {
+        return "key_" + i;
+    }
+
+    private static void deleteBucketAndAllContents() {
+        try {
+            s3Client.listObjectsV2Paginator(b -> b.bucket(BUCKET_NAME)).forEach(page -> {
+                List<ObjectIdentifier> objects = page.contents()
+                                                     .stream()
+                                                     .map(o -> ObjectIdentifier.builder().key(o.key()).build())
+                                                     .collect(Collectors.toList());
+                if (!objects.isEmpty()) {
+                    s3Client.deleteObjects(b -> b.bucket(BUCKET_NAME).delete(d -> d.objects(objects)));
+                }
+            });
+            s3Client.deleteBucket(b -> b.bucket(BUCKET_NAME));
+        } catch (Exception e) {
+            log.error(() -> "Failed to delete bucket: " + BUCKET_NAME, e);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A JFR recording of the {@code jdk.VirtualThreadPinned} events, including those of pins shorter than the default
+     * threshold of the event.
+     */
+    private static final class PinnedThreadRecording {
+        private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+        private final Object recording;
+        private List<String> pinnedEvents;
+
+        private PinnedThreadRecording(Object recording) {
+            this.recording = recording;
+        }
+
+        static PinnedThreadRecording start() throws ReflectiveOperationException {
+            Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+            Object recording = recordingClass.getConstructor().newInstance();
+            Object settings = recordingClass.getMethod("enable", String.class).invoke(recording, PINNED_EVENT);
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, Duration.ZERO);
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+            recordingClass.getMethod("start").invoke(recording);
+            return new PinnedThreadRecording(recording);
+        }
+
+        void stop() throws ReflectiveOperationException, IOException {
+            Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+            Path file = Files.createTempFile("virtual-thread-pinning", ".jfr");
+            try {
+                recordingClass.getMethod("stop").invoke(recording);
+                recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+
+                Method getEventType = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType");
+                Method getName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+                List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                                                .getMethod("readAllEvents", Path.class)
+                                                .invoke(null, file);
+                pinnedEvents = events.stream()
+                                     .filter(e -> PINNED_EVENT.equals(invoke(getName, invoke(getEventType, e))))
+                                     .map(Object::toString)
+                                     .collect(Collectors.toList());
+            } finally {
+                recordingClass.getMethod("close").invoke(recording);
+                Files.deleteIfExists(file);
+            }
+        }
+
+        /**
+         * Returns the recorded events, including the stack trace of the pinned thread.
+         */
+        List<String> pinnedEvents() {
+            return pinnedEvents;
+        }
+
+        private static Object invoke(Method method, Object target) {
+            try {
+                return method.invoke(target);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -656,6 +656,15 @@ public final class Validate {
         return num;
     }
 
+    public static Integer isNotNegativeOrNull(Integer num, String fieldName) {
+
+        if (num == null) {
+            return null;
+        }
+
+        return isNotNegative(num, fieldName);
+    }
+
     public static Long isNotNegativeOrNull(Long num, String fieldName) {
 
         if (num == null) {
@@ -24,6 +24,8 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
@@ -48,7 +50,10 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
     private final AtomicBoolean drainingCallQueue = new AtomicBoolean(false);
     private final Queue<QueueEntry> callQueue = new ConcurrentLinkedQueue<>();
 
-    private final Object subscribeLock = new Object();
+    /**
+     * A lock rather than a monitor, so that a virtual thread closing the stream doesn't pin its carrier thread.
+     */
+    private final Lock subscribeLock = new ReentrantLock();
 
     private Subscription subscription;
 
@@ -65,7 +70,8 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
 
     @Override
     public void onSubscribe(Subscription s) {
-        synchronized (subscribeLock) {
+        subscribeLock.lock();
+        try {
             if (!inputStreamState.compareAndSet(State.UNINITIALIZED, State.READABLE)) {
                 close();
                 return;
@@ -73,6 +79,8 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
 
             this.subscription = new CancelWatcher(s);
             delegate.onSubscribe(subscription);
+        } finally {
+            subscribeLock.unlock();
         }
     }
 
@@ -148,7 +156,8 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
 
     @Override
     public void close() {
-        synchronized (subscribeLock) {
+        subscribeLock.lock();
+        try {
             // If it is done, no-op
             if (inputStreamState.get().equals(State.STREAMING_DONE)) {
                 return;
@@ -161,6 +170,8 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
                 subscription.cancel();
                 onError(new CancellationException());
             }
+        } finally {
+            subscribeLock.unlock();
         }
     }
 
@@ -16,8 +16,12 @@
 package software.amazon.awssdk.utils.cache.lru;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -33,6 +37,11 @@ import software.amazon.awssdk.utils.Validate;
  * When the cache is queried for an already stored value (cache hit), this value is moved to the back of the queue
  * before it's returned so that the order of most recently used to least recently used can be maintained.
  * <p>
+ * Cache hits don't take a lock: they are recorded in one of several striped read buffers, which are replayed against the
+ * queue under the eviction lock when a buffer fills up and before any value is added to the cache. When a read buffer
+ * is full and the lock is busy, the read is not recorded, so under heavy contention the eviction order is an
+ * approximation of the least recently used order.
+ * <p>
  * The user can configure the maximum size of the cache, which is set to a default of 100.
  * <p>
  * Null values are accepted.
@@ -45,19 +54,33 @@ public final class LruCache<K, V>  {
 
     private static final int DEFAULT_SIZE = 100;
 
+    private static final int MAX_READ_BUFFERS = 64;
+
     private final Map<K, CacheEntry<K, V>> cache;
     private final Function<K, V> valueSupplier;
-    private final Object listLock = new Object();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<CacheEntry<K, V>>[] readBuffers;
+    private final Consumer<CacheEntry<K, V>> readConsumer = this::onRead;
     private final int maxCacheSize;
 
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
     private CacheEntry<K, V> leastRecentlyUsed = null;
     private CacheEntry<K, V> mostRecentlyUsed = null;
+    private int queueSize = 0;
 
+    @SuppressWarnings("unchecked")
     private LruCache(Builder<K, V> b) {
         this.valueSupplier = b.supplier;
         Integer customSize = Validate.isPositiveOrNull(b.maxSize, "size");
         this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
         this.cache = new ConcurrentHashMap<>();
+        this.readBuffers = new ReadBuffer[readBufferCount()];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
     }
 
     /**
@@ -65,23 +88,92 @@ public final class LruCache<K, V>  {
      * Otherwise, the value is calculated based on the supplied function {@link Builder#builder(Function)}.
      */
     public V get(K key) {
+        CacheEntry<K, V> cachedEntry = cache.get(key);
+        if (cachedEntry != null && !cachedEntry.evicted()) {
+            hitCount.increment();
+            recordRead(cachedEntry);
+            return cachedEntry.value();
+        }
+        return getOrLoad(key);
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(Object)} that returned a cached value.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(Object)} that calculated the value with the supplied function.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of values that were pushed out of the cache.
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private V getOrLoad(K key) {
         while (true) {
             CacheEntry<K, V> cachedEntry = cache.computeIfAbsent(key, this::newEntry);
-            synchronized (listLock) {
+            evictionLock.lock();
+            try {
+                drainReadBuffers();
                 if (cachedEntry.evicted()) {
                     continue;
                 }
-                moveToBackOfQueue(cachedEntry);
+                if (cachedEntry.queued()) {
+                    // Another thread calculated the value first
+                    hitCount.increment();
+                    moveToBackOfQueue(cachedEntry);
+                } else {
+                    addToQueue(cachedEntry);
+                }
                 return cachedEntry.value();
+            } finally {
+                evictionLock.unlock();
             }
         }
     }
 
     private CacheEntry<K, V> newEntry(K key) {
+        missCount.increment();
         V value = valueSupplier.apply(key);
         return new CacheEntry<>(key, value);
     }
 
+    private void recordRead(CacheEntry<K, V> entry) {
+        ReadBuffer<CacheEntry<K, V>> readBuffer = readBuffers[(int) Thread.currentThread().getId() & (readBuffers.length - 1)];
+        if (readBuffer.offer(entry) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replays the reads recorded since the last drain against the queue. Must be called with the eviction lock held.
+     */
+    private void drainReadBuffers() {
+        for (ReadBuffer<CacheEntry<K, V>> readBuffer : readBuffers) {
+            readBuffer.drain(readConsumer);
+        }
+    }
+
+    private void onRead(CacheEntry<K, V> entry) {
+        // The entry may have been evicted since it was read, or not be queued yet by the thread that calculated it
+        if (entry.queued()) {
+            moveToBackOfQueue(entry);
+        }
+    }
+
     /**
      * Moves an entry to the back of the queue and sets it as the most recently used. If the entry is already the
      * most recently used, do nothing.
@@ -93,7 +185,7 @@ public final class LruCache<K, V>  {
      *</ol>
      */
     private void moveToBackOfQueue(CacheEntry<K, V> entry) {
-        if (entry.equals(mostRecentlyUsed)) {
+        if (entry == mostRecentlyUsed) {
             return;
         }
         removeFromQueue(entry);
@@ -117,12 +209,16 @@ public final class LruCache<K, V>  {
         if (nextEntry != null) {
             nextEntry.setPrevious(entry.previous());
         }
-        if (entry.equals(leastRecentlyUsed)) {
+        if (entry == leastRecentlyUsed) {
             leastRecentlyUsed = entry.previous();
         }
-        if (entry.equals(mostRecentlyUsed)) {
+        if (entry == mostRecentlyUsed) {
             mostRecentlyUsed = entry.next();
         }
+        entry.setPrevious(null);
+        entry.setNext(null);
+        entry.setQueued(false);
+        queueSize--;
     }
 
     /**
@@ -135,11 +231,13 @@ public final class LruCache<K, V>  {
             entry.setNext(mostRecentlyUsed);
         }
         entry.setPrevious(null);
+        entry.setQueued(true);
+        queueSize++;
         mostRecentlyUsed = entry;
         if (leastRecentlyUsed == null) {
             leastRecentlyUsed = entry;
         }
-        if (size() > maxCacheSize) {
+        while (queueSize > maxCacheSize) {
             evict();
         }
     }
@@ -148,10 +246,12 @@ public final class LruCache<K, V>  {
      * Removes the least recently used entry from the cache, marks it as evicted and removes it from the queue.
      */
     private void evict() {
-        leastRecentlyUsed.isEvicted(true);
-        closeEvictedResourcesIfPossible(leastRecentlyUsed.value);
-        cache.remove(leastRecentlyUsed.key());
-        removeFromQueue(leastRecentlyUsed);
+        CacheEntry<K, V> evictedEntry = leastRecentlyUsed;
+        evictedEntry.isEvicted(true);
+        cache.remove(evictedEntry.key(), evictedEntry);
+        removeFromQueue(evictedEntry);
+        evictionCount.increment();
+        closeEvictedResourcesIfPossible(evictedEntry.value());
     }
 
     private void closeEvictedResourcesIfPossible(V value) {
@@ -168,6 +268,14 @@ public final class LruCache<K, V>  {
         return cache.size();
     }
 
+    /**
+     * One read buffer per available processor, rounded up to a power of two so a thread can pick its buffer with a mask.
+     */
+    private static int readBufferCount() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_READ_BUFFERS);
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
     public static <K, V> LruCache.Builder<K, V> builder(Function<K, V> supplier) {
         return new Builder<>(supplier);
     }
@@ -195,12 +303,59 @@ public final class LruCache<K, V>  {
         }
     }
 
+    /**
+     * A bounded, lossy, multiple-producer single-consumer ring buffer of reads. Producers drop the read instead of waiting
+     * when the buffer is full or another producer claimed the same slot concurrently. The consumer holds the eviction lock.
+     */
+    private static final class ReadBuffer<E> {
+        private static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCount = new AtomicLong();
+        private volatile long readCount;
+
+        /**
+         * Records a read, and returns whether the buffer is now full and should be drained.
+         */
+        boolean offer(E element) {
+            long head = readCount;
+            long tail = writeCount.get();
+            long size = tail - head;
+            if (size >= SIZE) {
+                return true;
+            }
+            if (writeCount.compareAndSet(tail, tail + 1)) {
+                slots.lazySet((int) (tail & MASK), element);
+                return size + 1 >= SIZE;
+            }
+            return false;
+        }
+
+        void drain(Consumer<E> consumer) {
+            long head = readCount;
+            long tail = writeCount.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                E element = slots.get(index);
+                if (element == null) {
+                    // The slot was claimed, but the read hasn't been written to it yet
+                    break;
+                }
+                slots.lazySet(index, null);
+                consumer.accept(element);
+            }
+            readCount = head;
+        }
+    }
+
     private static final class CacheEntry<K, V> {
 
         private final K key;
         private final V value;
 
-        private boolean evicted = false;
+        private volatile boolean evicted = false;
+        private boolean queued = false;
 
         private CacheEntry<K, V> previous;
         private CacheEntry<K, V> next;
@@ -226,6 +381,14 @@ public final class LruCache<K, V>  {
             this.evicted = evicted;
         }
 
+        boolean queued() {
+            return queued;
+        }
+
+        void setQueued(boolean queued) {
+            this.queued = queued;
+        }
+
         CacheEntry<K, V> next() {
             return next;
         }
@@ -241,26 +404,5 @@ public final class LruCache<K, V>  {
         void setPrevious(CacheEntry<K, V> previous) {
             this.previous = previous;
         }
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if ((o == null) || getClass() != o.getClass()) {
-                return false;
-            }
-            CacheEntry<?, ?> that = (CacheEntry<?, ?>) o;
-            return Objects.equals(key, that.key)
-                   && Objects.equals(value, that.value);
-        }
-
-        @Override
-        public int hashCode() {
-            int result = key != null ? key.hashCode() : 0;
-            result = 31 * result + (value != null ? value.hashCode() : 0);
-            return result;
-        }
     }
 }
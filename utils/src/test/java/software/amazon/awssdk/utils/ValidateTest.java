@@ -624,6 +624,20 @@ public class ValidateTest  {
         assertThat(Validate.isNotNegativeOrNull(0L, "foo")).isEqualTo(0L);
     }
 
+    @Test
+    public void isNotNegativeOrNullInteger_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage("foo");
+        Validate.isNotNegativeOrNull(-1, "foo");
+    }
+
+    @Test
+    public void isNotNegativeOrNullInteger_notNegativeOrNull_notThrow() {
+        assertThat(Validate.isNotNegativeOrNull(5, "foo")).isEqualTo(5);
+        assertThat(Validate.isNotNegativeOrNull(0, "foo")).isEqualTo(0);
+        assertThat(Validate.isNotNegativeOrNull((Integer) null, "foo")).isNull();
+    }
+
     @Test
     public void isNull_null_shouldPass() {
         Validate.isNull(null, "not null");
@@ -211,6 +211,79 @@ public class LruCacheTest {
         verify(simpleValueSupplier, times(1)).apply(keyMissingValue);
     }
 
+    @Test
+    void when_cacheIsUsed_HitsMissesAndEvictionsAreCounted() {
+        LruCache<Integer, String> cache = simpleCache.get();
+
+        //fill cache [2, 1, 0]
+        primeAndVerifySimpleCache(cache, MAX_SIMPLE_CACHE_SIZE);
+
+        //hit 0 -> [0, 2, 1]
+        cache.get(simpleTestKeys.get(0));
+        cache.get(simpleTestKeys.get(0));
+
+        //evict 1, 2 -> [4, 3, 0]
+        cache.get(simpleTestKeys.get(3));
+        cache.get(simpleTestKeys.get(4));
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(5);
+        assertThat(cache.evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void when_manyHitsAreRecorded_LeastRecentlyUsedValueIsStillEvicted() {
+        LruCache<Integer, String> cache = simpleCache.get();
+
+        //fill cache [2, 1, 0]
+        primeAndVerifySimpleCache(cache, MAX_SIMPLE_CACHE_SIZE);
+
+        //hit 0 and 2 more often than a read buffer holds -> [2, 0, 1]
+        for (int i = 0; i < 100; i++) {
+            cache.get(simpleTestKeys.get(0));
+            cache.get(simpleTestKeys.get(2));
+        }
+
+        //evict 1 -> [3, 2, 0]
+        cache.get(simpleTestKeys.get(3));
+        cache.get(simpleTestKeys.get(0));
+        cache.get(simpleTestKeys.get(2));
+
+        verify(simpleValueSupplier, times(1)).apply(simpleTestKeys.get(0));
+        verify(simpleValueSupplier, times(1)).apply(simpleTestKeys.get(2));
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void when_multipleThreadsAreCallingCache_SizeStaysBounded() throws Exception {
+        int numThreads = 16;
+        int numGetsPerThread = 10_000;
+        int cacheSize = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            LruCache<Integer, String> cache = LruCache.builder(identitySupplier)
+                                                      .maxSize(cacheSize)
+                                                      .build();
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < numGetsPerThread; j++) {
+                        cache.get(ThreadLocalRandom.current().nextInt(cacheSize * 2));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(20, TimeUnit.SECONDS);
+            }
+
+            assertThat(cache.size()).isLessThanOrEqualTo(cacheSize);
+            assertThat(cache.hitCount() + cache.missCount()).isEqualTo((long) numThreads * numGetsPerThread);
+            assertThat(cache.missCount() - cache.evictionCount()).isEqualTo(cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("concurrencyTestValues")
     void when_multipleThreadsAreCallingCache_WorksAsExpected(Integer numThreads,